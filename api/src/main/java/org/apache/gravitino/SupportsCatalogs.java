@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
@@ -42,6 +44,24 @@ public interface SupportsCatalogs {
    */
   String[] listCatalogs() throws NoSuchMetalakeException;
 
+  /**
+   * List the names of the catalogs in the metalake, ordered by catalog name and starting after the
+   * given catalog name. The next page starts after the last name of the previous page.
+   *
+   * @param startAfter The catalog name to start after, or null to start from the first one.
+   * @param limit The maximum number of catalog names to return.
+   * @return The list of catalog's names.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  default String[] listCatalogs(String startAfter, int limit) throws NoSuchMetalakeException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listCatalogs())
+        .filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+        .sorted()
+        .limit(limit)
+        .toArray(String[]::new);
+  }
+
   /**
    * List all catalogs with their information in the metalake.
    *
@@ -20,6 +20,8 @@
 
 package org.apache.gravitino;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -46,6 +48,24 @@ public interface SupportsSchemas {
    */
   String[] listSchemas() throws NoSuchCatalogException;
 
+  /**
+   * List the names of the schemas under the entity, ordered by schema name and starting after the
+   * given schema name. The next page starts after the last name of the previous page.
+   *
+   * @param startAfter The schema name to start after, or null to start from the first one.
+   * @param limit The maximum number of schema names to return.
+   * @return An array of schema names under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default String[] listSchemas(String startAfter, int limit) throws NoSuchCatalogException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listSchemas())
+        .filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+        .sorted()
+        .limit(limit)
+        .toArray(String[]::new);
+  }
+
   /**
    * Check if a schema exists.
    *
@@ -18,6 +18,9 @@
  */
 package org.apache.gravitino.file;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -43,6 +46,26 @@ public interface FilesetCatalog {
    */
   NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the filesets in a namespace from the catalog, ordered by fileset name and starting after
+   * the given fileset name. The next page starts after the last name of the previous page.
+   *
+   * @param namespace A schema namespace.
+   * @param startAfter The fileset name to start after, or null to start from the first one.
+   * @param limit The maximum number of filesets to return.
+   * @return An array of fileset identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listFilesets(namespace))
+        .filter(ident -> startAfter == null || ident.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
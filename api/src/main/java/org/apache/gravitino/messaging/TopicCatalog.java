@@ -18,6 +18,9 @@
  */
 package org.apache.gravitino.messaging;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -42,6 +45,26 @@ public interface TopicCatalog {
    */
   NameIdentifier[] listTopics(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the topics in a namespace from the catalog, ordered by topic name and starting after
+   * the given topic name. The next page starts after the last name of the previous page.
+   *
+   * @param namespace A schema namespace.
+   * @param startAfter The topic name to start after, or null to start from the first one.
+   * @param limit The maximum number of topics to return.
+   * @return An array of topic identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listTopics(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listTopics(namespace))
+        .filter(ident -> startAfter == null || ident.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+
   /**
    * Load topic metadata by {@link NameIdentifier} from the catalog.
    *
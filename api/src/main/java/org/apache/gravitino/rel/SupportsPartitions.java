@@ -18,6 +18,9 @@
  */
 package org.apache.gravitino.rel;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -44,6 +47,56 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List the names of the partitions matching the filter, ordered by partition name and starting
+   * after the given partition name. Listing one page at a time keeps the memory bounded for tables
+   * with many partitions, the next page starts after the last name of the previous page.
+   *
+   * <p>The syntax of the filter depends on the catalog, for example the Hive catalog accepts the
+   * partition filter of the Hive Metastore such as {@code dt >= "2024-01-01" and hour = "00"}.
+   *
+   * @param filter The filter of the partitions, or null to list all the partitions.
+   * @param startAfter The partition name to start after, or null to start from the first one.
+   * @param limit The maximum number of partition names to return.
+   * @return The list of partition names.
+   * @throws UnsupportedOperationException If the filter is set but not supported by the catalog.
+   */
+  default String[] listPartitionNames(String filter, String startAfter, int limit)
+      throws UnsupportedOperationException {
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filtering is not supported");
+    }
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listPartitionNames())
+        .filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+        .sorted()
+        .limit(limit)
+        .toArray(String[]::new);
+  }
+
+  /**
+   * List the partitions matching the filter, ordered by partition name and starting after the
+   * given partition name. See {@link #listPartitionNames(String, String, int)} for the filter.
+   *
+   * @param filter The filter of the partitions, or null to list all the partitions.
+   * @param startAfter The partition name to start after, or null to start from the first one.
+   * @param limit The maximum number of partitions to return.
+   * @return The list of partitions.
+   * @throws UnsupportedOperationException If the filter is set but not supported by the catalog.
+   */
+  default Partition[] listPartitions(String filter, String startAfter, int limit)
+      throws UnsupportedOperationException {
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filtering is not supported");
+    }
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listPartitions())
+        .filter(partition -> startAfter == null || partition.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(Partition::name))
+        .limit(limit)
+        .toArray(Partition[]::new);
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
@@ -32,6 +32,7 @@ import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.expressions.transforms.Transforms;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.indexes.Indexes;
+import org.apache.gravitino.rel.stats.SupportsStatistics;
 import org.apache.gravitino.tag.SupportsTags;
 
 /**
@@ -97,6 +98,14 @@ public interface Table extends Auditable {
     throw new UnsupportedOperationException("Table does not support partition operations.");
   }
 
+  /**
+   * @return The {@link SupportsStatistics} if the table supports statistics operations.
+   * @throws UnsupportedOperationException If the table does not support statistics operations.
+   */
+  default SupportsStatistics supportsStatistics() {
+    throw new UnsupportedOperationException("Table does not support statistics operations.");
+  }
+
   /**
    * @return The {@link SupportsTags} if the table supports tag operations.
    * @throws UnsupportedOperationException If the table does not support tag operations.
@@ -20,6 +20,10 @@
 
 package org.apache.gravitino.rel;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -51,6 +55,26 @@ public interface TableCatalog {
    */
   NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the tables in a namespace from the catalog, ordered by table name and starting after
+   * the given table name. The next page starts after the last name of the previous page.
+   *
+   * @param namespace A namespace.
+   * @param startAfter The table name to start after, or null to start from the first one.
+   * @param limit The maximum number of tables to return.
+   * @return An array of table identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifier[] listTables(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listTables(namespace))
+        .filter(ident -> startAfter == null || ident.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+
   /**
    * Load table metadata by {@link NameIdentifier} from the catalog.
    *
@@ -60,6 +84,25 @@ public interface TableCatalog {
    */
   Table loadTable(NameIdentifier ident) throws NoSuchTableException;
 
+  /**
+   * Load the metadata of multiple tables from the catalog. The tables or schemas that don't exist
+   * are skipped. The implementations may load the tables with fewer calls than one per table.
+   *
+   * @param idents The table identifiers.
+   * @return The loaded tables keyed by their identifiers, in the order of the given identifiers.
+   */
+  default Map<NameIdentifier, Table> loadTables(NameIdentifier... idents) {
+    Map<NameIdentifier, Table> tables = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      try {
+        tables.put(ident, loadTable(ident));
+      } catch (NoSuchTableException | NoSuchSchemaException e) {
+        // The missing tables are skipped.
+      }
+    }
+    return tables;
+  }
+
   /**
    * Check if a table exists using an {@link NameIdentifier} from the catalog.
    *
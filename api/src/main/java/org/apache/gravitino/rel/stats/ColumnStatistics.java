@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.stats;
+
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * The statistics of a column of a table or of a partition. Every statistic is null if it is
+ * unknown.
+ */
+@Evolving
+public interface ColumnStatistics {
+
+  /** @return The name of the column. */
+  String name();
+
+  /** @return The number of distinct values of the column, null if unknown. */
+  Long distinctCount();
+
+  /** @return The number of null values of the column, null if unknown. */
+  Long nullCount();
+
+  /**
+   * The minimum value of the column. The value is in its string representation, like {@code 1},
+   * {@code 1.5}, {@code 2024-01-01} or {@code abc}, engines parse it according to the column type.
+   *
+   * @return The minimum value of the column, null if unknown.
+   */
+  String minValue();
+
+  /**
+   * The maximum value of the column, in the same representation as {@link #minValue()}.
+   *
+   * @return The maximum value of the column, null if unknown.
+   */
+  String maxValue();
+
+  /**
+   * @return The buckets of the histogram of the column ordered by their bounds, an empty array if
+   *     there is no histogram.
+   */
+  default HistogramBucket[] histogram() {
+    return new HistogramBucket[0];
+  }
+}
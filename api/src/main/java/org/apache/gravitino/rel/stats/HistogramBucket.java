@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.stats;
+
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * A bucket of the histogram of a column. The bounds are the string representations of the column
+ * values, the same as {@link ColumnStatistics#minValue()} and {@link ColumnStatistics#maxValue()}.
+ */
+@Evolving
+public interface HistogramBucket {
+
+  /** @return The lower bound of the bucket, inclusive. */
+  String lowerBound();
+
+  /** @return The upper bound of the bucket, inclusive. */
+  String upperBound();
+
+  /** @return The number of rows whose value of the column falls into the bucket. */
+  long count();
+
+  /** @return The number of distinct values in the bucket, null if unknown. */
+  Long distinctCount();
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.stats;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.apache.gravitino.Audit;
+
+/** The helper class to create table and column statistics. */
+public class Statistics {
+
+  /** An empty array of column statistics. */
+  public static final ColumnStatistics[] EMPTY_COLUMN_STATISTICS = new ColumnStatistics[0];
+
+  /** An empty array of histogram buckets. */
+  public static final HistogramBucket[] EMPTY_HISTOGRAM = new HistogramBucket[0];
+
+  /**
+   * Creates the statistics of a table or of a partition.
+   *
+   * @param rowCount The number of rows, null if unknown.
+   * @param sizeInBytes The size of the data in bytes, null if unknown.
+   * @param columnStatistics The statistics of the columns.
+   * @return The created statistics.
+   */
+  public static TableStatistics of(
+      Long rowCount, Long sizeInBytes, ColumnStatistics... columnStatistics) {
+    return of(rowCount, sizeInBytes, columnStatistics, null);
+  }
+
+  /**
+   * Creates the statistics of a table or of a partition with the audit information.
+   *
+   * @param rowCount The number of rows, null if unknown.
+   * @param sizeInBytes The size of the data in bytes, null if unknown.
+   * @param columnStatistics The statistics of the columns.
+   * @param auditInfo The audit information of the statistics.
+   * @return The created statistics.
+   */
+  public static TableStatistics of(
+      Long rowCount, Long sizeInBytes, ColumnStatistics[] columnStatistics, Audit auditInfo) {
+    return new TableStatisticsImpl(
+        rowCount,
+        sizeInBytes,
+        columnStatistics == null ? EMPTY_COLUMN_STATISTICS : columnStatistics,
+        auditInfo);
+  }
+
+  /**
+   * Creates the statistics of a column without histogram.
+   *
+   * @param name The name of the column.
+   * @param distinctCount The number of distinct values, null if unknown.
+   * @param nullCount The number of null values, null if unknown.
+   * @param minValue The string representation of the minimum value, null if unknown.
+   * @param maxValue The string representation of the maximum value, null if unknown.
+   * @return The created column statistics.
+   */
+  public static ColumnStatistics column(
+      String name, Long distinctCount, Long nullCount, String minValue, String maxValue) {
+    return column(name, distinctCount, nullCount, minValue, maxValue, EMPTY_HISTOGRAM);
+  }
+
+  /**
+   * Creates the statistics of a column.
+   *
+   * @param name The name of the column.
+   * @param distinctCount The number of distinct values, null if unknown.
+   * @param nullCount The number of null values, null if unknown.
+   * @param minValue The string representation of the minimum value, null if unknown.
+   * @param maxValue The string representation of the maximum value, null if unknown.
+   * @param histogram The buckets of the histogram ordered by their bounds.
+   * @return The created column statistics.
+   */
+  public static ColumnStatistics column(
+      String name,
+      Long distinctCount,
+      Long nullCount,
+      String minValue,
+      String maxValue,
+      HistogramBucket[] histogram) {
+    return new ColumnStatisticsImpl(
+        name,
+        distinctCount,
+        nullCount,
+        minValue,
+        maxValue,
+        histogram == null ? EMPTY_HISTOGRAM : histogram);
+  }
+
+  /**
+   * Creates a bucket of the histogram of a column.
+   *
+   * @param lowerBound The lower bound of the bucket, inclusive.
+   * @param upperBound The upper bound of the bucket, inclusive.
+   * @param count The number of rows in the bucket.
+   * @param distinctCount The number of distinct values in the bucket, null if unknown.
+   * @return The created histogram bucket.
+   */
+  public static HistogramBucket bucket(
+      String lowerBound, String upperBound, long count, Long distinctCount) {
+    return new HistogramBucketImpl(lowerBound, upperBound, count, distinctCount);
+  }
+
+  private Statistics() {}
+
+  private static class TableStatisticsImpl implements TableStatistics {
+    private final Long rowCount;
+    private final Long sizeInBytes;
+    private final ColumnStatistics[] columnStatistics;
+    private final Audit auditInfo;
+
+    private TableStatisticsImpl(
+        Long rowCount, Long sizeInBytes, ColumnStatistics[] columnStatistics, Audit auditInfo) {
+      this.rowCount = rowCount;
+      this.sizeInBytes = sizeInBytes;
+      this.columnStatistics = columnStatistics;
+      this.auditInfo = auditInfo;
+    }
+
+    @Override
+    public Long rowCount() {
+      return rowCount;
+    }
+
+    @Override
+    public Long sizeInBytes() {
+      return sizeInBytes;
+    }
+
+    @Override
+    public ColumnStatistics[] columnStatistics() {
+      return columnStatistics;
+    }
+
+    @Override
+    public Audit auditInfo() {
+      return auditInfo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof TableStatisticsImpl)) {
+        return false;
+      }
+      TableStatisticsImpl that = (TableStatisticsImpl) o;
+      return Objects.equals(rowCount, that.rowCount)
+          && Objects.equals(sizeInBytes, that.sizeInBytes)
+          && Arrays.equals(columnStatistics, that.columnStatistics)
+          && Objects.equals(auditInfo, that.auditInfo);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = Objects.hash(rowCount, sizeInBytes, auditInfo);
+      result = 31 * result + Arrays.hashCode(columnStatistics);
+      return result;
+    }
+  }
+
+  private static class ColumnStatisticsImpl implements ColumnStatistics {
+    private final String name;
+    private final Long distinctCount;
+    private final Long nullCount;
+    private final String minValue;
+    private final String maxValue;
+    private final HistogramBucket[] histogram;
+
+    private ColumnStatisticsImpl(
+        String name,
+        Long distinctCount,
+        Long nullCount,
+        String minValue,
+        String maxValue,
+        HistogramBucket[] histogram) {
+      this.name = name;
+      this.distinctCount = distinctCount;
+      this.nullCount = nullCount;
+      this.minValue = minValue;
+      this.maxValue = maxValue;
+      this.histogram = histogram;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public Long distinctCount() {
+      return distinctCount;
+    }
+
+    @Override
+    public Long nullCount() {
+      return nullCount;
+    }
+
+    @Override
+    public String minValue() {
+      return minValue;
+    }
+
+    @Override
+    public String maxValue() {
+      return maxValue;
+    }
+
+    @Override
+    public HistogramBucket[] histogram() {
+      return histogram;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ColumnStatisticsImpl)) {
+        return false;
+      }
+      ColumnStatisticsImpl that = (ColumnStatisticsImpl) o;
+      return Objects.equals(name, that.name)
+          && Objects.equals(distinctCount, that.distinctCount)
+          && Objects.equals(nullCount, that.nullCount)
+          && Objects.equals(minValue, that.minValue)
+          && Objects.equals(maxValue, that.maxValue)
+          && Arrays.equals(histogram, that.histogram);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = Objects.hash(name, distinctCount, nullCount, minValue, maxValue);
+      result = 31 * result + Arrays.hashCode(histogram);
+      return result;
+    }
+  }
+
+  private static class HistogramBucketImpl implements HistogramBucket {
+    private final String lowerBound;
+    private final String upperBound;
+    private final long count;
+    private final Long distinctCount;
+
+    private HistogramBucketImpl(
+        String lowerBound, String upperBound, long count, Long distinctCount) {
+      this.lowerBound = lowerBound;
+      this.upperBound = upperBound;
+      this.count = count;
+      this.distinctCount = distinctCount;
+    }
+
+    @Override
+    public String lowerBound() {
+      return lowerBound;
+    }
+
+    @Override
+    public String upperBound() {
+      return upperBound;
+    }
+
+    @Override
+    public long count() {
+      return count;
+    }
+
+    @Override
+    public Long distinctCount() {
+      return distinctCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof HistogramBucketImpl)) {
+        return false;
+      }
+      HistogramBucketImpl that = (HistogramBucketImpl) o;
+      return count == that.count
+          && Objects.equals(lowerBound, that.lowerBound)
+          && Objects.equals(upperBound, that.upperBound)
+          && Objects.equals(distinctCount, that.distinctCount);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(lowerBound, upperBound, count, distinctCount);
+    }
+  }
+}
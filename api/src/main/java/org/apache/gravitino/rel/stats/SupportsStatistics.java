@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.stats;
+
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+
+/**
+ * Interface for tables whose statistics are managed by Gravitino. The statistics are recorded by
+ * the clients, for example after analyzing the table with an engine, and are served to the
+ * engines from Gravitino instead of being computed from the underlying catalog at planning time.
+ *
+ * <p>The statistics of a partition are identified by the partition name, like {@code
+ * dt=2024-01-01/hour=00}. They are recorded independently of the statistics of the whole table.
+ */
+@Evolving
+public interface SupportsStatistics {
+
+  /**
+   * Gets the statistics of the table.
+   *
+   * @return The statistics of the table. Every statistic is null if it has not been recorded.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  TableStatistics getStatistics() throws NoSuchTableException;
+
+  /**
+   * Gets the statistics of a partition of the table.
+   *
+   * @param partitionName The name of the partition.
+   * @return The statistics of the partition. Every statistic is null if it has not been recorded.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  TableStatistics getPartitionStatistics(String partitionName) throws NoSuchTableException;
+
+  /**
+   * Records the statistics of the table. The recorded statistics are merged with the given ones:
+   * the row count and the size are replaced if they are not null, and the statistics of the given
+   * columns replace the recorded statistics of these columns, the other columns are kept.
+   *
+   * @param statistics The statistics to record, see {@link Statistics} to create them.
+   * @return The statistics of the table after the update.
+   * @throws NoSuchTableException If the table does not exist.
+   * @throws IllegalArgumentException If a column does not exist or a statistic is negative.
+   */
+  TableStatistics updateStatistics(TableStatistics statistics)
+      throws NoSuchTableException, IllegalArgumentException;
+
+  /**
+   * Records the statistics of a partition of the table, merged in the same way as {@link
+   * #updateStatistics(TableStatistics)}.
+   *
+   * @param partitionName The name of the partition.
+   * @param statistics The statistics to record, see {@link Statistics} to create them.
+   * @return The statistics of the partition after the update.
+   * @throws NoSuchTableException If the table does not exist.
+   * @throws IllegalArgumentException If a column does not exist or a statistic is negative.
+   */
+  TableStatistics updatePartitionStatistics(String partitionName, TableStatistics statistics)
+      throws NoSuchTableException, IllegalArgumentException;
+
+  /**
+   * Drops all the statistics of the table, including the statistics of its partitions.
+   *
+   * @return True if any statistics were dropped, false if no statistics were recorded.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  boolean dropStatistics() throws NoSuchTableException;
+
+  /**
+   * Drops the statistics of a partition of the table.
+   *
+   * @param partitionName The name of the partition.
+   * @return True if the statistics were dropped, false if no statistics were recorded.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  boolean dropPartitionStatistics(String partitionName) throws NoSuchTableException;
+}
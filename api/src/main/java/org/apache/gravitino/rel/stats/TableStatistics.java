@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.rel.stats;
+
+import org.apache.gravitino.Auditable;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * The statistics of a table or of a partition of a table, used by the cost-based optimizers of the
+ * engines. Every statistic is null if it is unknown.
+ */
+@Evolving
+public interface TableStatistics extends Auditable {
+
+  /** @return The number of rows, null if unknown. */
+  Long rowCount();
+
+  /** @return The size of the data in bytes, null if unknown. */
+  Long sizeInBytes();
+
+  /** @return The statistics of the columns, an empty array if no column statistics are known. */
+  ColumnStatistics[] columnStatistics();
+}
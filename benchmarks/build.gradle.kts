@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+plugins {
+  `maven-publish`
+  id("java")
+  id("idea")
+}
+
+dependencies {
+  implementation(project(":api"))
+  implementation(project(":common"))
+  implementation(project(":core"))
+  // The in-memory entity store and the "test" catalog provider are used as in-process stand-ins.
+  implementation(project(":core", "testArtifacts"))
+  implementation(project(":catalogs:catalog-hive"))
+  implementation(libs.bundles.log4j)
+  implementation(libs.commons.io)
+  implementation(libs.commons.lang3)
+  implementation(libs.guava)
+  implementation(libs.jackson.databind)
+  implementation(libs.jmh.core)
+
+  annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+tasks.register<JavaExec>("jmh") {
+  group = "benchmark"
+  description = "Runs the JMH benchmarks. JMH options can be passed with -PjmhArgs=\"...\"."
+  dependsOn(tasks.classes)
+  classpath = sourceSets["main"].runtimeClasspath
+  mainClass.set("org.openjdk.jmh.Main")
+  // The embedded H2 backend loads the schema script from GRAVITINO_HOME.
+  environment("GRAVITINO_HOME", rootDir.path)
+  val jmhArgs = project.findProperty("jmhArgs") as String?
+  if (!jmhArgs.isNullOrBlank()) {
+    args = jmhArgs.trim().split("\\s+".toRegex())
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.catalog.hive.HiveTableNameFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the filtering of the Iceberg, Paimon and Hudi tables out of the table names listed
+ * from Hive Metastore, with {@link HiveTableNameFilter} against the former list based filtering.
+ * One in ten tables is an Iceberg or Paimon table, and one in a hundred tables is a Hudi table with
+ * its read optimized and real time views.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HiveTableNameFilterBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int tableCount;
+
+  private List<String> allTables;
+
+  private List<String> icebergAndPaimonTables;
+
+  private List<String> hudiTables;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    allTables = new ArrayList<>();
+    icebergAndPaimonTables = new ArrayList<>();
+    hudiTables = new ArrayList<>();
+    for (int i = 0; i < tableCount; i++) {
+      String name = "table_" + i;
+      allTables.add(name);
+      if (i % 100 == 0) {
+        hudiTables.add(name);
+        allTables.add(name + "_ro");
+        allTables.add(name + "_rt");
+      } else if (i % 10 == 0) {
+        icebergAndPaimonTables.add(name);
+      }
+    }
+  }
+
+  @Benchmark
+  public List<String> listBasedFilter() {
+    List<String> tables = new ArrayList<>(allTables);
+    tables.removeAll(icebergAndPaimonTables);
+    for (String hudiTable : hudiTables) {
+      tables.removeIf(
+          t ->
+              t.equals(hudiTable)
+                  || t.startsWith(hudiTable + "_ro")
+                  || t.startsWith(hudiTable + "_rt"));
+    }
+    return tables;
+  }
+
+  @Benchmark
+  public List<String> setBasedFilter() {
+    return HiveTableNameFilter.filter(allTables, icebergAndPaimonTables, hudiTables)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the table reads of {@link JDBCBackend} against an embedded H2 database, which is the
+ * default backend of the relational entity store. The {@code GRAVITINO_HOME} environment variable
+ * must point to the source root to find the H2 schema script, the {@code jmh} Gradle task sets it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JDBCBackendBenchmark {
+
+  private static final String METALAKE = "metalake";
+
+  private static final String CATALOG = "catalog";
+
+  private static final String SCHEMA = "schema";
+
+  @Param({"100", "1000"})
+  private int tableCount;
+
+  private File storageDir;
+
+  private JDBCBackend backend;
+
+  private Namespace tableNamespace;
+
+  private NameIdentifier[] tableIdents;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    storageDir = Files.createTempDirectory("gravitino-jdbc-benchmark").toFile();
+    Config config = new Config(false) {};
+    config.set(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH, storageDir.getAbsolutePath());
+
+    backend = new JDBCBackend();
+    backend.initialize(config);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        BaseMetalake.builder()
+            .withId(1L)
+            .withName(METALAKE)
+            .withAuditInfo(auditInfo)
+            .withVersion(SchemaVersion.V_0_1)
+            .build(),
+        false);
+    backend.insert(
+        CatalogEntity.builder()
+            .withId(2L)
+            .withName(CATALOG)
+            .withNamespace(Namespace.of(METALAKE))
+            .withType(Catalog.Type.RELATIONAL)
+            .withProvider("test")
+            .withProperties(Collections.emptyMap())
+            .withAuditInfo(auditInfo)
+            .build(),
+        false);
+    backend.insert(
+        SchemaEntity.builder()
+            .withId(3L)
+            .withName(SCHEMA)
+            .withNamespace(Namespace.of(METALAKE, CATALOG))
+            .withAuditInfo(auditInfo)
+            .build(),
+        false);
+
+    tableNamespace = Namespace.of(METALAKE, CATALOG, SCHEMA);
+    tableIdents = new NameIdentifier[tableCount];
+    for (int i = 0; i < tableCount; i++) {
+      TableEntity table =
+          TableEntity.builder()
+              .withId(100L + i)
+              .withName("table_" + i)
+              .withNamespace(tableNamespace)
+              .withAuditInfo(auditInfo)
+              .build();
+      backend.insert(table, false);
+      tableIdents[i] = table.nameIdentifier();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    backend.close();
+    FileUtils.deleteDirectory(storageDir);
+  }
+
+  /** Per-thread cursor, so that each thread walks the tables in its own order. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    int next(int bound) {
+      next = (next + 1) % bound;
+      return next;
+    }
+  }
+
+  @Benchmark
+  public TableEntity getTable(Cursor cursor) throws IOException {
+    return backend.get(tableIdents[cursor.next(tableCount)], Entity.EntityType.TABLE);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public TableEntity getTableConcurrently(Cursor cursor) throws IOException {
+    return backend.get(tableIdents[cursor.next(tableCount)], Entity.EntityType.TABLE);
+  }
+
+  @Benchmark
+  public boolean tableExists(Cursor cursor) throws IOException {
+    return backend.exists(tableIdents[cursor.next(tableCount)], Entity.EntityType.TABLE);
+  }
+
+  @Benchmark
+  public List<TableEntity> listTables() throws IOException {
+    return backend.list(tableNamespace, Entity.EntityType.TABLE, false);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.rel.ColumnDTO;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.rel.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks the (de)serialization of {@link TableDTO} with {@link JsonUtils#objectMapper()}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+  @Param({"10", "100"})
+  private int columnCount;
+
+  private ObjectMapper mapper;
+
+  private TableDTO table;
+
+  private String tableJson;
+
+  @Setup(Level.Trial)
+  public void setup() throws JsonProcessingException {
+    mapper = JsonUtils.objectMapper();
+
+    ColumnDTO[] columns = new ColumnDTO[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columns[i] =
+          ColumnDTO.builder()
+              .withName("col_" + i)
+              .withDataType(i % 2 == 0 ? Types.LongType.get() : Types.StringType.get())
+              .withComment("comment of col_" + i)
+              .build();
+    }
+
+    table =
+        TableDTO.builder()
+            .withName("table")
+            .withComment("comment")
+            .withColumns(columns)
+            .withProperties(ImmutableMap.of("key1", "value1", "key2", "value2"))
+            .withAudit(
+                AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .build();
+    tableJson = mapper.writeValueAsString(table);
+  }
+
+  @Benchmark
+  public String serializeTable() throws JsonProcessingException {
+    return mapper.writeValueAsString(table);
+  }
+
+  @Benchmark
+  public TableDTO deserializeTable() throws JsonProcessingException {
+    return mapper.readValue(tableJson, TableDTO.class);
+  }
+}
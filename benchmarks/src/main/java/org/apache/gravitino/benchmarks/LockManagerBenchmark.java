@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LockManager#createTreeLock(NameIdentifier)} and the tree lock path taken by
+ * every metadata operation. The multi-threaded variants lock tables under the same metalake and
+ * catalog, which makes the root, metalake and catalog nodes shared by all the threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LockManagerBenchmark {
+
+  private static final int TABLE_COUNT = 1024;
+
+  private LockManager lockManager;
+
+  private NameIdentifier[] tableIdents;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    lockManager = new LockManager(new Config(false) {});
+    tableIdents = new NameIdentifier[TABLE_COUNT];
+    for (int i = 0; i < TABLE_COUNT; i++) {
+      tableIdents[i] = NameIdentifier.of("metalake", "catalog", "schema_" + (i % 16), "table_" + i);
+    }
+  }
+
+  /** Per-thread cursor, so that each thread walks the tables in its own order. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    int next() {
+      next = (next + 1) % TABLE_COUNT;
+      return next;
+    }
+  }
+
+  @Benchmark
+  public TreeLock createTreeLock(Cursor cursor) {
+    TreeLock lock = lockManager.createTreeLock(tableIdents[cursor.next()]);
+    // Release the references taken by the creation.
+    lock.lock(LockType.READ);
+    lock.unlock();
+    return lock;
+  }
+
+  @Benchmark
+  @Threads(8)
+  public TreeLock readLockContended(Cursor cursor) {
+    TreeLock lock = lockManager.createTreeLock(tableIdents[cursor.next()]);
+    lock.lock(LockType.READ);
+    lock.unlock();
+    return lock;
+  }
+
+  @Benchmark
+  @Threads(8)
+  public TreeLock writeLockContended(Cursor cursor) {
+    TreeLock lock = lockManager.createTreeLock(tableIdents[cursor.next()]);
+    lock.lock(LockType.WRITE);
+    lock.unlock();
+    return lock;
+  }
+}
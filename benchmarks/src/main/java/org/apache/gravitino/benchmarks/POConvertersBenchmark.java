@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the conversions between {@link TableEntity} and the relational {@link TablePO} and
+ * {@link ColumnPO} objects, which are done on every table read and write of the relational entity
+ * store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class POConvertersBenchmark {
+
+  @Param({"0", "10", "100"})
+  private int columnCount;
+
+  private Namespace namespace;
+
+  private TableEntity table;
+
+  private TablePO tablePO;
+
+  private List<ColumnPO> columnPOs;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    namespace = Namespace.of("metalake", "catalog", "schema");
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    List<ColumnEntity> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(100L + i)
+              .withName("col_" + i)
+              .withPosition(i)
+              .withDataType(i % 2 == 0 ? Types.LongType.get() : Types.StringType.get())
+              .withComment("comment of col_" + i)
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+
+    table =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("table")
+            .withNamespace(namespace)
+            .withColumns(columns)
+            .withAuditInfo(auditInfo)
+            .build();
+    tablePO = toTablePO();
+    columnPOs =
+        POConverters.initializeColumnPOs(tablePO, table.columns(), ColumnPO.ColumnOpType.CREATE);
+  }
+
+  @Benchmark
+  public void tableToPO(Blackhole blackhole) {
+    TablePO po = toTablePO();
+    blackhole.consume(po);
+    if (columnCount > 0) {
+      blackhole.consume(
+          POConverters.initializeColumnPOs(po, table.columns(), ColumnPO.ColumnOpType.CREATE));
+    }
+  }
+
+  @Benchmark
+  public TableEntity tableFromPO() {
+    return columnCount > 0
+        ? POConverters.fromTableAndColumnPOs(tablePO, columnPOs, namespace)
+        : POConverters.fromTablePO(tablePO, namespace);
+  }
+
+  private TablePO toTablePO() {
+    return POConverters.initializeTablePOWithVersion(
+        table, TablePO.builder().withMetalakeId(1L).withCatalogId(1L).withSchemaId(1L));
+  }
+}
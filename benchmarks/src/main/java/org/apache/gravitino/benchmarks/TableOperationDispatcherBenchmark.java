@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.catalog.CatalogManager;
+import org.apache.gravitino.catalog.SchemaOperationDispatcher;
+import org.apache.gravitino.catalog.TableOperationDispatcher;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.memory.TestMemoryEntityStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link TableOperationDispatcher#loadTable(NameIdentifier)} end to end: the tree lock,
+ * the catalog lookup, the call into the catalog and the merge with the stored table entity. The
+ * in-memory entity store and the "test" catalog of the core tests are used, so the result measures
+ * the overhead of the dispatching path rather than the one of a real backend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TableOperationDispatcherBenchmark {
+
+  private static final String METALAKE = "metalake";
+
+  private static final String CATALOG = "catalog";
+
+  private static final int SCHEMA_COUNT = 8;
+
+  private static final int TABLE_COUNT = 128;
+
+  private EntityStore entityStore;
+
+  private CatalogManager catalogManager;
+
+  private TableOperationDispatcher tableDispatcher;
+
+  private NameIdentifier[] tableIdents;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, IllegalAccessException {
+    Config config = new Config(false) {};
+    config.set(Configs.CATALOG_LOAD_ISOLATED, false);
+
+    entityStore = new TestMemoryEntityStore.InMemoryEntityStore();
+    entityStore.initialize(config);
+    entityStore.put(
+        BaseMetalake.builder()
+            .withId(1L)
+            .withName(METALAKE)
+            .withAuditInfo(
+                AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .withVersion(SchemaVersion.V_0_1)
+            .build(),
+        true);
+
+    IdGenerator idGenerator = new RandomIdGenerator();
+    catalogManager = new CatalogManager(config, entityStore, idGenerator);
+    SchemaOperationDispatcher schemaDispatcher =
+        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
+    tableDispatcher = new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+
+    GravitinoEnv env = GravitinoEnv.getInstance();
+    FieldUtils.writeField(env, "lockManager", new LockManager(config), true);
+    FieldUtils.writeField(env, "schemaDispatcher", schemaDispatcher, true);
+
+    // The "test" catalog requires the "k1" table property.
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    catalogManager.createCatalog(
+        NameIdentifier.of(METALAKE, CATALOG), Catalog.Type.RELATIONAL, "test", "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          Column.of("id", Types.LongType.get(), "id column"),
+          Column.of("name", Types.StringType.get(), "name column")
+        };
+    for (int i = 0; i < SCHEMA_COUNT; i++) {
+      schemaDispatcher.createSchema(
+          NameIdentifier.of(METALAKE, CATALOG, "schema_" + i), "comment", props);
+    }
+
+    tableIdents = new NameIdentifier[TABLE_COUNT];
+    for (int i = 0; i < TABLE_COUNT; i++) {
+      Namespace schemaNs = Namespace.of(METALAKE, CATALOG, "schema_" + (i % SCHEMA_COUNT));
+      tableIdents[i] = NameIdentifier.of(schemaNs, "table_" + i);
+      tableDispatcher.createTable(tableIdents[i], columns, "comment", props, new Transform[0]);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    catalogManager.close();
+    entityStore.close();
+  }
+
+  /** Per-thread cursor, so that each thread walks the tables in its own order. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    int next() {
+      next = (next + 1) % TABLE_COUNT;
+      return next;
+    }
+  }
+
+  @Benchmark
+  public Table loadTable(Cursor cursor) {
+    return tableDispatcher.loadTable(tableIdents[cursor.next()]);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Table loadTableConcurrently(Cursor cursor) {
+    return tableDispatcher.loadTable(tableIdents[cursor.next()]);
+  }
+}
@@ -411,7 +411,8 @@ subprojects {
   publishing {
     publications {
       create<MavenPublication>("MavenJava") {
-        if (project.name == "docs" ||
+        if (project.name == "benchmarks" ||
+          project.name == "docs" ||
           project.name == "integration-test" ||
           project.name == "integration-test-common" ||
           project.name == "web"
@@ -806,6 +807,7 @@ tasks {
         !it.name.startsWith("flink") &&
         !it.name.startsWith("iceberg") &&
         !it.name.startsWith("spark") &&
+        it.name != "benchmarks" &&
         it.name != "hadoop-common" &&
         it.name != "hive-metastore-common" &&
         it.name != "integration-test" &&
@@ -838,6 +840,7 @@ tasks {
         !it.name.startsWith("integration-test") &&
         !it.name.startsWith("spark") &&
         !it.name.startsWith("trino-connector") &&
+        it.name != "benchmarks" &&
         it.name != "hive-metastore-common" &&
         it.name != "docs" &&
         it.name != "hadoop-common" &&
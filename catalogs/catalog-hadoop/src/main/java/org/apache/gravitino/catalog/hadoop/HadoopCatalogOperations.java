@@ -187,6 +187,25 @@ public class HadoopCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    try {
+      NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+      if (!store.exists(schemaIdent, Entity.EntityType.SCHEMA)) {
+        throw new NoSuchSchemaException(SCHEMA_DOES_NOT_EXIST_MSG, schemaIdent);
+      }
+
+      List<FilesetEntity> filesets =
+          store.list(namespace, FilesetEntity.class, Entity.EntityType.FILESET, startAfter, limit);
+      return filesets.stream()
+          .map(f -> NameIdentifier.of(namespace, f.name()))
+          .toArray(NameIdentifier[]::new);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to list filesets under namespace " + namespace, e);
+    }
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     try {
@@ -211,6 +211,12 @@ public class SecureHadoopCatalogOperations
     return hadoopCatalogOperations.listSchemas(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    return hadoopCatalogOperations.listSchemas(namespace, startAfter, limit);
+  }
+
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
     return hadoopCatalogOperations.loadSchema(ident);
@@ -227,6 +233,12 @@ public class SecureHadoopCatalogOperations
     return hadoopCatalogOperations.listFilesets(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return hadoopCatalogOperations.listFilesets(namespace, startAfter, limit);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return hadoopCatalogOperations.loadFileset(ident);
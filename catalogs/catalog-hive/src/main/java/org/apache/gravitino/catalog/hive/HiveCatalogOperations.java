@@ -541,29 +541,31 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       // then based on
       // those names we can obtain metadata for each individual table and get the type we needed.
       List<String> allTables = clientPool.run(c -> c.getAllTables(schemaIdent.name()));
-      if (!listAllTables) {
-        // The reason for using the listTableNamesByFilter function is that the
-        // getTableObjectiesByName function has poor performance. Currently, we focus on the
-        // Iceberg, Paimon and Hudi table. In the future, if necessary, we will need to filter out
-        // other tables. In addition, the current return also includes tables of type VIRTUAL-VIEW.
-        String icebergAndPaimonFilter = getIcebergAndPaimonFilter();
-        List<String> icebergAndPaimonTables =
-            clientPool.run(
-                c ->
-                    c.listTableNamesByFilter(
-                        schemaIdent.name(), icebergAndPaimonFilter, MAX_TABLES));
-        allTables.removeAll(icebergAndPaimonTables);
-
-        // filter out the Hudi tables
-        String hudiFilter =
-            String.format(
-                "%sprovider like \"hudi\"", hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS);
-        List<String> hudiTables =
-            clientPool.run(
-                c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES));
-        removeHudiTables(allTables, hudiTables);
+      if (listAllTables) {
+        return allTables.stream()
+            .map(tbName -> NameIdentifier.of(namespace, tbName))
+            .toArray(NameIdentifier[]::new);
       }
-      return allTables.stream()
+
+      // The reason for using the listTableNamesByFilter function is that the
+      // getTableObjectiesByName function has poor performance. Currently, we focus on the
+      // Iceberg, Paimon and Hudi table. In the future, if necessary, we will need to filter out
+      // other tables. In addition, the current return also includes tables of type VIRTUAL-VIEW.
+      String icebergAndPaimonFilter = getIcebergAndPaimonFilter();
+      List<String> icebergAndPaimonTables =
+          clientPool.run(
+              c ->
+                  c.listTableNamesByFilter(
+                      schemaIdent.name(), icebergAndPaimonFilter, MAX_TABLES));
+
+      // filter out the Hudi tables
+      String hudiFilter =
+          String.format(
+              "%sprovider like \"hudi\"", hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS);
+      List<String> hudiTables =
+          clientPool.run(c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES));
+
+      return HiveTableNameFilter.filter(allTables, icebergAndPaimonTables, hudiTables)
           .map(tbName -> NameIdentifier.of(namespace, tbName))
           .toArray(NameIdentifier[]::new);
 
@@ -590,16 +592,6 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return String.format("%s or %s", icebergFilter, paimonFilter);
   }
 
-  private void removeHudiTables(List<String> allTables, List<String> hudiTables) {
-    for (String hudiTable : hudiTables) {
-      allTables.removeIf(
-          t ->
-              t.equals(hudiTable)
-                  || t.startsWith(hudiTable + "_ro")
-                  || t.startsWith(hudiTable + "_rt"));
-    }
-  }
-
   /**
    * Loads a table from the Hive Metastore.
    *
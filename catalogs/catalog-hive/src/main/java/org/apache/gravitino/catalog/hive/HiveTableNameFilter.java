@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Filters the table names listed from Hive Metastore, to exclude the tables which are not managed
+ * by the Hive catalog, like the Iceberg, Paimon and Hudi tables. The excluded names are looked up
+ * in hash sets, so that filtering n tables costs O(n) rather than O(n * m) with m excluded tables.
+ */
+public class HiveTableNameFilter {
+
+  private static final String[] HUDI_VIEW_SUFFIXES = {"_ro", "_rt"};
+
+  private HiveTableNameFilter() {}
+
+  /**
+   * Filters out the excluded tables and the Hudi tables from the table names. Besides the Hudi
+   * table itself, the tables whose names start with the name of the Hudi table followed by "_ro" or
+   * "_rt" are also filtered out, which are the read optimized and the real time views of the Hudi
+   * table.
+   *
+   * @param tableNames The names of all the tables.
+   * @param excludedTables The names of the tables to filter out.
+   * @param hudiTables The names of the Hudi tables to filter out together with their views.
+   * @return The remaining table names, in the order of the given table names.
+   */
+  public static Stream<String> filter(
+      Collection<String> tableNames,
+      Collection<String> excludedTables,
+      Collection<String> hudiTables) {
+    Set<String> excludedTableSet = new HashSet<>(excludedTables);
+    Set<String> hudiTableSet = new HashSet<>(hudiTables);
+    return tableNames.stream()
+        .filter(name -> !excludedTableSet.contains(name))
+        .filter(name -> hudiTableSet.isEmpty() || !isHudiTableOrView(name, hudiTableSet));
+  }
+
+  private static boolean isHudiTableOrView(String tableName, Set<String> hudiTables) {
+    if (hudiTables.contains(tableName)) {
+      return true;
+    }
+
+    // Check every prefix of the name followed by a view suffix, rather than every Hudi table.
+    for (String suffix : HUDI_VIEW_SUFFIXES) {
+      int index = tableName.indexOf(suffix);
+      while (index >= 0) {
+        if (hudiTables.contains(tableName.substring(0, index))) {
+          return true;
+        }
+        index = tableName.indexOf(suffix, index + 1);
+      }
+    }
+    return false;
+  }
+}
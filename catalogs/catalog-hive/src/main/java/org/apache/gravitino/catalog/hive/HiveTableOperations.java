@@ -18,14 +18,20 @@
  */
 package org.apache.gravitino.catalog.hive;
 
+import static org.apache.hadoop.hive.serde.serdeConstants.STRING_TYPE_NAME;
+
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.connector.TableOperations;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
@@ -40,6 +46,7 @@ import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.hadoop.hive.common.FileUtils;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
@@ -55,6 +62,10 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
   private static final String PARTITION_NAME_DELIMITER = "/";
   private static final String PARTITION_VALUE_DELIMITER = "=";
 
+  // The maximum number of partitions to get from Hive Metastore by names in one call, the same as
+  // the default value of "hive.metastore.batch.retrieve.max".
+  private static final int GET_PARTITIONS_BATCH_SIZE = 300;
+
   private final HiveTable table;
 
   public HiveTableOperations(HiveTable table) {
@@ -88,8 +99,7 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
     } catch (TException | InterruptedException e) {
       throw new RuntimeException(e);
     }
-    List<String> partCols =
-        table.buildPartitionKeys().stream().map(FieldSchema::getName).collect(Collectors.toList());
+    List<String> partCols = partitionColumnNames();
 
     return partitions.stream()
         .map(
@@ -99,6 +109,140 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
         .toArray(Partition[]::new);
   }
 
+  @Override
+  public String[] listPartitionNames(String filter, String startAfter, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    if (filter == null) {
+      return seek(Arrays.stream(listPartitionNames()), startAfter, limit).toArray(String[]::new);
+    }
+
+    List<String> partCols = partitionColumnNames();
+    return seek(
+            listHivePartitionsByFilter(filter, startAfter).stream()
+                .map(partition -> FileUtils.makePartName(partCols, partition.getValues())),
+            startAfter,
+            limit)
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Partition[] listPartitions(String filter, String startAfter, int limit) {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    if (filter == null) {
+      // Only get the partitions of the page rather than all the partitions of the table.
+      List<String> partitionNames =
+          seek(Arrays.stream(listPartitionNames()), startAfter, limit).collect(Collectors.toList());
+      return getPartitionsByNames(partitionNames);
+    }
+
+    List<String> partCols = partitionColumnNames();
+    Map<String, org.apache.hadoop.hive.metastore.api.Partition> partitionsByName =
+        listHivePartitionsByFilter(filter, startAfter).stream()
+            .collect(
+                Collectors.toMap(
+                    partition -> FileUtils.makePartName(partCols, partition.getValues()),
+                    partition -> partition));
+    return seek(partitionsByName.keySet().stream(), startAfter, limit)
+        .map(name -> fromHivePartition(name, partitionsByName.get(name)))
+        .toArray(Partition[]::new);
+  }
+
+  private Stream<String> seek(Stream<String> partitionNames, String startAfter, int limit) {
+    return partitionNames
+        .filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+        .sorted()
+        .limit(limit);
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Partition> listHivePartitionsByFilter(
+      String filter, String startAfter) {
+    String startAfterPredicate = startAfter == null ? null : startAfterPredicate(startAfter);
+    String pushedFilter =
+        startAfterPredicate == null
+            ? filter
+            : String.format("(%s) and %s", filter, startAfterPredicate);
+    try {
+      // The filter is evaluated by Hive Metastore, only the matched partitions are returned.
+      return table
+          .clientPool()
+          .run(
+              c ->
+                  c.listPartitionsByFilter(
+                      table.schemaName(), table.name(), pushedFilter, (short) -1));
+    } catch (MetaException e) {
+      throw new IllegalArgumentException(
+          "Failed to list partitions of table " + table.name() + " by filter: " + filter, e);
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+  }
+
+  // Builds a Hive Metastore filter predicate matching all the partitions after the given name, and
+  // maybe some before it, which are skipped by the caller. Hive Metastore can't filter partitions
+  // by name, so only the leading digits of the first partition value are pushed down, like the
+  // year of a date. A greater partition name always has a first value not less than the digits,
+  // and the digits keep their order under any collation of the metastore database. Returns null
+  // if nothing can be pushed down, e.g. the first partition column is not a string, which is the
+  // only type the comparisons of the metastore filter support.
+  private String startAfterPredicate(String startAfter) {
+    List<FieldSchema> partitionKeys = table.buildPartitionKeys();
+    if (partitionKeys.isEmpty()
+        || !STRING_TYPE_NAME.equalsIgnoreCase(partitionKeys.get(0).getType())) {
+      return null;
+    }
+
+    String keyName = partitionKeys.get(0).getName();
+    String prefix = keyName + PARTITION_VALUE_DELIMITER;
+    if (!startAfter.startsWith(prefix)) {
+      return null;
+    }
+
+    // The escaped characters of the partition names are not digits, so the leading digits of the
+    // name are the leading digits of the partition value.
+    int end = prefix.length();
+    while (end < startAfter.length()
+        && startAfter.charAt(end) >= '0'
+        && startAfter.charAt(end) <= '9') {
+      end++;
+    }
+    if (end == prefix.length()) {
+      return null;
+    }
+    return String.format("%s >= \"%s\"", keyName, startAfter.substring(prefix.length(), end));
+  }
+
+  private Partition[] getPartitionsByNames(List<String> partitionNames) {
+    List<String> partCols = partitionColumnNames();
+    List<Partition> partitions = new ArrayList<>(partitionNames.size());
+    try {
+      for (List<String> batch : Lists.partition(partitionNames, GET_PARTITIONS_BATCH_SIZE)) {
+        table
+            .clientPool()
+            .run(c -> c.getPartitionsByNames(table.schemaName(), table.name(), batch))
+            .forEach(
+                partition ->
+                    partitions.add(
+                        fromHivePartition(
+                            FileUtils.makePartName(partCols, partition.getValues()), partition)));
+      }
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException(
+          "Failed to get partitions of table " + table.name() + " from Hive Metastore", e);
+    }
+
+    // Hive Metastore doesn't keep the order of the given names.
+    return partitions.stream()
+        .sorted(Comparator.comparing(Partition::name))
+        .toArray(Partition[]::new);
+  }
+
+  private List<String> partitionColumnNames() {
+    return table.buildPartitionKeys().stream()
+        .map(FieldSchema::getName)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHiveTableNameFilter {
+
+  @Test
+  public void testFilter() {
+    List<String> tableNames =
+        ImmutableList.of(
+            "hive_a",
+            "iceberg_a",
+            "paimon_a",
+            "hudi_a",
+            "hudi_a_ro",
+            "hudi_a_rt",
+            "hudi_a_rt_1",
+            "hudi",
+            "hudi_b",
+            "x_ro",
+            "hive_b");
+
+    List<String> filtered =
+        HiveTableNameFilter.filter(
+                tableNames, ImmutableList.of("iceberg_a", "paimon_a"), ImmutableList.of("hudi_a"))
+            .collect(Collectors.toList());
+    Assertions.assertEquals(
+        ImmutableList.of("hive_a", "hudi", "hudi_b", "x_ro", "hive_b"), filtered);
+
+    // The Hudi table without the views, and the view names containing several suffixes
+    filtered =
+        HiveTableNameFilter.filter(
+                ImmutableList.of("a_ro_b_rt", "a_rt", "b", "b_ro_c"),
+                Collections.emptyList(),
+                ImmutableList.of("a_ro_b", "b"))
+            .collect(Collectors.toList());
+    Assertions.assertEquals(ImmutableList.of("a_rt"), filtered);
+
+    filtered =
+        HiveTableNameFilter.filter(tableNames, Collections.emptyList(), Collections.emptyList())
+            .collect(Collectors.toList());
+    Assertions.assertEquals(tableNames, filtered);
+  }
+}
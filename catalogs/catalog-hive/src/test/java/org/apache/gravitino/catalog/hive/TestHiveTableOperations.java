@@ -28,7 +28,9 @@ import static org.apache.gravitino.rel.expressions.transforms.Transforms.identit
 
 import com.google.common.collect.Maps;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
@@ -110,6 +112,81 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionsByPage() {
+    SupportsPartitions partitions = hiveTable.supportPartitions();
+    String[] allPartitionNames = partitions.listPartitionNames();
+    Arrays.sort(allPartitionNames);
+
+    List<String> pagedNames = new ArrayList<>();
+    String startAfter = null;
+    String[] page;
+    do {
+      page = partitions.listPartitionNames(null, startAfter, 1);
+      pagedNames.addAll(Arrays.asList(page));
+      startAfter = page.length > 0 ? page[page.length - 1] : null;
+    } while (page.length == 1);
+    Assertions.assertEquals(Arrays.asList(allPartitionNames), pagedNames);
+
+    Partition[] firstPage = partitions.listPartitions(null, null, 1);
+    Assertions.assertEquals(1, firstPage.length);
+    Assertions.assertEquals(allPartitionNames[0], firstPage[0].name());
+    Assertions.assertEquals(partitions.getPartition(allPartitionNames[0]), firstPage[0]);
+    String lastName = allPartitionNames[allPartitionNames.length - 1];
+    Assertions.assertEquals(0, partitions.listPartitions(null, lastName, 1).length);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitionNames(null, null, 0));
+  }
+
+  @Test
+  public void testListPartitionsByPageWithFilter() {
+    NameIdentifier ident =
+        NameIdentifier.of(META_LAKE_NAME, HIVE_CATALOG_NAME, HIVE_SCHEMA_NAME, genRandomName());
+    HiveColumn col0 =
+        HiveColumn.builder().withName("name").withType(Types.StringType.get()).build();
+    HiveColumn col1 = HiveColumn.builder().withName("dt").withType(Types.StringType.get()).build();
+    HiveTable table =
+        (HiveTable)
+            hiveCatalogOperations.createTable(
+                ident,
+                new Column[] {col0, col1},
+                HIVE_COMMENT,
+                Maps.newHashMap(),
+                new Transform[] {identity(col1.name())});
+    SupportsPartitions partitions = table.supportPartitions();
+    String[] values = {"2019-12-31", "202", "2020", "2020-01-01", "2020-01-02", "2020-1", "abc"};
+    for (String value : values) {
+      partitions.addPartition(
+          Partitions.identity(
+              new String[][] {{col1.name()}}, new Literal<?>[] {Literals.stringLiteral(value)}));
+    }
+
+    // The start after names are pushed down to Hive Metastore with the filter
+    String filter = "dt >= \"2020\"";
+    List<String> expectedNames =
+        Arrays.asList("dt=2020", "dt=2020-01-01", "dt=2020-01-02", "dt=2020-1", "dt=abc");
+    List<String> pagedNames = new ArrayList<>();
+    String startAfter = null;
+    String[] page;
+    do {
+      page = partitions.listPartitionNames(filter, startAfter, 2);
+      pagedNames.addAll(Arrays.asList(page));
+      startAfter = page.length > 0 ? page[page.length - 1] : null;
+    } while (page.length == 2);
+    Assertions.assertEquals(expectedNames, pagedNames);
+
+    List<String> pagedPartitionNames = new ArrayList<>();
+    startAfter = null;
+    Partition[] partitionPage;
+    do {
+      partitionPage = partitions.listPartitions(filter, startAfter, 1);
+      Arrays.stream(partitionPage).forEach(partition -> pagedPartitionNames.add(partition.name()));
+      startAfter = partitionPage.length > 0 ? partitionPage[0].name() : null;
+    } while (partitionPage.length == 1);
+    Assertions.assertEquals(expectedNames, pagedPartitionNames);
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
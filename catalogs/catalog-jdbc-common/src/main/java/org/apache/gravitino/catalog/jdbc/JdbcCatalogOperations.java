@@ -299,7 +299,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
-    return databaseOperation.delete(ident.name(), cascade);
+    try {
+      return databaseOperation.delete(ident.name(), cascade);
+    } finally {
+      tableOperation.invalidateTables(ident.name());
+    }
   }
 
   /**
@@ -20,6 +20,7 @@ package org.apache.gravitino.catalog.jdbc;
 
 import static org.apache.gravitino.connector.PropertyEntry.booleanPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.integerPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringPropertyEntry;
 
@@ -44,7 +45,8 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
           JdbcConfig.PASSWORD.getKey(),
           JdbcConfig.POOL_MIN_SIZE.getKey(),
           JdbcConfig.POOL_MAX_SIZE.getKey(),
-          JdbcConfig.TEST_ON_BORROW.getKey());
+          JdbcConfig.TEST_ON_BORROW.getKey(),
+          JdbcConfig.TABLE_METADATA_CACHE_TTL_MS.getKey());
 
   static {
     List<PropertyEntry<?>> propertyEntries =
@@ -110,6 +112,14 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                 false /* immutable */,
                 JdbcConfig.TEST_ON_BORROW.getDefaultValue(),
                 true /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.TABLE_METADATA_CACHE_TTL_MS.getKey(),
+                JdbcConfig.TABLE_METADATA_CACHE_TTL_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.TABLE_METADATA_CACHE_TTL_MS.getDefaultValue(),
+                true /* hidden */,
                 false /* reserved */));
     PROPERTIES_METADATA =
         ImmutableMap.<String, PropertyEntry<?>>builder()
@@ -91,6 +91,16 @@ public class JdbcConfig extends Config {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Long> TABLE_METADATA_CACHE_TTL_MS =
+      new ConfigBuilder("jdbc.table-metadata-cache.ttl-ms")
+          .doc(
+              "The time in milliseconds to cache the loaded table metadata, 0 disables the cache. "
+                  + "Changes made outside of Gravitino may be invisible within this time")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
   public String getJdbcUrl() {
     return get(JDBC_URL);
   }
@@ -123,6 +133,10 @@ public class JdbcConfig extends Config {
     return get(TEST_ON_BORROW);
   }
 
+  public long getTableMetadataCacheTtlMs() {
+    return get(TABLE_METADATA_CACHE_TTL_MS);
+  }
+
   public JdbcConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
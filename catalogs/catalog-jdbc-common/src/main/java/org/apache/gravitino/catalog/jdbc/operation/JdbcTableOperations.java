@@ -19,7 +19,11 @@
 package org.apache.gravitino.catalog.jdbc.operation;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
@@ -33,12 +37,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
+import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcTypeConverter;
@@ -78,6 +86,11 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   protected JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
+  private static final long MAX_CACHED_TABLES = 10000L;
+
+  // The loaded tables keyed by the database name and the table name, null if the cache is disabled.
+  private Cache<Pair<String, String>, JdbcTable> tableCache;
+
   @Override
   public void initialize(
       DataSource dataSource,
@@ -89,6 +102,15 @@ public abstract class JdbcTableOperations implements TableOperation {
     this.exceptionMapper = exceptionMapper;
     this.typeConverter = jdbcTypeConverter;
     this.columnDefaultValueConverter = jdbcColumnDefaultValueConverter;
+
+    long cacheTtlMs = new JdbcConfig(conf).getTableMetadataCacheTtlMs();
+    if (cacheTtlMs > 0) {
+      this.tableCache =
+          CacheBuilder.newBuilder()
+              .maximumSize(MAX_CACHED_TABLES)
+              .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+              .build();
+    }
   }
 
   @Override
@@ -111,6 +133,8 @@ public abstract class JdbcTableOperations implements TableOperation {
       LOG.info("Created table {} in database {}", tableName, databaseName);
     } catch (final SQLException se) {
       throw this.exceptionMapper.toGravitinoException(se);
+    } finally {
+      invalidateTable(databaseName, tableName);
     }
   }
 
@@ -124,6 +148,8 @@ public abstract class JdbcTableOperations implements TableOperation {
       return false;
     } catch (NoSuchSchemaException e) {
       return false;
+    } finally {
+      invalidateTable(databaseName, tableName);
     }
     return true;
   }
@@ -187,6 +213,48 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   @Override
   public JdbcTable load(String databaseName, String tableName) throws NoSuchTableException {
+    if (tableCache == null) {
+      return loadFromDatabase(databaseName, tableName);
+    }
+
+    try {
+      return tableCache.get(
+          Pair.of(databaseName, tableName), () -> loadFromDatabase(databaseName, tableName));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  @Override
+  public void invalidateTables(String databaseName) {
+    if (tableCache != null) {
+      tableCache.asMap().keySet().removeIf(key -> key.getLeft().equals(databaseName));
+    }
+  }
+
+  /**
+   * Invalidates the cached metadata of the table, it must be called after the table is changed.
+   *
+   * @param databaseName The name of the database.
+   * @param tableName The name of the table.
+   */
+  protected void invalidateTable(String databaseName, String tableName) {
+    if (tableCache != null) {
+      tableCache.invalidate(Pair.of(databaseName, tableName));
+    }
+  }
+
+  /**
+   * Loads the table from the database without going through the table metadata cache.
+   *
+   * @param databaseName The name of the database.
+   * @param tableName The name of the table.
+   * @return The loaded table.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  protected JdbcTable loadFromDatabase(String databaseName, String tableName)
+      throws NoSuchTableException {
     // We should handle case sensitivity and wild card issue in some catalog tables, take MySQL
     // tables, for example.
     // 1. MySQL will get table 'a_b' and 'A_B' when we query 'a_b' in a case-insensitive charset
@@ -292,6 +360,9 @@ public abstract class JdbcTableOperations implements TableOperation {
           "Renamed table {}/{} to {}/{}", databaseName, oldTableName, databaseName, newTableName);
     } catch (final SQLException se) {
       throw this.exceptionMapper.toGravitinoException(se);
+    } finally {
+      invalidateTable(databaseName, oldTableName);
+      invalidateTable(databaseName, newTableName);
     }
   }
 
@@ -309,6 +380,8 @@ public abstract class JdbcTableOperations implements TableOperation {
       LOG.info("Alter table {} from database {}", tableName, databaseName);
     } catch (final SQLException se) {
       throw this.exceptionMapper.toGravitinoException(se);
+    } finally {
+      invalidateTable(databaseName, tableName);
     }
   }
 
@@ -318,6 +391,8 @@ public abstract class JdbcTableOperations implements TableOperation {
       purgeTable(databaseName, tableName);
     } catch (NoSuchTableException | NoSuchSchemaException e) {
       return false;
+    } finally {
+      invalidateTable(databaseName, tableName);
     }
     return true;
   }
@@ -381,7 +456,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -416,7 +490,17 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
-    // Assemble into Index
+    return toIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Assembles the loaded index columns into indexes.
+   *
+   * @param jdbcIndexBeans The columns of the primary keys and the unique keys of a table.
+   * @return The indexes grouped by the index type and the index name.
+   */
+  protected List<Index> toIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
@@ -492,7 +576,9 @@ public abstract class JdbcTableOperations implements TableOperation {
    */
   protected JdbcTable getOrCreateTable(
       String databaseName, String tableName, JdbcTable lazyLoadCreateTable) {
-    return null != lazyLoadCreateTable ? lazyLoadCreateTable : load(databaseName, tableName);
+    return null != lazyLoadCreateTable
+        ? lazyLoadCreateTable
+        : loadFromDatabase(databaseName, tableName);
   }
 
   protected void validateUpdateColumnNullable(
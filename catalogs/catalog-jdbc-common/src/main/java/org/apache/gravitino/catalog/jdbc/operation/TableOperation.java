@@ -115,6 +115,13 @@ public interface TableOperation {
    */
   boolean purge(String databaseName, String tableName);
 
+  /**
+   * Invalidates the cached metadata of all the tables in the database, if any.
+   *
+   * @param databaseName The name of the database.
+   */
+  default void invalidateTables(String databaseName) {}
+
   default JdbcTablePartitionOperations createJdbcTablePartitionOperations(JdbcTable loadedTable) {
     throw new UnsupportedOperationException("Table partition operation is not supported yet");
   }
@@ -18,10 +18,14 @@
  */
 package org.apache.gravitino.catalog.jdbc.operation;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -211,6 +215,53 @@ public class TestJdbcTableOperations {
         JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, newName), "table should be non-existent");
   }
 
+  @Test
+  public void testTableMetadataCache() throws SQLException {
+    SqliteTableOperations cachedTableOperations = new SqliteTableOperations();
+    cachedTableOperations.initialize(
+        DATA_SOURCE,
+        EXCEPTION_CONVERTER,
+        TYPE_CONVERTER,
+        COLUMN_DEFAULT_VALUE_CONVERTER,
+        ImmutableMap.of(JdbcConfig.TABLE_METADATA_CACHE_TTL_MS.getKey(), "60000"));
+
+    String tableName = "cached_table";
+    JdbcColumn[] columns = generateRandomColumn(1, 4);
+    cachedTableOperations.create(
+        DATABASE_NAME,
+        tableName,
+        columns,
+        null,
+        Collections.emptyMap(),
+        null,
+        Distributions.NONE,
+        Indexes.EMPTY_INDEXES);
+    JdbcTable loadedTable = cachedTableOperations.load(DATABASE_NAME, tableName);
+    Assertions.assertEquals(columns.length, loadedTable.columns().length);
+
+    // The changes made outside of the table operations are invisible until the cache expires.
+    try (Connection connection = DATA_SOURCE.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.executeUpdate("ALTER TABLE " + tableName + " ADD COLUMN col_new INTEGER");
+    }
+    Assertions.assertSame(loadedTable, cachedTableOperations.load(DATABASE_NAME, tableName));
+    Assertions.assertEquals(
+        columns.length + 1, JDBC_TABLE_OPERATIONS.load(DATABASE_NAME, tableName).columns().length);
+
+    // Renaming the table invalidates the cached table.
+    String newName = "cached_table_renamed";
+    cachedTableOperations.rename(DATABASE_NAME, tableName, newName);
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> cachedTableOperations.load(DATABASE_NAME, tableName));
+    Assertions.assertEquals(
+        columns.length + 1, cachedTableOperations.load(DATABASE_NAME, newName).columns().length);
+
+    // Dropping the table invalidates the cached table.
+    Assertions.assertTrue(cachedTableOperations.drop(DATABASE_NAME, newName));
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> cachedTableOperations.load(DATABASE_NAME, newName));
+  }
+
   private static JdbcColumn[] generateRandomColumn(int minSize, int maxSize) {
     Random r = new Random();
     String prefixColName = "col_";
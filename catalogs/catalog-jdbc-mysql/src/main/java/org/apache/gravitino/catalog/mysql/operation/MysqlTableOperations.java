@@ -44,6 +44,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -61,6 +62,7 @@ public class MysqlTableOperations extends JdbcTableOperations {
 
   private static final String BACK_QUOTE = "`";
   private static final String MYSQL_AUTO_INCREMENT = "AUTO_INCREMENT";
+  private static final String PRIMARY_KEY_INDEX_NAME = "PRIMARY";
   private static final String MYSQL_NOT_SUPPORT_NESTED_COLUMN_MSG =
       "Mysql does not support nested column names.";
 
@@ -193,6 +195,40 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
+      throws SQLException {
+    // Load the primary key and the unique keys in one query rather than calling the driver API
+    // getPrimaryKeys and getIndexInfo, which issue one query each.
+    String sql =
+        "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX, NON_UNIQUE "
+            + "FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+    List<JdbcIndexBean> jdbcIndexBeans = new ArrayList<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      statement.setString(2, tableName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          // The table name comparison may be case-insensitive, see getTableProperties.
+          if (!Objects.equals(resultSet.getString("TABLE_NAME"), tableName)
+              || resultSet.getBoolean("NON_UNIQUE")) {
+            continue;
+          }
+          String indexName = resultSet.getString("INDEX_NAME");
+          jdbcIndexBeans.add(
+              new JdbcIndexBean(
+                  PRIMARY_KEY_INDEX_NAME.equals(indexName)
+                      ? Index.IndexType.PRIMARY_KEY
+                      : Index.IndexType.UNIQUE_KEY,
+                  resultSet.getString("COLUMN_NAME"),
+                  indexName,
+                  resultSet.getInt("SEQ_IN_INDEX")));
+        }
+      }
+    }
+    return toIndexes(jdbcIndexBeans);
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
@@ -224,6 +224,8 @@ public class OceanBaseTableOperations extends JdbcTableOperations {
       LOG.info("Alter table {} from database {}", tableName, databaseName);
     } catch (final SQLException se) {
       throw this.exceptionMapper.toGravitinoException(se);
+    } finally {
+      invalidateTable(databaseName, tableName);
     }
   }
 
@@ -130,6 +130,20 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  @Override
+  public String[] listSchemas(String startAfter, int limit) throws NoSuchCatalogException {
+    EntityListResponse resp =
+        restClient.get(
+            formatSchemaRequestPath(schemaNamespace()),
+            PageParams.of(startAfter, limit),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
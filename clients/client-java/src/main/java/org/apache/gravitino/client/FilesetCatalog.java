@@ -101,6 +101,37 @@ class FilesetCatalog extends BaseSchemaCatalog
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List the filesets under the given Schema namespace, ordered by fileset name and starting after
+   * the given fileset name.
+   *
+   * @param namespace The namespace to list the filesets under it. This namespace should have 1
+   *     level, which is the schema name;
+   * @param startAfter The fileset name to start after, or null to start from the first one.
+   * @param limit The maximum number of filesets to return.
+   * @return A list of {@link NameIdentifier} of the filesets under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatFilesetRequestPath(fullNamespace),
+            PageParams.of(startAfter, limit),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.identifiers())
+        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+        .toArray(NameIdentifier[]::new);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -105,6 +105,11 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().listCatalogs();
   }
 
+  @Override
+  public String[] listCatalogs(String startAfter, int limit) throws NoSuchMetalakeException {
+    return getMetalake().listCatalogs(startAfter, limit);
+  }
+
   @Override
   public Catalog[] listCatalogsInfo() throws NoSuchMetalakeException {
     return getMetalake().listCatalogsInfo();
@@ -155,6 +155,20 @@ public class GravitinoMetalake extends MetalakeDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  @Override
+  public String[] listCatalogs(String startAfter, int limit) throws NoSuchMetalakeException {
+    EntityListResponse resp =
+        restClient.get(
+            String.format("api/metalakes/%s/catalogs", this.name()),
+            PageParams.of(startAfter, limit),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
+  }
+
   /**
    * List all the catalogs with their information under this metalake.
    *
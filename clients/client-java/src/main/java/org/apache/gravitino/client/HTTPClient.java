@@ -28,6 +28,7 @@ import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -39,6 +40,8 @@ import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.cookie.BasicCookieStore;
+import org.apache.hc.client5.http.cookie.Cookie;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
@@ -73,6 +76,8 @@ public class HTTPClient implements RESTClient {
   private final CloseableHttpClient httpClient;
   private final ObjectMapper mapper;
   private final AuthDataProvider authDataProvider;
+  // Stores the session token cookie issued by the server after a successful authentication.
+  private final BasicCookieStore cookieStore = new BasicCookieStore();
 
   // Handler to be executed before connecting to the server.
   private final Runnable beforeConnectHandler;
@@ -116,6 +121,7 @@ public class HTTPClient implements RESTClient {
               .collect(Collectors.toList()));
     }
 
+    clientBuilder.setDefaultCookieStore(cookieStore);
     this.httpClient = clientBuilder.build();
     this.authDataProvider = authDataProvider;
 
@@ -350,13 +356,8 @@ public class HTTPClient implements RESTClient {
     } else {
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
     }
-    if (authDataProvider != null) {
-      request.setHeader(
-          AuthConstants.HTTP_HEADER_AUTHORIZATION,
-          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
-    }
 
-    try (CloseableHttpResponse response = httpClient.execute(request)) {
+    try (CloseableHttpResponse response = executeWithAuthentication(request)) {
       Map<String, String> respHeaders = Maps.newHashMap();
       for (Header header : response.getHeaders()) {
         respHeaders.put(header.getName(), header.getValue());
@@ -401,6 +402,49 @@ public class HTTPClient implements RESTClient {
     }
   }
 
+  @SuppressWarnings("deprecation")
+  private CloseableHttpResponse executeWithAuthentication(HttpUriRequestBase request)
+      throws IOException {
+    if (authDataProvider == null) {
+      return httpClient.execute(request);
+    }
+
+    if (hasSessionTokenCookie()) {
+      // The server authenticates the request by the session token it issued, so the token data,
+      // which is expensive to generate and verify for Kerberos, isn't sent.
+      CloseableHttpResponse response = httpClient.execute(request);
+      if (response.getCode() != HttpStatus.SC_UNAUTHORIZED) {
+        return response;
+      }
+
+      // The session token is expired or rejected, like by a server restarted with a new secret,
+      // so authenticate the request by the token data again.
+      response.close();
+      removeSessionTokenCookie();
+    }
+
+    request.setHeader(
+        AuthConstants.HTTP_HEADER_AUTHORIZATION,
+        new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
+    return httpClient.execute(request);
+  }
+
+  private boolean hasSessionTokenCookie() {
+    return cookieStore.getCookies().stream().anyMatch(HTTPClient::isSessionTokenCookie);
+  }
+
+  private void removeSessionTokenCookie() {
+    List<Cookie> cookies = cookieStore.getCookies();
+    cookieStore.clear();
+    cookies.stream()
+        .filter(cookie -> !isSessionTokenCookie(cookie))
+        .forEach(cookieStore::addCookie);
+  }
+
+  private static boolean isSessionTokenCookie(Cookie cookie) {
+    return AuthConstants.SESSION_TOKEN_COOKIE_NAME.equals(cookie.getName());
+  }
+
   private synchronized void performPreConnectHandler() {
     // beforeConnectHandler is a pre-connection handler that needs to be executed before the first
     // HTTP request. if the handler execute fails, we set the status to Start to retry the handler.
@@ -533,6 +577,33 @@ public class HTTPClient implements RESTClient {
     return execute(Method.PUT, path, null, body, responseType, headers, errorHandler);
   }
 
+  /**
+   * Sends an HTTP PUT request to the specified path with the provided request body and query
+   * parameters, and processes the response.
+   *
+   * @param path The URL path to send the PUT request to.
+   * @param queryParams A map of query parameters to include in the request (can be null).
+   * @param body The REST request to place in the request body.
+   * @param responseType The class type of the response for deserialization (Must be registered with
+   *     the ObjectMapper).
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The response entity parsed and converted to its type T.
+   */
+  @Override
+  public <T extends RESTResponse> T put(
+      String path,
+      Map<String, String> queryParams,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return execute(Method.PUT, path, queryParams, body, responseType, headers, errorHandler);
+  }
+
   /**
    * Sends an HTTP PUT request to the specified path with the provided request body and processes
    * the response with support for response headers.
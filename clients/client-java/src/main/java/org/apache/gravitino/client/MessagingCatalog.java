@@ -102,6 +102,37 @@ class MessagingCatalog extends BaseSchemaCatalog implements TopicCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List the topics under the given Schema namespace, ordered by topic name and starting after
+   * the given topic name.
+   *
+   * @param namespace The namespace to list the topics under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param startAfter The topic name to start after, or null to start from the first one.
+   * @param limit The maximum number of topics to return.
+   * @return A list of {@link NameIdentifier} of the topics under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public NameIdentifier[] listTopics(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    checkTopicNamespace(namespace);
+
+    Namespace fullNamespace = getTopicFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatTopicRequestPath(fullNamespace),
+            PageParams.of(startAfter, limit),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.topicErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.identifiers())
+        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+        .toArray(NameIdentifier[]::new);
+  }
+
   /**
    * Load the topic with the given identifier.
    *
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Builds the query parameters of the paginated listing requests. */
+final class PageParams {
+
+  private PageParams() {}
+
+  /**
+   * Returns the query parameters to list at most {@code limit} entries after {@code startAfter}.
+   *
+   * @param startAfter The name to start after, or null to start from the first entry.
+   * @param limit The maximum number of entries to return.
+   * @return The mutable query parameters, so that the caller can add its own ones.
+   */
+  static Map<String, String> of(String startAfter, int limit) {
+    Map<String, String> params = new HashMap<>();
+    params.put("pageSize", String.valueOf(limit));
+    if (startAfter != null) {
+      // The page token of the server is the URL-safe base64 of the last name of the previous page.
+      params.put(
+          "pageToken",
+          Base64.getUrlEncoder()
+              .withoutPadding()
+              .encodeToString(startAfter.getBytes(StandardCharsets.UTF_8)));
+    }
+    return params;
+  }
+}
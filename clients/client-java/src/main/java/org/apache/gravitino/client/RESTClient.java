@@ -379,6 +379,26 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Perform a PUT request on the specified path with given information and query parameters.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param body The request body to be included in the PUT request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @return The response of the PUT request.
+   * @param <T> The type of the response.
+   */
+  <T extends RESTResponse> T put(
+      String path,
+      Map<String, String> queryParams,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler);
+
   /**
    * Perform a PATCH request on the specified path with given information.
    *
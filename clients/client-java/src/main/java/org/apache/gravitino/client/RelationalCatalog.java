@@ -23,9 +23,12 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,11 +38,14 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.requests.TableBatchLoadRequest;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -104,6 +110,37 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List the tables under the given Schema namespace, ordered by table name and starting after
+   * the given table name.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param startAfter The table name to start after, or null to start from the first one.
+   * @param limit The maximum number of tables to return.
+   * @return A list of {@link NameIdentifier} of the tables under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public NameIdentifier[] listTables(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatTableRequestPath(fullNamespace),
+            PageParams.of(startAfter, limit),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.identifiers())
+        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+        .toArray(NameIdentifier[]::new);
+  }
+
   /**
    * Load the table with specified identifier.
    *
@@ -127,6 +164,65 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
   }
 
+  /**
+   * Load the metadata of multiple tables from the catalog, with one request for up to {@link
+   * TableBatchLoadRequest#MAX_TABLES} tables of the same schema instead of one request per table.
+   * The tables or schemas that don't exist are skipped.
+   *
+   * @param idents The identifiers of the tables, which should be "schema.table" format.
+   * @return The loaded tables keyed by their identifiers, in the order of the given identifiers.
+   */
+  @Override
+  public Map<NameIdentifier, Table> loadTables(NameIdentifier... idents) {
+    Map<Namespace, List<NameIdentifier>> identsBySchema = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      checkTableNameIdentifier(ident);
+      identsBySchema.computeIfAbsent(ident.namespace(), k -> new ArrayList<>()).add(ident);
+    }
+
+    Map<NameIdentifier, Table> loadedTables = new HashMap<>();
+    for (Map.Entry<Namespace, List<NameIdentifier>> entry : identsBySchema.entrySet()) {
+      Namespace fullNamespace = getTableFullNamespace(entry.getKey());
+      for (List<NameIdentifier> batch :
+          Lists.partition(entry.getValue(), TableBatchLoadRequest.MAX_TABLES)) {
+        String[] names = batch.stream().map(NameIdentifier::name).toArray(String[]::new);
+        TableBatchLoadResponse resp =
+            restClient.post(
+                formatTableRequestPath(fullNamespace) + ":batchLoad",
+                new TableBatchLoadRequest(names),
+                TableBatchLoadResponse.class,
+                Collections.emptyMap(),
+                ErrorHandlers.tableErrorHandler());
+        resp.validate();
+        Preconditions.checkState(
+            resp.getResults().length == names.length,
+            "Expected the results of %s tables, but got %s",
+            names.length,
+            resp.getResults().length);
+
+        for (int i = 0; i < names.length; i++) {
+          TableBatchLoadResponse.Result result = resp.getResults()[i];
+          if (result.getTable() != null) {
+            loadedTables.put(
+                batch.get(i), RelationalTable.from(fullNamespace, result.getTable(), restClient));
+          } else if (result.getError().getCode() != ErrorConstants.NOT_FOUND_CODE) {
+            // Throws the exception the table would fail to load with alone.
+            ErrorHandlers.tableErrorHandler().accept(result.getError());
+          }
+        }
+      }
+    }
+
+    Map<NameIdentifier, Table> tables = new LinkedHashMap<>();
+    for (NameIdentifier ident : idents) {
+      Table table = loadedTables.get(ident);
+      if (table != null) {
+        tables.put(ident, table);
+      }
+    }
+    return tables;
+  }
+
   /**
    * Create a new table with specified identifier, columns, comment and properties.
    *
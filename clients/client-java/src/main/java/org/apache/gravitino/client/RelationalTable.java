@@ -23,6 +23,7 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,12 +37,17 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.SupportsRoles;
 import org.apache.gravitino.dto.rel.TableDTO;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
+import org.apache.gravitino.dto.rel.stats.ColumnStatisticsDTO;
 import org.apache.gravitino.dto.requests.AddPartitionsRequest;
+import org.apache.gravitino.dto.requests.StatisticsUpdateRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.PartitionListResponse;
 import org.apache.gravitino.dto.responses.PartitionNameListResponse;
 import org.apache.gravitino.dto.responses.PartitionResponse;
+import org.apache.gravitino.dto.responses.TableStatisticsResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.Column;
@@ -52,12 +58,16 @@ import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+import org.apache.gravitino.rel.stats.SupportsStatistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.gravitino.tag.SupportsTags;
 import org.apache.gravitino.tag.Tag;
 
 /** Represents a relational table. */
-class RelationalTable implements Table, SupportsPartitions, SupportsTags, SupportsRoles {
+class RelationalTable
+    implements Table, SupportsPartitions, SupportsStatistics, SupportsTags, SupportsRoles {
 
   private static final Joiner DOT_JOINER = Joiner.on(".");
 
@@ -211,6 +221,56 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return resp.getPartitions();
   }
 
+  /**
+   * Returns one page of the names of the partitions matching the filter, ordered by name.
+   *
+   * @param filter The filter of the partitions, or null to list all the partitions.
+   * @param startAfter The partition name to start after, or null to start from the first one.
+   * @param limit The maximum number of partition names to return.
+   * @return The partition names.
+   */
+  @Override
+  public String[] listPartitionNames(String filter, String startAfter, int limit) {
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            partitionPageParams(filter, startAfter, limit, false),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.partitionNames();
+  }
+
+  /**
+   * Returns one page of the partitions matching the filter, ordered by name.
+   *
+   * @param filter The filter of the partitions, or null to list all the partitions.
+   * @param startAfter The partition name to start after, or null to start from the first one.
+   * @param limit The maximum number of partitions to return.
+   * @return The partitions.
+   */
+  @Override
+  public Partition[] listPartitions(String filter, String startAfter, int limit) {
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            partitionPageParams(filter, startAfter, limit, true),
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return resp.getPartitions();
+  }
+
+  private static Map<String, String> partitionPageParams(
+      String filter, String startAfter, int limit, boolean details) {
+    Map<String, String> params = PageParams.of(startAfter, limit);
+    params.put("details", String.valueOf(details));
+    if (filter != null) {
+      params.put("filter", filter);
+    }
+    return params;
+  }
+
   /**
    * Returns the partition with the given name.
    *
@@ -294,6 +354,110 @@ class RelationalTable implements Table, SupportsPartitions, SupportsTags, Suppor
     return prefix + "/" + RESTUtils.encodeString(partitionName);
   }
 
+  @Override
+  public SupportsStatistics supportsStatistics() {
+    return this;
+  }
+
+  @Override
+  public TableStatistics getStatistics() throws NoSuchTableException {
+    return getStatistics(Collections.emptyMap());
+  }
+
+  @Override
+  public TableStatistics getPartitionStatistics(String partitionName) throws NoSuchTableException {
+    return getStatistics(partitionParams(partitionName));
+  }
+
+  @Override
+  public TableStatistics updateStatistics(TableStatistics statistics)
+      throws NoSuchTableException, IllegalArgumentException {
+    return updateStatistics(Collections.emptyMap(), statistics);
+  }
+
+  @Override
+  public TableStatistics updatePartitionStatistics(String partitionName, TableStatistics statistics)
+      throws NoSuchTableException, IllegalArgumentException {
+    return updateStatistics(partitionParams(partitionName), statistics);
+  }
+
+  @Override
+  public boolean dropStatistics() throws NoSuchTableException {
+    return dropStatistics(Collections.emptyMap());
+  }
+
+  @Override
+  public boolean dropPartitionStatistics(String partitionName) throws NoSuchTableException {
+    return dropStatistics(partitionParams(partitionName));
+  }
+
+  /** @return The statistics request path. */
+  @VisibleForTesting
+  String getStatisticsRequestPath() {
+    return "api/metalakes/"
+        + RESTUtils.encodeString(namespace.level(0))
+        + "/catalogs/"
+        + RESTUtils.encodeString(namespace.level(1))
+        + "/schemas/"
+        + RESTUtils.encodeString(namespace.level(2))
+        + "/tables/"
+        + RESTUtils.encodeString(name())
+        + "/statistics";
+  }
+
+  private TableStatistics getStatistics(Map<String, String> params) {
+    TableStatisticsResponse resp =
+        restClient.get(
+            getStatisticsRequestPath(),
+            params,
+            TableStatisticsResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+    return resp.getStatistics();
+  }
+
+  private TableStatistics updateStatistics(Map<String, String> params, TableStatistics statistics) {
+    ColumnStatistics[] columnStatistics = statistics.columnStatistics();
+    StatisticsUpdateRequest req =
+        new StatisticsUpdateRequest(
+            statistics.rowCount(),
+            statistics.sizeInBytes(),
+            columnStatistics == null
+                ? null
+                : Arrays.stream(columnStatistics)
+                    .map(DTOConverters::toDTO)
+                    .toArray(ColumnStatisticsDTO[]::new));
+    req.validate();
+
+    TableStatisticsResponse resp =
+        restClient.put(
+            getStatisticsRequestPath(),
+            params,
+            req,
+            TableStatisticsResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+    return resp.getStatistics();
+  }
+
+  private boolean dropStatistics(Map<String, String> params) {
+    DropResponse resp =
+        restClient.delete(
+            getStatisticsRequestPath(),
+            params,
+            DropResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+    return resp.dropped();
+  }
+
+  private static Map<String, String> partitionParams(String partitionName) {
+    return ImmutableMap.of("partition", partitionName);
+  }
+
   @Override
   public SupportsTags supportsTags() {
     return this;
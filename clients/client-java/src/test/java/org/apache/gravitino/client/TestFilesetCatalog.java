@@ -165,6 +165,26 @@ public class TestFilesetCatalog extends TestBase {
         "internal error");
   }
 
+  @Test
+  public void testListFilesetWithPagination() throws JsonProcessingException {
+    NameIdentifier fileset2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset2");
+    String filesetPath = withSlash(FilesetCatalog.formatFilesetRequestPath(fileset2.namespace()));
+
+    EntityListResponse resp = new EntityListResponse(new NameIdentifier[] {fileset2}, null);
+    buildMockResource(
+        Method.GET,
+        filesetPath,
+        ImmutableMap.of("pageSize", "1", "pageToken", "ZmlsZXNldDE"),
+        null,
+        resp,
+        SC_OK);
+    NameIdentifier[] filesets =
+        catalog.asFilesetCatalog().listFilesets(Namespace.of("schema1"), "fileset1", 1);
+
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "fileset2")}, filesets);
+  }
+
   @Test
   public void testLoadFileset() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of("schema1", "fileset1");
@@ -19,6 +19,7 @@
 package org.apache.gravitino.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -136,6 +137,25 @@ public class TestGravitinoMetalake extends TestBase {
     Assertions.assertTrue(ex1.getMessage().contains("Error code: " + HttpStatus.SC_CONFLICT));
   }
 
+  @Test
+  public void testListCatalogsWithPagination() throws JsonProcessingException {
+    String path = "/api/metalakes/" + metalakeName + "/catalogs";
+    NameIdentifier ident = NameIdentifier.of(metalakeName, "mock2");
+
+    // The page token is the URL-safe base64 of the name to start after
+    EntityListResponse resp = new EntityListResponse(new NameIdentifier[] {ident}, null);
+    buildMockResource(
+        Method.GET,
+        path,
+        ImmutableMap.of("pageSize", "1", "pageToken", "bW9jaw"),
+        null,
+        resp,
+        HttpStatus.SC_OK);
+    String[] catalogs = gravitinoClient.listCatalogs("mock", 1);
+
+    Assertions.assertArrayEquals(new String[] {"mock2"}, catalogs);
+  }
+
   @Test
   public void testListCatalogsInfo() throws JsonProcessingException {
     String path = "/api/metalakes/" + metalakeName + "/catalogs";
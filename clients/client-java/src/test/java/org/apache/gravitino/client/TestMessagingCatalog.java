@@ -137,6 +137,26 @@ public class TestMessagingCatalog extends TestBase {
         "internal error");
   }
 
+  @Test
+  public void testListTopicsWithPagination() throws Exception {
+    NameIdentifier topic2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "topic2");
+    String topicPath = withSlash(MessagingCatalog.formatTopicRequestPath(topic2.namespace()));
+
+    EntityListResponse resp = new EntityListResponse(new NameIdentifier[] {topic2}, null);
+    buildMockResource(
+        Method.GET,
+        topicPath,
+        ImmutableMap.of("pageSize", "1", "pageToken", "dG9waWMx"),
+        null,
+        resp,
+        SC_OK);
+    NameIdentifier[] topics =
+        catalog.asTopicCatalog().listTopics(Namespace.of("schema1"), "topic1", 1);
+
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "topic2")}, topics);
+  }
+
   @Test
   public void testLoadTopic() throws JsonProcessingException {
     NameIdentifier topic = NameIdentifier.of("schema1", "topic1");
@@ -62,6 +62,7 @@ import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.SchemaCreateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdatesRequest;
+import org.apache.gravitino.dto.requests.TableBatchLoadRequest;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
@@ -70,6 +71,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -190,6 +192,25 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
 
+  @Test
+  public void testListSchemasWithPagination() throws JsonProcessingException {
+    Namespace schemaNs = Namespace.of(metalakeName, catalogName);
+    NameIdentifier schema2 = NameIdentifier.of(schemaNs, "schema2");
+    String schemaPath = withSlash(RelationalCatalog.formatSchemaRequestPath(schemaNs));
+
+    EntityListResponse resp = new EntityListResponse(new NameIdentifier[] {schema2}, null);
+    buildMockResource(
+        Method.GET,
+        schemaPath,
+        ImmutableMap.of("pageSize", "1", "pageToken", "c2NoZW1hMQ"),
+        null,
+        resp,
+        SC_OK);
+    String[] schemas = catalog.asSchemas().listSchemas("schema1", 1);
+
+    Assertions.assertArrayEquals(new String[] {"schema2"}, schemas);
+  }
+
   @Test
   public void testCreateSchema() throws JsonProcessingException {
     String schemaName = "schema1";
@@ -361,6 +382,35 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
 
+  @Test
+  public void testListTablesWithPagination() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+
+    EntityListResponse resp = new EntityListResponse(new NameIdentifier[] {table1}, "dGFibGUx");
+    buildMockResource(Method.GET, tablePath, ImmutableMap.of("pageSize", "1"), null, resp, SC_OK);
+    NameIdentifier[] page = tableCatalog.listTables(Namespace.of("schema1"), null, 1);
+
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "table1")}, page);
+
+    // The page token is the URL-safe base64 of the name to start after
+    EntityListResponse resp1 = new EntityListResponse(new NameIdentifier[] {table2}, null);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "1", "pageToken", "dGFibGUx"),
+        null,
+        resp1,
+        SC_OK);
+    NameIdentifier[] page1 = tableCatalog.listTables(Namespace.of("schema1"), "table1", 1);
+
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {NameIdentifier.of("schema1", "table2")}, page1);
+  }
+
   @Test
   public void testCreateTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
@@ -789,6 +839,79 @@ public class TestRelationalCatalog extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
   }
 
+  @Test
+  public void testLoadTables() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of("schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of("schema1", "table2");
+    NameIdentifier table3 = NameIdentifier.of("schema2", "table3");
+    Namespace schema1 = Namespace.of(metalakeName, catalogName, "schema1");
+    String path1 = withSlash(RelationalCatalog.formatTableRequestPath(schema1)) + ":batchLoad";
+    Namespace schema2 = Namespace.of(metalakeName, catalogName, "schema2");
+    String path2 = withSlash(RelationalCatalog.formatTableRequestPath(schema2)) + ":batchLoad";
+    ColumnDTO[] columns =
+        new ColumnDTO[] {createMockColumn("col1", Types.ByteType.get(), "comment1")};
+    TableDTO expectedTable1 =
+        createMockTable(
+            "table1",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            SortOrderDTO.EMPTY_SORT);
+    TableDTO expectedTable3 =
+        createMockTable(
+            "table3",
+            columns,
+            "comment",
+            Collections.emptyMap(),
+            EMPTY_PARTITIONING,
+            DistributionDTO.NONE,
+            SortOrderDTO.EMPTY_SORT);
+
+    TableBatchLoadRequest req1 = new TableBatchLoadRequest(new String[] {"table1", "table2"});
+    TableBatchLoadResponse resp1 =
+        new TableBatchLoadResponse(
+            new TableBatchLoadResponse.Result[] {
+              TableBatchLoadResponse.Result.ofTable("table1", expectedTable1),
+              TableBatchLoadResponse.Result.ofError(
+                  "table2",
+                  ErrorResponse.notFound(
+                      NoSuchTableException.class.getSimpleName(), "table not found"))
+            });
+    buildMockResource(Method.POST, path1, req1, resp1, SC_OK);
+    TableBatchLoadRequest req2 = new TableBatchLoadRequest(new String[] {"table3"});
+    TableBatchLoadResponse resp2 =
+        new TableBatchLoadResponse(
+            new TableBatchLoadResponse.Result[] {
+              TableBatchLoadResponse.Result.ofTable("table3", expectedTable3)
+            });
+    buildMockResource(Method.POST, path2, req2, resp2, SC_OK);
+
+    // The missing table is skipped, and the tables are returned in the requested order.
+    Map<NameIdentifier, Table> tables = catalog.asTableCatalog().loadTables(table3, table1, table2);
+    Assertions.assertArrayEquals(
+        new NameIdentifier[] {table3, table1}, tables.keySet().toArray(new NameIdentifier[0]));
+    assertTableEquals(fromDTO(expectedTable1), tables.get(table1));
+    assertTableEquals(fromDTO(expectedTable3), tables.get(table3));
+
+    // Test throw the error of a table other than not found
+    TableBatchLoadResponse resp3 =
+        new TableBatchLoadResponse(
+            new TableBatchLoadResponse.Result[] {
+              TableBatchLoadResponse.Result.ofTable("table1", expectedTable1),
+              TableBatchLoadResponse.Result.ofError(
+                  "table2", ErrorResponse.internalError("internal error"))
+            });
+    buildMockResource(Method.POST, path1, req1, resp3, SC_OK);
+
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+    Throwable ex =
+        Assertions.assertThrows(
+            RuntimeException.class, () -> tableCatalog.loadTables(table1, table2));
+    Assertions.assertTrue(ex.getMessage().contains("internal error"));
+  }
+
   @Test
   public void testRenameTable() throws JsonProcessingException {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
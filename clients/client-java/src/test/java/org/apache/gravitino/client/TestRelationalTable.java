@@ -26,8 +26,10 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_NOT_IMPLEMENTED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
+import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.dto.SchemaDTO;
@@ -42,8 +44,11 @@ import org.apache.gravitino.dto.rel.partitioning.IdentityPartitioningDTO;
 import org.apache.gravitino.dto.rel.partitioning.Partitioning;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
 import org.apache.gravitino.dto.rel.partitions.RangePartitionDTO;
+import org.apache.gravitino.dto.rel.stats.ColumnStatisticsDTO;
+import org.apache.gravitino.dto.rel.stats.TableStatisticsDTO;
 import org.apache.gravitino.dto.requests.AddPartitionsRequest;
 import org.apache.gravitino.dto.requests.SchemaCreateRequest;
+import org.apache.gravitino.dto.requests.StatisticsUpdateRequest;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -52,7 +57,9 @@ import org.apache.gravitino.dto.responses.PartitionNameListResponse;
 import org.apache.gravitino.dto.responses.PartitionResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.dto.responses.TableStatisticsResponse;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
@@ -61,6 +68,9 @@ import org.apache.gravitino.rel.expressions.literals.Literals;
 import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.partitions.RangePartition;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.SupportsStatistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
 import org.apache.gravitino.rel.types.Types;
 import org.apache.hc.core5.http.Method;
 import org.junit.jupiter.api.Assertions;
@@ -167,6 +177,22 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertEquals("table does not support partition operations", exception.getMessage());
   }
 
+  @Test
+  public void testListPartitionNamesByPage() throws JsonProcessingException {
+    String partitionPath =
+        withSlash(((RelationalTable) partitionedTable).getPartitionRequestPath());
+    Map<String, String> queryParams =
+        ImmutableMap.of(
+            "details", "false", "pageSize", "1", "filter", "dt > 1", "pageToken", "cDE");
+    PartitionNameListResponse resp = new PartitionNameListResponse(new String[] {"p2"}, "cDI");
+
+    buildMockResource(Method.GET, partitionPath, queryParams, null, resp, SC_OK);
+
+    String[] partitionNames =
+        partitionedTable.supportPartitions().listPartitionNames("dt > 1", "p1", 1);
+    Assertions.assertArrayEquals(new String[] {"p2"}, partitionNames);
+  }
+
   @Test
   public void testListPartitions() throws JsonProcessingException {
     String partitionName = "p1";
@@ -286,4 +312,90 @@ public class TestRelationalTable extends TestRelationalCatalog {
     buildMockResource(Method.DELETE, partitionPath, null, notExistResp, SC_OK);
     Assertions.assertFalse(table.supportPartitions().dropPartition(partitionName));
   }
+
+  @Test
+  public void testGetStatistics() throws JsonProcessingException {
+    String statisticsPath =
+        withSlash(((RelationalTable) partitionedTable).getStatisticsRequestPath());
+    ColumnStatisticsDTO column =
+        ColumnStatisticsDTO.builder().withName("col1").withDistinctCount(10L).build();
+    TableStatisticsDTO statistics =
+        TableStatisticsDTO.builder()
+            .withRowCount(100L)
+            .withSizeInBytes(2048L)
+            .withColumnStatistics(new ColumnStatisticsDTO[] {column})
+            .build();
+    TableStatisticsResponse resp = new TableStatisticsResponse(statistics);
+    buildMockResource(Method.GET, statisticsPath, null, resp, SC_OK);
+
+    SupportsStatistics supportsStatistics = partitionedTable.supportsStatistics();
+    Assertions.assertEquals(statistics, supportsStatistics.getStatistics());
+
+    // test get the statistics of a partition
+    TableStatisticsDTO partitionStatistics = TableStatisticsDTO.builder().withRowCount(5L).build();
+    buildMockResource(
+        Method.GET,
+        statisticsPath,
+        ImmutableMap.of("partition", "dt=2024-01-01"),
+        null,
+        new TableStatisticsResponse(partitionStatistics),
+        SC_OK);
+    Assertions.assertEquals(
+        partitionStatistics, supportsStatistics.getPartitionStatistics("dt=2024-01-01"));
+
+    // test throws exception
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "table not found");
+    buildMockResource(Method.GET, statisticsPath, null, errorResp, SC_NOT_FOUND);
+    Assertions.assertThrows(NoSuchTableException.class, supportsStatistics::getStatistics);
+  }
+
+  @Test
+  public void testUpdateStatistics() throws JsonProcessingException {
+    String statisticsPath =
+        withSlash(((RelationalTable) partitionedTable).getStatisticsRequestPath());
+    ColumnStatisticsDTO column =
+        ColumnStatisticsDTO.builder().withName("col1").withNullCount(3L).build();
+    StatisticsUpdateRequest req =
+        new StatisticsUpdateRequest(100L, null, new ColumnStatisticsDTO[] {column});
+    TableStatisticsDTO updated =
+        TableStatisticsDTO.builder()
+            .withRowCount(100L)
+            .withSizeInBytes(2048L)
+            .withColumnStatistics(new ColumnStatisticsDTO[] {column})
+            .build();
+    buildMockResource(
+        Method.PUT,
+        statisticsPath,
+        ImmutableMap.of("partition", "dt=2024-01-01"),
+        req,
+        new TableStatisticsResponse(updated),
+        SC_OK);
+
+    TableStatistics statistics =
+        partitionedTable
+            .supportsStatistics()
+            .updatePartitionStatistics(
+                "dt=2024-01-01",
+                Statistics.of(100L, null, Statistics.column("col1", null, 3L, null, null)));
+    Assertions.assertEquals(updated, statistics);
+  }
+
+  @Test
+  public void testDropStatistics() throws JsonProcessingException {
+    String statisticsPath =
+        withSlash(((RelationalTable) partitionedTable).getStatisticsRequestPath());
+    buildMockResource(Method.DELETE, statisticsPath, null, new DropResponse(true), SC_OK);
+    Assertions.assertTrue(partitionedTable.supportsStatistics().dropStatistics());
+
+    buildMockResource(
+        Method.DELETE,
+        statisticsPath,
+        ImmutableMap.of("partition", "dt=2024-01-01"),
+        null,
+        new DropResponse(false),
+        SC_OK);
+    Assertions.assertFalse(
+        partitionedTable.supportsStatistics().dropPartitionStatistics("dt=2024-01-01"));
+  }
 }
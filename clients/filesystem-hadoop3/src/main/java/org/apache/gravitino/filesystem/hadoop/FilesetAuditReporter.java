@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates the fileset data operations whose file locations are resolved from the fileset
+ * location cache, and reports them to the Gravitino server periodically, one request for each
+ * fileset and operation, so that the server side audits are kept without a round trip for each
+ * file operation.
+ */
+class FilesetAuditReporter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(FilesetAuditReporter.class);
+
+  /** Sends the aggregated operations of a fileset to the Gravitino server. */
+  interface Sink {
+    void report(
+        NameIdentifier filesetIdent, FilesetDataOperation operation, String subPath, long count);
+  }
+
+  private final Sink sink;
+  private final Map<Key, Stats> pendingOperations = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor reportScheduler;
+
+  FilesetAuditReporter(Sink sink, long reportIntervalMills) {
+    this.sink = sink;
+    this.reportScheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gvfs-fileset-audit-reporter-%d")
+                .build());
+    reportScheduler.scheduleWithFixedDelay(
+        this::flush, reportIntervalMills, reportIntervalMills, TimeUnit.MILLISECONDS);
+  }
+
+  void record(NameIdentifier filesetIdent, FilesetDataOperation operation, String subPath) {
+    pendingOperations.compute(
+        new Key(filesetIdent, operation),
+        (key, stats) -> {
+          Stats newStats = stats == null ? new Stats() : stats;
+          newStats.count++;
+          newStats.lastSubPath = subPath;
+          return newStats;
+        });
+  }
+
+  @VisibleForTesting
+  synchronized void flush() {
+    for (Key key : pendingOperations.keySet()) {
+      Stats stats = pendingOperations.remove(key);
+      if (stats == null) {
+        continue;
+      }
+
+      try {
+        sink.report(key.filesetIdent, key.operation, stats.lastSubPath, stats.count);
+      } catch (Exception e) {
+        // The audits are best effort, the file operations have been done already.
+        LOG.warn(
+            "Failed to report {} {} operations of fileset: {}",
+            stats.count,
+            key.operation,
+            key.filesetIdent,
+            e);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    reportScheduler.shutdownNow();
+    flush();
+  }
+
+  private static class Key {
+    private final NameIdentifier filesetIdent;
+    private final FilesetDataOperation operation;
+
+    private Key(NameIdentifier filesetIdent, FilesetDataOperation operation) {
+      this.filesetIdent = filesetIdent;
+      this.operation = operation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return filesetIdent.equals(that.filesetIdent) && operation == that.operation;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(filesetIdent, operation);
+    }
+  }
+
+  private static class Stats {
+    private long count;
+    private String lastSubPath;
+  }
+}
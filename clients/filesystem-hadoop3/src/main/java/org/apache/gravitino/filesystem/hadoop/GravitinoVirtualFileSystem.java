@@ -29,6 +29,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
@@ -92,6 +93,10 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   // four levels, the first level is metalake name.
   private Cache<NameIdentifier, FileSystem> internalFileSystemCache;
   private ScheduledThreadPoolExecutor internalFileSystemCleanScheduler;
+  // Fileset name identifier and its storage location cache, only used when the location cache is
+  // enabled, the actual file locations are resolved locally from the cached storage locations.
+  private Cache<NameIdentifier, FilesetLocation> filesetLocationCache;
+  private FilesetAuditReporter filesetAuditReporter;
 
   // The pattern is used to match gvfs path. The scheme prefix (gvfs://fileset) is optional.
   // The following path can be match:
@@ -143,6 +148,7 @@ public class GravitinoVirtualFileSystem extends FileSystem {
 
     initializeFileSystemCache(maxCapacity, evictionMillsAfterAccess);
     initializeCatalogCache();
+    initializeFilesetLocationCache(configuration);
 
     this.metalakeName =
         configuration.get(GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CLIENT_METALAKE_KEY);
@@ -207,6 +213,53 @@ public class GravitinoVirtualFileSystem extends FileSystem {
             .build();
   }
 
+  private void initializeFilesetLocationCache(Configuration configuration) {
+    boolean enabled =
+        configuration.getBoolean(
+            GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT);
+    if (!enabled) {
+      return;
+    }
+
+    long expireMillsAfterWrite =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_DEFAULT);
+    Preconditions.checkArgument(
+        expireMillsAfterWrite > 0,
+        "'%s' should be greater than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_KEY);
+
+    long auditIntervalMills =
+        configuration.getLong(
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_MILLS_KEY,
+            GravitinoVirtualFileSystemConfiguration
+                .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_MILLS_DEFAULT);
+    Preconditions.checkArgument(
+        auditIntervalMills >= 0,
+        "'%s' should not be less than 0",
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_MILLS_KEY);
+
+    // The expiration bounds how long a changed storage location of a fileset can be used, the
+    // cached location is also invalidated once a file operation on it fails.
+    this.filesetLocationCache =
+        Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(expireMillsAfterWrite, TimeUnit.MILLISECONDS)
+            .build();
+    if (auditIntervalMills > 0) {
+      this.filesetAuditReporter =
+          new FilesetAuditReporter(this::reportFilesetOperations, auditIntervalMills);
+    }
+  }
+
   private ThreadFactory newDaemonThreadFactory(String name) {
     return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-%d").build();
   }
@@ -265,71 +318,161 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     String subPath = getSubPathFromVirtualPath(identifier, virtualPathString);
 
     NameIdentifier catalogIdent = NameIdentifier.of(metalakeName, identifier.namespace().level(1));
-    FilesetCatalog filesetCatalog =
-        catalogCache.get(
-            catalogIdent, ident -> client.loadCatalog(catalogIdent.name()).asFilesetCatalog());
+    FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
     Catalog catalog = (Catalog) filesetCatalog;
     Preconditions.checkArgument(
         filesetCatalog != null, String.format("Loaded fileset catalog: %s is null.", catalogIdent));
 
+    if (filesetLocationCache != null) {
+      return getFilesetContextFromCache(identifier, subPath, operation, filesetCatalog, catalog);
+    }
+
+    setCallerContext(operation, 1);
+    String actualFileLocation =
+        filesetCatalog.getFileLocation(
+            NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+
+    Path filePath = new Path(actualFileLocation);
+    FileSystem fs = getFileSystem(identifier, catalog, filePath);
+    return new FilesetContextPair(filePath, fs);
+  }
+
+  private FilesetContextPair getFilesetContextFromCache(
+      NameIdentifier identifier,
+      String subPath,
+      FilesetDataOperation operation,
+      FilesetCatalog filesetCatalog,
+      Catalog catalog) {
+    FilesetLocation location =
+        filesetLocationCache.get(
+            identifier,
+            ident ->
+                new FilesetLocation(
+                    filesetCatalog
+                        .loadFileset(
+                            NameIdentifier.of(
+                                identifier.namespace().level(2), identifier.name()))
+                        .storageLocation()));
+    FileSystem fs = getFileSystem(identifier, catalog, location.storagePath());
+
+    String actualFileLocation;
+    try {
+      actualFileLocation = location.resolve(fs, subPath, operation);
+    } catch (IOException ioe) {
+      filesetLocationCache.invalidate(identifier);
+      throw new GravitinoRuntimeException(
+          ioe,
+          "Exception occurs when resolve the file location of fileset: %s, msg: %s",
+          identifier,
+          ioe.getMessage());
+    }
+
+    if (filesetAuditReporter != null) {
+      filesetAuditReporter.record(identifier, operation, subPath);
+    }
+    return new FilesetContextPair(new Path(actualFileLocation), fs);
+  }
+
+  private void setCallerContext(FilesetDataOperation operation, long operationCount) {
     Map<String, String> contextMap = Maps.newHashMap();
     contextMap.put(
         FilesetAuditConstants.HTTP_HEADER_INTERNAL_CLIENT_TYPE,
         InternalClientType.HADOOP_GVFS.name());
     contextMap.put(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION, operation.name());
+    if (operationCount > 1) {
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT,
+          String.valueOf(operationCount));
+    }
     CallerContext callerContext = CallerContext.builder().withContext(contextMap).build();
     CallerContext.CallerContextHolder.set(callerContext);
+  }
 
-    String actualFileLocation =
-        filesetCatalog.getFileLocation(
-            NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+  private void reportFilesetOperations(
+      NameIdentifier identifier, FilesetDataOperation operation, String subPath, long count) {
+    // Report the aggregated operations through the file location API, so that the server audits
+    // them like the operations which are not resolved from the cache.
+    FilesetCatalog filesetCatalog =
+        getFilesetCatalog(NameIdentifier.of(metalakeName, identifier.namespace().level(1)));
+    try {
+      setCallerContext(operation, count);
+      filesetCatalog.getFileLocation(
+          NameIdentifier.of(identifier.namespace().level(2), identifier.name()), subPath);
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
 
-    Path filePath = new Path(actualFileLocation);
+  private FilesetCatalog getFilesetCatalog(NameIdentifier catalogIdent) {
+    return catalogCache.get(
+        catalogIdent, ident -> client.loadCatalog(catalogIdent.name()).asFilesetCatalog());
+  }
+
+  private void invalidateFilesetLocation(Path virtualPath, IOException e) {
+    if (filesetLocationCache == null) {
+      return;
+    }
+
+    NameIdentifier identifier = extractIdentifier(virtualPath.toUri());
+    if (!(e instanceof FileNotFoundException)) {
+      // The errors may be caused by a changed storage location, so reload the location for the
+      // next operation.
+      filesetLocationCache.invalidate(identifier);
+      return;
+    }
+
+    // The file not found errors are the expected results of the existence checks, but they are
+    // also the results of a storage location changed between a file and a directory, so keep the
+    // storage location and check whether it is a single file again in the next operation.
+    FilesetLocation location = filesetLocationCache.getIfPresent(identifier);
+    if (location != null) {
+      location.resetSingleFile();
+    }
+  }
+
+  private FileSystem getFileSystem(NameIdentifier identifier, Catalog catalog, Path filePath) {
     URI uri = filePath.toUri();
     // we cache the fs for the same scheme, so we can reuse it
     String scheme = uri.getScheme();
     Preconditions.checkArgument(
         StringUtils.isNotBlank(scheme), "Scheme of the actual file location cannot be null.");
-    FileSystem fs =
-        internalFileSystemCache.get(
-            identifier,
-            ident -> {
-              try {
-                FileSystemProvider provider = fileSystemProvidersMap.get(scheme);
-                if (provider == null) {
-                  throw new GravitinoRuntimeException(
-                      "Unsupported file system scheme: %s for %s.",
-                      scheme, GravitinoVirtualFileSystemConfiguration.GVFS_SCHEME);
-                }
-
-                // Reset the FileSystem service loader to make sure the FileSystem will reload the
-                // service file systems, this is a temporary solution to fix the issue
-                // https://github.com/apache/gravitino/issues/5609
-                resetFileSystemServiceLoader(scheme);
-
-                Map<String, String> necessaryPropertyFromCatalog =
-                    catalog.properties().entrySet().stream()
-                        .filter(
-                            property ->
-                                CATALOG_NECESSARY_PROPERTIES_TO_KEEP.contains(property.getKey()))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                Map<String, String> totalProperty = Maps.newHashMap(necessaryPropertyFromCatalog);
-                totalProperty.putAll(getConfigMap(getConf()));
-
-                totalProperty.putAll(getCredentialProperties(provider, catalog, identifier));
-
-                return provider.getFileSystem(filePath, totalProperty);
-              } catch (IOException ioe) {
-                throw new GravitinoRuntimeException(
-                    ioe,
-                    "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
-                    uri,
-                    ioe.getMessage());
-              }
-            });
-
-    return new FilesetContextPair(new Path(actualFileLocation), fs);
+    return internalFileSystemCache.get(
+        identifier,
+        ident -> {
+          try {
+            FileSystemProvider provider = fileSystemProvidersMap.get(scheme);
+            if (provider == null) {
+              throw new GravitinoRuntimeException(
+                  "Unsupported file system scheme: %s for %s.",
+                  scheme, GravitinoVirtualFileSystemConfiguration.GVFS_SCHEME);
+            }
+
+            // Reset the FileSystem service loader to make sure the FileSystem will reload the
+            // service file systems, this is a temporary solution to fix the issue
+            // https://github.com/apache/gravitino/issues/5609
+            resetFileSystemServiceLoader(scheme);
+
+            Map<String, String> necessaryPropertyFromCatalog =
+                catalog.properties().entrySet().stream()
+                    .filter(
+                        property ->
+                            CATALOG_NECESSARY_PROPERTIES_TO_KEEP.contains(property.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+            Map<String, String> totalProperty = Maps.newHashMap(necessaryPropertyFromCatalog);
+            totalProperty.putAll(getConfigMap(getConf()));
+
+            totalProperty.putAll(getCredentialProperties(provider, catalog, identifier));
+
+            return provider.getFileSystem(filePath, totalProperty);
+          } catch (IOException ioe) {
+            throw new GravitinoRuntimeException(
+                ioe,
+                "Exception occurs when create new FileSystem for actual uri: %s, msg: %s",
+                uri,
+                ioe.getMessage());
+          }
+        });
   }
 
   private Map<String, String> getCredentialProperties(
@@ -430,7 +573,12 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   @Override
   public FSDataInputStream open(Path path, int bufferSize) throws IOException {
     FilesetContextPair context = getFilesetContext(path, FilesetDataOperation.OPEN);
-    return context.getFileSystem().open(context.getActualFileLocation(), bufferSize);
+    try {
+      return context.getFileSystem().open(context.getActualFileLocation(), bufferSize);
+    } catch (IOException e) {
+      invalidateFilesetLocation(path, e);
+      throw e;
+    }
   }
 
   @Override
@@ -444,23 +592,33 @@ public class GravitinoVirtualFileSystem extends FileSystem {
       Progressable progress)
       throws IOException {
     FilesetContextPair context = getFilesetContext(path, FilesetDataOperation.CREATE);
-    return context
-        .getFileSystem()
-        .create(
-            context.getActualFileLocation(),
-            permission,
-            overwrite,
-            bufferSize,
-            replication,
-            blockSize,
-            progress);
+    try {
+      return context
+          .getFileSystem()
+          .create(
+              context.getActualFileLocation(),
+              permission,
+              overwrite,
+              bufferSize,
+              replication,
+              blockSize,
+              progress);
+    } catch (IOException e) {
+      invalidateFilesetLocation(path, e);
+      throw e;
+    }
   }
 
   @Override
   public FSDataOutputStream append(Path path, int bufferSize, Progressable progress)
       throws IOException {
     FilesetContextPair context = getFilesetContext(path, FilesetDataOperation.APPEND);
-    return context.getFileSystem().append(context.getActualFileLocation(), bufferSize, progress);
+    try {
+      return context.getFileSystem().append(context.getActualFileLocation(), bufferSize, progress);
+    } catch (IOException e) {
+      invalidateFilesetLocation(path, e);
+      throw e;
+    }
   }
 
   @Override
@@ -478,21 +636,37 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     FilesetContextPair srcContext = getFilesetContext(src, FilesetDataOperation.RENAME);
     FilesetContextPair dstContext = getFilesetContext(dst, FilesetDataOperation.RENAME);
 
-    return srcContext
-        .getFileSystem()
-        .rename(srcContext.getActualFileLocation(), dstContext.getActualFileLocation());
+    try {
+      return srcContext
+          .getFileSystem()
+          .rename(srcContext.getActualFileLocation(), dstContext.getActualFileLocation());
+    } catch (IOException e) {
+      invalidateFilesetLocation(src, e);
+      throw e;
+    }
   }
 
   @Override
   public boolean delete(Path path, boolean recursive) throws IOException {
     FilesetContextPair context = getFilesetContext(path, FilesetDataOperation.DELETE);
-    return context.getFileSystem().delete(context.getActualFileLocation(), recursive);
+    try {
+      return context.getFileSystem().delete(context.getActualFileLocation(), recursive);
+    } catch (IOException e) {
+      invalidateFilesetLocation(path, e);
+      throw e;
+    }
   }
 
   @Override
   public FileStatus getFileStatus(Path path) throws IOException {
     FilesetContextPair context = getFilesetContext(path, FilesetDataOperation.GET_FILE_STATUS);
-    FileStatus fileStatus = context.getFileSystem().getFileStatus(context.getActualFileLocation());
+    FileStatus fileStatus;
+    try {
+      fileStatus = context.getFileSystem().getFileStatus(context.getActualFileLocation());
+    } catch (IOException e) {
+      invalidateFilesetLocation(path, e);
+      throw e;
+    }
     NameIdentifier identifier = extractIdentifier(path.toUri());
     String subPath = getSubPathFromVirtualPath(identifier, path.toString());
     String storageLocation =
@@ -507,8 +681,13 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   @Override
   public FileStatus[] listStatus(Path path) throws IOException {
     FilesetContextPair context = getFilesetContext(path, FilesetDataOperation.LIST_STATUS);
-    FileStatus[] fileStatusResults =
-        context.getFileSystem().listStatus(context.getActualFileLocation());
+    FileStatus[] fileStatusResults;
+    try {
+      fileStatusResults = context.getFileSystem().listStatus(context.getActualFileLocation());
+    } catch (IOException e) {
+      invalidateFilesetLocation(path, e);
+      throw e;
+    }
     NameIdentifier identifier = extractIdentifier(path.toUri());
     String subPath = getSubPathFromVirtualPath(identifier, path.toString());
     String storageLocation =
@@ -527,7 +706,12 @@ public class GravitinoVirtualFileSystem extends FileSystem {
   @Override
   public boolean mkdirs(Path path, FsPermission permission) throws IOException {
     FilesetContextPair context = getFilesetContext(path, FilesetDataOperation.MKDIRS);
-    return context.getFileSystem().mkdirs(context.getActualFileLocation(), permission);
+    try {
+      return context.getFileSystem().mkdirs(context.getActualFileLocation(), permission);
+    } catch (IOException e) {
+      invalidateFilesetLocation(path, e);
+      throw e;
+    }
   }
 
   @Override
@@ -566,6 +750,12 @@ public class GravitinoVirtualFileSystem extends FileSystem {
       }
     }
     internalFileSystemCache.invalidateAll();
+    if (filesetAuditReporter != null) {
+      filesetAuditReporter.close();
+    }
+    if (filesetLocationCache != null) {
+      filesetLocationCache.invalidateAll();
+    }
     catalogCache.invalidateAll();
     // close the client
     try {
@@ -598,6 +788,87 @@ public class GravitinoVirtualFileSystem extends FileSystem {
     }
   }
 
+  /**
+   * The cached storage location of a fileset, which resolves the actual file locations the same
+   * way as the Hadoop catalog on the server side.
+   */
+  private static class FilesetLocation {
+    private final String storageLocation;
+    private final Path storagePath;
+    // Whether the storage location is a single file, checked on the first file operation after
+    // the storage location exists, and checked again after a file operation on it is not found.
+    private volatile Boolean singleFile;
+
+    private FilesetLocation(String storageLocation) {
+      this.storageLocation = storageLocation;
+      this.storagePath = new Path(storageLocation);
+    }
+
+    private Path storagePath() {
+      return storagePath;
+    }
+
+    private String resolve(FileSystem fs, String subPath, FilesetDataOperation operation)
+        throws IOException {
+      String processedSubPath;
+      if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
+        processedSubPath = SLASH + subPath.trim();
+      } else {
+        processedSubPath = subPath.trim();
+      }
+
+      boolean isSingleFile = isSingleFile(fs);
+      // if the storage location is a single file, it cannot have sub path to access.
+      if (isSingleFile && StringUtils.isBlank(processedSubPath)) {
+        throw new GravitinoRuntimeException(
+            "Sub path should always be blank, because the fileset only mounts a single file.");
+      }
+
+      if (operation == FilesetDataOperation.RENAME) {
+        if (isSingleFile) {
+          throw new GravitinoRuntimeException(
+              "Cannot rename the fileset: %s which only mounts to a single file.",
+              storageLocation);
+        }
+        if (StringUtils.isBlank(processedSubPath) || processedSubPath.equals(SLASH)) {
+          throw new GravitinoRuntimeException(
+              "subPath cannot be blank when need to rename a file or a directory.");
+        }
+      }
+
+      if (isSingleFile || StringUtils.isBlank(processedSubPath)) {
+        return storageLocation;
+      }
+      // the processed sub path always starts with "/" if it is not blank,
+      // so we can safely remove the tailing slash if storage location ends with "/".
+      String location =
+          storageLocation.endsWith(SLASH)
+              ? storageLocation.substring(0, storageLocation.length() - 1)
+              : storageLocation;
+      return location + processedSubPath;
+    }
+
+    private boolean isSingleFile(FileSystem fs) throws IOException {
+      Boolean cached = singleFile;
+      if (cached != null) {
+        return cached;
+      }
+
+      try {
+        boolean isFile = fs.getFileStatus(storagePath).isFile();
+        this.singleFile = isFile;
+        return isFile;
+      } catch (FileNotFoundException e) {
+        // Same as the server side, but check it again later since the location may be created.
+        return false;
+      }
+    }
+
+    private void resetSingleFile() {
+      this.singleFile = null;
+    }
+  }
+
   private static Map<String, FileSystemProvider> getFileSystemProviders() {
     Map<String, FileSystemProvider> resultMap = Maps.newHashMap();
     ServiceLoader<FileSystemProvider> allFileSystemProviders =
@@ -98,5 +98,45 @@ public class GravitinoVirtualFileSystemConfiguration {
   public static final long FS_GRAVITINO_FILESET_CACHE_EVICTION_MILLS_AFTER_ACCESS_DEFAULT =
       1000L * 60 * 60;
 
+  /**
+   * The configuration key for whether to cache the storage locations of the filesets and resolve
+   * the actual file locations locally instead of requesting the Gravitino server for each file
+   * operation.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY =
+      "fs.gravitino.fileset.locationCache.enable";
+
+  /** The default value for whether to enable the fileset location cache. */
+  public static final boolean FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_DEFAULT = false;
+
+  /**
+   * The configuration key for the expiration time of the fileset location cache, measured in mills
+   * after write.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_KEY =
+      "fs.gravitino.fileset.locationCache.expireMillsAfterWrite";
+
+  /**
+   * The default value for the expiration time of the fileset location cache, measured in mills
+   * after write. The default value is 5 minutes.
+   */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_CACHE_EXPIRE_MILLS_AFTER_WRITE_DEFAULT =
+      1000L * 60 * 5;
+
+  /**
+   * The configuration key for the interval to report the file operations resolved by the fileset
+   * location cache to the Gravitino server for auditing, measured in mills. The value 0 disables
+   * the reports.
+   */
+  public static final String FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_MILLS_KEY =
+      "fs.gravitino.fileset.locationCache.auditIntervalMills";
+
+  /**
+   * The default value for the interval to report the file operations resolved by the fileset
+   * location cache, measured in mills. The default value is 10 seconds.
+   */
+  public static final long FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_MILLS_DEFAULT =
+      1000L * 10;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
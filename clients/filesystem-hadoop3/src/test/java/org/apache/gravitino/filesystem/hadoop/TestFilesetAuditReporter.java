@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.filesystem.hadoop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.Maps;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetDataOperation;
+import org.junit.jupiter.api.Test;
+
+public class TestFilesetAuditReporter {
+  private static final long REPORT_INTERVAL_MILLS = TimeUnit.HOURS.toMillis(1);
+  private static final NameIdentifier FILESET1 =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset1");
+  private static final NameIdentifier FILESET2 =
+      NameIdentifier.of("metalake", "catalog", "schema", "fileset2");
+
+  @Test
+  public void testAggregateOperations() {
+    Map<Pair<NameIdentifier, FilesetDataOperation>, Pair<String, Long>> reports =
+        Maps.newConcurrentMap();
+    try (FilesetAuditReporter reporter =
+        new FilesetAuditReporter(
+            (ident, operation, subPath, count) ->
+                reports.put(Pair.of(ident, operation), Pair.of(subPath, count)),
+            REPORT_INTERVAL_MILLS)) {
+      reporter.record(FILESET1, FilesetDataOperation.OPEN, "/a.txt");
+      reporter.record(FILESET1, FilesetDataOperation.OPEN, "/b.txt");
+      reporter.record(FILESET1, FilesetDataOperation.OPEN, "/c.txt");
+      reporter.record(FILESET1, FilesetDataOperation.DELETE, "/a.txt");
+      reporter.record(FILESET2, FilesetDataOperation.OPEN, "/d.txt");
+
+      // The operations are aggregated by fileset and operation, with the last sub path
+      reporter.flush();
+      assertEquals(3, reports.size());
+      assertEquals(
+          Pair.of("/c.txt", 3L), reports.get(Pair.of(FILESET1, FilesetDataOperation.OPEN)));
+      assertEquals(
+          Pair.of("/a.txt", 1L), reports.get(Pair.of(FILESET1, FilesetDataOperation.DELETE)));
+      assertEquals(
+          Pair.of("/d.txt", 1L), reports.get(Pair.of(FILESET2, FilesetDataOperation.OPEN)));
+
+      // The reported operations are not reported again
+      reports.clear();
+      reporter.flush();
+      assertTrue(reports.isEmpty());
+
+      reporter.record(FILESET1, FilesetDataOperation.OPEN, "/e.txt");
+    }
+
+    // The pending operations are reported when the reporter is closed
+    assertEquals(1, reports.size());
+    assertEquals(Pair.of("/e.txt", 1L), reports.get(Pair.of(FILESET1, FilesetDataOperation.OPEN)));
+  }
+
+  @Test
+  public void testReportFailure() {
+    Map<NameIdentifier, Long> reports = Maps.newConcurrentMap();
+    try (FilesetAuditReporter reporter =
+        new FilesetAuditReporter(
+            (ident, operation, subPath, count) -> {
+              if (ident.equals(FILESET1)) {
+                throw new RuntimeException("Mock report failure");
+              }
+              reports.put(ident, count);
+            },
+            REPORT_INTERVAL_MILLS)) {
+      reporter.record(FILESET1, FilesetDataOperation.CREATE, "/a.txt");
+      reporter.record(FILESET2, FilesetDataOperation.CREATE, "/b.txt");
+      reporter.record(FILESET2, FilesetDataOperation.CREATE, "/c.txt");
+
+      // A failed report doesn't block the reports of the other filesets
+      reporter.flush();
+      assertEquals(1, reports.size());
+      assertEquals(2L, reports.get(FILESET2));
+    }
+  }
+}
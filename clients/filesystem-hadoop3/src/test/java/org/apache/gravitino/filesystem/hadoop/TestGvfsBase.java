@@ -19,6 +19,7 @@
 package org.apache.gravitino.filesystem.hadoop;
 
 import static org.apache.hc.core5.http.HttpStatus.SC_OK;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -28,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableMap;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -41,6 +43,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.FilesetAuditConstants;
+import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.credential.CredentialDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
@@ -62,6 +66,8 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
 
 public class TestGvfsBase extends GravitinoMockServerBase {
   protected static final String GVFS_IMPL_CLASS = GravitinoVirtualFileSystem.class.getName();
@@ -749,6 +755,149 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testFilesetLocationCache() throws IOException {
+    String filesetName = "testFilesetLocationCache";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    Configuration configuration = new Configuration(conf);
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY,
+        "true");
+    // Only report the audits when the file system is closed
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_MILLS_KEY,
+        String.valueOf(TimeUnit.HOURS.toMillis(1)));
+    try (FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+      try {
+        // Only mock the fileset, the file locations are resolved without the location API
+        buildMockResourceForCredential(filesetName, localPath.toString());
+      } catch (JsonProcessingException e) {
+        throw new RuntimeException(e);
+      }
+
+      try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(configuration)) {
+        Path dirPath = new Path(managedFilesetPath + "/dir");
+        Path filePath = new Path(dirPath + "/test.txt");
+        assertTrue(gravitinoFileSystem.mkdirs(dirPath));
+        FileSystemTestUtils.create(filePath, gravitinoFileSystem);
+        assertTrue(localFileSystem.exists(new Path(localPath + "/dir/test.txt")));
+
+        FileStatus gravitinoStatus = gravitinoFileSystem.getFileStatus(filePath);
+        assertEquals(filePath.toString(), gravitinoStatus.getPath().toString());
+        FileStatus[] statuses = gravitinoFileSystem.listStatus(dirPath);
+        assertEquals(1, statuses.length);
+        assertEquals(filePath.toString(), statuses[0].getPath().toString());
+        assertFalse(gravitinoFileSystem.exists(new Path(dirPath + "/not_exist.txt")));
+
+        assertThrows(
+            RuntimeException.class,
+            () -> gravitinoFileSystem.rename(managedFilesetPath, managedFilesetPath));
+      }
+
+      // The operations are reported in batches with the operation count when closed
+      mockServer()
+          .verify(
+              HttpRequest.request(locationPath)
+                  .withMethod(Method.GET.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                      FilesetDataOperation.GET_FILE_STATUS.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT, "2"),
+              VerificationTimes.once());
+    }
+  }
+
+  @Test
+  public void testFilesetLocationCacheWithSingleFile() throws IOException {
+    String filesetName = "testFilesetLocationCacheWithSingleFile";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    String locationPath =
+        String.format(
+            "/api/metalakes/%s/catalogs/%s/schemas/%s/filesets/%s/location",
+            metalakeName, catalogName, schemaName, filesetName);
+    Configuration configuration = new Configuration(conf);
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_LOCATION_CACHE_ENABLE_KEY,
+        "true");
+    // Only report the audits when the file system is closed
+    configuration.set(
+        GravitinoVirtualFileSystemConfiguration
+            .FS_GRAVITINO_FILESET_LOCATION_CACHE_AUDIT_INTERVAL_MILLS_KEY,
+        String.valueOf(TimeUnit.HOURS.toMillis(1)));
+    try (FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      // The fileset mounts a single file
+      FileSystemTestUtils.mkdirs(localPath.getParent(), localFileSystem);
+      FileSystemTestUtils.create(localPath, localFileSystem);
+      FileSystemTestUtils.append(localPath, localFileSystem);
+      byte[] expectedBytes = FileSystemTestUtils.read(localPath, localFileSystem);
+      try {
+        buildMockResourceForCredential(filesetName, localPath.toString());
+      } catch (JsonProcessingException e) {
+        throw new RuntimeException(e);
+      }
+
+      try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(configuration)) {
+        Path filePath = new Path(managedFilesetPath + "/test.txt");
+        Path renamedPath = new Path(managedFilesetPath + "/renamed.txt");
+        // The sub path is resolved to the single file
+        assertArrayEquals(expectedBytes, FileSystemTestUtils.read(filePath, gravitinoFileSystem));
+        RuntimeException exception =
+            assertThrows(
+                RuntimeException.class, () -> gravitinoFileSystem.rename(filePath, renamedPath));
+        assertTrue(exception.getMessage().contains("only mounts to a single file"));
+
+        // Change the storage location from a single file to a directory
+        localFileSystem.delete(localPath, false);
+        FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+        Path localFilePath = new Path(localPath + "/test.txt");
+        FileSystemTestUtils.create(localFilePath, localFileSystem);
+
+        // The stale single file state fails the operation once, then the state is checked again
+        assertThrows(
+            FileNotFoundException.class,
+            () -> FileSystemTestUtils.read(filePath, gravitinoFileSystem));
+        assertEquals(0, FileSystemTestUtils.read(filePath, gravitinoFileSystem).length);
+        assertTrue(gravitinoFileSystem.rename(filePath, renamedPath));
+        assertFalse(localFileSystem.exists(localFilePath));
+        assertTrue(localFileSystem.exists(new Path(localPath + "/renamed.txt")));
+      }
+
+      // All the open operations are reported in one request, including the failed one
+      mockServer()
+          .verify(
+              HttpRequest.request(locationPath)
+                  .withMethod(Method.GET.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                      FilesetDataOperation.OPEN.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT, "3"),
+              VerificationTimes.once());
+      // The source and destination paths of the rename are both recorded
+      mockServer()
+          .verify(
+              HttpRequest.request(locationPath)
+                  .withMethod(Method.GET.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+                      FilesetDataOperation.RENAME.name())
+                  .withHeader(
+                      FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT, "2"),
+              VerificationTimes.once());
+    }
+  }
+
   @Test
   public void testConvertFileStatusPathPrefix() throws IOException {
     String filesetName = "testConvertFileStatusPathPrefix";
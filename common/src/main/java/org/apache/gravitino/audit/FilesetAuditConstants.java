@@ -28,4 +28,12 @@ public class FilesetAuditConstants {
 
   /** The HTTP header used to pass the fileset data operation. */
   public static final String HTTP_HEADER_FILESET_DATA_OPERATION = "FilesetDataOperation";
+
+  /**
+   * The HTTP header used to pass the number of the fileset data operations aggregated in one
+   * request, used by the clients which resolve the file locations locally and report them in
+   * batches.
+   */
+  public static final String HTTP_HEADER_FILESET_DATA_OPERATION_COUNT =
+      "FilesetDataOperationCount";
 }
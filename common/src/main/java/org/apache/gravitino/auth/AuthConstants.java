@@ -41,6 +41,9 @@ public final class AuthConstants {
   /** The HTTP header used to pass the authentication token. */
   public static final String HTTP_CHALLENGE_HEADER = "WWW-Authenticate";
 
+  /** The name of the cookie used to pass the session token issued by the server. */
+  public static final String SESSION_TOKEN_COOKIE_NAME = "gravitino.auth";
+
   /** The default username used for anonymous access. */
   public static final String ANONYMOUS_USER = "anonymous";
 
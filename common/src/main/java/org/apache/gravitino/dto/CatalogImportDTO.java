@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/** Represents the progress of a bulk import of a catalog Data Transfer Object (DTO). */
+@Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+public class CatalogImportDTO {
+
+  @JsonProperty("catalog")
+  private String catalog;
+
+  @JsonProperty("status")
+  private String status;
+
+  @JsonProperty("startTime")
+  private long startTime;
+
+  @JsonProperty("endTime")
+  private long endTime;
+
+  @Nullable
+  @JsonProperty("errorMessage")
+  private String errorMessage;
+
+  @JsonProperty("totalSchemas")
+  private long totalSchemas;
+
+  @JsonProperty("importedSchemas")
+  private long importedSchemas;
+
+  @JsonProperty("scannedTables")
+  private long scannedTables;
+
+  @JsonProperty("importedTables")
+  private long importedTables;
+
+  @JsonProperty("skippedTables")
+  private long skippedTables;
+
+  @JsonProperty("failedTables")
+  private long failedTables;
+
+  /** @return The name of the imported catalog. */
+  public String catalog() {
+    return catalog;
+  }
+
+  /** @return The status of the import, one of RUNNING, SUCCEEDED and FAILED. */
+  public String status() {
+    return status;
+  }
+
+  /** @return The time in milliseconds when the import started. */
+  public long startTime() {
+    return startTime;
+  }
+
+  /** @return The time in milliseconds when the import ended, or 0 if it is still running. */
+  public long endTime() {
+    return endTime;
+  }
+
+  /** @return The error message if the import failed, otherwise null. */
+  @Nullable
+  public String errorMessage() {
+    return errorMessage;
+  }
+
+  /** @return The number of schemas in the catalog. */
+  public long totalSchemas() {
+    return totalSchemas;
+  }
+
+  /** @return The number of schemas whose tables are all imported. */
+  public long importedSchemas() {
+    return importedSchemas;
+  }
+
+  /** @return The number of tables listed from the catalog. */
+  public long scannedTables() {
+    return scannedTables;
+  }
+
+  /** @return The number of tables imported into Gravitino. */
+  public long importedTables() {
+    return importedTables;
+  }
+
+  /** @return The number of tables skipped because they were already imported. */
+  public long skippedTables() {
+    return skippedTables;
+  }
+
+  /** @return The number of tables failed to import. */
+  public long failedTables() {
+    return failedTables;
+  }
+}
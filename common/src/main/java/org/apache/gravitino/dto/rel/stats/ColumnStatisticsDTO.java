@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.rel.stats;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Objects;
+import java.util.Arrays;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+
+/** Represents a column statistics Data Transfer Object (DTO). */
+public class ColumnStatisticsDTO implements ColumnStatistics {
+
+  @JsonProperty("name")
+  private String name;
+
+  @JsonProperty("distinctCount")
+  private Long distinctCount;
+
+  @JsonProperty("nullCount")
+  private Long nullCount;
+
+  @JsonProperty("minValue")
+  private String minValue;
+
+  @JsonProperty("maxValue")
+  private String maxValue;
+
+  @JsonProperty("histogram")
+  private HistogramBucketDTO[] histogram = new HistogramBucketDTO[0];
+
+  private ColumnStatisticsDTO() {}
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public Long distinctCount() {
+    return distinctCount;
+  }
+
+  @Override
+  public Long nullCount() {
+    return nullCount;
+  }
+
+  @Override
+  public String minValue() {
+    return minValue;
+  }
+
+  @Override
+  public String maxValue() {
+    return maxValue;
+  }
+
+  @Override
+  public HistogramBucketDTO[] histogram() {
+    return histogram;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ColumnStatisticsDTO)) {
+      return false;
+    }
+
+    ColumnStatisticsDTO that = (ColumnStatisticsDTO) o;
+    return Objects.equal(name, that.name)
+        && Objects.equal(distinctCount, that.distinctCount)
+        && Objects.equal(nullCount, that.nullCount)
+        && Objects.equal(minValue, that.minValue)
+        && Objects.equal(maxValue, that.maxValue)
+        && Arrays.equals(histogram, that.histogram);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Objects.hashCode(name, distinctCount, nullCount, minValue, maxValue);
+    result = 31 * result + Arrays.hashCode(histogram);
+    return result;
+  }
+
+  /** @return a new builder for constructing a column statistics DTO. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing ColumnStatisticsDTO instances. */
+  public static class Builder {
+    private final ColumnStatisticsDTO columnStatisticsDTO;
+
+    private Builder() {
+      columnStatisticsDTO = new ColumnStatisticsDTO();
+    }
+
+    /**
+     * Sets the name of the column.
+     *
+     * @param name The name of the column.
+     * @return The builder instance.
+     */
+    public Builder withName(String name) {
+      columnStatisticsDTO.name = name;
+      return this;
+    }
+
+    /**
+     * Sets the number of distinct values of the column.
+     *
+     * @param distinctCount The number of distinct values of the column.
+     * @return The builder instance.
+     */
+    public Builder withDistinctCount(Long distinctCount) {
+      columnStatisticsDTO.distinctCount = distinctCount;
+      return this;
+    }
+
+    /**
+     * Sets the number of null values of the column.
+     *
+     * @param nullCount The number of null values of the column.
+     * @return The builder instance.
+     */
+    public Builder withNullCount(Long nullCount) {
+      columnStatisticsDTO.nullCount = nullCount;
+      return this;
+    }
+
+    /**
+     * Sets the minimum value of the column.
+     *
+     * @param minValue The string representation of the minimum value of the column.
+     * @return The builder instance.
+     */
+    public Builder withMinValue(String minValue) {
+      columnStatisticsDTO.minValue = minValue;
+      return this;
+    }
+
+    /**
+     * Sets the maximum value of the column.
+     *
+     * @param maxValue The string representation of the maximum value of the column.
+     * @return The builder instance.
+     */
+    public Builder withMaxValue(String maxValue) {
+      columnStatisticsDTO.maxValue = maxValue;
+      return this;
+    }
+
+    /**
+     * Sets the histogram of the column.
+     *
+     * @param histogram The buckets of the histogram ordered by their bounds.
+     * @return The builder instance.
+     */
+    public Builder withHistogram(HistogramBucketDTO[] histogram) {
+      columnStatisticsDTO.histogram = histogram == null ? new HistogramBucketDTO[0] : histogram;
+      return this;
+    }
+
+    /** @return The constructed column statistics DTO. */
+    public ColumnStatisticsDTO build() {
+      return columnStatisticsDTO;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.rel.stats;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Objects;
+import org.apache.gravitino.rel.stats.HistogramBucket;
+
+/** Represents a histogram bucket Data Transfer Object (DTO). */
+public class HistogramBucketDTO implements HistogramBucket {
+
+  @JsonProperty("lowerBound")
+  private String lowerBound;
+
+  @JsonProperty("upperBound")
+  private String upperBound;
+
+  @JsonProperty("count")
+  private long count;
+
+  @JsonProperty("distinctCount")
+  private Long distinctCount;
+
+  private HistogramBucketDTO() {}
+
+  @Override
+  public String lowerBound() {
+    return lowerBound;
+  }
+
+  @Override
+  public String upperBound() {
+    return upperBound;
+  }
+
+  @Override
+  public long count() {
+    return count;
+  }
+
+  @Override
+  public Long distinctCount() {
+    return distinctCount;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof HistogramBucketDTO)) {
+      return false;
+    }
+
+    HistogramBucketDTO that = (HistogramBucketDTO) o;
+    return count == that.count
+        && Objects.equal(lowerBound, that.lowerBound)
+        && Objects.equal(upperBound, that.upperBound)
+        && Objects.equal(distinctCount, that.distinctCount);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(lowerBound, upperBound, count, distinctCount);
+  }
+
+  /** @return a new builder for constructing a histogram bucket DTO. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing HistogramBucketDTO instances. */
+  public static class Builder {
+    private final HistogramBucketDTO bucketDTO;
+
+    private Builder() {
+      bucketDTO = new HistogramBucketDTO();
+    }
+
+    /**
+     * Sets the lower bound of the bucket.
+     *
+     * @param lowerBound The lower bound of the bucket, inclusive.
+     * @return The builder instance.
+     */
+    public Builder withLowerBound(String lowerBound) {
+      bucketDTO.lowerBound = lowerBound;
+      return this;
+    }
+
+    /**
+     * Sets the upper bound of the bucket.
+     *
+     * @param upperBound The upper bound of the bucket, inclusive.
+     * @return The builder instance.
+     */
+    public Builder withUpperBound(String upperBound) {
+      bucketDTO.upperBound = upperBound;
+      return this;
+    }
+
+    /**
+     * Sets the number of rows in the bucket.
+     *
+     * @param count The number of rows in the bucket.
+     * @return The builder instance.
+     */
+    public Builder withCount(long count) {
+      bucketDTO.count = count;
+      return this;
+    }
+
+    /**
+     * Sets the number of distinct values in the bucket.
+     *
+     * @param distinctCount The number of distinct values in the bucket.
+     * @return The builder instance.
+     */
+    public Builder withDistinctCount(Long distinctCount) {
+      bucketDTO.distinctCount = distinctCount;
+      return this;
+    }
+
+    /** @return The constructed histogram bucket DTO. */
+    public HistogramBucketDTO build() {
+      return bucketDTO;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.rel.stats;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Objects;
+import java.util.Arrays;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.rel.stats.TableStatistics;
+
+/** Represents a table or partition statistics Data Transfer Object (DTO). */
+public class TableStatisticsDTO implements TableStatistics {
+
+  @JsonProperty("rowCount")
+  private Long rowCount;
+
+  @JsonProperty("sizeInBytes")
+  private Long sizeInBytes;
+
+  @JsonProperty("columns")
+  private ColumnStatisticsDTO[] columnStatistics = new ColumnStatisticsDTO[0];
+
+  @JsonProperty("audit")
+  private AuditDTO audit;
+
+  private TableStatisticsDTO() {}
+
+  @Override
+  public Long rowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public Long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  @Override
+  public ColumnStatisticsDTO[] columnStatistics() {
+    return columnStatistics;
+  }
+
+  @Override
+  public AuditDTO auditInfo() {
+    return audit;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TableStatisticsDTO)) {
+      return false;
+    }
+
+    TableStatisticsDTO that = (TableStatisticsDTO) o;
+    return Objects.equal(rowCount, that.rowCount)
+        && Objects.equal(sizeInBytes, that.sizeInBytes)
+        && Arrays.equals(columnStatistics, that.columnStatistics)
+        && Objects.equal(audit, that.audit);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Objects.hashCode(rowCount, sizeInBytes, audit);
+    result = 31 * result + Arrays.hashCode(columnStatistics);
+    return result;
+  }
+
+  /** @return a new builder for constructing a table statistics DTO. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing TableStatisticsDTO instances. */
+  public static class Builder {
+    private final TableStatisticsDTO tableStatisticsDTO;
+
+    private Builder() {
+      tableStatisticsDTO = new TableStatisticsDTO();
+    }
+
+    /**
+     * Sets the number of rows.
+     *
+     * @param rowCount The number of rows.
+     * @return The builder instance.
+     */
+    public Builder withRowCount(Long rowCount) {
+      tableStatisticsDTO.rowCount = rowCount;
+      return this;
+    }
+
+    /**
+     * Sets the size of the data in bytes.
+     *
+     * @param sizeInBytes The size of the data in bytes.
+     * @return The builder instance.
+     */
+    public Builder withSizeInBytes(Long sizeInBytes) {
+      tableStatisticsDTO.sizeInBytes = sizeInBytes;
+      return this;
+    }
+
+    /**
+     * Sets the statistics of the columns.
+     *
+     * @param columnStatistics The statistics of the columns.
+     * @return The builder instance.
+     */
+    public Builder withColumnStatistics(ColumnStatisticsDTO[] columnStatistics) {
+      tableStatisticsDTO.columnStatistics =
+          columnStatistics == null ? new ColumnStatisticsDTO[0] : columnStatistics;
+      return this;
+    }
+
+    /**
+     * Sets the audit information of the statistics.
+     *
+     * @param audit The audit information of the statistics.
+     * @return The builder instance.
+     */
+    public Builder withAudit(AuditDTO audit) {
+      tableStatisticsDTO.audit = audit;
+      return this;
+    }
+
+    /** @return The constructed table statistics DTO. */
+    public TableStatisticsDTO build() {
+      return tableStatisticsDTO;
+    }
+  }
+}
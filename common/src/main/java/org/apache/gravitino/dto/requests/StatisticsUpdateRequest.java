@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+import java.util.Set;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.rel.stats.ColumnStatisticsDTO;
+import org.apache.gravitino.dto.rel.stats.HistogramBucketDTO;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request to update the statistics of a table or of a partition. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class StatisticsUpdateRequest implements RESTRequest {
+
+  @JsonProperty("rowCount")
+  @Nullable
+  private final Long rowCount;
+
+  @JsonProperty("sizeInBytes")
+  @Nullable
+  private final Long sizeInBytes;
+
+  @JsonProperty("columns")
+  @Nullable
+  private final ColumnStatisticsDTO[] columns;
+
+  /**
+   * Creates a new StatisticsUpdateRequest.
+   *
+   * @param rowCount The number of rows, null to keep the recorded value.
+   * @param sizeInBytes The size of the data in bytes, null to keep the recorded value.
+   * @param columns The statistics of the columns to replace.
+   */
+  public StatisticsUpdateRequest(Long rowCount, Long sizeInBytes, ColumnStatisticsDTO[] columns) {
+    this.rowCount = rowCount;
+    this.sizeInBytes = sizeInBytes;
+    this.columns = columns;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public StatisticsUpdateRequest() {
+    this(null, null, null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    checkNonNegative(rowCount, "rowCount");
+    checkNonNegative(sizeInBytes, "sizeInBytes");
+    if (columns == null) {
+      return;
+    }
+
+    Set<String> columnNames = Sets.newHashSet();
+    for (ColumnStatisticsDTO column : columns) {
+      Preconditions.checkArgument(column != null, "\"columns\" must not contain null");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(column.name()), "\"name\" of the column statistics is required");
+      Preconditions.checkArgument(
+          columnNames.add(column.name()),
+          "The statistics of column %s are specified more than once",
+          column.name());
+      checkNonNegative(column.distinctCount(), "distinctCount");
+      checkNonNegative(column.nullCount(), "nullCount");
+      if (column.histogram() != null) {
+        for (HistogramBucketDTO bucket : column.histogram()) {
+          Preconditions.checkArgument(bucket != null, "\"histogram\" must not contain null");
+          Preconditions.checkArgument(
+              bucket.count() >= 0, "\"count\" of the histogram bucket must not be negative");
+          checkNonNegative(bucket.distinctCount(), "distinctCount");
+        }
+      }
+    }
+  }
+
+  private static void checkNonNegative(Long value, String name) {
+    Preconditions.checkArgument(
+        value == null || value >= 0, "\"%s\" must not be negative, but got %s", name, value);
+  }
+}
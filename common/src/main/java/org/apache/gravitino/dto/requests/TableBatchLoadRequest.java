@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request to load multiple tables of a schema. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TableBatchLoadRequest implements RESTRequest {
+
+  /** The maximum number of tables to load in one request. */
+  public static final int MAX_TABLES = 100;
+
+  @JsonProperty("names")
+  private final String[] names;
+
+  /**
+   * Creates a new TableBatchLoadRequest.
+   *
+   * @param names The names of the tables to load.
+   */
+  public TableBatchLoadRequest(String[] names) {
+    this.names = names;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TableBatchLoadRequest() {
+    this(null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(
+        names != null && names.length > 0, "\"names\" field is required and cannot be empty");
+    Preconditions.checkArgument(
+        names.length <= MAX_TABLES,
+        "At most %s tables can be loaded in one request, but got %s",
+        MAX_TABLES,
+        names.length);
+    for (String name : names) {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(name), "\"names\" must not contain null or empty name");
+    }
+  }
+}
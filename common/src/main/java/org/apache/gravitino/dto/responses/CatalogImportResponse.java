@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.CatalogImportDTO;
+
+/** Represents a response containing the progress of a bulk import of a catalog. */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString
+public class CatalogImportResponse extends BaseResponse {
+
+  @JsonProperty("import")
+  private final CatalogImportDTO catalogImport;
+
+  /**
+   * Constructor for CatalogImportResponse.
+   *
+   * @param catalogImport The progress of the import.
+   */
+  public CatalogImportResponse(CatalogImportDTO catalogImport) {
+    super(0);
+    this.catalogImport = catalogImport;
+  }
+
+  /** Default constructor for CatalogImportResponse. (Used for Jackson deserialization.) */
+  public CatalogImportResponse() {
+    super();
+    this.catalogImport = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the catalog name or the status is not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(catalogImport != null, "import must be non-null");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(catalogImport.catalog()), "catalog name must not be null or empty");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(catalogImport.status()), "status must not be null or empty");
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.rel.TableDTO;
+
+/** Represents a response for loading multiple tables, with the result of each table. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableBatchLoadResponse extends BaseResponse {
+
+  @JsonProperty("results")
+  private final Result[] results;
+
+  /**
+   * Creates a new TableBatchLoadResponse.
+   *
+   * @param results The results of the tables, in the order of the requested names.
+   */
+  public TableBatchLoadResponse(Result[] results) {
+    super(0);
+    this.results = results;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public TableBatchLoadResponse() {
+    super();
+    this.results = null;
+  }
+
+  /**
+   * Validates the response.
+   *
+   * @throws IllegalArgumentException If the response is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(results != null, "results must not be null");
+    for (Result result : results) {
+      Preconditions.checkArgument(result != null, "results must not contain null");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(result.name), "result 'name' must not be null and empty");
+      Preconditions.checkArgument(
+          (result.table == null) != (result.error == null),
+          "Exactly one of 'table' and 'error' must be set in the result of table %s",
+          result.name);
+      if (result.table != null) {
+        new TableResponse(result.table).validate();
+      }
+    }
+  }
+
+  /** The result of loading one table, either the table or the error. */
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class Result {
+
+    @JsonProperty("name")
+    private final String name;
+
+    @JsonProperty("table")
+    @Nullable
+    private final TableDTO table;
+
+    @JsonProperty("error")
+    @Nullable
+    private final ErrorResponse error;
+
+    private Result(String name, TableDTO table, ErrorResponse error) {
+      this.name = name;
+      this.table = table;
+      this.error = error;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer */
+    private Result() {
+      this(null, null, null);
+    }
+
+    /**
+     * Creates the result of a loaded table.
+     *
+     * @param name The name of the table.
+     * @param table The loaded table.
+     * @return The result.
+     */
+    public static Result ofTable(String name, TableDTO table) {
+      return new Result(name, table, null);
+    }
+
+    /**
+     * Creates the result of a table failed to load.
+     *
+     * @param name The name of the table.
+     * @param error The error of loading the table.
+     * @return The result.
+     */
+    public static Result ofError(String name, ErrorResponse error) {
+      return new Result(name, null, error);
+    }
+  }
+}
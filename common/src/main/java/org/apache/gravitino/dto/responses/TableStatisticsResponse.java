@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.rel.stats.TableStatisticsDTO;
+
+/** Represents a response for the statistics of a table or of a partition. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TableStatisticsResponse extends BaseResponse {
+
+  @JsonProperty("statistics")
+  private final TableStatisticsDTO statistics;
+
+  /**
+   * Creates a new TableStatisticsResponse.
+   *
+   * @param statistics The statistics.
+   */
+  public TableStatisticsResponse(TableStatisticsDTO statistics) {
+    super(0);
+    this.statistics = statistics;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * TableStatisticsResponse.
+   */
+  public TableStatisticsResponse() {
+    super();
+    this.statistics = null;
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(statistics != null, "\"statistics\" must not be null");
+  }
+}
@@ -78,6 +78,9 @@ import org.apache.gravitino.dto.rel.partitions.IdentityPartitionDTO;
 import org.apache.gravitino.dto.rel.partitions.ListPartitionDTO;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
 import org.apache.gravitino.dto.rel.partitions.RangePartitionDTO;
+import org.apache.gravitino.dto.rel.stats.ColumnStatisticsDTO;
+import org.apache.gravitino.dto.rel.stats.HistogramBucketDTO;
+import org.apache.gravitino.dto.rel.stats.TableStatisticsDTO;
 import org.apache.gravitino.dto.tag.MetadataObjectDTO;
 import org.apache.gravitino.dto.tag.TagDTO;
 import org.apache.gravitino.file.Fileset;
@@ -105,6 +108,9 @@ import org.apache.gravitino.rel.partitions.ListPartition;
 import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.gravitino.rel.partitions.RangePartition;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+import org.apache.gravitino.rel.stats.HistogramBucket;
+import org.apache.gravitino.rel.stats.TableStatistics;
 import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.tag.Tag;
 
@@ -666,6 +672,73 @@ public class DTOConverters {
         .build();
   }
 
+  /**
+   * Converts table or partition statistics to a TableStatisticsDTO.
+   *
+   * @param statistics The statistics to be converted.
+   * @return The statistics DTO.
+   */
+  public static TableStatisticsDTO toDTO(TableStatistics statistics) {
+    ColumnStatistics[] columnStatistics = statistics.columnStatistics();
+    return TableStatisticsDTO.builder()
+        .withRowCount(statistics.rowCount())
+        .withSizeInBytes(statistics.sizeInBytes())
+        .withColumnStatistics(
+            columnStatistics == null
+                ? null
+                : Arrays.stream(columnStatistics)
+                    .map(DTOConverters::toDTO)
+                    .toArray(ColumnStatisticsDTO[]::new))
+        .withAudit(statistics.auditInfo() == null ? null : toDTO(statistics.auditInfo()))
+        .build();
+  }
+
+  /**
+   * Converts column statistics to a ColumnStatisticsDTO.
+   *
+   * @param columnStatistics The column statistics to be converted.
+   * @return The column statistics DTO.
+   */
+  public static ColumnStatisticsDTO toDTO(ColumnStatistics columnStatistics) {
+    if (columnStatistics instanceof ColumnStatisticsDTO) {
+      return (ColumnStatisticsDTO) columnStatistics;
+    }
+
+    HistogramBucket[] histogram = columnStatistics.histogram();
+    return ColumnStatisticsDTO.builder()
+        .withName(columnStatistics.name())
+        .withDistinctCount(columnStatistics.distinctCount())
+        .withNullCount(columnStatistics.nullCount())
+        .withMinValue(columnStatistics.minValue())
+        .withMaxValue(columnStatistics.maxValue())
+        .withHistogram(
+            histogram == null
+                ? null
+                : Arrays.stream(histogram)
+                    .map(DTOConverters::toDTO)
+                    .toArray(HistogramBucketDTO[]::new))
+        .build();
+  }
+
+  /**
+   * Converts a histogram bucket to a HistogramBucketDTO.
+   *
+   * @param bucket The histogram bucket to be converted.
+   * @return The histogram bucket DTO.
+   */
+  public static HistogramBucketDTO toDTO(HistogramBucket bucket) {
+    if (bucket instanceof HistogramBucketDTO) {
+      return (HistogramBucketDTO) bucket;
+    }
+
+    return HistogramBucketDTO.builder()
+        .withLowerBound(bucket.lowerBound())
+        .withUpperBound(bucket.upperBound())
+        .withCount(bucket.count())
+        .withDistinctCount(bucket.distinctCount())
+        .build();
+  }
+
   /**
    * Converts an array of Columns to an array of ColumnDTOs.
    *
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.gravitino.dto.rel.stats.ColumnStatisticsDTO;
+import org.apache.gravitino.dto.rel.stats.HistogramBucketDTO;
+import org.apache.gravitino.json.JsonUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestStatisticsUpdateRequest {
+
+  @Test
+  public void testStatisticsUpdateRequestSerDe() throws JsonProcessingException {
+    HistogramBucketDTO bucket =
+        HistogramBucketDTO.builder()
+            .withLowerBound("1")
+            .withUpperBound("10")
+            .withCount(100)
+            .withDistinctCount(10L)
+            .build();
+    ColumnStatisticsDTO column =
+        ColumnStatisticsDTO.builder()
+            .withName("col_1")
+            .withDistinctCount(10L)
+            .withNullCount(0L)
+            .withMinValue("1")
+            .withMaxValue("10")
+            .withHistogram(new HistogramBucketDTO[] {bucket})
+            .build();
+    StatisticsUpdateRequest request =
+        new StatisticsUpdateRequest(100L, 1024L, new ColumnStatisticsDTO[] {column});
+    String serJson = JsonUtils.objectMapper().writeValueAsString(request);
+    StatisticsUpdateRequest deserRequest =
+        JsonUtils.objectMapper().readValue(serJson, StatisticsUpdateRequest.class);
+    Assertions.assertEquals(request, deserRequest);
+    Assertions.assertEquals(100L, deserRequest.getRowCount());
+    Assertions.assertEquals(1024L, deserRequest.getSizeInBytes());
+    Assertions.assertArrayEquals(new ColumnStatisticsDTO[] {column}, deserRequest.getColumns());
+    Assertions.assertDoesNotThrow(deserRequest::validate);
+
+    // Only the row count is updated.
+    String json = "{\"rowCount\": 10}";
+    StatisticsUpdateRequest deserRequest1 =
+        JsonUtils.objectMapper().readValue(json, StatisticsUpdateRequest.class);
+    Assertions.assertEquals(10L, deserRequest1.getRowCount());
+    Assertions.assertNull(deserRequest1.getSizeInBytes());
+    Assertions.assertNull(deserRequest1.getColumns());
+    Assertions.assertDoesNotThrow(deserRequest1::validate);
+  }
+
+  @Test
+  public void testStatisticsUpdateRequestValidate() {
+    StatisticsUpdateRequest negativeRowCount = new StatisticsUpdateRequest(-1L, null, null);
+    Assertions.assertThrows(IllegalArgumentException.class, negativeRowCount::validate);
+
+    ColumnStatisticsDTO column = ColumnStatisticsDTO.builder().withName("col_1").build();
+    StatisticsUpdateRequest duplicatedColumns =
+        new StatisticsUpdateRequest(null, null, new ColumnStatisticsDTO[] {column, column});
+    Throwable e =
+        Assertions.assertThrows(IllegalArgumentException.class, duplicatedColumns::validate);
+    Assertions.assertTrue(e.getMessage().contains("more than once"));
+
+    ColumnStatisticsDTO unnamedColumn = ColumnStatisticsDTO.builder().withNullCount(1L).build();
+    StatisticsUpdateRequest unnamed =
+        new StatisticsUpdateRequest(null, null, new ColumnStatisticsDTO[] {unnamedColumn});
+    Assertions.assertThrows(IllegalArgumentException.class, unnamed::validate);
+
+    ColumnStatisticsDTO negativeNullCount =
+        ColumnStatisticsDTO.builder().withName("col_1").withNullCount(-1L).build();
+    StatisticsUpdateRequest negativeColumn =
+        new StatisticsUpdateRequest(null, null, new ColumnStatisticsDTO[] {negativeNullCount});
+    Assertions.assertThrows(IllegalArgumentException.class, negativeColumn::validate);
+  }
+}
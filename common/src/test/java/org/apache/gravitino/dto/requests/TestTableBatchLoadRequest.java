@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.stream.IntStream;
+import org.apache.gravitino.json.JsonUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTableBatchLoadRequest {
+
+  @Test
+  public void testTableBatchLoadRequestSerDe() throws JsonProcessingException {
+    TableBatchLoadRequest request = new TableBatchLoadRequest(new String[] {"t1", "t2"});
+    String serJson = JsonUtils.objectMapper().writeValueAsString(request);
+    TableBatchLoadRequest deserRequest =
+        JsonUtils.objectMapper().readValue(serJson, TableBatchLoadRequest.class);
+    Assertions.assertEquals(request, deserRequest);
+    Assertions.assertArrayEquals(new String[] {"t1", "t2"}, deserRequest.getNames());
+    Assertions.assertDoesNotThrow(deserRequest::validate);
+  }
+
+  @Test
+  public void testTableBatchLoadRequestValidate() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TableBatchLoadRequest().validate());
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TableBatchLoadRequest(new String[0]).validate());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TableBatchLoadRequest(new String[] {"t1", " "}).validate());
+
+    String[] names =
+        IntStream.rangeClosed(0, TableBatchLoadRequest.MAX_TABLES)
+            .mapToObj(i -> "t" + i)
+            .toArray(String[]::new);
+    Exception e =
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new TableBatchLoadRequest(names).validate());
+    Assertions.assertTrue(e.getMessage().contains("At most 100 tables"));
+  }
+}
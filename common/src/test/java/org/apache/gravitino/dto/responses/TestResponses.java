@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -95,6 +96,24 @@ public class TestResponses {
     NameIdentifier[] identsB = entityList.identifiers();
     assertEquals(1, identsB.length);
     assertEquals("TableA", identsB[0].name());
+    assertNull(entityList.nextPageToken());
+  }
+
+  @Test
+  void testPaginatedEntityListResponse() throws JsonProcessingException {
+    NameIdentifier[] idents = {NameIdentifier.parse("TableA")};
+    EntityListResponse entityList = new EntityListResponse(idents, "token");
+    entityList.validate(); // No exception thrown
+
+    String json = JsonUtils.objectMapper().writeValueAsString(entityList);
+    EntityListResponse deserialized =
+        JsonUtils.objectMapper().readValue(json, EntityListResponse.class);
+    assertEquals(entityList, deserialized);
+    assertEquals("token", deserialized.nextPageToken());
+
+    // The token is omitted when there are no more pages.
+    json = JsonUtils.objectMapper().writeValueAsString(new EntityListResponse(idents));
+    assertFalse(json.contains("nextPageToken"));
   }
 
   @Test
@@ -217,6 +236,42 @@ public class TestResponses {
     assertThrows(IllegalArgumentException.class, () -> table.validate());
   }
 
+  @Test
+  void testTableBatchLoadResponse() throws JsonProcessingException {
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    ColumnDTO column =
+        ColumnDTO.builder().withName("ColumnA").withDataType(Types.ByteType.get()).build();
+    TableDTO table =
+        TableDTO.builder()
+            .withName("TableA")
+            .withColumns(new ColumnDTO[] {column})
+            .withAudit(audit)
+            .withPartitioning(Partitioning.EMPTY_PARTITIONING)
+            .build();
+    TableBatchLoadResponse response =
+        new TableBatchLoadResponse(
+            new TableBatchLoadResponse.Result[] {
+              TableBatchLoadResponse.Result.ofTable("TableA", table),
+              TableBatchLoadResponse.Result.ofError(
+                  "TableB", ErrorResponse.notFound("NoSuchTableException", "not found"))
+            });
+    assertDoesNotThrow(response::validate);
+
+    String serJson = JsonUtils.objectMapper().writeValueAsString(response);
+    TableBatchLoadResponse deserResponse =
+        JsonUtils.objectMapper().readValue(serJson, TableBatchLoadResponse.class);
+    assertEquals(response, deserResponse);
+
+    TableBatchLoadResponse response1 =
+        new TableBatchLoadResponse(
+            new TableBatchLoadResponse.Result[] {
+              TableBatchLoadResponse.Result.ofError("TableA", null)
+            });
+    assertThrows(IllegalArgumentException.class, response1::validate);
+    assertThrows(IllegalArgumentException.class, () -> new TableBatchLoadResponse().validate());
+  }
+
   @Test
   void testRestErrorResponse() throws IllegalArgumentException {
     ErrorResponse error = ErrorResponse.restError("Rest error");
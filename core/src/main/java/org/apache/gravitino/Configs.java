@@ -28,6 +28,8 @@ import org.apache.gravitino.audit.v2.SimpleFormatterV2;
 import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
 import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.storage.SnowflakeIdGenerator;
+import org.apache.gravitino.storage.cache.CaffeineEntityCache;
 
 public class Configs {
 
@@ -54,6 +56,28 @@ public class Configs {
   public static final String ENTITY_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLIS_CONNECTION_KEY =
       "gravitino.entity.store.relational.maxWaitMillis";
 
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTION_KEY =
+      "gravitino.entity.store.relational.minIdleConnections";
+
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTION_KEY =
+      "gravitino.entity.store.relational.maxIdleConnections";
+
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTION_KEY =
+      "gravitino.entity.store.relational.initialConnections";
+
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS_KEY =
+      "gravitino.entity.store.relational.minEvictableIdleMillis";
+
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_URL_KEY =
+      "gravitino.entity.store.relational.readOnlyJdbcUrl";
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_USER_KEY =
+      "gravitino.entity.store.relational.readOnlyJdbcUser";
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_PASSWORD_KEY =
+      "gravitino.entity.store.relational.readOnlyJdbcPassword";
+
+  public static final String ENTITY_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS_KEY =
+      "gravitino.entity.store.relational.readAfterWriteMillis";
+
   public static final String ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY =
       "gravitino.entity.store.relational.storagePath";
 
@@ -94,6 +118,16 @@ public class Configs {
 
   public static final long DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLISECONDS = 1000L;
 
+  public static final int DEFAULT_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS = 0;
+
+  public static final int DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS = 5;
+
+  public static final int DEFAULT_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS = 0;
+
+  public static final long DEFAULT_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS = 60 * 1000L;
+
+  public static final long DEFAULT_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS = 5 * 1000L;
+
   public static final int GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT = 100;
   public static final long MAX_NODE_IN_MEMORY = 100000L;
 
@@ -101,6 +135,10 @@ public class Configs {
 
   public static final long CLEAN_INTERVAL_IN_SECS = 60L;
 
+  public static final long DEFAULT_ENTITY_STORE_CACHE_MAX_ENTRIES = 10000L;
+
+  public static final long DEFAULT_ENTITY_STORE_CACHE_EXPIRE_TIME_MS = 60 * 60 * 1000L;
+
   public static final ConfigEntry<String> ENTITY_STORE =
       new ConfigBuilder(ENTITY_STORE_KEY)
           .doc("Which storage implementation to use")
@@ -162,6 +200,77 @@ public class Configs {
           .longConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLISECONDS);
 
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTION_KEY)
+          .doc("The minimum number of idle connections kept in the JDBC Backend connection pool")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTION_KEY)
+          .doc(
+              "The maximum number of idle connections kept in the JDBC Backend connection pool, "
+                  + "the connections returned to a pool with more idle connections are closed")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTION_KEY)
+          .doc(
+              "The number of connections opened when the JDBC Backend connection pool is "
+                  + "initialized, to warm up the pool before serving the first requests")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS_KEY)
+          .doc(
+              "The minimum time in milliseconds a connection stays idle in the JDBC Backend "
+                  + "connection pool before it can be evicted")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS);
+
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_URL =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_URL_KEY)
+          .doc(
+              "The url of a read-only replica of the JDBC Backend database. If set, the reads "
+                  + "outside of a transaction are sent to the replica")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_USER =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_USER_KEY)
+          .doc("User of the read-only replica, the `JDBCBackend` user is used if not set")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_PASSWORD =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_PASSWORD_KEY)
+          .doc("Password of the read-only replica, the `JDBCBackend` password is used if not set")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .create();
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS =
+      new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS_KEY)
+          .doc(
+              "The time in milliseconds after a write during which the reads are still sent to "
+                  + "the primary database, it should cover the replication lag of the replica")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS);
+
   public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_PATH =
       new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY)
           .doc(
@@ -187,6 +296,32 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Integer> CATALOG_IMPORT_THREADS =
+      new ConfigBuilder("gravitino.catalog.import.threads")
+          .doc("The number of threads to load the tables from the catalogs in a bulk import")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Integer> CATALOG_IMPORT_BATCH_SIZE =
+      new ConfigBuilder("gravitino.catalog.import.batchSize")
+          .doc("The number of tables to store in one transaction in a bulk import")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(
+              value -> value > 0 && value <= 1000,
+              "The value must be a positive number not greater than 1000")
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Integer> TABLE_BATCH_LOAD_THREADS =
+      new ConfigBuilder("gravitino.table.batchLoad.threads")
+          .doc("The number of threads to load the tables of the batch load requests")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(16);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc(
@@ -255,6 +390,101 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  // The followings are configurations for the garbage collector of the relational entity store
+
+  public static final ConfigEntry<Integer> STORE_GC_BATCH_SIZE =
+      new ConfigBuilder("gravitino.entity.store.gc.batchSize")
+          .doc("The maximum number of rows purged by one statement of the garbage collector")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+
+  public static final ConfigEntry<Long> STORE_GC_MAX_ROWS_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.gc.maxRowsPerSecond")
+          .doc(
+              "The maximum number of rows purged per second by the garbage collector, 0 means "
+                  + "unlimited")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<String> STORE_GC_TIME_WINDOWS =
+      new ConfigBuilder("gravitino.entity.store.gc.timeWindows")
+          .doc(
+              "The comma separated time windows of the day in the server time zone during which "
+                  + "the garbage collector runs, like `01:00-05:00,22:30-23:30`. The garbage "
+                  + "collector runs at any time if not set")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .create();
+
+  // The followings are configurations for entity store cache
+
+  public static final ConfigEntry<Boolean> ENTITY_STORE_CACHE_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.cache.enabled")
+          .doc("Whether to cache the entities in front of the relational entity store")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<String> ENTITY_STORE_CACHE_CLASS_NAME =
+      new ConfigBuilder("gravitino.entity.store.cache.className")
+          .doc("The implementation class name of the entity store cache")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(CaffeineEntityCache.class.getName());
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.entity.store.cache.maxEntries")
+          .doc("The maximum number of entities to keep in the entity store cache")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_MAX_ENTRIES);
+
+  public static final ConfigEntry<Long> ENTITY_STORE_CACHE_EXPIRE_TIME_MS =
+      new ConfigBuilder("gravitino.entity.store.cache.expireTimeMs")
+          .doc(
+              "The time in milliseconds after which a cached entity expires since it was written, "
+                  + "it bounds the staleness when several Gravitino servers share the same store")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_ENTITY_STORE_CACHE_EXPIRE_TIME_MS);
+
+  // The followings are configurations for entity id generator
+
+  public static final String RANDOM_ID_GENERATOR = "random";
+  public static final String SNOWFLAKE_ID_GENERATOR = "snowflake";
+
+  public static final ConfigEntry<String> ID_GENERATOR =
+      new ConfigBuilder("gravitino.entity.idGenerator")
+          .doc(
+              "The generator of the entity ids, `random` for random ids, or `snowflake` for "
+                  + "time-ordered ids, which keep the primary key indexes of the backend compact")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .checkValue(
+              value -> RANDOM_ID_GENERATOR.equals(value) || SNOWFLAKE_ID_GENERATOR.equals(value),
+              "The value must be `random` or `snowflake`")
+          .createWithDefault(RANDOM_ID_GENERATOR);
+
+  public static final ConfigEntry<Integer> ID_GENERATOR_NODE_ID =
+      new ConfigBuilder("gravitino.entity.idGenerator.nodeId")
+          .doc(
+              "The node id of the `snowflake` id generator, between 0 and 1023, it must be unique "
+                  + "among the Gravitino servers sharing the same entity store. It is derived from "
+                  + "the host name if not set")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(
+              value -> value >= 0 && value <= SnowflakeIdGenerator.MAX_NODE_ID,
+              "The value must be between 0 and 1023")
+          .create();
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
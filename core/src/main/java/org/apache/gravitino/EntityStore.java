@@ -20,10 +20,13 @@ package org.apache.gravitino;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.stats.SupportsStatisticsOperations;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
 
@@ -83,6 +86,31 @@ public interface EntityStore extends Closeable {
     throw new UnsupportedOperationException("Don't support to skip fields");
   }
 
+  /**
+   * List the entities with the specified {@link org.apache.gravitino.Namespace} ordered by name,
+   * starting after the given name. Listing one page at a time avoids loading all the entities of
+   * the namespace when only a page of them is needed. The default implementation pages over the
+   * full listing.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param startAfter the entity name to start after, or null to start from the first one
+   * @param limit the maximum number of entities to return
+   * @return the list of entities
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String startAfter, int limit)
+      throws IOException {
+    return list(namespace, type, entityType).stream()
+        .filter(e -> startAfter == null || e.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Check if the entity with the specified {@link org.apache.gravitino.NameIdentifier} exists.
    *
@@ -122,6 +150,23 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException;
 
+  /**
+   * Store the new entities into the underlying storage in batch. The implementation may store
+   * them in fewer round trips than calling {@link #put(Entity, boolean)} for each entity. The
+   * default implementation stores them one by one without overwriting.
+   *
+   * @param entities the entities to store
+   * @param <E> the type of the entities
+   * @throws IOException if the store operation fails
+   * @throws EntityAlreadyExistsException if any of the entities already exists
+   */
+  default <E extends Entity & HasIdentifier> void batchPut(List<E> entities)
+      throws IOException, EntityAlreadyExistsException {
+    for (E e : entities) {
+      put(e, false);
+    }
+  }
+
   /**
    * Update the entity into the underlying storage.
    *
@@ -222,4 +267,14 @@ public interface EntityStore extends Closeable {
   default SupportsRelationOperations relationOperations() {
     throw new UnsupportedOperationException("relation operations are not supported");
   }
+
+  /**
+   * Get the extra statistics operations that are supported by the entity store.
+   *
+   * @return the statistics operations that are supported by the entity store
+   * @throws UnsupportedOperationException if the extra operations are not supported
+   */
+  default SupportsStatisticsOperations statisticsOperations() {
+    throw new UnsupportedOperationException("statistics operations are not supported");
+  }
 }
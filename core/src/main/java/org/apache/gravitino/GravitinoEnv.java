@@ -26,6 +26,7 @@ import org.apache.gravitino.authorization.FutureGrantManager;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.auxiliary.AuxiliaryServiceManager;
 import org.apache.gravitino.catalog.CatalogDispatcher;
+import org.apache.gravitino.catalog.CatalogImportManager;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
 import org.apache.gravitino.catalog.FilesetDispatcher;
@@ -40,6 +41,7 @@ import org.apache.gravitino.catalog.PartitionOperationDispatcher;
 import org.apache.gravitino.catalog.SchemaDispatcher;
 import org.apache.gravitino.catalog.SchemaNormalizeDispatcher;
 import org.apache.gravitino.catalog.SchemaOperationDispatcher;
+import org.apache.gravitino.catalog.TableBatchLoader;
 import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.catalog.TableNormalizeDispatcher;
 import org.apache.gravitino.catalog.TableOperationDispatcher;
@@ -71,9 +73,13 @@ import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metalake.MetalakeManager;
 import org.apache.gravitino.metalake.MetalakeNormalizeDispatcher;
 import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EventListenerMetricsSource;
 import org.apache.gravitino.metrics.source.JVMMetricsSource;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
+import org.apache.gravitino.stats.StatisticsDispatcher;
+import org.apache.gravitino.stats.StatisticsManager;
 import org.apache.gravitino.storage.IdGenerator;
-import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
 import org.slf4j.Logger;
@@ -102,6 +108,10 @@ public class GravitinoEnv {
 
   private TableDispatcher tableDispatcher;
 
+  private CatalogImportManager catalogImportManager;
+
+  private TableBatchLoader tableBatchLoader;
+
   private PartitionDispatcher partitionDispatcher;
 
   private FilesetDispatcher filesetDispatcher;
@@ -116,6 +126,8 @@ public class GravitinoEnv {
 
   private TagDispatcher tagDispatcher;
 
+  private StatisticsDispatcher statisticsDispatcher;
+
   private AccessControlDispatcher accessControlDispatcher;
 
   private IdGenerator idGenerator;
@@ -222,6 +234,24 @@ public class GravitinoEnv {
     return tableDispatcher;
   }
 
+  /**
+   * Get the CatalogImportManager associated with the Gravitino environment.
+   *
+   * @return The CatalogImportManager instance.
+   */
+  public CatalogImportManager catalogImportManager() {
+    return catalogImportManager;
+  }
+
+  /**
+   * Get the TableBatchLoader associated with the Gravitino environment.
+   *
+   * @return The TableBatchLoader instance.
+   */
+  public TableBatchLoader tableBatchLoader() {
+    return tableBatchLoader;
+  }
+
   /**
    * Get the ModelDispatcher associated with the Gravitino environment.
    *
@@ -336,6 +366,15 @@ public class GravitinoEnv {
     return tagDispatcher;
   }
 
+  /**
+   * Get the statisticsDispatcher associated with the Gravitino environment.
+   *
+   * @return The statisticsDispatcher instance.
+   */
+  public StatisticsDispatcher statisticsDispatcher() {
+    return statisticsDispatcher;
+  }
+
   /**
    * Get the OwnerManager associated with the Gravitino environment.
    *
@@ -374,6 +413,14 @@ public class GravitinoEnv {
       }
     }
 
+    if (catalogImportManager != null) {
+      catalogImportManager.close();
+    }
+
+    if (tableBatchLoader != null) {
+      tableBatchLoader.close();
+    }
+
     if (catalogManager != null) {
       catalogManager.close();
     }
@@ -408,6 +455,7 @@ public class GravitinoEnv {
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
+    metricsSystem.register(new EventListenerMetricsSource(eventListenerManager));
     this.eventBus = eventListenerManager.createEventBus();
 
     this.auditLogManager = new AuditLogManager();
@@ -419,11 +467,12 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // create and initialize the configured id generator
+    this.idGenerator = IdGeneratorFactory.createIdGenerator(config);
 
     // Tree lock
     this.lockManager = new LockManager(config);
+    metricsSystem.register(new TreeLockMetricsSource(lockManager));
 
     // Create and initialize metalake related modules, the operation chain is:
     // MetalakeEventDispatcher -> MetalakeNormalizeDispatcher -> MetalakeHookDispatcher ->
@@ -460,6 +509,11 @@ public class GravitinoEnv {
         new TableNormalizeDispatcher(tableHookDispatcher, catalogManager);
     this.tableDispatcher = new TableEventDispatcher(eventBus, tableNormalizeDispatcher);
 
+    this.catalogImportManager =
+        new CatalogImportManager(config, schemaDispatcher, tableOperationDispatcher, entityStore);
+    this.tableBatchLoader =
+        new TableBatchLoader(tableDispatcher, config.get(Configs.TABLE_BATCH_LOAD_THREADS));
+
     // TODO: We can install hooks when we need, we only supports ownership post hook,
     //  partition doesn't have ownership, so we don't need it now.
     PartitionOperationDispatcher partitionOperationDispatcher =
@@ -512,5 +566,8 @@ public class GravitinoEnv {
 
     // Create and initialize Tag related modules
     this.tagDispatcher = new TagEventDispatcher(eventBus, new TagManager(idGenerator, entityStore));
+
+    // Create and initialize Statistics related modules
+    this.statisticsDispatcher = new StatisticsManager(entityStore, tableDispatcher);
   }
 }
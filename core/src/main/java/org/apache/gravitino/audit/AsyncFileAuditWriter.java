@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.audit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AsyncFileAuditWriter writes audit logs to a file off the caller thread. The callers only put the
+ * audit logs into a lock-free ring buffer, a dedicated writer thread encodes them into a reusable
+ * direct byte buffer and writes the buffer to a {@link FileChannel} when it is full, or when the
+ * writer is idle and the flush interval has passed. The file is rotated by size and by time, and
+ * the rotated files can be compressed with gzip in the background.
+ *
+ * <p>When the ring buffer is full, the callers wait for the writer thread instead of dropping the
+ * audit logs.
+ */
+public class AsyncFileAuditWriter implements AuditLogWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncFileAuditWriter.class);
+
+  private static final String AUDIT_LOG_FILE_NAME = "fileName";
+  private static final String APPEND = "append";
+  private static final String FLUSH_INTERVAL_MS = "flushIntervalMs";
+  private static final String QUEUE_CAPACITY = "queueCapacity";
+  private static final String BUFFER_SIZE = "bufferSize";
+  private static final String MAX_FILE_SIZE_BYTES = "maxFileSizeBytes";
+  private static final String ROTATE_INTERVAL_SECS = "rotateIntervalSecs";
+  private static final String COMPRESS = "compress";
+  private static final String GZIP_SUFFIX = ".gz";
+
+  private static final CharBuffer LINE_SEPARATOR =
+      CharBuffer.wrap(System.lineSeparator()).asReadOnlyBuffer();
+  private static final DateTimeFormatter ROTATE_SUFFIX_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long FULL_BUFFER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long CLOSE_WAIT_SECONDS = 10;
+
+  @VisibleForTesting String fileName;
+
+  private Formatter formatter;
+  private long flushIntervalMs;
+  private long maxFileSizeBytes;
+  private long rotateIntervalMs;
+  private boolean compress;
+
+  private MpscRingBuffer<AuditLog> ringBuffer;
+  private Thread writerThread;
+  private ExecutorService compressExecutor;
+  private volatile boolean writerParked = false;
+  private volatile boolean closed = false;
+
+  // The states below are only accessed by the writer thread after init.
+  private FileChannel channel;
+  private ByteBuffer byteBuffer;
+  private CharsetEncoder encoder;
+  private long fileSize;
+  private long nextFlushTimeMs;
+  private long nextRotateTimeMs;
+
+  @Override
+  public Formatter getFormatter() {
+    return formatter;
+  }
+
+  @Override
+  public void init(Formatter formatter, Map<String, String> properties) {
+    this.formatter = formatter;
+    this.fileName =
+        System.getProperty("gravitino.log.path")
+            + "/"
+            + properties.getOrDefault(AUDIT_LOG_FILE_NAME, "gravitino_audit.log");
+    boolean append = Boolean.parseBoolean(properties.getOrDefault(APPEND, "true"));
+    this.flushIntervalMs = Long.parseLong(properties.getOrDefault(FLUSH_INTERVAL_MS, "1000"));
+    int queueCapacity = Integer.parseInt(properties.getOrDefault(QUEUE_CAPACITY, "65536"));
+    int bufferSize = Integer.parseInt(properties.getOrDefault(BUFFER_SIZE, "65536"));
+    this.maxFileSizeBytes =
+        Long.parseLong(properties.getOrDefault(MAX_FILE_SIZE_BYTES, String.valueOf(256L << 20)));
+    this.rotateIntervalMs =
+        TimeUnit.SECONDS.toMillis(
+            Long.parseLong(properties.getOrDefault(ROTATE_INTERVAL_SECS, "86400")));
+    this.compress = Boolean.parseBoolean(properties.getOrDefault(COMPRESS, "true"));
+    Preconditions.checkArgument(flushIntervalMs >= 0, "%s must not be negative", FLUSH_INTERVAL_MS);
+    Preconditions.checkArgument(bufferSize > 0, "%s must be positive", BUFFER_SIZE);
+    Preconditions.checkArgument(
+        maxFileSizeBytes >= 0, "%s must not be negative", MAX_FILE_SIZE_BYTES);
+    Preconditions.checkArgument(
+        rotateIntervalMs >= 0, "%s must not be negative", ROTATE_INTERVAL_SECS);
+
+    try {
+      this.channel = openChannel(append);
+      this.fileSize = channel.size();
+    } catch (Exception e) {
+      throw new GravitinoRuntimeException(
+          e, "Init audit log writer fail, filename is %s", fileName);
+    }
+
+    this.ringBuffer = new MpscRingBuffer<>(queueCapacity);
+    this.byteBuffer = ByteBuffer.allocateDirect(bufferSize);
+    this.encoder =
+        StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    long now = System.currentTimeMillis();
+    this.nextFlushTimeMs = now + flushIntervalMs;
+    this.nextRotateTimeMs = now + rotateIntervalMs;
+
+    if (compress) {
+      this.compressExecutor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "async-file-audit-writer-compressor");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    this.writerThread = new Thread(this::runWriter, "async-file-audit-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public void doWrite(AuditLog auditLog) {
+    while (!closed) {
+      if (ringBuffer.offer(auditLog)) {
+        if (writerParked) {
+          LockSupport.unpark(writerThread);
+        }
+        return;
+      }
+
+      // The ring buffer is full, wait for the writer thread to catch up.
+      LockSupport.unpark(writerThread);
+      LockSupport.parkNanos(FULL_BUFFER_PARK_NANOS);
+    }
+
+    LOG.warn("Audit log writer is closed, drop audit log: {}", auditLog);
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    if (writerThread != null) {
+      LockSupport.unpark(writerThread);
+      try {
+        writerThread.join(TimeUnit.SECONDS.toMillis(CLOSE_WAIT_SECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while waiting for the audit log writer thread to finish", e);
+      }
+    }
+
+    if (compressExecutor != null) {
+      compressExecutor.shutdown();
+      try {
+        if (!compressExecutor.awaitTermination(CLOSE_WAIT_SECONDS, TimeUnit.SECONDS)) {
+          LOG.warn("Timed out waiting for the rotated audit log files to be compressed");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public String name() {
+    return "async-file";
+  }
+
+  @VisibleForTesting
+  int pendingAuditLogs() {
+    return ringBuffer.size();
+  }
+
+  private void runWriter() {
+    while (true) {
+      AuditLog auditLog = ringBuffer.poll();
+      if (auditLog != null) {
+        append(auditLog);
+        continue;
+      }
+
+      // Drain the published audit logs before exiting, the callers stop adding once closed.
+      if (closed && ringBuffer.isEmpty()) {
+        break;
+      }
+
+      long now = System.currentTimeMillis();
+      if (now >= nextFlushTimeMs) {
+        flushAndMaybeRotate(now);
+      }
+
+      writerParked = true;
+      if (ringBuffer.isEmpty() && !closed) {
+        long waitMs = Math.max(1, nextFlushTimeMs - now);
+        LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, TimeUnit.MILLISECONDS.toNanos(waitMs)));
+      }
+      writerParked = false;
+    }
+
+    writeBuffer();
+    try {
+      channel.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close audit log file {}", fileName, e);
+    }
+  }
+
+  private void append(AuditLog auditLog) {
+    long pendingSize = fileSize + byteBuffer.position();
+    if (maxFileSizeBytes > 0 && pendingSize > 0 && pendingSize >= maxFileSizeBytes) {
+      rotate();
+    }
+
+    try {
+      encode(CharBuffer.wrap(auditLog.toString()));
+      encode(LINE_SEPARATOR.duplicate());
+    } catch (Exception e) {
+      LOG.warn("Failed to write audit log: {}", auditLog, e);
+    }
+  }
+
+  private void encode(CharBuffer chars) throws IOException {
+    encoder.reset();
+    while (true) {
+      CoderResult result = encoder.encode(chars, byteBuffer, true);
+      if (result.isOverflow()) {
+        writeBuffer();
+      } else if (result.isError()) {
+        result.throwException();
+      } else {
+        return;
+      }
+    }
+  }
+
+  private void flushAndMaybeRotate(long now) {
+    writeBuffer();
+    nextFlushTimeMs = now + flushIntervalMs;
+    if (rotateIntervalMs > 0 && now >= nextRotateTimeMs) {
+      if (fileSize > 0) {
+        rotate();
+      }
+      nextRotateTimeMs = now + rotateIntervalMs;
+    }
+  }
+
+  private void writeBuffer() {
+    byteBuffer.flip();
+    try {
+      while (byteBuffer.hasRemaining()) {
+        fileSize += channel.write(byteBuffer);
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to write {} bytes of audit logs to {}", byteBuffer.remaining(), fileName, e);
+    } finally {
+      byteBuffer.clear();
+    }
+  }
+
+  private void rotate() {
+    writeBuffer();
+    Path current = Paths.get(fileName);
+    try {
+      channel.close();
+      Path rotated = rotatedPath();
+      Files.move(current, rotated);
+      if (compressExecutor != null) {
+        compressExecutor.execute(() -> compress(rotated));
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to rotate audit log file {}", fileName, e);
+    }
+
+    try {
+      this.channel = openChannel(true);
+      this.fileSize = channel.size();
+    } catch (IOException e) {
+      // The writes fail and are logged until the file can be opened again on the next rotation.
+      LOG.error("Failed to open audit log file {}", fileName, e);
+    }
+  }
+
+  private Path rotatedPath() {
+    String base = fileName + "." + LocalDateTime.now().format(ROTATE_SUFFIX_FORMAT);
+    Path rotated = Paths.get(base);
+    int index = 1;
+    while (Files.exists(rotated) || Files.exists(Paths.get(rotated + GZIP_SUFFIX))) {
+      rotated = Paths.get(base + "." + index++);
+    }
+    return rotated;
+  }
+
+  private FileChannel openChannel(boolean append) throws IOException {
+    return append
+        ? FileChannel.open(
+            Paths.get(fileName),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)
+        : FileChannel.open(
+            Paths.get(fileName),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private static void compress(Path file) {
+    Path compressed = Paths.get(file + GZIP_SUFFIX);
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed))) {
+      Files.copy(file, out);
+    } catch (IOException e) {
+      LOG.warn("Failed to compress rotated audit log file {}", file, e);
+      return;
+    }
+
+    try {
+      Files.delete(file);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete rotated audit log file {}", file, e);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.audit;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free ring buffer for multiple producers and a single consumer. Producers claim a
+ * slot with a CAS on the producer index, the consumer reads the slots in order and releases them by
+ * moving the consumer index, so neither side takes a lock.
+ *
+ * @param <E> The type of the elements.
+ */
+class MpscRingBuffer<E> {
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<E> buffer;
+  private final AtomicLong producerIndex = new AtomicLong(0);
+  private final AtomicLong consumerIndex = new AtomicLong(0);
+
+  MpscRingBuffer(int requestedCapacity) {
+    Preconditions.checkArgument(
+        requestedCapacity > 0 && requestedCapacity <= (1 << 30),
+        "The capacity must be between 1 and 2^30, but got %s",
+        requestedCapacity);
+    // Round up to a power of two, so that the slot of an index is a mask away.
+    int powerOfTwo = 1;
+    while (powerOfTwo < requestedCapacity) {
+      powerOfTwo <<= 1;
+    }
+    this.capacity = powerOfTwo;
+    this.mask = capacity - 1;
+    this.buffer = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Adds an element, can be called by any thread.
+   *
+   * @param e The element to add.
+   * @return False if the buffer is full.
+   */
+  boolean offer(E e) {
+    Preconditions.checkNotNull(e, "The element must not be null");
+    long index;
+    do {
+      index = producerIndex.get();
+      if (index - consumerIndex.get() >= capacity) {
+        return false;
+      }
+    } while (!producerIndex.compareAndSet(index, index + 1));
+
+    buffer.lazySet((int) index & mask, e);
+    return true;
+  }
+
+  /**
+   * Removes the oldest element, must be called by the consumer thread only.
+   *
+   * @return The oldest element, or null if the buffer is empty or the next element is not
+   *     published yet.
+   */
+  E poll() {
+    long index = consumerIndex.get();
+    int offset = (int) index & mask;
+    E e = buffer.get(offset);
+    if (e == null) {
+      return null;
+    }
+
+    buffer.lazySet(offset, null);
+    consumerIndex.lazySet(index + 1);
+    return e;
+  }
+
+  boolean isEmpty() {
+    return producerIndex.get() == consumerIndex.get();
+  }
+
+  int size() {
+    return (int) Math.max(0, producerIndex.get() - consumerIndex.get());
+  }
+
+  int capacity() {
+    return capacity;
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * The progress of a bulk import of the schemas and tables of a catalog into the entity store. The
+ * counters are updated while the import is running, so the progress can be polled at any time.
+ */
+public class CatalogImportJob {
+
+  /** The status of a bulk import. */
+  public enum Status {
+    /** The import is running. */
+    RUNNING,
+    /** All the schemas of the catalog are imported. */
+    SUCCEEDED,
+    /** The import was stopped by an error, it can be resumed by starting a new import. */
+    FAILED
+  }
+
+  private final NameIdentifier catalogIdent;
+
+  private final long startTime;
+
+  // The schemas whose tables are all imported, a resumed import skips them.
+  private final Set<String> completedSchemas = ConcurrentHashMap.newKeySet();
+
+  private final AtomicLong totalSchemas = new AtomicLong();
+  private final AtomicLong scannedTables = new AtomicLong();
+  private final AtomicLong importedTables = new AtomicLong();
+  private final AtomicLong skippedTables = new AtomicLong();
+  private final AtomicLong failedTables = new AtomicLong();
+
+  private volatile Status status = Status.RUNNING;
+  private volatile long endTime;
+  private volatile String errorMessage;
+
+  CatalogImportJob(NameIdentifier catalogIdent, Set<String> completedSchemas) {
+    this.catalogIdent = catalogIdent;
+    this.completedSchemas.addAll(completedSchemas);
+    this.startTime = System.currentTimeMillis();
+  }
+
+  /** @return The identifier of the imported catalog. */
+  public NameIdentifier catalogIdent() {
+    return catalogIdent;
+  }
+
+  /** @return The status of the import. */
+  public Status status() {
+    return status;
+  }
+
+  /** @return The time in milliseconds when the import started. */
+  public long startTime() {
+    return startTime;
+  }
+
+  /** @return The time in milliseconds when the import ended, or 0 if it is still running. */
+  public long endTime() {
+    return endTime;
+  }
+
+  /** @return The error message if the import failed, otherwise null. */
+  public String errorMessage() {
+    return errorMessage;
+  }
+
+  /** @return The number of schemas in the catalog. */
+  public long totalSchemas() {
+    return totalSchemas.get();
+  }
+
+  /** @return The number of schemas whose tables are all imported. */
+  public long importedSchemas() {
+    return completedSchemas.size();
+  }
+
+  /** @return The number of tables listed from the catalog. */
+  public long scannedTables() {
+    return scannedTables.get();
+  }
+
+  /** @return The number of tables imported into the entity store. */
+  public long importedTables() {
+    return importedTables.get();
+  }
+
+  /** @return The number of tables skipped because they were already imported. */
+  public long skippedTables() {
+    return skippedTables.get();
+  }
+
+  /** @return The number of tables failed to import. */
+  public long failedTables() {
+    return failedTables.get();
+  }
+
+  Set<String> completedSchemas() {
+    return ImmutableSet.copyOf(completedSchemas);
+  }
+
+  boolean isSchemaCompleted(String schema) {
+    return completedSchemas.contains(schema);
+  }
+
+  void completeSchema(String schema) {
+    completedSchemas.add(schema);
+  }
+
+  void setTotalSchemas(long count) {
+    totalSchemas.set(count);
+  }
+
+  void addScannedTables(long count) {
+    scannedTables.addAndGet(count);
+  }
+
+  void addImportedTables(long count) {
+    importedTables.addAndGet(count);
+  }
+
+  void addSkippedTables(long count) {
+    skippedTables.addAndGet(count);
+  }
+
+  void addFailedTables(long count) {
+    failedTables.addAndGet(count);
+  }
+
+  void succeed() {
+    this.endTime = System.currentTimeMillis();
+    this.status = Status.SUCCEEDED;
+  }
+
+  void fail(String errorMessage) {
+    this.errorMessage = errorMessage;
+    this.endTime = System.currentTimeMillis();
+    this.status = Status.FAILED;
+  }
+}
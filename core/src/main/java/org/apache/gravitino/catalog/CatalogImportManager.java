@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports all the schemas and tables of a catalog into the entity store in the background, instead
+ * of importing them one by one when they are loaded for the first time. The tables are loaded from
+ * the catalog in parallel and stored in batches, each batch in one transaction.
+ *
+ * <p>An import skips the tables already in the entity store, and an import started after a failed
+ * one also skips the schemas completed by the failed one, so a failed import can be resumed by
+ * starting it again.
+ *
+ * <p>The imports run in background threads as the user who started them. The state of the imports
+ * is kept in the memory of the server only, so it is lost when the server restarts, and a server
+ * doesn't know the imports started by the other servers.
+ */
+public class CatalogImportManager implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogImportManager.class);
+
+  private final SchemaDispatcher schemaDispatcher;
+
+  private final TableOperationDispatcher tableOperationDispatcher;
+
+  private final EntityStore store;
+
+  private final int batchSize;
+
+  // Runs the imports, one thread per running import.
+  private final ExecutorService jobExecutor;
+
+  // Loads the tables from the catalogs, shared by all the running imports.
+  private final ExecutorService loadExecutor;
+
+  private final Map<NameIdentifier, CatalogImportJob> jobs = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new CatalogImportManager instance.
+   *
+   * @param config The configuration of the server.
+   * @param schemaDispatcher The dispatcher to load and import the schemas.
+   * @param tableOperationDispatcher The dispatcher to list and load the tables.
+   * @param store The entity store to store the imported tables.
+   */
+  public CatalogImportManager(
+      Config config,
+      SchemaDispatcher schemaDispatcher,
+      TableOperationDispatcher tableOperationDispatcher,
+      EntityStore store) {
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableOperationDispatcher = tableOperationDispatcher;
+    this.store = store;
+    this.batchSize = config.get(Configs.CATALOG_IMPORT_BATCH_SIZE);
+    this.jobExecutor =
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("catalog-import-job-%d")
+                .build());
+    this.loadExecutor =
+        Executors.newFixedThreadPool(
+            config.get(Configs.CATALOG_IMPORT_THREADS),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("catalog-import-loader-%d")
+                .build());
+  }
+
+  /**
+   * Starts to import the schemas and tables of the catalog. If an import of the catalog is already
+   * running, the running one is returned.
+   *
+   * @param catalogIdent The identifier of the catalog to import.
+   * @return The import of the catalog.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  public CatalogImportJob importCatalog(NameIdentifier catalogIdent)
+      throws NoSuchCatalogException {
+    NameIdentifier[] schemas =
+        schemaDispatcher.listSchemas(
+            NamespaceUtil.ofSchema(catalogIdent.namespace().level(0), catalogIdent.name()));
+
+    CatalogImportJob[] started = new CatalogImportJob[1];
+    CatalogImportJob job =
+        jobs.compute(
+            catalogIdent,
+            (ident, previous) -> {
+              if (previous != null && previous.status() == CatalogImportJob.Status.RUNNING) {
+                return previous;
+              }
+
+              Set<String> completedSchemas =
+                  previous != null && previous.status() == CatalogImportJob.Status.FAILED
+                      ? previous.completedSchemas()
+                      : Collections.emptySet();
+              started[0] = new CatalogImportJob(ident, completedSchemas);
+              return started[0];
+            });
+
+    if (started[0] != null) {
+      Principal principal = PrincipalUtils.getCurrentPrincipal();
+      jobExecutor.execute(() -> runImport(started[0], schemas, principal));
+    }
+    return job;
+  }
+
+  /**
+   * Gets the latest import of the catalog.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @return The latest import of the catalog, or null if the catalog was never imported since the
+   *     server started.
+   */
+  public CatalogImportJob getImportJob(NameIdentifier catalogIdent) {
+    return jobs.get(catalogIdent);
+  }
+
+  @Override
+  public void close() {
+    jobExecutor.shutdownNow();
+    loadExecutor.shutdownNow();
+  }
+
+  @VisibleForTesting
+  void runImport(CatalogImportJob job, NameIdentifier[] schemas, Principal principal) {
+    LOG.info(
+        "Start to import catalog {} with {} schemas as {}",
+        job.catalogIdent(),
+        schemas.length,
+        principal.getName());
+    job.setTotalSchemas(schemas.length);
+    try {
+      // Runs as the user who started the import, the imported entities are audited with the user.
+      PrincipalUtils.doAs(principal, () -> importSchemas(job, schemas, principal));
+      job.succeed();
+      LOG.info(
+          "Catalog {} is imported, {} tables imported, {} tables skipped, {} tables failed",
+          job.catalogIdent(),
+          job.importedTables(),
+          job.skippedTables(),
+          job.failedTables());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      job.fail("The import is interrupted");
+    } catch (Exception e) {
+      LOG.warn("Failed to import catalog {}", job.catalogIdent(), e);
+      job.fail(e.getMessage());
+    }
+  }
+
+  private Void importSchemas(CatalogImportJob job, NameIdentifier[] schemas, Principal principal)
+      throws IOException, InterruptedException {
+    for (NameIdentifier schemaIdent : schemas) {
+      if (job.isSchemaCompleted(schemaIdent.name())) {
+        continue;
+      }
+
+      importSchema(job, schemaIdent, principal);
+      job.completeSchema(schemaIdent.name());
+    }
+    return null;
+  }
+
+  private void importSchema(CatalogImportJob job, NameIdentifier schemaIdent, Principal principal)
+      throws IOException, InterruptedException {
+    // Loading the schema imports it if it is not imported yet.
+    schemaDispatcher.loadSchema(schemaIdent);
+
+    Namespace tableNamespace =
+        NamespaceUtil.ofTable(
+            schemaIdent.namespace().level(0),
+            schemaIdent.namespace().level(1),
+            schemaIdent.name());
+    NameIdentifier[] tables = tableOperationDispatcher.listTables(tableNamespace);
+    job.addScannedTables(tables.length);
+
+    Set<String> importedNames =
+        store.list(tableNamespace, TableEntity.class, TABLE).stream()
+            .map(TableEntity::name)
+            .collect(Collectors.toSet());
+    List<NameIdentifier> missingTables =
+        Arrays.stream(tables)
+            .filter(ident -> !importedNames.contains(ident.name()))
+            .collect(Collectors.toList());
+    job.addSkippedTables(tables.length - missingTables.size());
+
+    for (List<NameIdentifier> batch : Lists.partition(missingTables, batchSize)) {
+      List<Future<TableEntity>> futures = new ArrayList<>(batch.size());
+      for (NameIdentifier ident : batch) {
+        futures.add(
+            loadExecutor.submit(
+                () ->
+                    PrincipalUtils.doAs(
+                        principal, () -> tableOperationDispatcher.loadTableToImport(ident))));
+      }
+
+      List<TableEntity> entities = new ArrayList<>(batch.size());
+      for (int i = 0; i < batch.size(); i++) {
+        try {
+          TableEntity entity = futures.get(i).get();
+          if (entity == null) {
+            job.addSkippedTables(1);
+          } else {
+            entities.add(entity);
+          }
+        } catch (ExecutionException e) {
+          LOG.warn("Failed to load table {} to import", batch.get(i), e.getCause());
+          job.addFailedTables(1);
+        }
+      }
+
+      if (!entities.isEmpty()) {
+        TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> storeTables(job, entities));
+      }
+    }
+  }
+
+  private Void storeTables(CatalogImportJob job, List<TableEntity> entities) throws IOException {
+    try {
+      store.batchPut(entities);
+      job.addImportedTables(entities.size());
+      return null;
+    } catch (EntityAlreadyExistsException e) {
+      // Some tables are imported concurrently, or renamed by the external systems, store the
+      // tables one by one to import the others.
+      LOG.debug("Failed to store {} tables in batch, store them one by one", entities.size(), e);
+    }
+
+    for (TableEntity entity : entities) {
+      if (store.exists(entity.nameIdentifier(), TABLE)) {
+        job.addSkippedTables(1);
+        continue;
+      }
+
+      try {
+        store.put(entity, true);
+        job.addImportedTables(1);
+      } catch (EntityAlreadyExistsException e) {
+        LOG.warn(
+            "Failed to import table {}, it may be managed by multiple catalogs",
+            entity.nameIdentifier());
+        job.addFailedTables(1);
+      }
+    }
+    return null;
+  }
+}
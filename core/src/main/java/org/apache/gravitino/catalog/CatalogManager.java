@@ -32,6 +32,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -76,6 +77,7 @@ import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.PropertyEntry;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.connector.authorization.BaseAuthorization;
@@ -260,10 +262,60 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
   }
 
+  /**
+   * The catalog properties metadata needed to resolve the properties of a catalog, extracted from
+   * a loaded catalog instance. It only holds plain Java objects, so it can be used after the class
+   * loader of the catalog is closed.
+   */
+  @VisibleForTesting
+  static class CatalogPropertiesInfo {
+
+    private final Set<String> hiddenPropertyNames;
+
+    private final String defaultInUseValue;
+
+    private CatalogPropertiesInfo(Set<String> hiddenPropertyNames, String defaultInUseValue) {
+      this.hiddenPropertyNames = hiddenPropertyNames;
+      this.defaultInUseValue = defaultInUseValue;
+    }
+
+    static CatalogPropertiesInfo of(BaseCatalog<?> catalog) {
+      PropertiesMetadata metadata = catalog.catalogPropertiesMetadata();
+      Set<String> hiddenPropertyNames =
+          metadata.propertyEntries().values().stream()
+              .filter(PropertyEntry::isHidden)
+              .map(PropertyEntry::getName)
+              .collect(Collectors.toSet());
+      return new CatalogPropertiesInfo(
+          Collections.unmodifiableSet(hiddenPropertyNames),
+          metadata.getDefaultValue(PROPERTY_IN_USE).toString());
+    }
+
+    /**
+     * Resolves the properties of the catalog entity the same way as {@link
+     * BaseCatalog#properties()}: filters out the hidden properties and adds the required default
+     * properties.
+     */
+    Map<String, String> resolve(CatalogEntity entity) {
+      Map<String, String> properties =
+          Maps.newHashMap(Optional.ofNullable(entity.getProperties()).orElse(ImmutableMap.of()));
+      properties.keySet().removeIf(hiddenPropertyNames::contains);
+      properties.putIfAbsent(PROPERTY_IN_USE, defaultInUseValue);
+      return properties;
+    }
+  }
+
   private final Config config;
 
   @VisibleForTesting static Cache<NameIdentifier, CatalogWrapper> catalogCache;
 
+  /**
+   * Caches the properties info per catalog provider and package, so that listing catalogs doesn't
+   * need to build a class loader and load the catalog classes for every catalog.
+   */
+  @VisibleForTesting
+  static Cache<Pair<String, String>, CatalogPropertiesInfo> catalogPropertiesInfoCache;
+
   private final EntityStore store;
 
   private final IdGenerator idGenerator;
@@ -298,6 +350,10 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                             .setNameFormat("catalog-cleaner-%d")
                             .build())))
             .build();
+    catalogPropertiesInfoCache =
+        Caffeine.newBuilder()
+            .expireAfterAccess(cacheEvictionIntervalInMs, TimeUnit.MILLISECONDS)
+            .build();
   }
 
   /**
@@ -307,6 +363,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   @Override
   public void close() {
     catalogCache.invalidateAll();
+    catalogPropertiesInfoCache.invalidateAll();
   }
 
   /**
@@ -337,6 +394,30 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
         });
   }
 
+  @Override
+  public NameIdentifier[] listCatalogs(Namespace namespace, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    NameIdentifier metalakeIdent = NameIdentifier.of(namespace.levels());
+
+    return TreeLockUtils.doWithTreeLock(
+        metalakeIdent,
+        LockType.READ,
+        () -> {
+          checkMetalake(metalakeIdent, store);
+          try {
+            List<CatalogEntity> catalogs =
+                store.list(namespace, CatalogEntity.class, EntityType.CATALOG, startAfter, limit);
+            return catalogs.stream()
+                .map(entity -> NameIdentifier.of(namespace, entity.name()))
+                .toArray(NameIdentifier[]::new);
+
+          } catch (IOException ioe) {
+            LOG.error("Failed to list catalogs in metalake {}", metalakeIdent, ioe);
+            throw new RuntimeException(ioe);
+          }
+        });
+  }
+
   @Override
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
     NameIdentifier metalakeIdent = NameIdentifier.of(namespace.levels());
@@ -960,6 +1041,13 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
           // so that AppClassLoader can get the value of properties.
           wrapper.catalog.properties();
           wrapper.catalog.capability();
+
+          // The catalog classes are already loaded here, cache the properties info to avoid
+          // loading them again when resolving the properties of other catalogs of this provider.
+          catalogPropertiesInfoCache
+              .asMap()
+              .computeIfAbsent(
+                  propertiesInfoKey(entity), k -> CatalogPropertiesInfo.of(wrapper.catalog));
           return null;
         },
         IllegalArgumentException.class);
@@ -975,31 +1063,32 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
    * @return The resolved properties.
    */
   private Map<String, String> getResolvedProperties(CatalogEntity entity) {
-    Map<String, String> conf = entity.getProperties();
-    String provider = entity.getProvider();
-
-    try (IsolatedClassLoader classLoader = createClassLoader(provider, conf)) {
-      BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
-      return classLoader.withClassLoader(cl -> catalog.properties(), RuntimeException.class);
-    }
+    return catalogPropertiesInfoCache
+        .get(propertiesInfoKey(entity), k -> loadCatalogPropertiesInfo(entity))
+        .resolve(entity);
   }
 
-  private Set<String> getHiddenPropertyNames(CatalogEntity entity) {
-    Map<String, String> conf = entity.getProperties();
+  private CatalogPropertiesInfo loadCatalogPropertiesInfo(CatalogEntity entity) {
     String provider = entity.getProvider();
-
-    try (IsolatedClassLoader classLoader = createClassLoader(provider, conf)) {
-      BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
+    try (IsolatedClassLoader classLoader = createClassLoader(provider, entity.getProperties())) {
+      // Only the properties metadata is needed, so there is no need to initialize the catalog
+      // or its authorization plugin.
+      BaseCatalog<?> catalog = createCatalogInstance(classLoader, provider);
       return classLoader.withClassLoader(
-          cl ->
-              catalog.catalogPropertiesMetadata().propertyEntries().values().stream()
-                  .filter(PropertyEntry::isHidden)
-                  .map(PropertyEntry::getName)
-                  .collect(Collectors.toSet()),
-          RuntimeException.class);
+          cl -> CatalogPropertiesInfo.of(catalog), RuntimeException.class);
     }
   }
 
+  /**
+   * The catalog properties metadata is defined by the catalog implementation, which is determined
+   * by the provider and the package the catalog is loaded from.
+   */
+  private static Pair<String, String> propertiesInfoKey(CatalogEntity entity) {
+    Map<String, String> properties = entity.getProperties();
+    String pkg = properties == null ? null : properties.get(Catalog.PROPERTY_PACKAGE);
+    return Pair.of(entity.getProvider(), pkg);
+  }
+
   private BaseCatalog<?> createBaseCatalog(IsolatedClassLoader classLoader, CatalogEntity entity) {
     // Load Catalog class instance
     BaseCatalog<?> catalog = createCatalogInstance(classLoader, entity.getProvider());
@@ -70,6 +70,19 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 NoSuchSchemaException.class));
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithFilesetOps(f -> f.listFilesets(namespace, startAfter, limit)),
+                NoSuchSchemaException.class));
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -88,6 +88,23 @@ public abstract class ManagedSchemaOperations implements SupportsSchemas {
     }
   }
 
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    try {
+      List<SchemaEntity> schemas =
+          store().list(namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, startAfter, limit);
+      return schemas.stream()
+          .map(s -> NameIdentifier.of(namespace, s.name()))
+          .toArray(NameIdentifier[]::new);
+
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchCatalogException(e, "Catalog %s does not exist", namespace);
+    } catch (IOException ioe) {
+      throw new RuntimeException("Failed to list schemas under namespace " + namespace, ioe);
+    }
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
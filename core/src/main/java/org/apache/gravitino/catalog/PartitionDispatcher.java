@@ -47,6 +47,32 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List the names of the partitions matching the filter in the table, ordered by partition name
+   * and starting after the given partition name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter of the partitions, or null to list all the partitions.
+   * @param startAfter The partition name to start after, or null to start from the first one.
+   * @param limit The maximum number of partition names to return.
+   * @return The names of the partitions.
+   */
+  String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit);
+
+  /**
+   * List the partitions matching the filter in the table, ordered by partition name and starting
+   * after the given partition name.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter of the partitions, or null to list all the partitions.
+   * @param startAfter The partition name to start after, or null to start from the first one.
+   * @param limit The maximum number of partitions to return.
+   * @return The list of partitions.
+   */
+  Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit);
+
   /**
    * Get a partition by name from the table.
    *
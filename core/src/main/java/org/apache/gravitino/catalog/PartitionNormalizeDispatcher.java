@@ -61,6 +61,40 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    String[] partitionNames =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            startAfter == null
+                ? null
+                : applyCaseSensitiveOnName(Capability.Scope.PARTITION, startAfter, capabilities),
+            limit);
+    return Arrays.stream(partitionNames)
+        .map(
+            partitionName ->
+                applyCaseSensitiveOnName(Capability.Scope.PARTITION, partitionName, capabilities))
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Partition[] partitions =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            startAfter == null
+                ? null
+                : applyCaseSensitiveOnName(Capability.Scope.PARTITION, startAfter, capabilities),
+            limit);
+    return applyCaseSensitive(partitions, capabilities);
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
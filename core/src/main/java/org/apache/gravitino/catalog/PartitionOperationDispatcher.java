@@ -64,6 +64,32 @@ public class PartitionOperationDispatcher extends OperationDispatcher
                 tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class));
   }
 
+  @Override
+  public String[] listPartitionNames(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitionNames(filter, startAfter, limit),
+                NoSuchTableException.class));
+  }
+
+  @Override
+  public Partition[] listPartitions(
+      NameIdentifier tableIdent, String filter, String startAfter, int limit) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitions(filter, startAfter, limit),
+                NoSuchTableException.class));
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
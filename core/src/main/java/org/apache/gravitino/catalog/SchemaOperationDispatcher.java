@@ -83,6 +83,30 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
                 NoSuchCatalogException.class));
   }
 
+  /**
+   * Lists the schemas within the specified namespace, ordered by schema name and starting after
+   * the given schema name.
+   *
+   * @param namespace The namespace in which to list schemas.
+   * @param startAfter The schema name to start after, or null to start from the first one.
+   * @param limit The maximum number of schemas to return.
+   * @return An array of NameIdentifier objects representing the schemas within the specified
+   *     namespace.
+   * @throws NoSuchCatalogException If the catalog namespace does not exist.
+   */
+  @Override
+  public NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithSchemaOps(s -> s.listSchemas(namespace, startAfter, limit)),
+                NoSuchCatalogException.class));
+  }
+
   /**
    * Creates a new schema.
    *
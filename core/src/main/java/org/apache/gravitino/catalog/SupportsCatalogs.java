@@ -48,6 +48,19 @@ public interface SupportsCatalogs {
    */
   NameIdentifier[] listCatalogs(Namespace namespace) throws NoSuchMetalakeException;
 
+  /**
+   * List the catalogs in the metalake under the namespace {@link Namespace}, ordered by catalog
+   * name and starting after the given catalog name.
+   *
+   * @param namespace The namespace to list the catalogs under it.
+   * @param startAfter The catalog name to start after, or null to start from the first one.
+   * @param limit The maximum number of catalogs to return.
+   * @return The list of catalog's name identifiers.
+   * @throws NoSuchMetalakeException If the metalake with namespace does not exist.
+   */
+  NameIdentifier[] listCatalogs(Namespace namespace, String startAfter, int limit)
+      throws NoSuchMetalakeException;
+
   /**
    * List all catalogs with their information in the metalake under the namespace {@link Namespace}.
    *
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.utils.PrincipalUtils;
+
+/**
+ * Loads multiple tables in parallel, so that a client resolving many tables, like a query engine
+ * planning a query, costs one request instead of one request per table. Each table is loaded
+ * through the table dispatcher as the current user, and the failure of a table doesn't fail the
+ * others.
+ */
+public class TableBatchLoader implements Closeable {
+
+  private final TableDispatcher dispatcher;
+
+  // Loads the tables, shared by all the batch load requests.
+  private final ExecutorService loadExecutor;
+
+  /**
+   * Creates a new TableBatchLoader instance.
+   *
+   * @param dispatcher The dispatcher to load the tables.
+   * @param threads The number of threads to load the tables.
+   */
+  public TableBatchLoader(TableDispatcher dispatcher, int threads) {
+    this.dispatcher = dispatcher;
+    this.loadExecutor =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("table-batch-loader-%d")
+                .build());
+  }
+
+  /**
+   * Loads the tables in parallel as the current user.
+   *
+   * @param idents The identifiers of the tables to load.
+   * @return The results of the tables, in the order of the given identifiers.
+   */
+  public List<Result> loadTables(List<NameIdentifier> idents) {
+    Principal principal = PrincipalUtils.getCurrentPrincipal();
+    List<Future<Table>> futures = new ArrayList<>(idents.size());
+    // The first table is loaded by the calling thread, which would wait for the others anyway.
+    for (int i = 1; i < idents.size(); i++) {
+      NameIdentifier ident = idents.get(i);
+      futures.add(
+          loadExecutor.submit(
+              () -> PrincipalUtils.doAs(principal, () -> dispatcher.loadTable(ident))));
+    }
+
+    List<Result> results = new ArrayList<>(idents.size());
+    if (!idents.isEmpty()) {
+      results.add(load(idents.get(0)));
+    }
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        results.add(Result.ofTable(futures.get(i).get()));
+      } catch (ExecutionException e) {
+        results.add(Result.ofError(toException(e.getCause())));
+      } catch (InterruptedException e) {
+        futures.forEach(future -> future.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while loading the tables", e);
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public void close() {
+    loadExecutor.shutdownNow();
+  }
+
+  private Result load(NameIdentifier ident) {
+    try {
+      return Result.ofTable(dispatcher.loadTable(ident));
+    } catch (Exception e) {
+      return Result.ofError(e);
+    }
+  }
+
+  private static Exception toException(Throwable throwable) {
+    return throwable instanceof Exception
+        ? (Exception) throwable
+        : new RuntimeException(throwable.getMessage(), throwable);
+  }
+
+  /** The result of loading a table, either the loaded table or the failure. */
+  public static class Result {
+    private final Table table;
+    private final Exception error;
+
+    private Result(Table table, Exception error) {
+      this.table = table;
+      this.error = error;
+    }
+
+    private static Result ofTable(Table table) {
+      return new Result(table, null);
+    }
+
+    private static Result ofError(Exception error) {
+      return new Result(null, error);
+    }
+
+    /** @return The loaded table, or null if the table failed to load. */
+    public Table table() {
+      return table;
+    }
+
+    /** @return The failure of loading the table, or null if the table is loaded. */
+    public Exception error() {
+      return error;
+    }
+  }
+}
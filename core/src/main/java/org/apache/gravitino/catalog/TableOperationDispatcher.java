@@ -379,6 +379,20 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         });
   }
 
+  /**
+   * Loads a table from the catalog and builds the entity to import it into the store, without
+   * storing it. This is used by the bulk import to store the entities of many tables in batch.
+   *
+   * @param ident The identifier of the table to load.
+   * @return The table entity to import, or null if the table is already imported.
+   * @throws NoSuchTableException If the specified table does not exist.
+   */
+  public TableEntity loadTableToImport(NameIdentifier ident) throws NoSuchTableException {
+    EntityCombinedTable table =
+        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+    return table.imported() ? null : toImportedTableEntity(ident, table);
+  }
+
   private EntityCombinedTable importTable(NameIdentifier identifier) {
     EntityCombinedTable table = internalLoadTable(identifier);
 
@@ -386,6 +400,29 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       return table;
     }
 
+    TableEntity tableEntity = toImportedTableEntity(identifier, table);
+    try {
+      store.put(tableEntity, true);
+    } catch (EntityAlreadyExistsException e) {
+      LOG.error(
+          "Failed to import table {} with id {} to the store.", identifier, tableEntity.id(), e);
+      throw new UnsupportedOperationException(
+          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
+              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
+      throw new RuntimeException("Fail to import the table entity to the store.", e);
+    }
+
+    return EntityCombinedTable.of(table.tableFromCatalog(), tableEntity)
+        .withHiddenProperties(
+            getHiddenPropertyNames(
+                getCatalogIdentifier(identifier),
+                HasPropertyMetadata::tablePropertiesMetadata,
+                table.tableFromCatalog().properties()));
+  }
+
+  private TableEntity toImportedTableEntity(NameIdentifier identifier, EntityCombinedTable table) {
     StringIdentifier stringId = null;
     try {
       stringId = table.stringIdentifier();
@@ -417,32 +454,13 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             .build();
     List<ColumnEntity> columnEntityList =
         toColumnEntities(table.tableFromCatalog().columns(), audit);
-    TableEntity tableEntity =
-        TableEntity.builder()
-            .withId(uid)
-            .withName(identifier.name())
-            .withNamespace(identifier.namespace())
-            .withColumns(columnEntityList)
-            .withAuditInfo(audit)
-            .build();
-    try {
-      store.put(tableEntity, true);
-    } catch (EntityAlreadyExistsException e) {
-      LOG.error("Failed to import table {} with id {} to the store.", identifier, uid, e);
-      throw new UnsupportedOperationException(
-          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
-              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
-    } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
-      throw new RuntimeException("Fail to import the table entity to the store.", e);
-    }
-
-    return EntityCombinedTable.of(table.tableFromCatalog(), tableEntity)
-        .withHiddenProperties(
-            getHiddenPropertyNames(
-                getCatalogIdentifier(identifier),
-                HasPropertyMetadata::tablePropertiesMetadata,
-                table.tableFromCatalog().properties()));
+    return TableEntity.builder()
+        .withId(uid)
+        .withName(identifier.name())
+        .withNamespace(identifier.namespace())
+        .withColumns(columnEntityList)
+        .withAuditInfo(audit)
+        .build();
   }
 
   private EntityCombinedTable internalLoadTable(NameIdentifier ident) {
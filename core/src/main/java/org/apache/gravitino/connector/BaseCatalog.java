@@ -256,7 +256,8 @@ public abstract class BaseCatalog<T extends BaseCatalog>
     if (catalogCredentialManager == null) {
       synchronized (this) {
         if (catalogCredentialManager == null) {
-          this.catalogCredentialManager = new CatalogCredentialManager(name(), properties());
+          this.catalogCredentialManager =
+              new CatalogCredentialManager(entity.namespace().level(0), name(), properties());
         }
       }
     }
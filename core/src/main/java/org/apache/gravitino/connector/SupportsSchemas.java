@@ -20,6 +20,9 @@
 
 package org.apache.gravitino.connector;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -51,6 +54,27 @@ public interface SupportsSchemas {
    */
   NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException;
 
+  /**
+   * List schemas under a namespace, ordered by schema name and starting after the given schema
+   * name. The default implementation pages over the full listing, the catalogs which can seek to
+   * the start name should override it.
+   *
+   * @param namespace The namespace to list.
+   * @param startAfter The schema name to start after, or null to start from the first one.
+   * @param limit The maximum number of schemas to return.
+   * @return An array of schema identifier under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default NameIdentifier[] listSchemas(Namespace namespace, String startAfter, int limit)
+      throws NoSuchCatalogException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    return Arrays.stream(listSchemas(namespace))
+        .filter(ident -> startAfter == null || ident.name().compareTo(startAfter) > 0)
+        .sorted(Comparator.comparing(NameIdentifier::name))
+        .limit(limit)
+        .toArray(NameIdentifier[]::new);
+  }
+
   /**
    * Check if a schema exists.
    *
@@ -23,6 +23,10 @@ import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CredentialCacheMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,15 +39,42 @@ public class CatalogCredentialManager implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(CatalogCredentialManager.class);
 
   private final CredentialCache<CredentialCacheKey> credentialCache;
+  private CredentialCacheMetricsSource credentialCacheMetricsSource;
 
   private final String catalogName;
   private final Map<String, CredentialProvider> credentialProviders;
 
+  /**
+   * Creates the credential manager of a catalog not in a metalake, like an Iceberg REST catalog.
+   *
+   * @param catalogName The name of the catalog.
+   * @param catalogProperties The properties of the catalog.
+   */
   public CatalogCredentialManager(String catalogName, Map<String, String> catalogProperties) {
+    this(null, catalogName, catalogProperties);
+  }
+
+  /**
+   * Creates the credential manager of a catalog.
+   *
+   * @param metalakeName The name of the metalake of the catalog, null if it is not in a metalake.
+   * @param catalogName The name of the catalog.
+   * @param catalogProperties The properties of the catalog.
+   */
+  public CatalogCredentialManager(
+      @Nullable String metalakeName, String catalogName, Map<String, String> catalogProperties) {
     this.catalogName = catalogName;
     this.credentialProviders = CredentialUtils.loadCredentialProviders(catalogProperties);
     this.credentialCache = new CredentialCache();
     credentialCache.initialize(catalogProperties);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics system could be null in UT.
+    if (metricsSystem != null) {
+      this.credentialCacheMetricsSource =
+          new CredentialCacheMetricsSource(metalakeName, catalogName, credentialCache);
+      metricsSystem.register(credentialCacheMetricsSource);
+    }
   }
 
   public Credential getCredential(String credentialType, CredentialContext context) {
@@ -78,6 +109,10 @@ public class CatalogCredentialManager implements Closeable {
                     e);
               }
             });
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && credentialCacheMetricsSource != null) {
+      metricsSystem.unregister(credentialCacheMetricsSource);
+    }
     try {
       credentialCache.close();
     } catch (IOException e) {
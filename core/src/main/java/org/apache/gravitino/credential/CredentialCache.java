@@ -22,80 +22,226 @@ package org.apache.gravitino.credential;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import org.apache.gravitino.credential.config.CredentialConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Caches the credentials until a ratio of their expiration time. The credential of a cache key is
+ * loaded by only one request at a time, the concurrent requests of the same key wait for it. A
+ * cached credential is refreshed in background once a ratio of its cache time has passed, so the
+ * requests keep being served from the cache rather than waiting for the credential provider.
+ */
 public class CredentialCache<T> implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CredentialCache.class);
 
-  // Calculates the credential expire time in the cache.
-  static class CredentialExpireTimeCalculator<T> implements Expiry<T, Credential> {
-
-    private double credentialCacheExpireRatio;
+  // The refresh time of a credential is brought forward by a random ratio up to this value, so the
+  // credentials cached at the same time are not refreshed at the same time.
+  private static final double REFRESH_JITTER_RATIO = 0.1d;
+  private static final int REFRESH_THREAD_NUM = 4;
+  private static final long REFRESH_THREAD_KEEP_ALIVE_SECONDS = 60L;
 
-    public CredentialExpireTimeCalculator(double credentialCacheExpireRatio) {
-      this.credentialCacheExpireRatio = credentialCacheExpireRatio;
-    }
+  // Calculates the credential expire time in the cache.
+  static class CredentialExpireTimeCalculator<T> implements Expiry<T, CachedCredential> {
 
     // Set expire time after add a credential in the cache.
     @Override
-    public long expireAfterCreate(T key, Credential credential, long currentTime) {
-      long credentialExpireTime = credential.expireTimeInMs();
-      long timeToExpire = credentialExpireTime - System.currentTimeMillis();
+    public long expireAfterCreate(T key, CachedCredential cachedCredential, long currentTime) {
+      long timeToExpire = cachedCredential.expireAtMillis - System.currentTimeMillis();
       if (timeToExpire <= 0) {
         return 0;
       }
-
-      timeToExpire = (long) (timeToExpire * credentialCacheExpireRatio);
       return TimeUnit.MILLISECONDS.toNanos(timeToExpire);
     }
 
-    // Not change expire time after update credential, this should not happen.
+    // Reset expire time after the credential is refreshed.
     @Override
-    public long expireAfterUpdate(T key, Credential value, long currentTime, long currentDuration) {
-      return currentDuration;
+    public long expireAfterUpdate(
+        T key, CachedCredential cachedCredential, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, cachedCredential, currentTime);
     }
 
     // Not change expire time after read credential.
     @Override
-    public long expireAfterRead(T key, Credential value, long currentTime, long currentDuration) {
+    public long expireAfterRead(
+        T key, CachedCredential cachedCredential, long currentTime, long currentDuration) {
       return currentDuration;
     }
   }
 
-  private Cache<T, Credential> credentialCache;
+  static class CachedCredential {
+    private final Credential credential;
+    private final long expireAtMillis;
+    private final long refreshAtMillis;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    CachedCredential(Credential credential, double expireRatio, double refreshRatio) {
+      this.credential = credential;
+      long currentTime = System.currentTimeMillis();
+      long cacheTime =
+          (long) (Math.max(0, credential.expireTimeInMs() - currentTime) * expireRatio);
+      this.expireAtMillis = currentTime + cacheTime;
+      if (refreshRatio >= 1) {
+        this.refreshAtMillis = Long.MAX_VALUE;
+      } else {
+        double jitter = ThreadLocalRandom.current().nextDouble(REFRESH_JITTER_RATIO);
+        this.refreshAtMillis = currentTime + (long) (cacheTime * refreshRatio * (1 - jitter));
+      }
+    }
+
+    // Only one of the requests after the refresh time triggers the refresh.
+    private boolean startRefresh() {
+      return System.currentTimeMillis() >= refreshAtMillis && refreshing.compareAndSet(false, true);
+    }
+  }
+
+  private Cache<T, CachedCredential> credentialCache;
+  private ThreadPoolExecutor refreshExecutor;
+  private double cacheExpireRatio;
+  private double cacheRefreshRatio;
+  private final LongAdder refreshCount = new LongAdder();
+  private volatile boolean closed = false;
+  private volatile LongConsumer loadLatencyListener = latencyMs -> {};
 
   public void initialize(Map<String, String> catalogProperties) {
     CredentialConfig credentialConfig = new CredentialConfig(catalogProperties);
     long cacheSize = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_MAX_SIZE);
-    double cacheExpireRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_EXPIRE_RATIO);
+    this.cacheExpireRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_EXPIRE_RATIO);
+    this.cacheRefreshRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_REFRESH_RATIO);
 
     this.credentialCache =
         Caffeine.newBuilder()
-            .expireAfter(new CredentialExpireTimeCalculator(cacheExpireRatio))
+            .expireAfter(new CredentialExpireTimeCalculator<T>())
             .maximumSize(cacheSize)
+            .recordStats()
             .removalListener(
                 (cacheKey, credential, c) ->
                     LOG.debug("Credential expire, cache key: {}.", cacheKey))
             .build();
+    this.refreshExecutor =
+        new ThreadPoolExecutor(
+            REFRESH_THREAD_NUM,
+            REFRESH_THREAD_NUM,
+            REFRESH_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("credential-cache-refresh-%d")
+                .build());
+    refreshExecutor.allowCoreThreadTimeOut(true);
   }
 
   public Credential getCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
-    return credentialCache.get(cacheKey, key -> credentialSupplier.apply(cacheKey));
+    CachedCredential cachedCredential =
+        credentialCache.get(cacheKey, key -> loadCredential(key, credentialSupplier));
+    if (cachedCredential.startRefresh()) {
+      refreshCredential(cacheKey, cachedCredential, credentialSupplier);
+    }
+    return cachedCredential.credential;
+  }
+
+  /**
+   * Sets the listener of the time in milliseconds spent by the credential provider to load a
+   * credential.
+   *
+   * @param loadLatencyListener The listener of the load latency.
+   */
+  public void setLoadLatencyListener(LongConsumer loadLatencyListener) {
+    this.loadLatencyListener = loadLatencyListener;
+  }
+
+  public long size() {
+    return credentialCache.estimatedSize();
+  }
+
+  public long hitCount() {
+    return stats().hitCount();
+  }
+
+  public long missCount() {
+    return stats().missCount();
+  }
+
+  public long refreshCount() {
+    return refreshCount.sum();
   }
 
   @Override
   public void close() throws IOException {
+    closed = true;
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+    }
     if (credentialCache != null) {
       credentialCache.invalidateAll();
       credentialCache = null;
     }
   }
+
+  private CacheStats stats() {
+    Cache<T, CachedCredential> cache = credentialCache;
+    return cache == null ? CacheStats.empty() : cache.stats();
+  }
+
+  private CachedCredential loadCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
+    long startTime = System.nanoTime();
+    try {
+      Credential credential = credentialSupplier.apply(cacheKey);
+      return new CachedCredential(credential, cacheExpireRatio, cacheRefreshRatio);
+    } finally {
+      loadLatencyListener.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+  }
+
+  private void refreshCredential(
+      T cacheKey, CachedCredential cachedCredential, Function<T, Credential> credentialSupplier) {
+    if (closed) {
+      cachedCredential.refreshing.set(false);
+      return;
+    }
+
+    // The credential providers may be loaded by the class loader of the catalog.
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    Cache<T, CachedCredential> cache = credentialCache;
+    try {
+      refreshExecutor.execute(
+          () -> {
+            Thread currentThread = Thread.currentThread();
+            ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+            currentThread.setContextClassLoader(contextClassLoader);
+            try {
+              CachedCredential refreshedCredential = loadCredential(cacheKey, credentialSupplier);
+              // Only replace the refreshed credential, it may have expired or been invalidated.
+              if (cache.asMap().replace(cacheKey, cachedCredential, refreshedCredential)) {
+                refreshCount.increment();
+              }
+            } catch (Exception e) {
+              LOG.warn("Failed to refresh credential, cache key: {}.", cacheKey, e);
+              // Let the following requests retry the refresh before the credential expires.
+              cachedCredential.refreshing.set(false);
+            } finally {
+              currentThread.setContextClassLoader(originalClassLoader);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // The cache is closed after the check above.
+      cachedCredential.refreshing.set(false);
+    }
+  }
 }
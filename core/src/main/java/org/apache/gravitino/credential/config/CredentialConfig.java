@@ -34,6 +34,7 @@ public class CredentialConfig extends Config {
 
   private static final long DEFAULT_CREDENTIAL_CACHE_MAX_SIZE = 10_000L;
   private static final double DEFAULT_CREDENTIAL_CACHE_EXPIRE_RATIO = 0.15d;
+  private static final double DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO = 0.8d;
 
   public static final Map<String, PropertyEntry<?>> CREDENTIAL_PROPERTY_ENTRIES =
       new ImmutableMap.Builder<String, PropertyEntry<?>>()
@@ -67,6 +68,17 @@ public class CredentialConfig extends Config {
                   DEFAULT_CREDENTIAL_CACHE_MAX_SIZE /* default value */,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+              PropertyEntry.doublePropertyEntry(
+                  CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+                  "Ratio of the credential's cache time when Gravitino refreshes the credential "
+                      + "in background.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
           .build();
 
   public static final ConfigEntry<List<String>> CREDENTIAL_PROVIDERS =
@@ -97,6 +109,19 @@ public class CredentialConfig extends Config {
           .longConf()
           .createWithDefault(DEFAULT_CREDENTIAL_CACHE_MAX_SIZE);
 
+  public static final ConfigEntry<Double> CREDENTIAL_CACHE_REFRESH_RATIO =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO)
+          .doc(
+              "Ratio of the credential's cache time when Gravitino refreshes the credential in "
+                  + "background, 1 disables the background refresh.")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .doubleConf()
+          .checkValue(
+              ratio -> ratio > 0 && ratio <= 1,
+              "Ratio of the credential's cache time should greater than 0 and less than or equal "
+                  + "to 1.")
+          .createWithDefault(DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO);
+
   public CredentialConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
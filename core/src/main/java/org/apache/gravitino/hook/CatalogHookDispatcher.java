@@ -61,6 +61,12 @@ public class CatalogHookDispatcher implements CatalogDispatcher {
     return dispatcher.listCatalogs(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listCatalogs(Namespace namespace, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listCatalogs(namespace, startAfter, limit);
+  }
+
   @Override
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
     return dispatcher.listCatalogsInfo(namespace);
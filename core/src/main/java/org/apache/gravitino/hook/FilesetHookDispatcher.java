@@ -53,6 +53,12 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     return dispatcher.listFilesets(namespace);
   }
 
+  @Override
+  public NameIdentifier[] listFilesets(Namespace namespace, String startAfter, int limit)
+      throws NoSuchSchemaException {
+    return dispatcher.listFilesets(namespace, startAfter, limit);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return dispatcher.loadFileset(ident);
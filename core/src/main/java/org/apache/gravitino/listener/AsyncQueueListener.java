@@ -22,12 +22,16 @@ package org.apache.gravitino.listener;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
@@ -40,19 +44,46 @@ import org.slf4j.LoggerFactory;
  * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
  * contain multi listeners share with one queue and dispatcher thread. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>When more than one dispatcher thread is configured, the listeners are spread over the
+ * dispatchers, each dispatcher owns a queue and serves its listeners in the event order, so the
+ * events are still delivered in order to every listener and a slow listener only delays the
+ * listeners sharing its dispatcher. A dispatcher drains up to {@code batchSize} queued events at a
+ * time and delivers the consecutive post events with {@link EventListenerPlugin#onPostEvents}.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
 
+  /** The policy to apply when an event is dispatched and the queue is full. */
+  public enum OverflowPolicy {
+    /** Drops the incoming event. */
+    DROP_NEWEST,
+    /** Drops the oldest queued event to make room for the incoming event. */
+    DROP_OLDEST,
+    /**
+     * Blocks the operation until there is room in the queue, the incoming event is dropped if the
+     * queue is still full after the timeout.
+     */
+    BLOCK;
+
+    static OverflowPolicy fromString(String policy) {
+      return valueOf(policy.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+  }
+
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<BaseEvent> queue;
-  private final Thread asyncProcessor;
+  private final List<Dispatcher> dispatchers;
   private final int dispatcherJoinSeconds;
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeoutMs;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
+  private volatile Instant lastRecordDropEventTime = Instant.now();
+  private volatile LongConsumer dispatchLatencyListener = latencyMs -> {};
+  private final String name;
   private final String asyncQueueListenerName;
 
   public AsyncQueueListener(
@@ -60,13 +91,47 @@ public class AsyncQueueListener implements EventListenerPlugin {
       String name,
       int queueCapacity,
       int dispatcherJoinSeconds) {
+    this(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        1,
+        1,
+        OverflowPolicy.DROP_NEWEST,
+        0);
+  }
+
+  public AsyncQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int batchSize,
+      OverflowPolicy overflowPolicy,
+      long blockTimeoutMs) {
+    Preconditions.checkArgument(dispatcherThreads > 0, "dispatcherThreads must be positive");
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be positive");
+    this.name = name;
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeoutMs = blockTimeoutMs;
+
+    // Pin every listener to one dispatcher to keep the event order of each listener.
+    int dispatcherNum = Math.max(1, Math.min(dispatcherThreads, listeners.size()));
+    this.dispatchers = new ArrayList<>(dispatcherNum);
+    for (int i = 0; i < dispatcherNum; i++) {
+      String threadName =
+          dispatcherNum == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i;
+      dispatchers.add(new Dispatcher(threadName, queueCapacity));
+    }
+    for (int i = 0; i < listeners.size(); i++) {
+      dispatchers.get(i % dispatcherNum).listeners.add(listeners.get(i));
+    }
   }
 
   @Override
@@ -88,52 +153,63 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    dispatchers.forEach(dispatcher -> dispatcher.thread.start());
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
+    dispatchers.forEach(dispatcher -> dispatcher.thread.interrupt());
     try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
+      long deadline = System.currentTimeMillis() + dispatcherJoinSeconds * 1000L;
+      for (Dispatcher dispatcher : dispatchers) {
+        dispatcher.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+      }
     } catch (InterruptedException e) {
       LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
   }
 
+  /**
+   * Returns the name of the listener, which is the name of the user listener for the isolated
+   * dispatcher, or "default" for the shared dispatcher.
+   *
+   * @return The name of the listener.
+   */
+  public String name() {
+    return name;
+  }
+
+  /** @return The number of the events waiting in the queues. */
+  public int queueSize() {
+    return dispatchers.stream().mapToInt(dispatcher -> dispatcher.queue.size()).sum();
+  }
+
+  /** @return The number of the events dropped because of a full queue. */
+  public long droppedEventCount() {
+    return dropEventCounters.get();
+  }
+
+  /**
+   * Sets the listener notified with the time in milliseconds between the creation of an event and
+   * its delivery to the listeners.
+   *
+   * @param listener The dispatch latency listener.
+   */
+  public void setDispatchLatencyListener(LongConsumer listener) {
+    this.dispatchLatencyListener = listener;
+  }
+
   @VisibleForTesting
   List<EventListenerPlugin> getEventListeners() {
     return this.eventListeners;
   }
 
-  private void processEvents() {
-    while (!Thread.currentThread().isInterrupted()) {
-      try {
-        BaseEvent baseEvent = queue.take();
-        if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
-        } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
-        } else {
-          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
-        }
-      } catch (InterruptedException e) {
-        LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
-        break;
-      } catch (Exception e) {
-        LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
-      }
-    }
-
-    if (!queue.isEmpty()) {
-      LOG.warn(
-          "{} drop {} events since dispatch thread is interrupted",
-          asyncQueueListenerName,
-          queue.size());
-    }
+  @VisibleForTesting
+  int dispatcherNum() {
+    return dispatchers.size();
   }
 
   private void logDropEventsIfNecessary() {
@@ -165,10 +241,124 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(baseEvent)) {
-      return;
+    // The blocking policy shares one deadline over all the queues, so the operation is blocked at
+    // most blockTimeoutMs no matter how many dispatchers there are.
+    long deadline = System.currentTimeMillis() + blockTimeoutMs;
+    for (Dispatcher dispatcher : dispatchers) {
+      if (!offer(dispatcher.queue, baseEvent, deadline)) {
+        logDropEventsIfNecessary();
+      }
+    }
+  }
+
+  private boolean offer(BlockingQueue<BaseEvent> queue, BaseEvent baseEvent, long deadline) {
+    switch (overflowPolicy) {
+      case DROP_OLDEST:
+        while (!queue.offer(baseEvent)) {
+          if (queue.poll() != null) {
+            logDropEventsIfNecessary();
+          }
+        }
+        return true;
+      case BLOCK:
+        try {
+          long timeoutMs = Math.max(0, deadline - System.currentTimeMillis());
+          return queue.offer(baseEvent, timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      case DROP_NEWEST:
+      default:
+        return queue.offer(baseEvent);
+    }
+  }
+
+  private class Dispatcher implements Runnable {
+    private final List<EventListenerPlugin> listeners = new ArrayList<>();
+    private final BlockingQueue<BaseEvent> queue;
+    private final Thread thread;
+
+    private Dispatcher(String threadName, int queueCapacity) {
+      this.queue = new LinkedBlockingQueue<>(queueCapacity);
+      this.thread = new Thread(this);
+      thread.setDaemon(true);
+      thread.setName(threadName);
     }
 
-    logDropEventsIfNecessary();
+    @Override
+    public void run() {
+      List<BaseEvent> batch = new ArrayList<>(batchSize);
+      while (!Thread.currentThread().isInterrupted()) {
+        try {
+          batch.add(queue.take());
+          queue.drainTo(batch, batchSize - 1);
+          listeners.forEach(listener -> dispatchEvents(listener, batch));
+
+          long now = System.currentTimeMillis();
+          batch.forEach(baseEvent -> dispatchLatencyListener.accept(now - baseEvent.eventTime()));
+        } catch (InterruptedException e) {
+          LOG.warn("{} event dispatcher thread is interrupted.", thread.getName());
+          break;
+        } catch (Exception e) {
+          LOG.warn("{} throw a exception while processing event", thread.getName(), e);
+        } finally {
+          batch.clear();
+        }
+      }
+
+      if (!queue.isEmpty()) {
+        LOG.warn(
+            "{} drop {} events since dispatch thread is interrupted",
+            thread.getName(),
+            queue.size());
+      }
+    }
+
+    // Delivers the events in order, the consecutive post events are delivered in one call. A
+    // failed delivery is only logged, so it doesn't affect the other deliveries and listeners.
+    private void dispatchEvents(EventListenerPlugin listener, List<BaseEvent> events) {
+      List<Event> postEvents = new ArrayList<>();
+      for (BaseEvent baseEvent : events) {
+        if (baseEvent instanceof Event) {
+          postEvents.add((Event) baseEvent);
+          continue;
+        }
+
+        postEvents = flushPostEvents(listener, postEvents);
+        if (baseEvent instanceof PreEvent) {
+          try {
+            listener.onPreEvent((PreEvent) baseEvent);
+          } catch (Exception e) {
+            LOG.warn(
+                "{} failed to dispatch event: {} to listener: {}",
+                thread.getName(),
+                baseEvent.getClass().getSimpleName(),
+                listener.getClass().getSimpleName(),
+                e);
+          }
+        } else {
+          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+        }
+      }
+      flushPostEvents(listener, postEvents);
+    }
+
+    private List<Event> flushPostEvents(EventListenerPlugin listener, List<Event> postEvents) {
+      if (postEvents.isEmpty()) {
+        return postEvents;
+      }
+      try {
+        listener.onPostEvents(postEvents);
+      } catch (Exception e) {
+        LOG.warn(
+            "{} failed to dispatch {} events to listener: {}",
+            thread.getName(),
+            postEvents.size(),
+            listener.getClass().getSimpleName(),
+            e);
+      }
+      return new ArrayList<>();
+    }
   }
 }
@@ -85,6 +85,21 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     }
   }
 
+  @Override
+  public NameIdentifier[] listCatalogs(Namespace namespace, String startAfter, int limit)
+      throws NoSuchMetalakeException {
+    eventBus.dispatchEvent(new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      NameIdentifier[] nameIdentifiers = dispatcher.listCatalogs(namespace, startAfter, limit);
+      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return nameIdentifiers;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+      throw e;
+    }
+  }
+
   @Override
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
     eventBus.dispatchEvent(new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
@@ -49,6 +49,52 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of dispatcher threads of the shared async event listeners, the listeners"
+                  + " are spread over the threads and each listener receives the events in order")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE)
+          .doc("The maximum number of queued events delivered to an async event listener at once")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<String> QUEUE_OVERFLOW_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_OVERFLOW_POLICY)
+          .doc(
+              "The policy when the async event queue is full, `drop_newest` drops the incoming"
+                  + " event, `drop_oldest` drops the oldest queued event, `block` blocks the"
+                  + " operation for at most `queueBlockTimeoutMs` before dropping the event")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .checkValue(
+              value -> {
+                try {
+                  AsyncQueueListener.OverflowPolicy.fromString(value);
+                  return true;
+                } catch (IllegalArgumentException e) {
+                  return false;
+                }
+              },
+              "The value must be one of `drop_newest`, `drop_oldest` and `block`")
+          .createWithDefault("drop_newest");
+
+  static final ConfigEntry<Long> QUEUE_BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_BLOCK_TIMEOUT_MS)
+          .doc("The maximum time in milliseconds to wait for room with the `block` overflow policy")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -55,17 +55,31 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_SIZE = "batchSize";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_OVERFLOW_POLICY = "queueOverflowPolicy";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_BLOCK_TIMEOUT_MS = "queueBlockTimeoutMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int dispatcherThreads;
+  private int batchSize;
+  private AsyncQueueListener.OverflowPolicy overflowPolicy;
+  private long blockTimeoutMs;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.batchSize = config.get(EventListenerConfig.BATCH_SIZE);
+    this.overflowPolicy =
+        AsyncQueueListener.OverflowPolicy.fromString(
+            config.get(EventListenerConfig.QUEUE_OVERFLOW_POLICY));
+    this.blockTimeoutMs = config.get(EventListenerConfig.QUEUE_BLOCK_TIMEOUT_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -99,6 +113,18 @@ public class EventListenerManager {
     return new EventBus(eventListeners);
   }
 
+  /**
+   * Returns the async listeners, which buffer the events in queues.
+   *
+   * @return The async listeners.
+   */
+  public List<AsyncQueueListener> getAsyncQueueListeners() {
+    return eventListeners.stream()
+        .filter(listener -> listener instanceof AsyncQueueListener)
+        .map(listener -> (AsyncQueueListener) listener)
+        .collect(Collectors.toList());
+  }
+
   public void addEventListener(String listenerName, EventListenerPlugin listener) {
     eventListeners.add(new EventListenerPluginWrapper(listenerName, listener));
   }
@@ -117,11 +143,9 @@ public class EventListenerManager {
                     case SYNC:
                       return new EventListenerPluginWrapper(listenerName, listener);
                     case ASYNC_ISOLATED:
-                      return new AsyncQueueListener(
+                      return createAsyncQueueListener(
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
-                          listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          listenerName);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -134,13 +158,24 @@ public class EventListenerManager {
             .collect(Collectors.toList());
 
     if (!sharedQueueListeners.isEmpty()) {
-      listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+      listeners.add(createAsyncQueueListener(sharedQueueListeners, "default"));
     }
     return listeners;
   }
 
+  private AsyncQueueListener createAsyncQueueListener(
+      List<EventListenerPlugin> listeners, String name) {
+    return new AsyncQueueListener(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        dispatcherThreads,
+        batchSize,
+        overflowPolicy,
+        blockTimeoutMs);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
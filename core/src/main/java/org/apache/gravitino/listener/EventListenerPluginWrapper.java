@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
@@ -37,10 +38,12 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  private final boolean processesBatches;
 
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.processesBatches = overridesOnPostEvents(userEventListener);
   }
 
   @Override
@@ -74,6 +77,29 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    if (!processesBatches) {
+      // The default implementation processes the events one by one, so they are processed here
+      // to isolate each event from the failure of the others.
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      // A failing event must not drop the rest of the batch, so the events are retried one by
+      // one, the events processed before the failure may be delivered again.
+      LOG.warn(
+          "Event listener {} process a batch of {} events failed, retry the events one by one,",
+          listenerName,
+          events.size(),
+          e);
+      events.forEach(this::onPostEvent);
+    }
+  }
+
   @Override
   public void onPreEvent(PreEvent preEvent) {
     try {
@@ -99,6 +125,15 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     return userEventListener;
   }
 
+  private static boolean overridesOnPostEvents(EventListenerPlugin listener) {
+    try {
+      return listener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass()
+          != EventListenerPlugin.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   private void printExceptionInEventProcess(String listenerName, BaseEvent baseEvent, Exception e) {
     LOG.warn(
         "Event listener {} process event {} failed,",
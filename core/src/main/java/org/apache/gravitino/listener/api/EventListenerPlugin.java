@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.exceptions.ForbiddenException;
@@ -108,6 +109,22 @@ public interface EventListenerPlugin {
    */
   default void onPostEvent(Event postEvent) throws RuntimeException {}
 
+  /**
+   * Handle a batch of post-events in ASYNC mode.
+   *
+   * <p>The asynchronous dispatchers deliver the queued post-events in batches to reduce the
+   * per-event overhead, the events are in the order they were generated. The default
+   * implementation calls {@link #onPostEvent(Event)} for each event, implementers can override it
+   * to process the events in bulk, like writing them with one request.
+   *
+   * @param postEvents The post events to be processed.
+   * @throws RuntimeException Indicates issues encountered during event processing, this has no
+   *     affect to the operation.
+   */
+  default void onPostEvents(List<Event> postEvents) throws RuntimeException {
+    postEvents.forEach(this::onPostEvent);
+  }
+
   /**
    * Handle pre-events generated before the operation.
    *
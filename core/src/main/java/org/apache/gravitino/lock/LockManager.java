@@ -27,10 +27,12 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
@@ -64,6 +66,10 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // Notified when a thread has to wait to lock a tree lock node, used to collect the contention
+  // metrics.
+  private volatile BiConsumer<TreeLockNode, Long> contentionListener = (node, waitNanos) -> {};
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -127,6 +133,12 @@ public class LockManager {
    * @param node The root node to check.
    */
   void checkDeadLock(TreeLockNode node) {
+    // A node held by any lock is referenced by the lock along with all its ancestors, so there is
+    // no need to check the subtree of a node without reference.
+    if (node.getReference() <= 0) {
+      return;
+    }
+
     // Check child first
     node.getAllChildren().forEach(this::checkDeadLock);
 
@@ -143,8 +155,7 @@ public class LockManager {
                     node,
                     // SimpleDateFormat is not thread-safe, so we should create a new instance for
                     // each time
-                    new SimpleDateFormat("yyyy-MM-dd HH:mm:ss")
-                        .format(node.getHoldingThreadTimestamp()));
+                    new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(ts)));
               }
             });
   }
@@ -212,21 +223,16 @@ public class LockManager {
     // Handle from leaf nodes first.
     treeNode.getAllChildren().forEach(child -> evictStaleNodes(child, treeNode));
 
-    // Handle self node.
-    if (treeNode.getReference() == 0) {
-      synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
-          parent.removeChild(treeNode.getName());
-          long leftNodeCount = totalNodeCount.decrementAndGet();
-          if (LOG.isTraceEnabled()) {
-            LOG.trace(
-                "Evict stale tree lock node '{}', current left nodes '{}'",
-                treeNode.getName(),
-                leftNodeCount);
-          }
-        }
+    // Handle self node. Once the node is marked as evicted, no reference can be added to it, and
+    // the lock creators will create a new node in place of it.
+    if (treeNode.tryEvict()) {
+      parent.removeChild(treeNode);
+      long leftNodeCount = totalNodeCount.decrementAndGet();
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Evict stale tree lock node '{}', current left nodes '{}'",
+            treeNode.getName(),
+            leftNodeCount);
       }
     }
   }
@@ -251,27 +257,25 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, contentionListener);
       }
 
       String[] levels = identifier.namespace().levels();
       levels = ArrayUtils.add(levels, identifier.name());
 
-      TreeLockNode child;
       for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
-          }
+        // The reference of lockNode is held, so it can't be evicted while getting its child.
+        Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
+        TreeLockNode child = pair.getKey();
+        // If the child node is newly created, we should increase the total node counts.
+        if (pair.getValue()) {
+          totalNodeCount.incrementAndGet();
         }
         treeLockNodes.add(child);
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, contentionListener);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
@@ -283,6 +287,22 @@ public class LockManager {
     }
   }
 
+  /** @return The number of the tree lock nodes in memory. */
+  public long nodeCount() {
+    return totalNodeCount.get();
+  }
+
+  /**
+   * Set the listener to be notified when a thread has to wait to lock a tree lock node. The
+   * listener is called with the node and the wait time in nanoseconds, it should be cheap since it
+   * is called on the locking path.
+   *
+   * @param contentionListener The contention listener.
+   */
+  public void setContentionListener(BiConsumer<TreeLockNode, Long> contentionListener) {
+    this.contentionListener = contentionListener;
+  }
+
   /**
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
@@ -22,6 +22,7 @@ package org.apache.gravitino.lock;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.BiConsumer;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
@@ -82,9 +83,20 @@ public class TreeLock {
   private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
   private LockType lockType;
 
+  // Notified with the node and the wait time in nanoseconds when locking a node has to wait.
+  private final BiConsumer<TreeLockNode, Long> contentionListener;
+
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, (node, waitNanos) -> {});
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      BiConsumer<TreeLockNode, Long> contentionListener) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.contentionListener = contentionListener;
   }
 
   /**
@@ -102,8 +114,11 @@ public class TreeLock {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
+        long waitNanos = treeLockNode.lock(type);
         heldLocks.push(Pair.of(treeLockNode, type));
+        if (waitNanos > 0) {
+          contentionListener.accept(treeLockNode, waitNanos);
+        }
 
         treeLockNode.addHoldingThreadTimestamp(
             Thread.currentThread(), identifier, System.currentTimeMillis());
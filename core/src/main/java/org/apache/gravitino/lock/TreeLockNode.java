@@ -26,7 +26,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
@@ -39,6 +41,11 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Each node will have a read-write lock to protect the node. The node will also have a map to
  * store the children. For more, please refer to {@link TreeLock}.
+ *
+ * <p>Looking up a child and taking a reference on it is lock-free: the reference count is updated
+ * with CAS, and a node is only evicted by atomically moving its reference count from 0 to {@link
+ * #EVICTED}, after which no reference can be taken on it any more and a new node will be created in
+ * its place.
  */
 public class TreeLockNode {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLockNode.class);
@@ -48,6 +55,9 @@ public class TreeLockNode {
 
   private final Map<ThreadIdentifier, Long> holdingThreadTimestamp = new ConcurrentHashMap<>();
 
+  // The reference count of a node that has been evicted from the tree.
+  private static final long EVICTED = -1L;
+
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
   // using this node, and this node can be removed from the tree.
@@ -123,20 +133,47 @@ public class TreeLockNode {
 
   /**
    * Increase the reference count of this node. The reference count should always be greater than or
-   * equal to 0.
+   * equal to 0. This is only used for the root node, which is never evicted.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
+  /**
+   * Increase the reference count of this node if it has not been evicted.
+   *
+   * @return true if the reference is added, false if the node has been evicted.
+   */
+  boolean tryAddReference() {
+    while (true) {
+      long current = referenceCount.get();
+      if (current == EVICTED) {
+        return false;
+      }
+      if (referenceCount.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
   /**
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
+  /**
+   * Mark this node as evicted if no TreeLock is using it. Once marked, no reference can be added to
+   * this node any more.
+   *
+   * @return true if the node is marked as evicted, false if the node is still in use.
+   */
+  boolean tryEvict() {
+    return referenceCount.compareAndSet(0, EVICTED);
+  }
+
   long getReference() {
     return referenceCount.get();
   }
@@ -146,13 +183,29 @@ public class TreeLockNode {
    * #unlock(LockType)}.
    *
    * @param lockType The lock type to lock the node.
+   * @return The time in nanoseconds spent waiting for the lock, 0 if the lock is acquired without
+   *     waiting.
    */
-  void lock(LockType lockType) {
-    if (lockType == LockType.READ) {
-      readWriteLock.readLock().lock();
-    } else {
-      readWriteLock.writeLock().lock();
+  long lock(LockType lockType) {
+    Lock lock = lockType == LockType.READ ? readWriteLock.readLock() : readWriteLock.writeLock();
+    try {
+      // Unlike tryLock(), the timed tryLock honors the queuing policy, so readers still can't
+      // barge ahead of a waiting writer.
+      if (lock.tryLock(0, TimeUnit.NANOSECONDS)) {
+        return 0;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
+
+    long start = System.nanoTime();
+    lock.lock();
+    return Math.max(System.nanoTime() - start, 1);
+  }
+
+  /** @return The number of the locks currently held on this node, including the reentrant ones. */
+  public int getHolderCount() {
+    return readWriteLock.getReadLockCount() + (readWriteLock.isWriteLocked() ? 1 : 0);
   }
 
   /**
@@ -173,30 +226,39 @@ public class TreeLockNode {
   }
 
   /**
-   * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
+   * Get the tree lock node by the given name and add a reference to it. If the node doesn't exist
+   * or has been evicted, create a new TreeNode.
    *
-   * <p>Note: This method should always be guarded by object lock.
+   * <p>Note: The caller should hold a reference of this node, so that this node will not be evicted
+   * concurrently.
    *
    * @param name The name of a resource such as entity or others.
    * @return A pair of the tree lock node and a boolean value indicating whether the node is newly
    *     created.
    */
   Pair<TreeLockNode, Boolean> getOrCreateChild(String name) {
-    boolean[] newCreated = new boolean[] {false};
-    TreeLockNode childNode =
-        childMap.computeIfAbsent(
-            name,
-            k -> {
-              TreeLockNode newNode = new TreeLockNode(name);
-              if (LOG.isTraceEnabled()) {
-                LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
-              }
-              newCreated[0] = true;
-              return newNode;
-            });
-
-    childNode.addReference();
-    return Pair.of(childNode, newCreated[0]);
+    while (true) {
+      TreeLockNode childNode = childMap.get(name);
+      if (childNode != null) {
+        if (childNode.tryAddReference()) {
+          return Pair.of(childNode, false);
+        }
+
+        // The node has been evicted but not removed yet, help to remove it.
+        removeChild(childNode);
+        continue;
+      }
+
+      TreeLockNode newNode = new TreeLockNode(name);
+      // Add the reference before publishing the node, so it can't be evicted before we get it.
+      newNode.addReference();
+      if (childMap.putIfAbsent(name, newNode) == null) {
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
+        }
+        return Pair.of(newNode, true);
+      }
+    }
   }
 
   /**
@@ -208,21 +270,22 @@ public class TreeLockNode {
    *
    * @return The list of all the children of this node.
    */
-  synchronized List<TreeLockNode> getAllChildren() {
+  List<TreeLockNode> getAllChildren() {
     List<TreeLockNode> children = Lists.newArrayList(childMap.values());
     Collections.shuffle(children);
     return Collections.unmodifiableList(children);
   }
 
   /**
-   * Remove the child node by the given name identifier.
-   *
-   * <p>Note: This method should be guarded by object lock.
+   * Remove the given child node. The node is only removed if it is still the child with its name.
    *
-   * @param name The name of a resource such as entity or others.
+   * @param child The child node to remove.
    */
-  void removeChild(String name) {
-    childMap.remove(name);
+  @SuppressWarnings("ReferenceEquality")
+  void removeChild(TreeLockNode child) {
+    // TreeLockNode#equals only compares the name, compare the reference here to avoid removing a
+    // new node created in place of the evicted one.
+    childMap.computeIfPresent(child.getName(), (k, v) -> v == child ? null : v);
   }
 
   @Override
@@ -28,6 +28,35 @@ public class MetricNames {
       "entity-store.relation-datasource.idle-connections";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS =
       "entity-store.relation-datasource.max-connections";
+  public static final String ENTITY_STORE_RELATION_READ_ONLY_DATASOURCE_ACTIVE_CONNECTIONS =
+      "entity-store.relation-read-only-datasource.active-connections";
+  public static final String ENTITY_STORE_RELATION_READ_ONLY_DATASOURCE_IDLE_CONNECTIONS =
+      "entity-store.relation-read-only-datasource.idle-connections";
+  public static final String ENTITY_STORE_RELATION_READ_ONLY_DATASOURCE_MAX_CONNECTIONS =
+      "entity-store.relation-read-only-datasource.max-connections";
+  public static final String ENTITY_STORE_CACHE_SIZE = "entity-store.cache.size";
+  public static final String ENTITY_STORE_CACHE_HIT_COUNT = "entity-store.cache.hit-count";
+  public static final String ENTITY_STORE_CACHE_MISS_COUNT = "entity-store.cache.miss-count";
+  public static final String ENTITY_STORE_CACHE_EVICTION_COUNT =
+      "entity-store.cache.eviction-count";
+  public static final String ENTITY_STORE_GC_PURGED_ROWS = "purged-rows";
+  public static final String ENTITY_STORE_GC_LAST_RUN_DURATION = "last-run-duration-ms";
+  public static final String ENTITY_STORE_GC_PENDING_TASKS = "pending-tasks";
+  public static final String TREE_LOCK_NODE_COUNT = "node-count";
+  public static final String TREE_LOCK_WAIT_DURATION = "wait-duration";
+  public static final String TREE_LOCK_HOLDERS_ON_WAIT = "holders-on-wait";
+  public static final String EVENT_LISTENER_QUEUE_DEPTH = "queue-depth";
+  public static final String EVENT_LISTENER_DROPPED_COUNT = "dropped-count";
+  public static final String EVENT_LISTENER_DISPATCH_LATENCY = "dispatch-latency";
+  public static final String OAUTH2_TOKEN_CACHE_SIZE = "oauth2.token-cache.size";
+  public static final String OAUTH2_TOKEN_CACHE_HIT_COUNT = "oauth2.token-cache.hit-count";
+  public static final String OAUTH2_TOKEN_CACHE_MISS_COUNT = "oauth2.token-cache.miss-count";
+  public static final String OAUTH2_TOKEN_CACHE_HIT_RATE = "oauth2.token-cache.hit-rate";
+  public static final String CREDENTIAL_CACHE_SIZE = "size";
+  public static final String CREDENTIAL_CACHE_HIT_COUNT = "hit-count";
+  public static final String CREDENTIAL_CACHE_MISS_COUNT = "miss-count";
+  public static final String CREDENTIAL_CACHE_REFRESH_COUNT = "refresh-count";
+  public static final String CREDENTIAL_CACHE_LOAD_DURATION = "load-duration";
 
   private MetricNames() {}
 }
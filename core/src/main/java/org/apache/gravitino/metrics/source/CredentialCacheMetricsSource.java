@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.apache.gravitino.credential.CredentialCache;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Collects the metrics of the credential cache of a catalog: the number of cached credentials, the
+ * hit, miss and background refresh counts, and the time spent by the credential providers to load
+ * a credential. The metrics source name is suffixed with the metalake name and the catalog name,
+ * or only the catalog name for the catalogs not in a metalake, like the Iceberg REST catalogs.
+ */
+public class CredentialCacheMetricsSource extends MetricsSource {
+
+  public CredentialCacheMetricsSource(
+      @Nullable String metalakeName, String catalogName, CredentialCache<?> credentialCache) {
+    super(getSourceName(metalakeName, catalogName));
+    registerGauge(MetricNames.CREDENTIAL_CACHE_SIZE, (Gauge<Long>) credentialCache::size);
+    registerGauge(MetricNames.CREDENTIAL_CACHE_HIT_COUNT, (Gauge<Long>) credentialCache::hitCount);
+    registerGauge(
+        MetricNames.CREDENTIAL_CACHE_MISS_COUNT, (Gauge<Long>) credentialCache::missCount);
+    registerGauge(
+        MetricNames.CREDENTIAL_CACHE_REFRESH_COUNT, (Gauge<Long>) credentialCache::refreshCount);
+    Timer loadTimer = getTimer(MetricNames.CREDENTIAL_CACHE_LOAD_DURATION);
+    credentialCache.setLoadLatencyListener(
+        latencyMs -> loadTimer.update(latencyMs, TimeUnit.MILLISECONDS));
+  }
+
+  private static String getSourceName(@Nullable String metalakeName, String catalogName) {
+    return metalakeName == null
+        ? MetricsSource.CREDENTIAL_CACHE_METRIC_NAME + "." + catalogName
+        : MetricsSource.CREDENTIAL_CACHE_METRIC_NAME + "." + metalakeName + "." + catalogName;
+  }
+}
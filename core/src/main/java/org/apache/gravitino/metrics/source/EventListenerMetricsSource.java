@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.listener.AsyncQueueListener;
+import org.apache.gravitino.listener.EventListenerManager;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Collects the metrics of the async event listeners: the number of queued events, the number of
+ * dropped events and the latency between the creation of an event and its delivery. The metric
+ * names are prefixed with the name of the async listener, like {@code default.queue-depth} for the
+ * shared async listeners.
+ */
+public class EventListenerMetricsSource extends MetricsSource {
+
+  public EventListenerMetricsSource(EventListenerManager eventListenerManager) {
+    super(MetricsSource.EVENT_LISTENER_METRIC_NAME);
+    for (AsyncQueueListener listener : eventListenerManager.getAsyncQueueListeners()) {
+      String prefix = listener.name() + ".";
+      registerGauge(
+          prefix + MetricNames.EVENT_LISTENER_QUEUE_DEPTH, (Gauge<Integer>) listener::queueSize);
+      registerGauge(
+          prefix + MetricNames.EVENT_LISTENER_DROPPED_COUNT,
+          (Gauge<Long>) listener::droppedEventCount);
+      Timer latencyTimer = getTimer(prefix + MetricNames.EVENT_LISTENER_DISPATCH_LATENCY);
+      listener.setDispatchLatencyListener(
+          latencyMs -> latencyTimer.update(latencyMs, TimeUnit.MILLISECONDS));
+    }
+  }
+}
@@ -41,6 +41,12 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_STORE_CACHE_METRIC_NAME = "entity-store-cache";
+  public static final String ENTITY_STORE_GC_METRIC_NAME = "entity-store-gc";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
+  public static final String AUTHENTICATOR_METRIC_NAME = "authenticator";
+  public static final String CREDENTIAL_CACHE_METRIC_NAME = "credential-cache";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
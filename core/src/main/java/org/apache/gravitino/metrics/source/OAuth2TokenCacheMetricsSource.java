@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.gravitino.metrics.MetricNames;
+
+public class OAuth2TokenCacheMetricsSource extends MetricsSource {
+
+  public OAuth2TokenCacheMetricsSource(Cache<?, ?> tokenCache) {
+    super(MetricsSource.AUTHENTICATOR_METRIC_NAME);
+    registerGauge(MetricNames.OAUTH2_TOKEN_CACHE_SIZE, (Gauge<Long>) tokenCache::estimatedSize);
+    registerGauge(
+        MetricNames.OAUTH2_TOKEN_CACHE_HIT_COUNT,
+        (Gauge<Long>) () -> tokenCache.stats().hitCount());
+    registerGauge(
+        MetricNames.OAUTH2_TOKEN_CACHE_MISS_COUNT,
+        (Gauge<Long>) () -> tokenCache.stats().missCount());
+    registerGauge(
+        MetricNames.OAUTH2_TOKEN_CACHE_HIT_RATE,
+        (Gauge<Double>) () -> tokenCache.stats().hitRate());
+  }
+}
@@ -20,12 +20,14 @@
 package org.apache.gravitino.metrics.source;
 
 import com.codahale.metrics.Gauge;
+import javax.annotation.Nullable;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.gravitino.metrics.MetricNames;
 
 public class RelationDatasourceMetricsSource extends MetricsSource {
 
-  public RelationDatasourceMetricsSource(BasicDataSource dataSource) {
+  public RelationDatasourceMetricsSource(
+      BasicDataSource dataSource, @Nullable BasicDataSource readOnlyDataSource) {
     super(MetricsSource.GRAVITINO_SERVER_METRIC_NAME);
     registerGauge(
         MetricNames.ENTITY_STORE_RELATION_DATASOURCE_ACTIVE_CONNECTIONS,
@@ -36,5 +38,16 @@ public class RelationDatasourceMetricsSource extends MetricsSource {
     registerGauge(
         MetricNames.ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS,
         (Gauge<Integer>) dataSource::getMaxTotal);
+    if (readOnlyDataSource != null) {
+      registerGauge(
+          MetricNames.ENTITY_STORE_RELATION_READ_ONLY_DATASOURCE_ACTIVE_CONNECTIONS,
+          (Gauge<Integer>) readOnlyDataSource::getNumActive);
+      registerGauge(
+          MetricNames.ENTITY_STORE_RELATION_READ_ONLY_DATASOURCE_IDLE_CONNECTIONS,
+          (Gauge<Integer>) readOnlyDataSource::getNumIdle);
+      registerGauge(
+          MetricNames.ENTITY_STORE_RELATION_READ_ONLY_DATASOURCE_MAX_CONNECTIONS,
+          (Gauge<Integer>) readOnlyDataSource::getMaxTotal);
+    }
   }
 }
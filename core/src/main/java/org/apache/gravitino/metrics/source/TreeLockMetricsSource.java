@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.TreeLockNode;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Collects the tree lock contention metrics. Only the lock acquisitions that have to wait are
+ * recorded, so the uncontended locking path is not affected.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  private final Timer waitTimer;
+  private final Histogram holdersOnWait;
+
+  public TreeLockMetricsSource(LockManager lockManager) {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    registerGauge(MetricNames.TREE_LOCK_NODE_COUNT, (Gauge<Long>) lockManager::nodeCount);
+    this.waitTimer = getTimer(MetricNames.TREE_LOCK_WAIT_DURATION);
+    this.holdersOnWait = getHistogram(MetricNames.TREE_LOCK_HOLDERS_ON_WAIT);
+    lockManager.setContentionListener(this::onContendedLock);
+  }
+
+  private void onContendedLock(TreeLockNode node, long waitNanos) {
+    waitTimer.update(waitNanos, TimeUnit.NANOSECONDS);
+    holdersOnWait.update(node.getHolderCount());
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.stats;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.stats.TableStatistics;
+
+/**
+ * {@code StatisticsDispatcher} interface provides functionalities for managing the statistics of
+ * the tables and of their partitions, which are stored by Gravitino so that the query engines can
+ * get them without scanning the underlying sources.
+ */
+public interface StatisticsDispatcher {
+
+  /**
+   * Get the statistics of a table or of one of its partitions.
+   *
+   * @param ident The identifier of the table.
+   * @param partitionName The name of the partition, or null for the whole table.
+   * @return The statistics, whose values are all unknown if nothing is recorded.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  TableStatistics getTableStatistics(NameIdentifier ident, String partitionName)
+      throws NoSuchTableException;
+
+  /**
+   * Update the statistics of a table or of one of its partitions. The non-null row count and size
+   * replace the recorded ones, the given column statistics replace the recorded ones of the same
+   * columns, and the statistics of the other columns are kept.
+   *
+   * @param ident The identifier of the table.
+   * @param partitionName The name of the partition, or null for the whole table.
+   * @param statistics The statistics to record.
+   * @return The statistics after the update.
+   * @throws NoSuchTableException If the table does not exist.
+   * @throws IllegalArgumentException If the statistics refer to a column that does not exist.
+   */
+  TableStatistics updateTableStatistics(
+      NameIdentifier ident, String partitionName, TableStatistics statistics)
+      throws NoSuchTableException, IllegalArgumentException;
+
+  /**
+   * Drop the statistics of a table or of one of its partitions.
+   *
+   * @param ident The identifier of the table.
+   * @param partitionName The name of the partition, or null to drop the statistics of the whole
+   *     table and of all its partitions.
+   * @return True if any statistics are dropped, false if nothing is recorded.
+   * @throws NoSuchTableException If the table does not exist.
+   */
+  boolean dropTableStatistics(NameIdentifier ident, String partitionName)
+      throws NoSuchTableException;
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.stats;
+
+import static org.apache.gravitino.metalake.MetalakeManager.checkMetalake;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * StatisticsManager stores the statistics of the tables in the entity store, keyed by the table
+ * entity, so that reading them is a cheap lookup and never reaches the underlying catalog.
+ */
+public class StatisticsManager implements StatisticsDispatcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StatisticsManager.class);
+
+  private final EntityStore entityStore;
+
+  private final TableDispatcher tableDispatcher;
+
+  private final SupportsStatisticsOperations supportsStatisticsOperations;
+
+  public StatisticsManager(EntityStore entityStore, TableDispatcher tableDispatcher) {
+    if (!(entityStore instanceof SupportsStatisticsOperations)) {
+      String errorMsg =
+          "StatisticsManager cannot run with entity store that does not support statistics "
+              + "operations, please configure the entity store to use relational entity store and "
+              + "restart the Gravitino server";
+      LOG.error(errorMsg);
+      throw new RuntimeException(errorMsg);
+    }
+
+    this.supportsStatisticsOperations = entityStore.statisticsOperations();
+    this.entityStore = entityStore;
+    this.tableDispatcher = tableDispatcher;
+  }
+
+  @Override
+  public TableStatistics getTableStatistics(NameIdentifier ident, String partitionName)
+      throws NoSuchTableException {
+    NameIdentifierUtil.checkTable(ident);
+    checkPartitionName(partitionName);
+    checkMetalake(NameIdentifier.of(ident.namespace().level(0)), entityStore);
+
+    TableStatistics statistics =
+        TreeLockUtils.doWithTreeLock(
+            ident,
+            LockType.READ,
+            () -> {
+              try {
+                return supportsStatisticsOperations.getTableStatistics(ident, partitionName);
+              } catch (NoSuchEntityException e) {
+                return null;
+              } catch (IOException ioe) {
+                LOG.error("Failed to get statistics of table {}", ident, ioe);
+                throw new RuntimeException(ioe);
+              }
+            });
+    if (statistics != null) {
+      return statistics;
+    }
+
+    // The table may exist in the underlying catalog without being imported into the entity store,
+    // it has no recorded statistics then.
+    if (tableDispatcher.tableExists(ident)) {
+      return Statistics.of(null, null);
+    }
+    throw new NoSuchTableException("Table %s does not exist", ident);
+  }
+
+  @Override
+  public TableStatistics updateTableStatistics(
+      NameIdentifier ident, String partitionName, TableStatistics statistics)
+      throws NoSuchTableException, IllegalArgumentException {
+    NameIdentifierUtil.checkTable(ident);
+    checkPartitionName(partitionName);
+
+    // Loading the table imports it into the entity store if it's created outside Gravitino.
+    Table table = tableDispatcher.loadTable(ident);
+    ColumnStatistics[] columnStatistics =
+        statistics.columnStatistics() == null
+            ? Statistics.EMPTY_COLUMN_STATISTICS
+            : statistics.columnStatistics();
+    Set<String> columnNames =
+        Arrays.stream(table.columns()).map(Column::name).collect(Collectors.toSet());
+    for (ColumnStatistics column : columnStatistics) {
+      Preconditions.checkArgument(
+          columnNames.contains(column.name()),
+          "Column %s does not exist in table %s",
+          column.name(),
+          ident);
+    }
+
+    TableStatistics statisticsToRecord =
+        Statistics.of(
+            statistics.rowCount(),
+            statistics.sizeInBytes(),
+            columnStatistics,
+            AuditInfo.builder()
+                .withCreator(PrincipalUtils.getCurrentPrincipal().getName())
+                .withCreateTime(Instant.now())
+                .build());
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.WRITE,
+        () -> {
+          try {
+            return supportsStatisticsOperations.updateTableStatistics(
+                ident, partitionName, statisticsToRecord);
+          } catch (NoSuchEntityException e) {
+            throw new NoSuchTableException(e, "Table %s does not exist", ident);
+          } catch (IOException ioe) {
+            LOG.error("Failed to update statistics of table {}", ident, ioe);
+            throw new RuntimeException(ioe);
+          }
+        });
+  }
+
+  @Override
+  public boolean dropTableStatistics(NameIdentifier ident, String partitionName)
+      throws NoSuchTableException {
+    NameIdentifierUtil.checkTable(ident);
+    checkPartitionName(partitionName);
+    checkMetalake(NameIdentifier.of(ident.namespace().level(0)), entityStore);
+
+    Boolean dropped =
+        TreeLockUtils.doWithTreeLock(
+            ident,
+            LockType.WRITE,
+            () -> {
+              try {
+                return supportsStatisticsOperations.dropTableStatistics(ident, partitionName);
+              } catch (NoSuchEntityException e) {
+                return null;
+              } catch (IOException ioe) {
+                LOG.error("Failed to drop statistics of table {}", ident, ioe);
+                throw new RuntimeException(ioe);
+              }
+            });
+    if (dropped != null) {
+      return dropped;
+    }
+
+    if (tableDispatcher.tableExists(ident)) {
+      return false;
+    }
+    throw new NoSuchTableException("Table %s does not exist", ident);
+  }
+
+  private static void checkPartitionName(String partitionName) {
+    Preconditions.checkArgument(
+        partitionName == null || StringUtils.isNotBlank(partitionName),
+        "The partition name must not be blank");
+  }
+}
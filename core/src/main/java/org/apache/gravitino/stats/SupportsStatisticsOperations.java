@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.stats;
+
+import java.io.IOException;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.rel.stats.TableStatistics;
+
+/**
+ * An interface to support extra statistics operations, this interface should be mixed with {@link
+ * EntityStore} to provide extra operations.
+ *
+ * <p>The statistics of a table are keyed by the table and the partition name, where a null
+ * partition name stands for the whole table.
+ */
+public interface SupportsStatisticsOperations {
+
+  /**
+   * Get the statistics of the given table or of one of its partitions.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param partitionName The name of the partition, or null for the whole table.
+   * @return The statistics, whose values are all unknown if nothing is recorded.
+   * @throws NoSuchEntityException If the table does not exist.
+   * @throws IOException If an error occurs while accessing the entity store.
+   */
+  TableStatistics getTableStatistics(NameIdentifier tableIdent, String partitionName)
+      throws NoSuchEntityException, IOException;
+
+  /**
+   * Update the statistics of the given table or of one of its partitions. The non-null row count
+   * and size replace the recorded ones, the given column statistics replace the recorded ones of
+   * the same columns, and the statistics of the other columns are kept.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param partitionName The name of the partition, or null for the whole table.
+   * @param statistics The statistics to record, with the audit information of the update.
+   * @return The statistics after the update.
+   * @throws NoSuchEntityException If the table does not exist.
+   * @throws IOException If an error occurs while accessing the entity store.
+   */
+  TableStatistics updateTableStatistics(
+      NameIdentifier tableIdent, String partitionName, TableStatistics statistics)
+      throws NoSuchEntityException, IOException;
+
+  /**
+   * Drop the statistics of the given table or of one of its partitions.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param partitionName The name of the partition, or null to drop the statistics of the whole
+   *     table and of all its partitions.
+   * @return True if any statistics are dropped, false if nothing is recorded.
+   * @throws NoSuchEntityException If the table does not exist.
+   * @throws IOException If an error occurs while accessing the entity store.
+   */
+  boolean dropTableStatistics(NameIdentifier tableIdent, String partitionName)
+      throws NoSuchEntityException, IOException;
+}
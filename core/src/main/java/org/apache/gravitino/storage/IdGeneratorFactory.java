@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** This class is responsible for creating the {@link IdGenerator} configured for the server. */
+public class IdGeneratorFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorFactory.class);
+
+  // Private constructor to prevent instantiation of this factory class.
+  private IdGeneratorFactory() {}
+
+  /**
+   * Creates the id generator based on the configuration settings.
+   *
+   * @param config The configuration object containing settings for the id generator.
+   * @return An instance of IdGenerator.
+   */
+  public static IdGenerator createIdGenerator(Config config) {
+    String name = config.get(Configs.ID_GENERATOR);
+    if (Configs.SNOWFLAKE_ID_GENERATOR.equals(name)) {
+      Integer nodeId = config.get(Configs.ID_GENERATOR_NODE_ID);
+      if (nodeId == null) {
+        nodeId = defaultNodeId();
+        LOG.warn(
+            "{} is not set, use the node id {} derived from the host name, it may conflict with "
+                + "other Gravitino servers sharing the same entity store",
+            Configs.ID_GENERATOR_NODE_ID.getKey(),
+            nodeId);
+      }
+      return new SnowflakeIdGenerator(nodeId);
+    }
+
+    return new RandomIdGenerator();
+  }
+
+  private static int defaultNodeId() {
+    try {
+      String hostName = InetAddress.getLocalHost().getHostName();
+      return hostName.hashCode() & SnowflakeIdGenerator.MAX_NODE_ID;
+    } catch (UnknownHostException e) {
+      LOG.warn("Failed to get the host name, use a random node id", e);
+      return (int) (RandomIdGenerator.INSTANCE.nextId() & SnowflakeIdGenerator.MAX_NODE_ID);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered id generator in the layout of Snowflake ids. An id is a positive long made of 41
+ * bits of milliseconds since {@link #EPOCH_MILLIS}, 10 bits of node id and 12 bits of sequence
+ * within the millisecond. Unlike the random ids, successive ids are increasing, so the rows of the
+ * entity store are appended to the end of the primary key indexes instead of being spread over
+ * them.
+ *
+ * <p>The ids are unique as long as every Gravitino server sharing the same entity store has its
+ * own node id. If the clock goes backwards, or more than 4096 ids are generated in a millisecond,
+ * the generator keeps counting on from the last used millisecond instead of waiting for the clock.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+  /** The start of the timestamps of the ids, 2024-01-01T00:00:00Z. */
+  public static final long EPOCH_MILLIS = 1704067200000L;
+
+  private static final int NODE_ID_BITS = 10;
+
+  private static final int SEQUENCE_BITS = 12;
+
+  /** The maximum node id. */
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+  private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+  private final long nodeId;
+
+  private final LongSupplier clock;
+
+  private long lastTimestamp = -1L;
+
+  private long sequence;
+
+  /**
+   * Creates a SnowflakeIdGenerator.
+   *
+   * @param nodeId The node id of the Gravitino server, between 0 and {@link #MAX_NODE_ID}.
+   */
+  public SnowflakeIdGenerator(int nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+    Preconditions.checkArgument(
+        nodeId >= 0 && nodeId <= MAX_NODE_ID,
+        "The node id must be between 0 and %s, but got %s",
+        MAX_NODE_ID,
+        nodeId);
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  @Override
+  public synchronized long nextId() {
+    long timestamp = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastTimestamp);
+    if (timestamp == lastTimestamp) {
+      sequence = (sequence + 1) & MAX_SEQUENCE;
+      if (sequence == 0) {
+        // The sequence of the millisecond is exhausted, move on to the next one.
+        timestamp++;
+      }
+    } else {
+      sequence = 0;
+    }
+    lastTimestamp = timestamp;
+
+    return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+  }
+}
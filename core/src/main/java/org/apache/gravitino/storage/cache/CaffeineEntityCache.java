@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** The default {@link EntityCache} implementation based on Caffeine. */
+public class CaffeineEntityCache implements EntityCache {
+  private static final Logger LOG = LoggerFactory.getLogger(CaffeineEntityCache.class);
+
+  private Cache<EntityCacheKey, Entity> cache;
+
+  @Override
+  public void initialize(Config config) {
+    long maxEntries = config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES);
+    long expireTimeMs = config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+    LOG.info(
+        "Entity cache is initialized, max entries: {}, expire time: {} ms",
+        maxEntries,
+        expireTimeMs);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Entity & HasIdentifier> Optional<E> getIfPresent(
+      NameIdentifier ident, Entity.EntityType type) {
+    return Optional.ofNullable((E) cache.getIfPresent(EntityCacheKey.of(ident, type)));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void put(E entity) {
+    cache.put(EntityCacheKey.of(entity.nameIdentifier(), entity.type()), entity);
+  }
+
+  @Override
+  public void invalidate(NameIdentifier ident, Entity.EntityType type) {
+    cache.invalidate(EntityCacheKey.of(ident, type));
+    // Leaf entities can't have descendants, so there is no need to scan the whole cache.
+    if (type == Entity.EntityType.METALAKE
+        || type == Entity.EntityType.CATALOG
+        || type == Entity.EntityType.SCHEMA) {
+      cache.asMap().keySet().removeIf(key -> key.isDescendantOf(ident));
+    }
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  @Override
+  public long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  @Override
+  public long missCount() {
+    return cache.stats().missCount();
+  }
+
+  @Override
+  public long evictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  @Override
+  public void close() {
+    if (cache != null) {
+      cache.invalidateAll();
+      cache.cleanUp();
+    }
+  }
+}
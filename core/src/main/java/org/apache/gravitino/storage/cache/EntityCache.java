@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.cache;
+
+import java.io.Closeable;
+import java.util.Optional;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * EntityCache is a size-bounded cache sitting in front of the entity store, it's used to reduce
+ * the round trips to the underlying storage for the entities that are read frequently. The entity
+ * store is responsible for keeping the cache coherent when the entities are written.
+ */
+public interface EntityCache extends Closeable {
+
+  /**
+   * Initialize the entity cache.
+   *
+   * @param config The configuration of the Gravitino server.
+   */
+  void initialize(Config config);
+
+  /**
+   * Get the cached entity.
+   *
+   * @param ident The name identifier of the entity.
+   * @param type The type of the entity.
+   * @param <E> The class of the entity.
+   * @return The cached entity, or empty if the entity is not cached.
+   */
+  <E extends Entity & HasIdentifier> Optional<E> getIfPresent(
+      NameIdentifier ident, Entity.EntityType type);
+
+  /**
+   * Put the entity into the cache, it will replace the old cached value if present.
+   *
+   * @param entity The entity to cache.
+   * @param <E> The class of the entity.
+   */
+  <E extends Entity & HasIdentifier> void put(E entity);
+
+  /**
+   * Invalidate the cached entity and all the cached entities located under it, for example,
+   * invalidating a schema also invalidates all the cached tables, filesets, etc. of this schema.
+   *
+   * @param ident The name identifier of the entity.
+   * @param type The type of the entity.
+   */
+  void invalidate(NameIdentifier ident, Entity.EntityType type);
+
+  /** Invalidate all the cached entities. */
+  void invalidateAll();
+
+  /**
+   * Get the approximate number of the cached entities.
+   *
+   * @return The number of the cached entities.
+   */
+  long size();
+
+  /**
+   * Get the number of times the lookups returned a cached entity.
+   *
+   * @return The hit count.
+   */
+  long hitCount();
+
+  /**
+   * Get the number of times the lookups didn't find a cached entity.
+   *
+   * @return The miss count.
+   */
+  long missCount();
+
+  /**
+   * Get the number of entities evicted from the cache because of the size or expiration limit.
+   *
+   * @return The eviction count.
+   */
+  long evictionCount();
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.cache;
+
+import java.util.Objects;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+
+/** The key of an entity in the {@link EntityCache}, which is the identifier plus the type. */
+public class EntityCacheKey {
+  private final NameIdentifier identifier;
+  private final Entity.EntityType type;
+
+  /**
+   * Creates a new cache key.
+   *
+   * @param identifier The name identifier of the entity.
+   * @param type The type of the entity.
+   * @return The cache key.
+   */
+  public static EntityCacheKey of(NameIdentifier identifier, Entity.EntityType type) {
+    return new EntityCacheKey(identifier, type);
+  }
+
+  private EntityCacheKey(NameIdentifier identifier, Entity.EntityType type) {
+    this.identifier = identifier;
+    this.type = type;
+  }
+
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  public Entity.EntityType type() {
+    return type;
+  }
+
+  /**
+   * Whether the entity of this key is located under the given identifier, for example, the table
+   * "metalake.catalog.schema.table" is located under the catalog "metalake.catalog".
+   *
+   * @param ancestor The identifier of the possible ancestor entity.
+   * @return True if this key is a descendant of the given identifier, false otherwise.
+   */
+  public boolean isDescendantOf(NameIdentifier ancestor) {
+    String[] levels = identifier.namespace().levels();
+    String[] ancestorLevels = ancestor.namespace().levels();
+    if (levels.length <= ancestorLevels.length) {
+      return false;
+    }
+
+    for (int i = 0; i < ancestorLevels.length; i++) {
+      if (!levels[i].equals(ancestorLevels[i])) {
+        return false;
+      }
+    }
+    return levels[ancestorLevels.length].equals(ancestor.name());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof EntityCacheKey)) {
+      return false;
+    }
+    EntityCacheKey that = (EntityCacheKey) o;
+    return Objects.equals(identifier, that.identifier) && type == that.type;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(identifier, type);
+  }
+
+  @Override
+  public String toString() {
+    return type + ":" + identifier;
+  }
+}
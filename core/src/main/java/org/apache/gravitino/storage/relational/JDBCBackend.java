@@ -19,14 +19,15 @@
 
 package org.apache.gravitino.storage.relational;
 
-import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
-
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -37,6 +38,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.UnsupportedEntityTypeException;
+import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
@@ -50,9 +52,11 @@ import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.rel.stats.TableStatistics;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
@@ -63,10 +67,13 @@ import org.apache.gravitino.storage.relational.service.RoleMetaService;
 import org.apache.gravitino.storage.relational.service.SchemaMetaService;
 import org.apache.gravitino.storage.relational.service.TableColumnMetaService;
 import org.apache.gravitino.storage.relational.service.TableMetaService;
+import org.apache.gravitino.storage.relational.service.TableStatisticsMetaService;
 import org.apache.gravitino.storage.relational.service.TagMetaService;
 import org.apache.gravitino.storage.relational.service.TopicMetaService;
 import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -98,6 +105,23 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Entity.EntityType entityType, boolean allFields) throws IOException {
+    return SqlSessions.doReadOnly(() -> listEntities(namespace, entityType, allFields));
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String startAfter, int limit)
+      throws IOException {
+    return SqlSessions.doReadOnly(() -> listEntities(namespace, entityType, startAfter, limit));
+  }
+
+  @Override
+  public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    return SqlSessions.doReadOnly(() -> entityExists(ident, entityType));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listEntities(
+      Namespace namespace, Entity.EntityType entityType, boolean allFields) {
     switch (entityType) {
       case METALAKE:
         return (List<E>) MetalakeMetaService.getInstance().listMetalakes();
@@ -130,16 +154,105 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
-  @Override
-  public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+  private <E extends Entity & HasIdentifier> List<E> listEntities(
+      Namespace namespace, Entity.EntityType entityType, String startAfter, int limit) {
+    switch (entityType) {
+      case CATALOG:
+        return (List<E>)
+            CatalogMetaService.getInstance().listCatalogsByNamespace(namespace, startAfter, limit);
+      case SCHEMA:
+        return (List<E>)
+            SchemaMetaService.getInstance().listSchemasByNamespace(namespace, startAfter, limit);
+      case FILESET:
+        return (List<E>)
+            FilesetMetaService.getInstance().listFilesetsByNamespace(namespace, startAfter, limit);
+      default:
+        List<E> entities = listEntities(namespace, entityType, false);
+        return entities.stream()
+            .filter(e -> startAfter == null || e.name().compareTo(startAfter) > 0)
+            .sorted(Comparator.comparing(HasIdentifier::name))
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+  }
+
+  private boolean entityExists(NameIdentifier ident, Entity.EntityType entityType) {
+    // Only look up the entity ids through the name indexes, instead of getting the whole entities,
+    // which deserializes the JSON fields and also loads the columns of the tables.
     try {
-      Entity entity = get(ident, entityType);
-      return entity != null;
+      switch (entityType) {
+        case METALAKE:
+          NameIdentifierUtil.checkMetalake(ident);
+          MetalakeMetaService.getInstance().getMetalakeIdByName(ident.name());
+          return true;
+        case CATALOG:
+          NameIdentifierUtil.checkCatalog(ident);
+          // Resolves the ids of all the levels in one query.
+          CommonMetaService.getInstance().getParentEntityIdByNamespace(toNamespace(ident));
+          return true;
+        case SCHEMA:
+          NameIdentifierUtil.checkSchema(ident);
+          CommonMetaService.getInstance().getParentEntityIdByNamespace(toNamespace(ident));
+          return true;
+        case TABLE:
+          NameIdentifierUtil.checkTable(ident);
+          TableMetaService.getInstance()
+              .getTableIdBySchemaIdAndName(getParentEntityId(ident), ident.name());
+          return true;
+        case FILESET:
+          NameIdentifierUtil.checkFileset(ident);
+          FilesetMetaService.getInstance()
+              .getFilesetIdBySchemaIdAndName(getParentEntityId(ident), ident.name());
+          return true;
+        case TOPIC:
+          NameIdentifierUtil.checkTopic(ident);
+          TopicMetaService.getInstance()
+              .getTopicIdBySchemaIdAndName(getParentEntityId(ident), ident.name());
+          return true;
+        case MODEL:
+          NameIdentifierUtil.checkModel(ident);
+          ModelMetaService.getInstance()
+              .getModelIdBySchemaIdAndModelName(getParentEntityId(ident), ident.name());
+          return true;
+        case USER:
+          AuthorizationUtils.checkUser(ident);
+          UserMetaService.getInstance()
+              .getUserIdByMetalakeIdAndName(getMetalakeId(ident), ident.name());
+          return true;
+        case GROUP:
+          AuthorizationUtils.checkGroup(ident);
+          GroupMetaService.getInstance()
+              .getGroupIdByMetalakeIdAndName(getMetalakeId(ident), ident.name());
+          return true;
+        case ROLE:
+          AuthorizationUtils.checkRole(ident);
+          RoleMetaService.getInstance()
+              .getRoleIdByMetalakeIdAndName(getMetalakeId(ident), ident.name());
+          return true;
+        case TAG:
+          TagMetaService.getInstance()
+              .getTagIdByMetalakeAndName(ident.namespace().level(0), ident.name());
+          return true;
+        default:
+          return getEntity(ident, entityType) != null;
+      }
     } catch (NoSuchEntityException ne) {
       return false;
     }
   }
 
+  private static Namespace toNamespace(NameIdentifier ident) {
+    return Namespace.of(ArrayUtils.add(ident.namespace().levels(), ident.name()));
+  }
+
+  private static Long getParentEntityId(NameIdentifier ident) {
+    return CommonMetaService.getInstance().getParentEntityIdByNamespace(ident.namespace());
+  }
+
+  private static Long getMetalakeId(NameIdentifier ident) {
+    return MetalakeMetaService.getInstance().getMetalakeIdByName(ident.namespace().level(0));
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException {
@@ -178,6 +291,18 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void batchInsert(List<E> entities)
+      throws EntityAlreadyExistsException, IOException {
+    if (!entities.isEmpty() && entities.stream().allMatch(e -> e instanceof TableEntity)) {
+      TableMetaService.getInstance()
+          .batchInsertTables(
+              entities.stream().map(e -> (TableEntity) e).collect(Collectors.toList()));
+    } else {
+      RelationalBackend.super.batchInsert(entities);
+    }
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
@@ -213,6 +338,11 @@ public class JDBCBackend implements RelationalBackend {
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType)
       throws NoSuchEntityException, IOException {
+    return SqlSessions.doReadOnly(() -> getEntity(ident, entityType));
+  }
+
+  private <E extends Entity & HasIdentifier> E getEntity(
+      NameIdentifier ident, Entity.EntityType entityType) {
     switch (entityType) {
       case METALAKE:
         return (E) MetalakeMetaService.getInstance().getMetalakeByIdentifier(ident);
@@ -279,60 +409,47 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
       throws IOException {
     switch (entityType) {
       case METALAKE:
         return MetalakeMetaService.getInstance()
-            .deleteMetalakeMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteMetalakeMetasByLegacyTimeline(legacyTimeline, limit);
       case CATALOG:
         return CatalogMetaService.getInstance()
-            .deleteCatalogMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteCatalogMetasByLegacyTimeline(legacyTimeline, limit);
       case SCHEMA:
         return SchemaMetaService.getInstance()
-            .deleteSchemaMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteSchemaMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE:
         return TableMetaService.getInstance()
-            .deleteTableMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+                .deleteTableMetasByLegacyTimeline(legacyTimeline, limit)
+            + TableStatisticsMetaService.getInstance()
+                .deleteStatisticsByLegacyTimeline(legacyTimeline, limit);
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case TOPIC:
         return TopicMetaService.getInstance()
-            .deleteTopicMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTopicMetasByLegacyTimeline(legacyTimeline, limit);
       case USER:
-        return UserMetaService.getInstance()
-            .deleteUserMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return UserMetaService.getInstance().deleteUserMetasByLegacyTimeline(legacyTimeline, limit);
       case GROUP:
         return GroupMetaService.getInstance()
-            .deleteGroupMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteGroupMetasByLegacyTimeline(legacyTimeline, limit);
       case ROLE:
-        return RoleMetaService.getInstance()
-            .deleteRoleMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return RoleMetaService.getInstance().deleteRoleMetasByLegacyTimeline(legacyTimeline, limit);
       case TAG:
-        return TagMetaService.getInstance()
-            .deleteTagMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return TagMetaService.getInstance().deleteTagMetasByLegacyTimeline(legacyTimeline, limit);
       case COLUMN:
         return TableColumnMetaService.getInstance()
-            .deleteColumnsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteColumnsByLegacyTimeline(legacyTimeline, limit);
       case MODEL:
         return ModelMetaService.getInstance()
-            .deleteModelMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelMetasByLegacyTimeline(legacyTimeline, limit);
       case MODEL_VERSION:
         return ModelVersionMetaService.getInstance()
-            .deleteModelVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case AUDIT:
         return 0;
         // TODO: Implement hard delete logic for these entity types.
@@ -344,8 +461,8 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
-      throws IOException {
+  public int deleteOldVersionData(
+      Entity.EntityType entityType, long versionRetentionCount, int limit) throws IOException {
     switch (entityType) {
       case METALAKE:
       case CATALOG:
@@ -365,8 +482,7 @@ public class JDBCBackend implements RelationalBackend {
 
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetVersionsByRetentionCount(versionRetentionCount, limit);
 
       default:
         throw new IllegalArgumentException(
@@ -387,21 +503,26 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public List<MetadataObject> listAssociatedMetadataObjectsForTag(NameIdentifier tagIdent)
       throws IOException {
-    return TagMetaService.getInstance().listAssociatedMetadataObjectsForTag(tagIdent);
+    return SqlSessions.doReadOnly(
+        () -> TagMetaService.getInstance().listAssociatedMetadataObjectsForTag(tagIdent));
   }
 
   @Override
   public List<TagEntity> listAssociatedTagsForMetadataObject(
       NameIdentifier objectIdent, Entity.EntityType objectType)
       throws NoSuchEntityException, IOException {
-    return TagMetaService.getInstance().listTagsForMetadataObject(objectIdent, objectType);
+    return SqlSessions.doReadOnly(
+        () -> TagMetaService.getInstance().listTagsForMetadataObject(objectIdent, objectType));
   }
 
   @Override
   public TagEntity getTagForMetadataObject(
       NameIdentifier objectIdent, Entity.EntityType objectType, NameIdentifier tagIdent)
       throws NoSuchEntityException, IOException {
-    return TagMetaService.getInstance().getTagForMetadataObject(objectIdent, objectType, tagIdent);
+    return SqlSessions.doReadOnly(
+        () ->
+            TagMetaService.getInstance()
+                .getTagForMetadataObject(objectIdent, objectType, tagIdent));
   }
 
   @Override
@@ -418,6 +539,12 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields) {
+    return SqlSessions.doReadOnly(
+        () -> listEntitiesByRelationInternal(relType, nameIdentifier, identType, allFields));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listEntitiesByRelationInternal(
+      Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields) {
     switch (relType) {
       case OWNER_REL:
         List<E> list = Lists.newArrayList();
@@ -467,6 +594,29 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public TableStatistics getTableStatistics(NameIdentifier tableIdent, String partitionName)
+      throws NoSuchEntityException {
+    return SqlSessions.doReadOnly(
+        () ->
+            TableStatisticsMetaService.getInstance().getTableStatistics(tableIdent, partitionName));
+  }
+
+  @Override
+  public TableStatistics updateTableStatistics(
+      NameIdentifier tableIdent, String partitionName, TableStatistics statistics)
+      throws NoSuchEntityException {
+    return TableStatisticsMetaService.getInstance()
+        .updateTableStatistics(tableIdent, partitionName, statistics);
+  }
+
+  @Override
+  public boolean dropTableStatistics(NameIdentifier tableIdent, String partitionName)
+      throws NoSuchEntityException {
+    return TableStatisticsMetaService.getInstance()
+        .deleteTableStatistics(tableIdent, partitionName);
+  }
+
   public enum JDBCBackendType {
     H2(true),
     MYSQL(false),
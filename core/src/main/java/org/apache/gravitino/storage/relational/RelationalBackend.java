@@ -30,11 +30,15 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.stats.SupportsStatisticsOperations;
 import org.apache.gravitino.tag.SupportsTagOperations;
 
 /** Interface defining the operations for a Relation Backend. */
 public interface RelationalBackend
-    extends Closeable, SupportsTagOperations, SupportsRelationOperations {
+    extends Closeable,
+        SupportsTagOperations,
+        SupportsRelationOperations,
+        SupportsStatisticsOperations {
 
   /**
    * Initializes the Relational Backend environment with the provided configuration.
@@ -62,6 +66,23 @@ public interface RelationalBackend
       Namespace namespace, Entity.EntityType entityType, boolean allFields)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists the entities associated with the given parent namespace and entityType, ordered by name
+   * and starting after the given name.
+   *
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param startAfter The entity name to start after, or null to start from the first one.
+   * @param limit The maximum number of entities to return.
+   * @return The list of entities associated with the given parent namespace and entityType.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String startAfter, int limit)
+      throws NoSuchEntityException, IOException;
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
@@ -83,6 +104,20 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException;
 
+  /**
+   * Stores the new entities in batch. The default implementation stores them one by one.
+   *
+   * @param entities The entities which need be stored.
+   * @throws EntityAlreadyExistsException If any of the entities already exists.
+   * @throws IOException If the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> void batchInsert(List<E> entities)
+      throws EntityAlreadyExistsException, IOException {
+    for (E e : entities) {
+      insert(e, false);
+    }
+  }
+
   /**
    * Updates the entity.
    *
@@ -126,10 +161,12 @@ public interface RelationalBackend
    *
    * @param entityType The type of the entity.
    * @param legacyTimeline The time before which the data has been marked as deleted.
+   * @param limit The maximum count of the data to delete.
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline) throws IOException;
+  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
+      throws IOException;
 
   /**
    * Soft deletes the old version data that is older than or equal to the given version retention
@@ -137,9 +174,10 @@ public interface RelationalBackend
    *
    * @param entityType The type of the entity.
    * @param versionRetentionCount The count of versions to retain.
+   * @param limit The maximum count of the data to delete.
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount, int limit)
       throws IOException;
 }
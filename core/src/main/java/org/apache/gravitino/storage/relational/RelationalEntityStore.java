@@ -21,14 +21,18 @@ package org.apache.gravitino.storage.relational;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
@@ -36,6 +40,12 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityCacheMetricsSource;
+import org.apache.gravitino.metrics.source.EntityStoreGarbageCollectorMetricsSource;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.apache.gravitino.stats.SupportsStatisticsOperations;
+import org.apache.gravitino.storage.cache.EntityCache;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
@@ -47,19 +57,69 @@ import org.slf4j.LoggerFactory;
  * RelationalBackend} interface
  */
 public class RelationalEntityStore
-    implements EntityStore, SupportsTagOperations, SupportsRelationOperations {
+    implements EntityStore,
+        SupportsTagOperations,
+        SupportsRelationOperations,
+        SupportsStatisticsOperations {
   private static final Logger LOGGER = LoggerFactory.getLogger(RelationalEntityStore.class);
   public static final ImmutableMap<String, String> RELATIONAL_BACKENDS =
       ImmutableMap.of(
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
+
+  // Only the entities whose content is fully changed through their own put/update/delete are
+  // cached. The user, group and role entities depend on the relations, and the model entity's
+  // latest version is changed by linking a model version, so they are not cached.
+  private static final Set<Entity.EntityType> CACHEABLE_ENTITY_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.METALAKE,
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC);
+
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
+  // Null if the entity cache is disabled.
+  private EntityCache cache;
+  private EntityCacheMetricsSource cacheMetricsSource;
+  private EntityStoreGarbageCollectorMetricsSource garbageCollectorMetricsSource;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // Metrics system could be null in UT.
+    if (metricsSystem != null) {
+      this.garbageCollectorMetricsSource =
+          new EntityStoreGarbageCollectorMetricsSource(garbageCollector);
+      metricsSystem.register(garbageCollectorMetricsSource);
+    }
+
+    if (config.get(Configs.ENTITY_STORE_CACHE_ENABLED)) {
+      this.cache = createEntityCache(config);
+      if (metricsSystem != null) {
+        this.cacheMetricsSource = new EntityCacheMetricsSource(cache);
+        metricsSystem.register(cacheMetricsSource);
+      }
+    }
+  }
+
+  private static EntityCache createEntityCache(Config config) {
+    String className = config.get(Configs.ENTITY_STORE_CACHE_CLASS_NAME);
+    try {
+      EntityCache entityCache =
+          (EntityCache) Class.forName(className).getDeclaredConstructor().newInstance();
+      entityCache.initialize(config);
+      return entityCache;
+    } catch (Exception e) {
+      LOGGER.error("Failed to create and initialize EntityCache by name '{}'.", className, e);
+      throw new RuntimeException(
+          "Failed to create and initialize EntityCache by name: " + className, e);
+    }
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -93,8 +153,22 @@ public class RelationalEntityStore
     return backend.list(namespace, entityType, allFields);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String startAfter,
+      int limit)
+      throws IOException {
+    return backend.list(namespace, entityType, startAfter, limit);
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
+    if (isCacheable(entityType) && cache.getIfPresent(ident, entityType).isPresent()) {
+      return true;
+    }
     return backend.exists(ident, entityType);
   }
 
@@ -102,20 +176,57 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
     backend.insert(e, overwritten);
+    if (isCacheable(e.type())) {
+      cache.put(e);
+    }
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> void batchPut(List<E> entities)
+      throws IOException, EntityAlreadyExistsException {
+    backend.batchInsert(entities);
+    for (E e : entities) {
+      if (isCacheable(e.type())) {
+        cache.put(e);
+      }
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    return backend.update(ident, entityType, updater);
+    if (!isCacheable(entityType)) {
+      return backend.update(ident, entityType, updater);
+    }
+
+    E updatedEntity;
+    try {
+      updatedEntity = backend.update(ident, entityType, updater);
+    } finally {
+      // The entities under a renamed entity are no longer reachable by the old identifiers.
+      cache.invalidate(ident, entityType);
+    }
+    cache.put(updatedEntity);
+    return updatedEntity;
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return backend.get(ident, entityType);
+    if (!isCacheable(entityType)) {
+      return backend.get(ident, entityType);
+    }
+
+    Optional<E> cachedEntity = cache.getIfPresent(ident, entityType);
+    if (cachedEntity.isPresent()) {
+      return cachedEntity.get();
+    }
+
+    E entity = backend.get(ident, entityType);
+    cache.put(entity);
+    return entity;
   }
 
   @Override
@@ -125,9 +236,17 @@ public class RelationalEntityStore
       return backend.delete(ident, entityType, cascade);
     } catch (NoSuchEntityException nse) {
       return false;
+    } finally {
+      if (isCacheable(entityType)) {
+        cache.invalidate(ident, entityType);
+      }
     }
   }
 
+  private boolean isCacheable(Entity.EntityType entityType) {
+    return cache != null && CACHEABLE_ENTITY_TYPES.contains(entityType);
+  }
+
   @Override
   public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable) {
     throw new UnsupportedOperationException("Unsupported operation in relational entity store.");
@@ -136,6 +255,16 @@ public class RelationalEntityStore
   @Override
   public void close() throws IOException {
     garbageCollector.close();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && garbageCollectorMetricsSource != null) {
+      metricsSystem.unregister(garbageCollectorMetricsSource);
+    }
+    if (cache != null) {
+      if (metricsSystem != null && cacheMetricsSource != null) {
+        metricsSystem.unregister(cacheMetricsSource);
+      }
+      cache.close();
+    }
     backend.close();
   }
 
@@ -149,6 +278,11 @@ public class RelationalEntityStore
     return this;
   }
 
+  @Override
+  public SupportsStatisticsOperations statisticsOperations() {
+    return this;
+  }
+
   @Override
   public List<MetadataObject> listAssociatedMetadataObjectsForTag(NameIdentifier tagIdent)
       throws IOException {
@@ -198,4 +332,23 @@ public class RelationalEntityStore
       throws IOException {
     backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, true);
   }
+
+  @Override
+  public TableStatistics getTableStatistics(NameIdentifier tableIdent, String partitionName)
+      throws NoSuchEntityException, IOException {
+    return backend.getTableStatistics(tableIdent, partitionName);
+  }
+
+  @Override
+  public TableStatistics updateTableStatistics(
+      NameIdentifier tableIdent, String partitionName, TableStatistics statistics)
+      throws NoSuchEntityException, IOException {
+    return backend.updateTableStatistics(tableIdent, partitionName, statistics);
+  }
+
+  @Override
+  public boolean dropTableStatistics(NameIdentifier tableIdent, String partitionName)
+      throws NoSuchEntityException, IOException {
+    return backend.dropTableStatistics(tableIdent, partitionName);
+  }
 }
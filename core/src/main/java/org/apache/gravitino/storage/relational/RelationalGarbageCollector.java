@@ -20,20 +20,41 @@
 package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.STORE_GC_BATCH_SIZE;
+import static org.apache.gravitino.Configs.STORE_GC_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.STORE_GC_TIME_WINDOWS;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Purges the legacy data that has been marked as deleted and the old version data of the
+ * relational entity store periodically.
+ *
+ * <p>The data is purged in batches of {@code gravitino.entity.store.gc.batchSize} rows, optionally
+ * throttled to {@code gravitino.entity.store.gc.maxRowsPerSecond} and restricted to the {@code
+ * gravitino.entity.store.gc.timeWindows} of the day. A run stopped at the end of a time window
+ * records the entity type it was purging, and the next run resumes from it instead of starting over
+ * from the first entity type.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
@@ -41,6 +62,18 @@ public final class RelationalGarbageCollector implements Closeable {
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final int batchSize;
+  private final long maxRowsPerSecond;
+  private final List<TimeWindow> timeWindows;
+
+  // The legacy data of every entity type is purged first, then the old version data.
+  private final List<Task> tasks;
+  // The checkpoint, the index of the task the next run starts from.
+  private volatile int nextTaskIndex;
+  private volatile int pendingTaskCount;
+
+  private final AtomicLong purgedRowCount = new AtomicLong();
+  private volatile long lastRunDurationMillis;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
@@ -57,6 +90,18 @@ public final class RelationalGarbageCollector implements Closeable {
     this.backend = backend;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    batchSize = config.get(STORE_GC_BATCH_SIZE);
+    maxRowsPerSecond = config.get(STORE_GC_MAX_ROWS_PER_SECOND);
+    timeWindows = TimeWindow.parse(config.get(STORE_GC_TIME_WINDOWS));
+
+    ImmutableList.Builder<Task> builder = ImmutableList.builder();
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      builder.add(new Task(entityType, true));
+    }
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      builder.add(new Task(entityType, false));
+    }
+    this.tasks = builder.build();
   }
 
   public void start() {
@@ -71,48 +116,124 @@ public final class RelationalGarbageCollector implements Closeable {
   @VisibleForTesting
   public void collectAndClean() {
     long threadId = Thread.currentThread().getId();
-    LOG.debug("Thread {} start to collect garbage...", threadId);
+    if (!inTimeWindows()) {
+      LOG.debug("Thread {} skips collecting garbage outside of the time windows", threadId);
+      return;
+    }
 
+    LOG.debug("Thread {} start to collect garbage...", threadId);
+    long startMillis = System.currentTimeMillis();
+    long legacyTimeline = startMillis - storeDeleteAfterTimeMillis;
+    RunState state = new RunState(startMillis);
+    int finishedTaskCount = 0;
     try {
-      LOG.debug("Start to collect and delete legacy data by thread {}", threadId);
-      long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
-        }
-      }
-
-      LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
+      while (finishedTaskCount < tasks.size()) {
+        Task task = tasks.get((nextTaskIndex + finishedTaskCount) % tasks.size());
+        if (!purge(task, legacyTimeline, state)) {
+          break;
         }
+        finishedTaskCount++;
       }
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
-      LOG.debug("Thread {} finish to collect garbage.", threadId);
+      nextTaskIndex = (nextTaskIndex + finishedTaskCount) % tasks.size();
+      pendingTaskCount = tasks.size() - finishedTaskCount;
+      lastRunDurationMillis = System.currentTimeMillis() - startMillis;
+      LOG.info(
+          "Thread {} finish to collect garbage, purged {} rows in {} ms, {} tasks are pending",
+          threadId,
+          state.purgedRows,
+          lastRunDurationMillis,
+          pendingTaskCount);
+    }
+  }
+
+  /**
+   * Purges the data of the task batch by batch until there is no more data to purge.
+   *
+   * @return False if the run is stopped before all the data of the task is purged.
+   */
+  private boolean purge(Task task, long legacyTimeline, RunState state) {
+    if (task.legacy) {
+      LOG.debug(
+          "Try to physically delete {} legacy data that has been marked deleted before {}",
+          task.entityType,
+          legacyTimeline);
+    } else {
+      LOG.debug(
+          "Try to softly delete {} old version data that has been over retention count {}",
+          task.entityType,
+          versionRetentionCount);
+    }
+    try {
+      while (true) {
+        if (Thread.currentThread().isInterrupted() || !inTimeWindows()) {
+          LOG.info("Stop collecting garbage at {}, it will be resumed in the next run", task);
+          return false;
+        }
+
+        int deletedCount =
+            task.legacy
+                ? backend.hardDeleteLegacyData(task.entityType, legacyTimeline, batchSize)
+                : backend.deleteOldVersionData(task.entityType, versionRetentionCount, batchSize);
+        if (deletedCount <= 0) {
+          return true;
+        }
+
+        state.purgedRows += deletedCount;
+        purgedRowCount.addAndGet(deletedCount);
+        throttle(state);
+      }
+    } catch (RuntimeException | IOException e) {
+      LOG.error("Failed to purge the " + task + ": ", e);
+      return true;
     }
   }
 
+  private void throttle(RunState state) {
+    if (maxRowsPerSecond <= 0) {
+      return;
+    }
+
+    long expectedMillis = state.purgedRows * 1000 / maxRowsPerSecond;
+    long sleepMillis = expectedMillis - (System.currentTimeMillis() - state.startMillis);
+    if (sleepMillis > 0) {
+      try {
+        Thread.sleep(sleepMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private boolean inTimeWindows() {
+    return inTimeWindows(LocalTime.now());
+  }
+
+  @VisibleForTesting
+  boolean inTimeWindows(LocalTime time) {
+    return timeWindows.isEmpty() || timeWindows.stream().anyMatch(w -> w.contains(time));
+  }
+
+  /** @return The total count of the rows purged since the server started. */
+  public long purgedRowCount() {
+    return purgedRowCount.get();
+  }
+
+  /** @return The duration in milliseconds of the last run. */
+  public long lastRunDurationMillis() {
+    return lastRunDurationMillis;
+  }
+
+  /**
+   * @return The count of the entity types whose legacy or old version data was not fully purged by
+   *     the last run because the run was stopped, 0 if the last run purged all the data.
+   */
+  public int pendingTaskCount() {
+    return pendingTaskCount;
+  }
+
   @Override
   public void close() throws IOException {
     this.garbageCollectorPool.shutdown();
@@ -125,4 +246,69 @@ public final class RelationalGarbageCollector implements Closeable {
       Thread.currentThread().interrupt();
     }
   }
+
+  private static final class Task {
+    private final Entity.EntityType entityType;
+    // True to purge the legacy data, false to purge the old version data.
+    private final boolean legacy;
+
+    private Task(Entity.EntityType entityType, boolean legacy) {
+      this.entityType = entityType;
+      this.legacy = legacy;
+    }
+
+    @Override
+    public String toString() {
+      return entityType + (legacy ? " legacy data" : " old version data");
+    }
+  }
+
+  private static final class RunState {
+    private final long startMillis;
+    private long purgedRows;
+
+    private RunState(long startMillis) {
+      this.startMillis = startMillis;
+    }
+  }
+
+  @VisibleForTesting
+  static final class TimeWindow {
+    private final LocalTime start;
+    private final LocalTime end;
+
+    private TimeWindow(LocalTime start, LocalTime end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    static List<TimeWindow> parse(String windows) {
+      if (StringUtils.isBlank(windows)) {
+        return ImmutableList.of();
+      }
+
+      ImmutableList.Builder<TimeWindow> builder = ImmutableList.builder();
+      for (String window : Splitter.on(',').trimResults().omitEmptyStrings().split(windows)) {
+        List<String> bounds = Splitter.on('-').trimResults().splitToList(window);
+        Preconditions.checkArgument(
+            bounds.size() == 2, "Invalid garbage collection time window: %s", window);
+        try {
+          builder.add(
+              new TimeWindow(LocalTime.parse(bounds.get(0)), LocalTime.parse(bounds.get(1))));
+        } catch (DateTimeParseException e) {
+          throw new IllegalArgumentException(
+              "Invalid garbage collection time window: " + window, e);
+        }
+      }
+      return builder.build();
+    }
+
+    boolean contains(LocalTime time) {
+      if (start.isBefore(end)) {
+        return !time.isBefore(start) && time.isBefore(end);
+      }
+      // The window spans midnight, like 22:00-02:00
+      return !time.isBefore(start) || time.isBefore(end);
+    }
+  }
 }
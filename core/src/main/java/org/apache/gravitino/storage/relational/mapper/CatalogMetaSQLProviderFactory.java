@@ -57,6 +57,13 @@ public class CatalogMetaSQLProviderFactory {
     return getProvider().listCatalogPOsByMetalakeId(metalakeId);
   }
 
+  public static String listCatalogPOsByMetalakeIdAfterName(
+      @Param("metalakeId") Long metalakeId,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listCatalogPOsByMetalakeIdAfterName(metalakeId, startAfter, limit);
+  }
+
   public static String listCatalogPOsByCatalogIds(@Param("catalogIds") List<Long> catalogIds) {
     return getProvider().listCatalogPOsByCatalogIds(catalogIds);
   }
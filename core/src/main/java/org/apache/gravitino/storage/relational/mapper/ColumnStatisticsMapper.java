@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.ColumnStatisticsPO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+/**
+ * A MyBatis Mapper for the column statistics of the tables and of their partitions. The statistics
+ * of the whole table are stored with an empty partition name.
+ */
+public interface ColumnStatisticsMapper {
+
+  String COLUMN_STATISTICS_TABLE_NAME = "column_statistics_meta";
+
+  @SelectProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "listColumnStatistics")
+  List<ColumnStatisticsPO> listColumnStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName);
+
+  @InsertProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "insertColumnStatistics")
+  void insertColumnStatistics(
+      @Param("columnStatistics") List<ColumnStatisticsPO> columnStatisticsPOs);
+
+  @UpdateProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "softDeleteColumnStatistics")
+  Integer softDeleteColumnStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName);
+
+  @UpdateProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "softDeleteColumnStatisticsByColumnNames")
+  Integer softDeleteColumnStatisticsByColumnNames(
+      @Param("tableId") Long tableId,
+      @Param("partitionName") String partitionName,
+      @Param("columnNames") List<String> columnNames);
+
+  @UpdateProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "softDeleteColumnStatisticsByTableIdAndColumnNames")
+  Integer softDeleteColumnStatisticsByTableIdAndColumnNames(
+      @Param("tableId") Long tableId, @Param("columnNames") List<String> columnNames);
+
+  @UpdateProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "softDeleteColumnStatisticsByTableId")
+  Integer softDeleteColumnStatisticsByTableId(@Param("tableId") Long tableId);
+
+  @UpdateProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "softDeleteColumnStatisticsByMetalakeId")
+  Integer softDeleteColumnStatisticsByMetalakeId(@Param("metalakeId") Long metalakeId);
+
+  @UpdateProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "softDeleteColumnStatisticsByCatalogId")
+  Integer softDeleteColumnStatisticsByCatalogId(@Param("catalogId") Long catalogId);
+
+  @UpdateProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "softDeleteColumnStatisticsBySchemaId")
+  Integer softDeleteColumnStatisticsBySchemaId(@Param("schemaId") Long schemaId);
+
+  @DeleteProvider(
+      type = ColumnStatisticsSQLProviderFactory.class,
+      method = "deleteColumnStatisticsByLegacyTimeline")
+  Integer deleteColumnStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+}
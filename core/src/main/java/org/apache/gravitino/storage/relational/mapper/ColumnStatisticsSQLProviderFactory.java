@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.provider.base.ColumnStatisticsBaseSQLProvider;
+import org.apache.gravitino.storage.relational.mapper.provider.postgresql.ColumnStatisticsPostgreSQLProvider;
+import org.apache.gravitino.storage.relational.po.ColumnStatisticsPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class ColumnStatisticsSQLProviderFactory {
+
+  static class ColumnStatisticsH2Provider extends ColumnStatisticsBaseSQLProvider {}
+
+  static class ColumnStatisticsMySQLProvider extends ColumnStatisticsBaseSQLProvider {}
+
+  private static final Map<JDBCBackend.JDBCBackendType, ColumnStatisticsBaseSQLProvider>
+      COLUMN_STATISTICS_SQL_PROVIDERS =
+          ImmutableMap.of(
+              JDBCBackend.JDBCBackendType.MYSQL, new ColumnStatisticsMySQLProvider(),
+              JDBCBackend.JDBCBackendType.H2, new ColumnStatisticsH2Provider(),
+              JDBCBackend.JDBCBackendType.POSTGRESQL, new ColumnStatisticsPostgreSQLProvider());
+
+  public static ColumnStatisticsBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+    JDBCBackend.JDBCBackendType jdbcBackendType =
+        JDBCBackend.JDBCBackendType.fromString(databaseId);
+    return COLUMN_STATISTICS_SQL_PROVIDERS.get(jdbcBackendType);
+  }
+
+  public static String listColumnStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return getProvider().listColumnStatistics(tableId, partitionName);
+  }
+
+  public static String insertColumnStatistics(
+      @Param("columnStatistics") List<ColumnStatisticsPO> columnStatisticsPOs) {
+    return getProvider().insertColumnStatistics(columnStatisticsPOs);
+  }
+
+  public static String softDeleteColumnStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return getProvider().softDeleteColumnStatistics(tableId, partitionName);
+  }
+
+  public static String softDeleteColumnStatisticsByColumnNames(
+      @Param("tableId") Long tableId,
+      @Param("partitionName") String partitionName,
+      @Param("columnNames") List<String> columnNames) {
+    return getProvider()
+        .softDeleteColumnStatisticsByColumnNames(tableId, partitionName, columnNames);
+  }
+
+  public static String softDeleteColumnStatisticsByTableIdAndColumnNames(
+      @Param("tableId") Long tableId, @Param("columnNames") List<String> columnNames) {
+    return getProvider().softDeleteColumnStatisticsByTableIdAndColumnNames(tableId, columnNames);
+  }
+
+  public static String softDeleteColumnStatisticsByTableId(@Param("tableId") Long tableId) {
+    return getProvider().softDeleteColumnStatisticsByTableId(tableId);
+  }
+
+  public static String softDeleteColumnStatisticsByMetalakeId(
+      @Param("metalakeId") Long metalakeId) {
+    return getProvider().softDeleteColumnStatisticsByMetalakeId(metalakeId);
+  }
+
+  public static String softDeleteColumnStatisticsByCatalogId(@Param("catalogId") Long catalogId) {
+    return getProvider().softDeleteColumnStatisticsByCatalogId(catalogId);
+  }
+
+  public static String softDeleteColumnStatisticsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().softDeleteColumnStatisticsBySchemaId(schemaId);
+  }
+
+  public static String deleteColumnStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return getProvider().deleteColumnStatisticsByLegacyTimeline(legacyTimeline, limit);
+  }
+}
@@ -56,6 +56,13 @@ public class FilesetMetaSQLProviderFactory {
     return getProvider().listFilesetPOsBySchemaId(schemaId);
   }
 
+  public static String listFilesetPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("startAfter") String startAfter,
+      @Param("limit") int limit) {
+    return getProvider().listFilesetPOsBySchemaIdAfterName(schemaId, startAfter, limit);
+  }
+
   public static String listFilesetPOsByFilesetIds(@Param("filesetIds") List<Long> filesetIds) {
     return getProvider().listFilesetPOsByFilesetIds(filesetIds);
   }
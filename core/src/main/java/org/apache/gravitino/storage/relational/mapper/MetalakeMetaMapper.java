@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper;
 
 import java.util.List;
 import org.apache.gravitino.storage.relational.po.MetalakePO;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Param;
@@ -57,6 +58,14 @@ public interface MetalakeMetaMapper {
       method = "selectMetalakeIdMetaByName")
   Long selectMetalakeIdMetaByName(@Param("metalakeName") String name);
 
+  @SelectProvider(
+      type = MetalakeMetaSQLProviderFactory.class,
+      method = "selectParentEntityIdsByNames")
+  ParentEntityIdsPO selectParentEntityIdsByNames(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName);
+
   @InsertProvider(type = MetalakeMetaSQLProviderFactory.class, method = "insertMetalakeMeta")
   void insertMetalakeMeta(@Param("metalakeMeta") MetalakePO metalakePO);
 
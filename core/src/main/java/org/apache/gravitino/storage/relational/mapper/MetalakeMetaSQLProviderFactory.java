@@ -69,6 +69,13 @@ public class MetalakeMetaSQLProviderFactory {
     return getProvider().selectMetalakeIdMetaByName(metalakeName);
   }
 
+  public static String selectParentEntityIdsByNames(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName) {
+    return getProvider().selectParentEntityIdsByNames(metalakeName, catalogName, schemaName);
+  }
+
   public static String listMetalakePOsByMetalakeIds(@Param("metalakeIds") List<Long> metalakeIds) {
     return getProvider().listMetalakePOsByMetalakeIds(metalakeIds);
   }
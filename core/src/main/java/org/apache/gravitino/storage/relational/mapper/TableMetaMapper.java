@@ -62,6 +62,9 @@ public interface TableMetaMapper {
   @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "insertTableMeta")
   void insertTableMeta(@Param("tableMeta") TablePO tablePO);
 
+  @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "batchInsertTableMetas")
+  void batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs);
+
   @InsertProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "insertTableMetaOnDuplicateKeyUpdate")
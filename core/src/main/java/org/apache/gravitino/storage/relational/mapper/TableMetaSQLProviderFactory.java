@@ -77,6 +77,10 @@ public class TableMetaSQLProviderFactory {
     return getProvider().insertTableMeta(tablePO);
   }
 
+  public static String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetas(tablePOs);
+  }
+
   public static String insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO) {
     return getProvider().insertTableMetaOnDuplicateKeyUpdate(tablePO);
   }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import org.apache.gravitino.storage.relational.po.TableStatisticsPO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+/**
+ * A MyBatis Mapper for the statistics of the tables and of their partitions. The statistics of the
+ * whole table are stored with an empty partition name.
+ */
+public interface TableStatisticsMapper {
+
+  String TABLE_STATISTICS_TABLE_NAME = "table_statistics_meta";
+
+  @SelectProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "selectTableStatistics")
+  TableStatisticsPO selectTableStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName);
+
+  @InsertProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "insertTableStatistics")
+  void insertTableStatistics(@Param("tableStatistics") TableStatisticsPO tableStatisticsPO);
+
+  @UpdateProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "softDeleteTableStatistics")
+  Integer softDeleteTableStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName);
+
+  @UpdateProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "softDeleteTableStatisticsByTableId")
+  Integer softDeleteTableStatisticsByTableId(@Param("tableId") Long tableId);
+
+  @UpdateProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "softDeleteTableStatisticsByMetalakeId")
+  Integer softDeleteTableStatisticsByMetalakeId(@Param("metalakeId") Long metalakeId);
+
+  @UpdateProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "softDeleteTableStatisticsByCatalogId")
+  Integer softDeleteTableStatisticsByCatalogId(@Param("catalogId") Long catalogId);
+
+  @UpdateProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "softDeleteTableStatisticsBySchemaId")
+  Integer softDeleteTableStatisticsBySchemaId(@Param("schemaId") Long schemaId);
+
+  @DeleteProvider(
+      type = TableStatisticsSQLProviderFactory.class,
+      method = "deleteTableStatisticsByLegacyTimeline")
+  Integer deleteTableStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+}
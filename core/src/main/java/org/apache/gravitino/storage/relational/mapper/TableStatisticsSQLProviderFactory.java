@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend;
+import org.apache.gravitino.storage.relational.mapper.provider.base.TableStatisticsBaseSQLProvider;
+import org.apache.gravitino.storage.relational.mapper.provider.postgresql.TableStatisticsPostgreSQLProvider;
+import org.apache.gravitino.storage.relational.po.TableStatisticsPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class TableStatisticsSQLProviderFactory {
+
+  static class TableStatisticsH2Provider extends TableStatisticsBaseSQLProvider {}
+
+  static class TableStatisticsMySQLProvider extends TableStatisticsBaseSQLProvider {}
+
+  private static final Map<JDBCBackend.JDBCBackendType, TableStatisticsBaseSQLProvider>
+      TABLE_STATISTICS_SQL_PROVIDERS =
+          ImmutableMap.of(
+              JDBCBackend.JDBCBackendType.MYSQL, new TableStatisticsMySQLProvider(),
+              JDBCBackend.JDBCBackendType.H2, new TableStatisticsH2Provider(),
+              JDBCBackend.JDBCBackendType.POSTGRESQL, new TableStatisticsPostgreSQLProvider());
+
+  public static TableStatisticsBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+    JDBCBackend.JDBCBackendType jdbcBackendType =
+        JDBCBackend.JDBCBackendType.fromString(databaseId);
+    return TABLE_STATISTICS_SQL_PROVIDERS.get(jdbcBackendType);
+  }
+
+  public static String selectTableStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return getProvider().selectTableStatistics(tableId, partitionName);
+  }
+
+  public static String insertTableStatistics(
+      @Param("tableStatistics") TableStatisticsPO tableStatisticsPO) {
+    return getProvider().insertTableStatistics(tableStatisticsPO);
+  }
+
+  public static String softDeleteTableStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return getProvider().softDeleteTableStatistics(tableId, partitionName);
+  }
+
+  public static String softDeleteTableStatisticsByTableId(@Param("tableId") Long tableId) {
+    return getProvider().softDeleteTableStatisticsByTableId(tableId);
+  }
+
+  public static String softDeleteTableStatisticsByMetalakeId(
+      @Param("metalakeId") Long metalakeId) {
+    return getProvider().softDeleteTableStatisticsByMetalakeId(metalakeId);
+  }
+
+  public static String softDeleteTableStatisticsByCatalogId(@Param("catalogId") Long catalogId) {
+    return getProvider().softDeleteTableStatisticsByCatalogId(catalogId);
+  }
+
+  public static String softDeleteTableStatisticsBySchemaId(@Param("schemaId") Long schemaId) {
+    return getProvider().softDeleteTableStatisticsBySchemaId(schemaId);
+  }
+
+  public static String deleteTableStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return getProvider().deleteTableStatisticsByLegacyTimeline(legacyTimeline, limit);
+  }
+}
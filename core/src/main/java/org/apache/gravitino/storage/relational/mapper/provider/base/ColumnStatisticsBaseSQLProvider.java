@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.ColumnStatisticsMapper.COLUMN_STATISTICS_TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.ColumnStatisticsPO;
+import org.apache.ibatis.annotations.Param;
+
+public class ColumnStatisticsBaseSQLProvider {
+
+  public String listColumnStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return "SELECT metalake_id AS metalakeId, catalog_id AS catalogId, schema_id AS schemaId,"
+        + " table_id AS tableId, partition_name AS partitionName, column_name AS columnName,"
+        + " distinct_count AS distinctCount, null_count AS nullCount, min_value AS minValue,"
+        + " max_value AS maxValue, histogram, deleted_at AS deletedAt"
+        + " FROM "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0";
+  }
+
+  public String insertColumnStatistics(
+      @Param("columnStatistics") List<ColumnStatisticsPO> columnStatisticsPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " (metalake_id, catalog_id, schema_id, table_id, partition_name, column_name,"
+        + " distinct_count, null_count, min_value, max_value, histogram, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='columnStatistics' item='item' separator=','>"
+        + "(#{item.metalakeId}, #{item.catalogId}, #{item.schemaId}, #{item.tableId},"
+        + " #{item.partitionName}, #{item.columnName}, #{item.distinctCount}, #{item.nullCount},"
+        + " #{item.minValue}, #{item.maxValue}, #{item.histogram}, #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String softDeleteColumnStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnStatisticsByColumnNames(
+      @Param("tableId") Long tableId,
+      @Param("partitionName") String partitionName,
+      @Param("columnNames") List<String> columnNames) {
+    return "<script>"
+        + "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0"
+        + " AND column_name IN ("
+        + "<foreach collection='columnNames' item='columnName' separator=','>"
+        + "#{columnName}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
+  public String softDeleteColumnStatisticsByTableIdAndColumnNames(
+      @Param("tableId") Long tableId, @Param("columnNames") List<String> columnNames) {
+    return "<script>"
+        + "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND deleted_at = 0"
+        + " AND column_name IN ("
+        + "<foreach collection='columnNames' item='columnName' separator=','>"
+        + "#{columnName}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
+  public String softDeleteColumnStatisticsByTableId(@Param("tableId") Long tableId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnStatisticsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnStatisticsByCatalogId(@Param("catalogId") Long catalogId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE catalog_id = #{catalogId} AND deleted_at = 0";
+  }
+
+  public String softDeleteColumnStatisticsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
+  }
+
+  public String deleteColumnStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
+  }
+}
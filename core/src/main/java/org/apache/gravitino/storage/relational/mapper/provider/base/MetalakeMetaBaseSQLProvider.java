@@ -21,6 +21,8 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 import static org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper.TABLE_NAME;
 
 import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import org.apache.gravitino.storage.relational.po.MetalakePO;
 import org.apache.ibatis.annotations.Param;
 
@@ -66,6 +68,34 @@ public class MetalakeMetaBaseSQLProvider {
         + " WHERE metalake_name = #{metalakeName} and deleted_at = 0";
   }
 
+  public String selectParentEntityIdsByNames(
+      @Param("metalakeName") String metalakeName,
+      @Param("catalogName") String catalogName,
+      @Param("schemaName") String schemaName) {
+    // Use left joins, so the caller can tell which level of the namespace doesn't exist.
+    return "<script>"
+        + "SELECT mm.metalake_id as metalakeId"
+        + "<if test='catalogName != null'>, cm.catalog_id as catalogId</if>"
+        + "<if test='schemaName != null'>, sm.schema_id as schemaId</if>"
+        + " FROM "
+        + TABLE_NAME
+        + " mm"
+        + "<if test='catalogName != null'>"
+        + " LEFT JOIN "
+        + CatalogMetaMapper.TABLE_NAME
+        + " cm ON cm.metalake_id = mm.metalake_id"
+        + " AND cm.catalog_name = #{catalogName} AND cm.deleted_at = 0"
+        + "</if>"
+        + "<if test='schemaName != null'>"
+        + " LEFT JOIN "
+        + SchemaMetaMapper.TABLE_NAME
+        + " sm ON sm.catalog_id = cm.catalog_id"
+        + " AND sm.schema_name = #{schemaName} AND sm.deleted_at = 0"
+        + "</if>"
+        + " WHERE mm.metalake_name = #{metalakeName} AND mm.deleted_at = 0"
+        + "</script>";
+  }
+
   public String listMetalakePOsByMetalakeIds(@Param("metalakeIds") List<Long> metalakeIds) {
     return "<script>"
         + " SELECT metalake_id as metalakeId, metalake_name as metalakeName,"
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.TableStatisticsMapper.TABLE_STATISTICS_TABLE_NAME;
+
+import org.apache.gravitino.storage.relational.po.TableStatisticsPO;
+import org.apache.ibatis.annotations.Param;
+
+public class TableStatisticsBaseSQLProvider {
+
+  public String selectTableStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return "SELECT metalake_id AS metalakeId, catalog_id AS catalogId, schema_id AS schemaId,"
+        + " table_id AS tableId, partition_name AS partitionName, row_count AS rowCount,"
+        + " size_in_bytes AS sizeInBytes, audit_info AS auditInfo, deleted_at AS deletedAt"
+        + " FROM "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0";
+  }
+
+  public String insertTableStatistics(
+      @Param("tableStatistics") TableStatisticsPO tableStatisticsPO) {
+    return "INSERT INTO "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " (metalake_id, catalog_id, schema_id, table_id, partition_name, row_count,"
+        + " size_in_bytes, audit_info, deleted_at)"
+        + " VALUES (#{tableStatistics.metalakeId}, #{tableStatistics.catalogId},"
+        + " #{tableStatistics.schemaId}, #{tableStatistics.tableId},"
+        + " #{tableStatistics.partitionName}, #{tableStatistics.rowCount},"
+        + " #{tableStatistics.sizeInBytes}, #{tableStatistics.auditInfo},"
+        + " #{tableStatistics.deletedAt})";
+  }
+
+  public String softDeleteTableStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0";
+  }
+
+  public String softDeleteTableStatisticsByTableId(@Param("tableId") Long tableId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id = #{tableId} AND deleted_at = 0";
+  }
+
+  public String softDeleteTableStatisticsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0";
+  }
+
+  public String softDeleteTableStatisticsByCatalogId(@Param("catalogId") Long catalogId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE catalog_id = #{catalogId} AND deleted_at = 0";
+  }
+
+  public String softDeleteTableStatisticsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
+  }
+
+  public String deleteTableStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
+
+import static org.apache.gravitino.storage.relational.mapper.ColumnStatisticsMapper.COLUMN_STATISTICS_TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.mapper.provider.base.ColumnStatisticsBaseSQLProvider;
+import org.apache.ibatis.annotations.Param;
+
+public class ColumnStatisticsPostgreSQLProvider extends ColumnStatisticsBaseSQLProvider {
+
+  @Override
+  public String softDeleteColumnStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteColumnStatisticsByColumnNames(
+      @Param("tableId") Long tableId,
+      @Param("partitionName") String partitionName,
+      @Param("columnNames") List<String> columnNames) {
+    return "<script>"
+        + "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0"
+        + " AND column_name IN ("
+        + "<foreach collection='columnNames' item='columnName' separator=','>"
+        + "#{columnName}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
+  @Override
+  public String softDeleteColumnStatisticsByTableIdAndColumnNames(
+      @Param("tableId") Long tableId, @Param("columnNames") List<String> columnNames) {
+    return "<script>"
+        + "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id = #{tableId} AND deleted_at = 0"
+        + " AND column_name IN ("
+        + "<foreach collection='columnNames' item='columnName' separator=','>"
+        + "#{columnName}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
+  @Override
+  public String softDeleteColumnStatisticsByTableId(@Param("tableId") Long tableId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id = #{tableId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteColumnStatisticsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteColumnStatisticsByCatalogId(@Param("catalogId") Long catalogId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE catalog_id = #{catalogId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteColumnStatisticsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "UPDATE "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String deleteColumnStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " WHERE id IN (SELECT id FROM "
+        + COLUMN_STATISTICS_TABLE_NAME
+        + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit})";
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
+
+import static org.apache.gravitino.storage.relational.mapper.TableStatisticsMapper.TABLE_STATISTICS_TABLE_NAME;
+
+import org.apache.gravitino.storage.relational.mapper.provider.base.TableStatisticsBaseSQLProvider;
+import org.apache.ibatis.annotations.Param;
+
+public class TableStatisticsPostgreSQLProvider extends TableStatisticsBaseSQLProvider {
+
+  @Override
+  public String softDeleteTableStatistics(
+      @Param("tableId") Long tableId, @Param("partitionName") String partitionName) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id = #{tableId} AND partition_name = #{partitionName} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteTableStatisticsByTableId(@Param("tableId") Long tableId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id = #{tableId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteTableStatisticsByMetalakeId(@Param("metalakeId") Long metalakeId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE metalake_id = #{metalakeId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteTableStatisticsByCatalogId(@Param("catalogId") Long catalogId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE catalog_id = #{catalogId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String softDeleteTableStatisticsBySchemaId(@Param("schemaId") Long schemaId) {
+    return "UPDATE "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
+  }
+
+  @Override
+  public String deleteTableStatisticsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " WHERE id IN (SELECT id FROM "
+        + TABLE_STATISTICS_TABLE_NAME
+        + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit})";
+  }
+}
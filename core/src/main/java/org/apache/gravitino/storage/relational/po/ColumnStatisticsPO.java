@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+@EqualsAndHashCode
+@Getter
+public class ColumnStatisticsPO {
+
+  private Long metalakeId;
+
+  private Long catalogId;
+
+  private Long schemaId;
+
+  private Long tableId;
+
+  private String partitionName;
+
+  private String columnName;
+
+  private Long distinctCount;
+
+  private Long nullCount;
+
+  private String minValue;
+
+  private String maxValue;
+
+  private String histogram;
+
+  private Long deletedAt;
+
+  private ColumnStatisticsPO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+
+    private final ColumnStatisticsPO columnStatisticsPO;
+
+    private Builder() {
+      columnStatisticsPO = new ColumnStatisticsPO();
+    }
+
+    public Builder withMetalakeId(Long metalakeId) {
+      columnStatisticsPO.metalakeId = metalakeId;
+      return this;
+    }
+
+    public Builder withCatalogId(Long catalogId) {
+      columnStatisticsPO.catalogId = catalogId;
+      return this;
+    }
+
+    public Builder withSchemaId(Long schemaId) {
+      columnStatisticsPO.schemaId = schemaId;
+      return this;
+    }
+
+    public Builder withTableId(Long tableId) {
+      columnStatisticsPO.tableId = tableId;
+      return this;
+    }
+
+    public Builder withPartitionName(String partitionName) {
+      columnStatisticsPO.partitionName = partitionName;
+      return this;
+    }
+
+    public Builder withColumnName(String columnName) {
+      columnStatisticsPO.columnName = columnName;
+      return this;
+    }
+
+    public Builder withDistinctCount(Long distinctCount) {
+      columnStatisticsPO.distinctCount = distinctCount;
+      return this;
+    }
+
+    public Builder withNullCount(Long nullCount) {
+      columnStatisticsPO.nullCount = nullCount;
+      return this;
+    }
+
+    public Builder withMinValue(String minValue) {
+      columnStatisticsPO.minValue = minValue;
+      return this;
+    }
+
+    public Builder withMaxValue(String maxValue) {
+      columnStatisticsPO.maxValue = maxValue;
+      return this;
+    }
+
+    public Builder withHistogram(String histogram) {
+      columnStatisticsPO.histogram = histogram;
+      return this;
+    }
+
+    public Builder withDeletedAt(Long deletedAt) {
+      columnStatisticsPO.deletedAt = deletedAt;
+      return this;
+    }
+
+    public ColumnStatisticsPO build() {
+      Preconditions.checkArgument(columnStatisticsPO.metalakeId != null, "metalakeId is required");
+      Preconditions.checkArgument(columnStatisticsPO.catalogId != null, "catalogId is required");
+      Preconditions.checkArgument(columnStatisticsPO.schemaId != null, "schemaId is required");
+      Preconditions.checkArgument(columnStatisticsPO.tableId != null, "tableId is required");
+      Preconditions.checkArgument(
+          columnStatisticsPO.partitionName != null, "partitionName is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(columnStatisticsPO.columnName), "columnName is required");
+      Preconditions.checkArgument(columnStatisticsPO.deletedAt != null, "deletedAt is required");
+      return columnStatisticsPO;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@EqualsAndHashCode
+@Getter
+public class TableStatisticsPO {
+
+  private Long metalakeId;
+
+  private Long catalogId;
+
+  private Long schemaId;
+
+  private Long tableId;
+
+  private String partitionName;
+
+  private Long rowCount;
+
+  private Long sizeInBytes;
+
+  private String auditInfo;
+
+  private Long deletedAt;
+
+  private TableStatisticsPO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+
+    private final TableStatisticsPO tableStatisticsPO;
+
+    private Builder() {
+      tableStatisticsPO = new TableStatisticsPO();
+    }
+
+    public Builder withMetalakeId(Long metalakeId) {
+      tableStatisticsPO.metalakeId = metalakeId;
+      return this;
+    }
+
+    public Builder withCatalogId(Long catalogId) {
+      tableStatisticsPO.catalogId = catalogId;
+      return this;
+    }
+
+    public Builder withSchemaId(Long schemaId) {
+      tableStatisticsPO.schemaId = schemaId;
+      return this;
+    }
+
+    public Builder withTableId(Long tableId) {
+      tableStatisticsPO.tableId = tableId;
+      return this;
+    }
+
+    public Builder withPartitionName(String partitionName) {
+      tableStatisticsPO.partitionName = partitionName;
+      return this;
+    }
+
+    public Builder withRowCount(Long rowCount) {
+      tableStatisticsPO.rowCount = rowCount;
+      return this;
+    }
+
+    public Builder withSizeInBytes(Long sizeInBytes) {
+      tableStatisticsPO.sizeInBytes = sizeInBytes;
+      return this;
+    }
+
+    public Builder withAuditInfo(String auditInfo) {
+      tableStatisticsPO.auditInfo = auditInfo;
+      return this;
+    }
+
+    public Builder withDeletedAt(Long deletedAt) {
+      tableStatisticsPO.deletedAt = deletedAt;
+      return this;
+    }
+
+    public TableStatisticsPO build() {
+      Preconditions.checkArgument(tableStatisticsPO.metalakeId != null, "metalakeId is required");
+      Preconditions.checkArgument(tableStatisticsPO.catalogId != null, "catalogId is required");
+      Preconditions.checkArgument(tableStatisticsPO.schemaId != null, "schemaId is required");
+      Preconditions.checkArgument(tableStatisticsPO.tableId != null, "tableId is required");
+      Preconditions.checkArgument(
+          tableStatisticsPO.partitionName != null, "partitionName is required");
+      Preconditions.checkArgument(tableStatisticsPO.auditInfo != null, "auditInfo is required");
+      Preconditions.checkArgument(tableStatisticsPO.deletedAt != null, "deletedAt is required");
+      return tableStatisticsPO;
+    }
+  }
+}
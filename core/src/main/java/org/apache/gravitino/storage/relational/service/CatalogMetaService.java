@@ -34,6 +34,7 @@ import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ColumnStatisticsMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.ModelMetaMapper;
@@ -44,6 +45,7 @@ import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableStatisticsMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
 import org.apache.gravitino.storage.relational.po.CatalogPO;
@@ -129,6 +131,20 @@ public class CatalogMetaService {
     return POConverters.fromCatalogPOs(catalogPOS, namespace);
   }
 
+  public List<CatalogEntity> listCatalogsByNamespace(
+      Namespace namespace, String startAfter, int limit) {
+    NamespaceUtil.checkCatalog(namespace);
+
+    Long metalakeId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<CatalogPO> catalogPOS =
+        SessionUtils.getWithoutCommit(
+            CatalogMetaMapper.class,
+            mapper -> mapper.listCatalogPOsByMetalakeIdAfterName(metalakeId, startAfter, limit));
+
+    return POConverters.fromCatalogPOs(catalogPOS, namespace);
+  }
+
   public void insertCatalog(CatalogEntity catalogEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkCatalog(catalogEntity.nameIdentifier());
@@ -221,6 +237,14 @@ public class CatalogMetaService {
               SessionUtils.doWithoutCommit(
                   TableColumnMapper.class,
                   mapper -> mapper.softDeleteColumnsByCatalogId(catalogId)),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableStatisticsMapper.class,
+                  mapper -> mapper.softDeleteTableStatisticsByCatalogId(catalogId)),
+          () ->
+              SessionUtils.doWithoutCommit(
+                  ColumnStatisticsMapper.class,
+                  mapper -> mapper.softDeleteColumnStatisticsByCatalogId(catalogId)),
           () ->
               SessionUtils.doWithoutCommit(
                   FilesetMetaMapper.class,
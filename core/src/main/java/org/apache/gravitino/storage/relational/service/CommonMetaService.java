@@ -20,7 +20,12 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
+import org.apache.gravitino.storage.relational.po.ParentEntityIdsPO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
 
 /** The service class for common metadata operations. */
 public class CommonMetaService {
@@ -33,25 +38,8 @@ public class CommonMetaService {
   private CommonMetaService() {}
 
   public Long getParentEntityIdByNamespace(Namespace namespace) {
-    Preconditions.checkArgument(
-        !namespace.isEmpty() && namespace.levels().length <= 3,
-        "Namespace should not be empty and length should be less than or equal to 3.");
-    Long parentEntityId = null;
-    if (namespace.levels().length >= 1) {
-      parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
-    }
-
-    if (namespace.levels().length >= 2) {
-      parentEntityId =
-          CatalogMetaService.getInstance()
-              .getCatalogIdByMetalakeIdAndName(parentEntityId, namespace.level(1));
-    }
-
-    if (namespace.levels().length >= 3) {
-      parentEntityId =
-          SchemaMetaService.getInstance()
-              .getSchemaIdByCatalogIdAndName(parentEntityId, namespace.level(2));
-    }
+    Long[] parentEntityIds = getParentEntityIdsByNamespace(namespace);
+    Long parentEntityId = parentEntityIds[parentEntityIds.length - 1];
     Preconditions.checkState(
         parentEntityId != null && parentEntityId > 0,
         "Parent entity id should not be null and should be greater than 0.");
@@ -62,24 +50,44 @@ public class CommonMetaService {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
-    Long[] parentEntityIds = new Long[namespace.levels().length];
-    if (namespace.levels().length >= 1) {
-      parentEntityIds[0] =
-          MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
-    }
+    int length = namespace.levels().length;
+    String metalakeName = namespace.level(0);
+    String catalogName = length >= 2 ? namespace.level(1) : null;
+    String schemaName = length >= 3 ? namespace.level(2) : null;
+
+    // Resolve all the levels of the namespace in one query instead of one query per level.
+    ParentEntityIdsPO parentEntityIdsPO =
+        SessionUtils.getWithoutCommit(
+            MetalakeMetaMapper.class,
+            mapper -> mapper.selectParentEntityIdsByNames(metalakeName, catalogName, schemaName));
+
+    Long[] parentEntityIds = new Long[length];
+    parentEntityIds[0] =
+        checkEntityIdExists(
+            parentEntityIdsPO == null ? null : parentEntityIdsPO.getMetalakeId(),
+            Entity.EntityType.METALAKE,
+            metalakeName);
 
-    if (namespace.levels().length >= 2) {
+    if (length >= 2) {
       parentEntityIds[1] =
-          CatalogMetaService.getInstance()
-              .getCatalogIdByMetalakeIdAndName(parentEntityIds[0], namespace.level(1));
+          checkEntityIdExists(
+              parentEntityIdsPO.getCatalogId(), Entity.EntityType.CATALOG, catalogName);
     }
 
-    if (namespace.levels().length >= 3) {
+    if (length >= 3) {
       parentEntityIds[2] =
-          SchemaMetaService.getInstance()
-              .getSchemaIdByCatalogIdAndName(parentEntityIds[1], namespace.level(2));
+          checkEntityIdExists(
+              parentEntityIdsPO.getSchemaId(), Entity.EntityType.SCHEMA, schemaName);
     }
 
     return parentEntityIds;
   }
+
+  private Long checkEntityIdExists(Long entityId, Entity.EntityType type, String name) {
+    if (entityId == null) {
+      throw new NoSuchEntityException(
+          NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE, type.name().toLowerCase(), name);
+    }
+    return entityId;
+  }
 }
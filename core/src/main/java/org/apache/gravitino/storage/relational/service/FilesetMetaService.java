@@ -123,6 +123,20 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPOs(filesetPOs, namespace);
   }
 
+  public List<FilesetEntity> listFilesetsByNamespace(
+      Namespace namespace, String startAfter, int limit) {
+    NamespaceUtil.checkFileset(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<FilesetPO> filesetPOs =
+        SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class,
+            mapper -> mapper.listFilesetPOsBySchemaIdAfterName(schemaId, startAfter, limit));
+
+    return POConverters.fromFilesetPOs(filesetPOs, namespace);
+  }
+
   public void insertFileset(FilesetEntity filesetEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkFileset(filesetEntity.nameIdentifier());
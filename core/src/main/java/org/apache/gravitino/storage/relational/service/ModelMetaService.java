@@ -139,7 +139,7 @@ public class ModelMetaService {
         mapper -> mapper.deleteModelMetasByLegacyTimeline(legacyTimeline, limit));
   }
 
-  Long getModelIdBySchemaIdAndModelName(Long schemaId, String modelName) {
+  public Long getModelIdBySchemaIdAndModelName(Long schemaId, String modelName) {
     Long modelId =
         SessionUtils.getWithoutCommit(
             ModelMetaMapper.class,
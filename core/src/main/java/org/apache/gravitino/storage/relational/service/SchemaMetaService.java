@@ -34,6 +34,7 @@ import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.mapper.ColumnStatisticsMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.ModelMetaMapper;
@@ -44,6 +45,7 @@ import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableStatisticsMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
@@ -122,6 +124,19 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
+  public List<SchemaEntity> listSchemasByNamespace(
+      Namespace namespace, String startAfter, int limit) {
+    NamespaceUtil.checkSchema(namespace);
+
+    Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<SchemaPO> schemaPOs =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper -> mapper.listSchemaPOsByCatalogIdAfterName(catalogId, startAfter, limit));
+    return POConverters.fromSchemaPOs(schemaPOs, namespace);
+  }
+
   public void insertSchema(SchemaEntity schemaEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
@@ -208,6 +223,14 @@ public class SchemaMetaService {
                 SessionUtils.doWithoutCommit(
                     TableColumnMapper.class,
                     mapper -> mapper.softDeleteColumnsBySchemaId(schemaId)),
+            () ->
+                SessionUtils.doWithoutCommit(
+                    TableStatisticsMapper.class,
+                    mapper -> mapper.softDeleteTableStatisticsBySchemaId(schemaId)),
+            () ->
+                SessionUtils.doWithoutCommit(
+                    ColumnStatisticsMapper.class,
+                    mapper -> mapper.softDeleteColumnStatisticsBySchemaId(schemaId)),
             () ->
                 SessionUtils.doWithoutCommit(
                     FilesetMetaMapper.class,
@@ -39,6 +39,10 @@ public class TableColumnMetaService {
 
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
+  // The maximum number of columns inserted by one statement, it keeps the bind parameters of the
+  // statement under the limit of PostgreSQL.
+  private static final int MAX_COLUMNS_PER_INSERT = 1000;
+
   private TableColumnMetaService() {}
 
   public static TableColumnMetaService getInstance() {
@@ -89,12 +93,16 @@ public class TableColumnMetaService {
   }
 
   void insertColumnPOs(TablePO tablePO, List<ColumnEntity> columnEntities) {
-    List<ColumnPO> columnPOs =
-        POConverters.initializeColumnPOs(tablePO, columnEntities, ColumnPO.ColumnOpType.CREATE);
+    insertColumnPOs(
+        POConverters.initializeColumnPOs(tablePO, columnEntities, ColumnPO.ColumnOpType.CREATE));
+  }
 
+  void insertColumnPOs(List<ColumnPO> columnPOs) {
     // insertColumnPOs will be done in insertTable transaction, so we don't do commit here.
-    SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+    for (List<ColumnPO> partition : Lists.partition(columnPOs, MAX_COLUMNS_PER_INSERT)) {
+      SessionUtils.doWithoutCommit(
+          TableColumnMapper.class, mapper -> mapper.insertColumnPOs(partition));
+    }
   }
 
   boolean deleteColumnsByTableId(Long tableId) {
@@ -128,6 +136,29 @@ public class TableColumnMetaService {
     return oldColumns.size() != newColumns.size() || !oldColumns.equals(newColumns);
   }
 
+  List<String> getStaleColumnNames(TableEntity oldTable, TableEntity newTable) {
+    if (oldTable.columns() == null) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, ColumnEntity> newColumns =
+        newTable.columns() == null
+            ? Collections.emptyMap()
+            : newTable.columns().stream()
+                .collect(Collectors.toMap(ColumnEntity::id, Function.identity()));
+    // A column is stale if it's dropped, renamed or its type is changed.
+    return oldTable.columns().stream()
+        .filter(
+            oldColumn -> {
+              ColumnEntity newColumn = newColumns.get(oldColumn.id());
+              return newColumn == null
+                  || !newColumn.name().equals(oldColumn.name())
+                  || !newColumn.dataType().equals(oldColumn.dataType());
+            })
+        .map(ColumnEntity::name)
+        .collect(Collectors.toList());
+  }
+
   void updateColumnPOsFromTableDiff(
       TableEntity oldTable, TableEntity newTable, TablePO newTablePO) {
     Map<Long, ColumnEntity> oldColumns =
@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -145,6 +146,65 @@ public class TableMetaService {
     }
   }
 
+  /**
+   * Inserts the tables of the same schema and their columns in one transaction, with multi-row
+   * inserts instead of the statements per table of {@link #insertTable(TableEntity, boolean)}.
+   *
+   * @param tableEntities The tables to insert, they must be in the same schema.
+   * @throws IOException If the store operation fails.
+   */
+  public void batchInsertTables(List<TableEntity> tableEntities) throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    Namespace namespace = tableEntities.get(0).namespace();
+    try {
+      Long[] parentEntityIds = null;
+      List<TablePO> tablePOs = new ArrayList<>(tableEntities.size());
+      List<ColumnPO> columnPOs = new ArrayList<>();
+      for (TableEntity tableEntity : tableEntities) {
+        NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+        Preconditions.checkArgument(
+            namespace.equals(tableEntity.namespace()),
+            "The tables to insert in batch must be in the same schema, but got %s and %s",
+            namespace,
+            tableEntity.namespace());
+        if (parentEntityIds == null) {
+          parentEntityIds =
+              CommonMetaService.getInstance().getParentEntityIdsByNamespace(namespace);
+        }
+
+        TablePO.Builder builder =
+            TablePO.builder()
+                .withMetalakeId(parentEntityIds[0])
+                .withCatalogId(parentEntityIds[1])
+                .withSchemaId(parentEntityIds[2]);
+        TablePO tablePO = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+        tablePOs.add(tablePO);
+        if (tableEntity.columns() != null && !tableEntity.columns().isEmpty()) {
+          columnPOs.addAll(
+              POConverters.initializeColumnPOs(
+                  tablePO, tableEntity.columns(), ColumnPO.ColumnOpType.CREATE));
+        }
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              SessionUtils.doWithoutCommit(
+                  TableMetaMapper.class, mapper -> mapper.batchInsertTableMetas(tablePOs)),
+          () -> {
+            if (!columnPOs.isEmpty()) {
+              TableColumnMetaService.getInstance().insertColumnPOs(columnPOs);
+            }
+          });
+
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.TABLE, namespace.toString());
+      throw re;
+    }
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTable(identifier);
@@ -185,6 +245,12 @@ public class TableMetaService {
             if (updateResult.get() > 0 && isColumnChanged) {
               TableColumnMetaService.getInstance()
                   .updateColumnPOsFromTableDiff(oldTableEntity, newTableEntity, newTablePO);
+              // The statistics of the dropped, renamed or retyped columns are no longer valid.
+              TableStatisticsMetaService.getInstance()
+                  .deleteColumnStatisticsByColumnNames(
+                      oldTablePO.getTableId(),
+                      TableColumnMetaService.getInstance()
+                          .getStaleColumnNames(oldTableEntity, newTableEntity));
             }
           });
 
@@ -226,6 +292,7 @@ public class TableMetaService {
                     mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
                         tableId, MetadataObject.Type.TABLE.name()));
             TableColumnMetaService.getInstance().deleteColumnsByTableId(tableId);
+            TableStatisticsMetaService.getInstance().deleteStatisticsByTableId(tableId);
             SessionUtils.doWithoutCommit(
                 SecurableObjectMapper.class,
                 mapper ->
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.apache.gravitino.storage.relational.mapper.ColumnStatisticsMapper;
+import org.apache.gravitino.storage.relational.mapper.TableStatisticsMapper;
+import org.apache.gravitino.storage.relational.po.ColumnStatisticsPO;
+import org.apache.gravitino.storage.relational.po.TableStatisticsPO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * The service class for the statistics of the tables and of their partitions. The statistics of the
+ * whole table are stored with an empty partition name.
+ */
+public class TableStatisticsMetaService {
+
+  private static final TableStatisticsMetaService INSTANCE = new TableStatisticsMetaService();
+
+  private static final String TABLE_LEVEL_PARTITION_NAME = "";
+
+  // The maximum number of column statistics inserted by one statement, it keeps the bind
+  // parameters of the statement under the limit of PostgreSQL.
+  private static final int MAX_COLUMNS_PER_INSERT = 1000;
+
+  public static TableStatisticsMetaService getInstance() {
+    return INSTANCE;
+  }
+
+  private TableStatisticsMetaService() {}
+
+  public TableStatistics getTableStatistics(NameIdentifier tableIdent, String partitionName) {
+    NameIdentifierUtil.checkTable(tableIdent);
+
+    Long tableId = getTableId(tableIdent);
+    return getTableStatistics(tableId, toStoredPartitionName(partitionName));
+  }
+
+  public TableStatistics updateTableStatistics(
+      NameIdentifier tableIdent, String partitionName, TableStatistics statistics) {
+    NameIdentifierUtil.checkTable(tableIdent);
+    Preconditions.checkArgument(
+        statistics.auditInfo() != null, "The audit info of the statistics is required");
+
+    Long[] parentEntityIds =
+        CommonMetaService.getInstance().getParentEntityIdsByNamespace(tableIdent.namespace());
+    Long tableId =
+        TableMetaService.getInstance()
+            .getTableIdBySchemaIdAndName(parentEntityIds[2], tableIdent.name());
+    String storedPartitionName = toStoredPartitionName(partitionName);
+
+    TableStatisticsPO oldTableStatisticsPO =
+        SessionUtils.getWithoutCommit(
+            TableStatisticsMapper.class,
+            mapper -> mapper.selectTableStatistics(tableId, storedPartitionName));
+    TableStatisticsPO.Builder builder =
+        TableStatisticsPO.builder()
+            .withMetalakeId(parentEntityIds[0])
+            .withCatalogId(parentEntityIds[1])
+            .withSchemaId(parentEntityIds[2])
+            .withTableId(tableId)
+            .withPartitionName(storedPartitionName);
+    TableStatisticsPO newTableStatisticsPO =
+        oldTableStatisticsPO == null
+            ? POConverters.initializeTableStatisticsPO(
+                statistics.rowCount(),
+                statistics.sizeInBytes(),
+                AuditInfo.builder()
+                    .withCreator(statistics.auditInfo().creator())
+                    .withCreateTime(statistics.auditInfo().createTime())
+                    .build(),
+                builder)
+            : POConverters.initializeTableStatisticsPO(
+                statistics.rowCount() != null
+                    ? statistics.rowCount()
+                    : oldTableStatisticsPO.getRowCount(),
+                statistics.sizeInBytes() != null
+                    ? statistics.sizeInBytes()
+                    : oldTableStatisticsPO.getSizeInBytes(),
+                mergeAuditInfo(oldTableStatisticsPO, statistics.auditInfo()),
+                builder);
+
+    ColumnStatistics[] columnStatistics =
+        statistics.columnStatistics() == null
+            ? Statistics.EMPTY_COLUMN_STATISTICS
+            : statistics.columnStatistics();
+    List<String> columnNames =
+        Arrays.stream(columnStatistics).map(ColumnStatistics::name).collect(Collectors.toList());
+    List<ColumnStatisticsPO> columnStatisticsPOs =
+        POConverters.initializeColumnStatisticsPOs(newTableStatisticsPO, columnStatistics);
+
+    SessionUtils.doMultipleWithCommit(
+        () -> {
+          if (oldTableStatisticsPO != null) {
+            SessionUtils.doWithoutCommit(
+                TableStatisticsMapper.class,
+                mapper -> mapper.softDeleteTableStatistics(tableId, storedPartitionName));
+          }
+        },
+        () ->
+            SessionUtils.doWithoutCommit(
+                TableStatisticsMapper.class,
+                mapper -> mapper.insertTableStatistics(newTableStatisticsPO)),
+        () -> {
+          if (columnNames.isEmpty()) {
+            return;
+          }
+          SessionUtils.doWithoutCommit(
+              ColumnStatisticsMapper.class,
+              mapper ->
+                  mapper.softDeleteColumnStatisticsByColumnNames(
+                      tableId, storedPartitionName, columnNames));
+          for (List<ColumnStatisticsPO> partition :
+              Lists.partition(columnStatisticsPOs, MAX_COLUMNS_PER_INSERT)) {
+            SessionUtils.doWithoutCommit(
+                ColumnStatisticsMapper.class, mapper -> mapper.insertColumnStatistics(partition));
+          }
+        });
+
+    return getTableStatistics(tableId, storedPartitionName);
+  }
+
+  public boolean deleteTableStatistics(NameIdentifier tableIdent, String partitionName) {
+    NameIdentifierUtil.checkTable(tableIdent);
+
+    Long tableId = getTableId(tableIdent);
+    int[] tableStatisticsDeleteCount = new int[] {0};
+    int[] columnStatisticsDeleteCount = new int[] {0};
+    if (partitionName == null) {
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              tableStatisticsDeleteCount[0] =
+                  SessionUtils.doWithoutCommitAndFetchResult(
+                      TableStatisticsMapper.class,
+                      mapper -> mapper.softDeleteTableStatisticsByTableId(tableId)),
+          () ->
+              columnStatisticsDeleteCount[0] =
+                  SessionUtils.doWithoutCommitAndFetchResult(
+                      ColumnStatisticsMapper.class,
+                      mapper -> mapper.softDeleteColumnStatisticsByTableId(tableId)));
+    } else {
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              tableStatisticsDeleteCount[0] =
+                  SessionUtils.doWithoutCommitAndFetchResult(
+                      TableStatisticsMapper.class,
+                      mapper -> mapper.softDeleteTableStatistics(tableId, partitionName)),
+          () ->
+              columnStatisticsDeleteCount[0] =
+                  SessionUtils.doWithoutCommitAndFetchResult(
+                      ColumnStatisticsMapper.class,
+                      mapper -> mapper.softDeleteColumnStatistics(tableId, partitionName)));
+    }
+
+    return tableStatisticsDeleteCount[0] + columnStatisticsDeleteCount[0] > 0;
+  }
+
+  void deleteStatisticsByTableId(Long tableId) {
+    // It will be done in the deleteTable transaction, so we don't do commit here.
+    SessionUtils.doWithoutCommit(
+        TableStatisticsMapper.class, mapper -> mapper.softDeleteTableStatisticsByTableId(tableId));
+    SessionUtils.doWithoutCommit(
+        ColumnStatisticsMapper.class,
+        mapper -> mapper.softDeleteColumnStatisticsByTableId(tableId));
+  }
+
+  void deleteColumnStatisticsByColumnNames(Long tableId, List<String> columnNames) {
+    // It will be done in the updateTable transaction, so we don't do commit here.
+    if (columnNames.isEmpty()) {
+      return;
+    }
+    SessionUtils.doWithoutCommit(
+        ColumnStatisticsMapper.class,
+        mapper -> mapper.softDeleteColumnStatisticsByTableIdAndColumnNames(tableId, columnNames));
+  }
+
+  public int deleteStatisticsByLegacyTimeline(Long legacyTimeline, int limit) {
+    int[] tableStatisticsDeleteCount = new int[] {0};
+    int[] columnStatisticsDeleteCount = new int[] {0};
+    SessionUtils.doMultipleWithCommit(
+        () ->
+            tableStatisticsDeleteCount[0] =
+                SessionUtils.doWithoutCommitAndFetchResult(
+                    TableStatisticsMapper.class,
+                    mapper -> mapper.deleteTableStatisticsByLegacyTimeline(legacyTimeline, limit)),
+        () ->
+            columnStatisticsDeleteCount[0] =
+                SessionUtils.doWithoutCommitAndFetchResult(
+                    ColumnStatisticsMapper.class,
+                    mapper ->
+                        mapper.deleteColumnStatisticsByLegacyTimeline(legacyTimeline, limit)));
+    return tableStatisticsDeleteCount[0] + columnStatisticsDeleteCount[0];
+  }
+
+  private TableStatistics getTableStatistics(Long tableId, String storedPartitionName) {
+    TableStatisticsPO tableStatisticsPO =
+        SessionUtils.getWithoutCommit(
+            TableStatisticsMapper.class,
+            mapper -> mapper.selectTableStatistics(tableId, storedPartitionName));
+    if (tableStatisticsPO == null) {
+      // Nothing is recorded, all the statistics are unknown.
+      return Statistics.of(null, null);
+    }
+
+    List<ColumnStatisticsPO> columnStatisticsPOs =
+        SessionUtils.getWithoutCommit(
+            ColumnStatisticsMapper.class,
+            mapper -> mapper.listColumnStatistics(tableId, storedPartitionName));
+    return POConverters.fromTableStatisticsPOs(tableStatisticsPO, columnStatisticsPOs);
+  }
+
+  private Long getTableId(NameIdentifier tableIdent) {
+    Long schemaId =
+        CommonMetaService.getInstance().getParentEntityIdByNamespace(tableIdent.namespace());
+    return TableMetaService.getInstance().getTableIdBySchemaIdAndName(schemaId, tableIdent.name());
+  }
+
+  private static String toStoredPartitionName(String partitionName) {
+    return partitionName == null ? TABLE_LEVEL_PARTITION_NAME : partitionName;
+  }
+
+  private static AuditInfo mergeAuditInfo(TableStatisticsPO oldPO, Audit newAuditInfo) {
+    try {
+      AuditInfo oldAuditInfo =
+          JsonUtils.anyFieldMapper().readValue(oldPO.getAuditInfo(), AuditInfo.class);
+      return AuditInfo.builder()
+          .withCreator(oldAuditInfo.creator())
+          .withCreateTime(oldAuditInfo.createTime())
+          .withLastModifier(newAuditInfo.creator())
+          .withLastModifiedTime(newAuditInfo.createTime())
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize json object:", e);
+    }
+  }
+}
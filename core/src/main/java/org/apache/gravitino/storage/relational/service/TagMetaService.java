@@ -355,6 +355,21 @@ public class TagMetaService {
     return tagDeletedCount[0] + tagMetadataObjectRelDeletedCount[0];
   }
 
+  public Long getTagIdByMetalakeAndName(String metalakeName, String tagName) {
+    Long tagId =
+        SessionUtils.getWithoutCommit(
+            TagMetaMapper.class,
+            mapper -> mapper.selectTagIdByMetalakeAndName(metalakeName, tagName));
+
+    if (tagId == null) {
+      throw new NoSuchEntityException(
+          NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+          Entity.EntityType.TAG.name().toLowerCase(),
+          tagName);
+    }
+    return tagId;
+  }
+
   private TagPO getTagPOByMetalakeAndName(String metalakeName, String tagName) {
     TagPO tagPO =
         SessionUtils.getWithoutCommit(
@@ -22,7 +22,9 @@ package org.apache.gravitino.storage.relational.session;
 import com.google.common.base.Preconditions;
 import java.sql.SQLException;
 import java.time.Duration;
+import javax.annotation.Nullable;
 import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -31,6 +33,7 @@ import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.RelationDatasourceMetricsSource;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ColumnStatisticsMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
@@ -45,6 +48,7 @@ import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableStatisticsMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
@@ -56,14 +60,23 @@ import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * SqlSessionFactoryHelper maintains the MyBatis's {@link SqlSessionFactory} object, which is used
  * to create the {@link org.apache.ibatis.session.SqlSession} object. It is a singleton class and
  * should be initialized only once.
+ *
+ * <p>If a read-only replica is configured, a second {@link SqlSessionFactory} connected to the
+ * replica is maintained as well, see {@link SqlSessions#getReadOnlySqlSession()}.
  */
 public class SqlSessionFactoryHelper {
+  private static final Logger LOG = LoggerFactory.getLogger(SqlSessionFactoryHelper.class);
+
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static volatile SqlSessionFactory readOnlySqlSessionFactory;
+  private static volatile long readAfterWriteMillis;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -77,48 +90,108 @@ public class SqlSessionFactoryHelper {
    *
    * @param config Config object to get the jdbc connection details from the config.
    */
-  @SuppressWarnings("deprecation")
   public void init(Config config) {
-    // Initialize the data source
+    // Create the SqlSessionFactory object, it is a singleton object
+    if (sqlSessionFactory == null) {
+      synchronized (SqlSessionFactoryHelper.class) {
+        if (sqlSessionFactory == null) {
+          String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
+          String user = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER);
+          String password = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD);
+          BasicDataSource dataSource = createDataSource(config, jdbcUrl, user, password);
+
+          BasicDataSource readOnlyDataSource = null;
+          String readOnlyJdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_URL);
+          if (StringUtils.isNotBlank(readOnlyJdbcUrl)) {
+            Preconditions.checkArgument(
+                JDBCBackendType.fromURI(readOnlyJdbcUrl) == JDBCBackendType.fromURI(jdbcUrl),
+                "The read-only replica %s must be the same type of database as %s",
+                readOnlyJdbcUrl,
+                jdbcUrl);
+            String readOnlyUser = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_USER);
+            String readOnlyPassword =
+                config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_PASSWORD);
+            readOnlyDataSource =
+                createDataSource(
+                    config,
+                    readOnlyJdbcUrl,
+                    readOnlyUser == null ? user : readOnlyUser,
+                    readOnlyPassword == null ? password : readOnlyPassword);
+            readOnlyDataSource.setDefaultReadOnly(true);
+            readAfterWriteMillis =
+                config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS);
+            readOnlySqlSessionFactory =
+                new SqlSessionFactoryBuilder()
+                    .build(createConfiguration(readOnlyDataSource, readOnlyJdbcUrl));
+            LOG.info("Reads of the relational entity store are routed to {}", readOnlyJdbcUrl);
+          }
+
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          // Add null check to avoid NPE when metrics system is not initialized in test environments
+          if (metricsSystem != null) {
+            // Register connection pool metrics when metrics system is available
+            metricsSystem.register(
+                new RelationDatasourceMetricsSource(dataSource, readOnlyDataSource));
+          }
+
+          sqlSessionFactory =
+              new SqlSessionFactoryBuilder().build(createConfiguration(dataSource, jdbcUrl));
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static BasicDataSource createDataSource(
+      Config config, String jdbcUrl, String user, String password) {
     BasicDataSource dataSource = new BasicDataSource();
-    String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
-    JDBCBackendType jdbcType = JDBCBackendType.fromURI(jdbcUrl);
     dataSource.setUrl(jdbcUrl);
     dataSource.setDriverClassName(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER));
-    dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
-    dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
+    dataSource.setUsername(user);
+    dataSource.setPassword(password);
     // Close the auto commit, so that we can control the transaction manual commit
     dataSource.setDefaultAutoCommit(false);
     dataSource.setMaxWaitMillis(
         config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS));
     dataSource.setMaxTotal(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS));
-    dataSource.setMaxIdle(5);
-    dataSource.setMinIdle(0);
+    dataSource.setMaxIdle(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS));
+    dataSource.setMinIdle(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS));
+    dataSource.setInitialSize(
+        config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS));
     dataSource.setLogAbandoned(true);
     dataSource.setRemoveAbandonedOnBorrow(true);
     dataSource.setRemoveAbandonedTimeout(60);
     dataSource.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
     dataSource.setTestOnBorrow(BaseObjectPoolConfig.DEFAULT_TEST_ON_BORROW);
     dataSource.setTestWhileIdle(BaseObjectPoolConfig.DEFAULT_TEST_WHILE_IDLE);
-    dataSource.setMinEvictableIdleTimeMillis(1000);
+    dataSource.setMinEvictableIdleTimeMillis(
+        config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS));
     dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
     dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
     dataSource.setSoftMinEvictableIdleTimeMillis(
         BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
     dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
-    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
-    // Add null check to avoid NPE when metrics system is not initialized in test environments
-    if (metricsSystem != null) {
-      // Register connection pool metrics when metrics system is available
-      metricsSystem.register(new RelationDatasourceMetricsSource(dataSource));
+
+    if (dataSource.getInitialSize() > 0) {
+      try {
+        // Open the initial connections now rather than on the first request
+        dataSource.start();
+      } catch (SQLException e) {
+        // The pool is created again on the first request, don't fail the initialization
+        LOG.warn("Failed to open the initial connections of {}", jdbcUrl, e);
+      }
     }
+    return dataSource;
+  }
+
+  private static Configuration createConfiguration(BasicDataSource dataSource, String jdbcUrl) {
     // Create the transaction factory and env
     TransactionFactory transactionFactory = new JdbcTransactionFactory();
     Environment environment = new Environment("development", transactionFactory, dataSource);
 
     // Initialize the configuration
     Configuration configuration = new Configuration(environment);
-    configuration.setDatabaseId(jdbcType.name().toLowerCase());
+    configuration.setDatabaseId(JDBCBackendType.fromURI(jdbcUrl).name().toLowerCase());
     configuration.addMapper(MetalakeMetaMapper.class);
     configuration.addMapper(CatalogMetaMapper.class);
     configuration.addMapper(SchemaMetaMapper.class);
@@ -139,15 +212,9 @@ public class SqlSessionFactoryHelper {
     configuration.addMapper(ModelMetaMapper.class);
     configuration.addMapper(ModelVersionMetaMapper.class);
     configuration.addMapper(ModelVersionAliasRelMapper.class);
-
-    // Create the SqlSessionFactory object, it is a singleton object
-    if (sqlSessionFactory == null) {
-      synchronized (SqlSessionFactoryHelper.class) {
-        if (sqlSessionFactory == null) {
-          sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
-        }
-      }
-    }
+    configuration.addMapper(TableStatisticsMapper.class);
+    configuration.addMapper(ColumnStatisticsMapper.class);
+    return configuration;
   }
 
   public SqlSessionFactory getSqlSessionFactory() {
@@ -155,21 +222,46 @@ public class SqlSessionFactoryHelper {
     return sqlSessionFactory;
   }
 
+  /**
+   * Get the SqlSessionFactory object connected to the read-only replica.
+   *
+   * @return The SqlSessionFactory of the replica, or null if no replica is configured.
+   */
+  @Nullable
+  public SqlSessionFactory getReadOnlySqlSessionFactory() {
+    return readOnlySqlSessionFactory;
+  }
+
+  /**
+   * @return The time in milliseconds after a write during which the reads are still sent to the
+   *     primary database.
+   */
+  public long getReadAfterWriteMillis() {
+    return readAfterWriteMillis;
+  }
+
   public void close() {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory != null) {
-          try {
-            BasicDataSource dataSource =
-                (BasicDataSource)
-                    sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
-            dataSource.close();
-          } catch (SQLException e) {
-            // silently ignore the error report
-          }
+          closeDataSource(sqlSessionFactory);
           sqlSessionFactory = null;
         }
+        if (readOnlySqlSessionFactory != null) {
+          closeDataSource(readOnlySqlSessionFactory);
+          readOnlySqlSessionFactory = null;
+        }
       }
     }
   }
+
+  private static void closeDataSource(SqlSessionFactory factory) {
+    try {
+      BasicDataSource dataSource =
+          (BasicDataSource) factory.getConfiguration().getEnvironment().getDataSource();
+      dataSource.close();
+    } catch (SQLException e) {
+      // silently ignore the error report
+    }
+  }
 }
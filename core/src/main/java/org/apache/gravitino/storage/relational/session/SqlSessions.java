@@ -20,7 +20,9 @@
 package org.apache.gravitino.storage.relational.session;
 
 import com.google.common.annotations.VisibleForTesting;
+import org.apache.gravitino.utils.Executable;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 
 /**
@@ -31,6 +33,18 @@ import org.apache.ibatis.session.TransactionIsolationLevel;
 public final class SqlSessions {
   private static final ThreadLocal<SqlSession> sessions = new ThreadLocal<>();
 
+  // Whether the thread is running a read-only operation, only the reads of such operations can be
+  // served by the read-only replica. The reads of the write operations, like the reads before a
+  // compare-and-set update, always go to the primary database.
+  private static final ThreadLocal<Boolean> readOnlyOperations =
+      ThreadLocal.withInitial(() -> false);
+
+  // The time of the last commit of this server, the reads go to the primary database for a while
+  // after it so that they see their own writes despite the replication lag of the replica. The
+  // commits of the other servers are not tracked, the read-only operations may not see them until
+  // they are replicated.
+  private static volatile long lastCommitMillis;
+
   private SqlSessions() {}
 
   @VisibleForTesting
@@ -57,6 +71,56 @@ public final class SqlSessions {
     return sqlSession;
   }
 
+  /**
+   * Run a read-only operation, its reads outside of a transaction may be served by the read-only
+   * replica, see {@link #getReadOnlySqlSession()}. The operation must not write.
+   *
+   * @param operation The read-only operation to run.
+   * @return The result of the operation.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception thrown by the operation.
+   * @throws E If the operation fails.
+   */
+  public static <R, E extends Exception> R doReadOnly(Executable<R, E> operation) throws E {
+    if (readOnlyOperations.get()) {
+      return operation.execute();
+    }
+
+    readOnlyOperations.set(true);
+    try {
+      return operation.execute();
+    } finally {
+      readOnlyOperations.remove();
+    }
+  }
+
+  /**
+   * Get a SqlSession object for reads. If a read-only replica is configured, the thread is running
+   * a read-only operation, no SqlSession object is present in the thread local and nothing was
+   * committed recently, then a new SqlSession object connected to the replica is created and set in
+   * the thread local, otherwise it is the same as {@link #getSqlSession()}.
+   *
+   * @return SqlSession object from the thread local storage.
+   */
+  public static SqlSession getReadOnlySqlSession() {
+    SqlSession sqlSession = sessions.get();
+    if (sqlSession != null) {
+      return sqlSession;
+    }
+
+    SqlSessionFactoryHelper helper = SqlSessionFactoryHelper.getInstance();
+    SqlSessionFactory readOnlyFactory = helper.getReadOnlySqlSessionFactory();
+    if (readOnlyFactory == null
+        || !readOnlyOperations.get()
+        || System.currentTimeMillis() - lastCommitMillis < helper.getReadAfterWriteMillis()) {
+      return getSqlSession();
+    }
+
+    sqlSession = readOnlyFactory.openSession(TransactionIsolationLevel.READ_COMMITTED);
+    sessions.set(sqlSession);
+    return sqlSession;
+  }
+
   /**
    * Commit the SqlSession object and close it. It also removes the SqlSession object from the
    * thread local storage.
@@ -66,6 +130,7 @@ public final class SqlSessions {
     if (sqlSession != null) {
       try {
         sqlSession.commit();
+        lastCommitMillis = System.currentTimeMillis();
         sqlSession.close();
       } finally {
         sessions.remove();
@@ -22,6 +22,7 @@ package org.apache.gravitino.storage.relational.utils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.Lists;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,7 @@ import org.apache.gravitino.authorization.Privileges;
 import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.authorization.SecurableObjects;
 import org.apache.gravitino.dto.rel.expressions.FunctionArg;
+import org.apache.gravitino.dto.rel.stats.HistogramBucketDTO;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.json.JsonUtils;
@@ -57,9 +59,14 @@ import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.expressions.Expression;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+import org.apache.gravitino.rel.stats.HistogramBucket;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
 import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.storage.relational.po.CatalogPO;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.ColumnStatisticsPO;
 import org.apache.gravitino.storage.relational.po.ExtendedGroupPO;
 import org.apache.gravitino.storage.relational.po.ExtendedUserPO;
 import org.apache.gravitino.storage.relational.po.FilesetPO;
@@ -75,6 +82,7 @@ import org.apache.gravitino.storage.relational.po.RolePO;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
 import org.apache.gravitino.storage.relational.po.SecurableObjectPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.po.TableStatisticsPO;
 import org.apache.gravitino.storage.relational.po.TagMetadataObjectRelPO;
 import org.apache.gravitino.storage.relational.po.TagPO;
 import org.apache.gravitino.storage.relational.po.TopicPO;
@@ -1392,4 +1400,94 @@ public class POConverters {
                     .build())
         .collect(Collectors.toList());
   }
+
+  public static TableStatistics fromTableStatisticsPOs(
+      TableStatisticsPO tableStatisticsPO, List<ColumnStatisticsPO> columnStatisticsPOs) {
+    try {
+      List<ColumnStatistics> columnStatistics = Lists.newArrayList();
+      for (ColumnStatisticsPO po : columnStatisticsPOs) {
+        HistogramBucket[] histogram = Statistics.EMPTY_HISTOGRAM;
+        if (po.getHistogram() != null) {
+          histogram =
+              Arrays.stream(
+                      JsonUtils.anyFieldMapper()
+                          .readValue(po.getHistogram(), HistogramBucketDTO[].class))
+                  .map(
+                      bucket ->
+                          Statistics.bucket(
+                              bucket.lowerBound(),
+                              bucket.upperBound(),
+                              bucket.count(),
+                              bucket.distinctCount()))
+                  .toArray(HistogramBucket[]::new);
+        }
+        columnStatistics.add(
+            Statistics.column(
+                po.getColumnName(),
+                po.getDistinctCount(),
+                po.getNullCount(),
+                po.getMinValue(),
+                po.getMaxValue(),
+                histogram));
+      }
+
+      return Statistics.of(
+          tableStatisticsPO.getRowCount(),
+          tableStatisticsPO.getSizeInBytes(),
+          columnStatistics.toArray(new ColumnStatistics[0]),
+          JsonUtils.anyFieldMapper().readValue(tableStatisticsPO.getAuditInfo(), AuditInfo.class));
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize json object:", e);
+    }
+  }
+
+  public static TableStatisticsPO initializeTableStatisticsPO(
+      Long rowCount, Long sizeInBytes, AuditInfo auditInfo, TableStatisticsPO.Builder builder) {
+    try {
+      return builder
+          .withRowCount(rowCount)
+          .withSizeInBytes(sizeInBytes)
+          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withDeletedAt(DEFAULT_DELETED_AT)
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize json object:", e);
+    }
+  }
+
+  public static List<ColumnStatisticsPO> initializeColumnStatisticsPOs(
+      TableStatisticsPO tableStatisticsPO, ColumnStatistics[] columnStatistics) {
+    try {
+      List<ColumnStatisticsPO> columnStatisticsPOs = Lists.newArrayList();
+      for (ColumnStatistics column : columnStatistics) {
+        HistogramBucket[] histogram = column.histogram();
+        String serializedHistogram =
+            histogram == null || histogram.length == 0
+                ? null
+                : JsonUtils.anyFieldMapper()
+                    .writeValueAsString(
+                        Arrays.stream(histogram)
+                            .map(DTOConverters::toDTO)
+                            .toArray(HistogramBucketDTO[]::new));
+        columnStatisticsPOs.add(
+            ColumnStatisticsPO.builder()
+                .withMetalakeId(tableStatisticsPO.getMetalakeId())
+                .withCatalogId(tableStatisticsPO.getCatalogId())
+                .withSchemaId(tableStatisticsPO.getSchemaId())
+                .withTableId(tableStatisticsPO.getTableId())
+                .withPartitionName(tableStatisticsPO.getPartitionName())
+                .withColumnName(column.name())
+                .withDistinctCount(column.distinctCount())
+                .withNullCount(column.nullCount())
+                .withMinValue(column.minValue())
+                .withMaxValue(column.maxValue())
+                .withHistogram(serializedHistogram)
+                .withDeletedAt(DEFAULT_DELETED_AT)
+                .build());
+      }
+      return columnStatisticsPOs;
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize json object:", e);
+    }
+  }
 }
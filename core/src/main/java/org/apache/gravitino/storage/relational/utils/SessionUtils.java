@@ -107,7 +107,9 @@ public class SessionUtils {
 
   /**
    * This method is used to perform a database operation without a commit and fetch the result. If
-   * the operation fails, will throw a RuntimeException.
+   * the operation fails, will throw a RuntimeException. If it is a part of a read-only operation
+   * and outside of a transaction, the operation may be served by the read-only replica, see {@link
+   * SqlSessions#doReadOnly}.
    *
    * @param mapperClazz mapper class to be used for the operation
    * @param func the operation to be performed with the mapper
@@ -116,7 +118,7 @@ public class SessionUtils {
    * @param <R> the type of the result
    */
   public static <T, R> R getWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (SqlSession session = SqlSessions.getReadOnlySqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
         return func.apply(mapper);
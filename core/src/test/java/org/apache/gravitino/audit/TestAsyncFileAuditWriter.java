@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.audit;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncFileAuditWriter {
+
+  private Path logDir;
+
+  private String fileName;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    this.logDir = Paths.get(System.getProperty("gravitino.log.path"));
+    Files.createDirectories(logDir);
+    this.fileName = "async_audit_" + UUID.randomUUID() + ".log";
+  }
+
+  @AfterEach
+  public void cleanup() throws IOException {
+    for (Path file : auditFiles()) {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testConcurrentWrites() throws Exception {
+    AsyncFileAuditWriter writer = createWriter(ImmutableMap.of("queueCapacity", "16"));
+    int threadNum = 4;
+    int logsPerThread = 2000;
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < threadNum; t++) {
+      int threadIndex = t;
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int i = 0; i < logsPerThread; i++) {
+                  writer.doWrite(auditLog("user" + threadIndex, "a.b.c.t" + i));
+                }
+              });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    writer.close();
+
+    List<String> lines = readAllLines();
+    Assertions.assertEquals(threadNum * logsPerThread, lines.size());
+    for (int t = 0; t < threadNum; t++) {
+      String user = "user" + t;
+      List<String> userLines =
+          lines.stream()
+              .filter(line -> line.contains("user=" + user + ","))
+              .collect(Collectors.toList());
+      // The audit logs of one thread are written in order.
+      for (int i = 0; i < logsPerThread; i++) {
+        Assertions.assertEquals(auditLog(user, "a.b.c.t" + i).toString(), userLines.get(i));
+      }
+    }
+    Assertions.assertEquals(0, writer.pendingAuditLogs());
+  }
+
+  @Test
+  public void testSizeBasedRotation() throws Exception {
+    AsyncFileAuditWriter writer =
+        createWriter(
+            ImmutableMap.of("maxFileSizeBytes", "4096", "bufferSize", "512", "compress", "true"));
+    int logNum = 1000;
+    for (int i = 0; i < logNum; i++) {
+      writer.doWrite(auditLog("user", "a.b.c.t" + i));
+    }
+    writer.close();
+
+    List<Path> files = auditFiles();
+    Assertions.assertTrue(files.size() > 1);
+    Assertions.assertTrue(files.stream().anyMatch(file -> file.toString().endsWith(".gz")));
+    for (Path file : files) {
+      if (!file.toString().endsWith(".gz")) {
+        Assertions.assertTrue(Files.size(file) <= 4096 + 512);
+      }
+    }
+    Assertions.assertEquals(logNum, readAllLines().size());
+  }
+
+  @Test
+  public void testWriteAfterClose() throws Exception {
+    AsyncFileAuditWriter writer = createWriter(ImmutableMap.of());
+    writer.doWrite(auditLog("user", "a.b.c.d"));
+    writer.close();
+    writer.doWrite(auditLog("user", "a.b.c.e"));
+
+    List<String> lines = readAllLines();
+    Assertions.assertEquals(1, lines.size());
+    Assertions.assertEquals(auditLog("user", "a.b.c.d").toString(), lines.get(0));
+  }
+
+  @Test
+  public void testRingBuffer() {
+    MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(5);
+    Assertions.assertEquals(8, ringBuffer.capacity());
+    Assertions.assertTrue(ringBuffer.isEmpty());
+    for (int i = 0; i < 8; i++) {
+      Assertions.assertTrue(ringBuffer.offer(i));
+    }
+    Assertions.assertFalse(ringBuffer.offer(8));
+    Assertions.assertEquals(8, ringBuffer.size());
+
+    Assertions.assertEquals(0, ringBuffer.poll());
+    Assertions.assertTrue(ringBuffer.offer(8));
+    for (int i = 1; i <= 8; i++) {
+      Assertions.assertEquals(i, ringBuffer.poll());
+    }
+    Assertions.assertNull(ringBuffer.poll());
+    Assertions.assertTrue(ringBuffer.isEmpty());
+  }
+
+  private AsyncFileAuditWriter createWriter(Map<String, String> properties) {
+    Map<String, String> writerProperties =
+        ImmutableMap.<String, String>builder()
+            .putAll(properties)
+            .put("fileName", fileName)
+            .build();
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(new DummyAuditFormatter(), writerProperties);
+    return writer;
+  }
+
+  private static AuditLog auditLog(String user, String identifier) {
+    return DummyAuditLog.builder().user(user).identifier(identifier).timestamp(1L).build();
+  }
+
+  private List<Path> auditFiles() throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(logDir, fileName + "*")) {
+      stream.forEach(files::add);
+    }
+    return files;
+  }
+
+  private List<String> readAllLines() throws IOException {
+    List<String> lines = new ArrayList<>();
+    for (Path file : auditFiles()) {
+      if (file.toString().endsWith(".gz")) {
+        try (BufferedReader reader =
+            new BufferedReader(
+                new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+          reader.lines().forEach(lines::add);
+        }
+      } else {
+        lines.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+      }
+    }
+    return lines;
+  }
+}
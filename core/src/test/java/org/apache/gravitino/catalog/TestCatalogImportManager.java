@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogImportManager {
+
+  private static Config config;
+
+  @BeforeAll
+  public static void setUp() throws IllegalAccessException {
+    config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(2).when(config).get(Configs.CATALOG_IMPORT_THREADS);
+    doReturn(2).when(config).get(Configs.CATALOG_IMPORT_BATCH_SIZE);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+  }
+
+  @Test
+  public void testRunImportWithBatchPutFailure() throws Exception {
+    NameIdentifier catalogIdent = NameIdentifierUtil.ofCatalog("metalake", "catalog");
+    NameIdentifier schemaIdent = NameIdentifierUtil.ofSchema("metalake", "catalog", "schema");
+    Namespace tableNamespace = NamespaceUtil.ofTable("metalake", "catalog", "schema");
+    TableEntity table1 = tableEntity(tableNamespace, "table1");
+    TableEntity table2 = tableEntity(tableNamespace, "table2");
+    TableEntity table3 = tableEntity(tableNamespace, "table3");
+    TableEntity table4 = tableEntity(tableNamespace, "table4");
+    Map<String, String> users = new ConcurrentHashMap<>();
+
+    SchemaDispatcher schemaDispatcher = mock(SchemaDispatcher.class);
+    when(schemaDispatcher.loadSchema(schemaIdent))
+        .thenAnswer(
+            invocation -> {
+              users.put(schemaIdent.name(), PrincipalUtils.getCurrentUserName());
+              return null;
+            });
+
+    TableOperationDispatcher tableOperationDispatcher = mock(TableOperationDispatcher.class);
+    when(tableOperationDispatcher.listTables(tableNamespace))
+        .thenReturn(
+            new NameIdentifier[] {
+              table1.nameIdentifier(),
+              table2.nameIdentifier(),
+              table3.nameIdentifier(),
+              table4.nameIdentifier()
+            });
+    Map<NameIdentifier, TableEntity> tables = new ConcurrentHashMap<>();
+    for (TableEntity table : new TableEntity[] {table1, table2, table3, table4}) {
+      tables.put(table.nameIdentifier(), table);
+    }
+    when(tableOperationDispatcher.loadTableToImport(any()))
+        .thenAnswer(
+            invocation -> {
+              NameIdentifier ident = invocation.getArgument(0);
+              users.put(ident.name(), PrincipalUtils.getCurrentUserName());
+              return tables.get(ident);
+            });
+
+    EntityStore store = mock(EntityStore.class);
+    when(store.list(tableNamespace, TableEntity.class, Entity.EntityType.TABLE))
+        .thenReturn(Collections.emptyList());
+    // Both the batches hit an existing table, so the tables are stored one by one: table1 is
+    // imported concurrently, table3 is managed by another catalog.
+    doThrow(new EntityAlreadyExistsException("Table already exists"))
+        .when(store)
+        .batchPut(anyList());
+    when(store.exists(table1.nameIdentifier(), Entity.EntityType.TABLE)).thenReturn(true);
+    doThrow(new EntityAlreadyExistsException("Table already exists"))
+        .when(store)
+        .put(eq(table3), eq(true));
+
+    CatalogImportJob job = new CatalogImportJob(catalogIdent, Collections.emptySet());
+    try (CatalogImportManager manager =
+        new CatalogImportManager(config, schemaDispatcher, tableOperationDispatcher, store)) {
+      manager.runImport(job, new NameIdentifier[] {schemaIdent}, new UserPrincipal("user1"));
+    }
+
+    Assertions.assertEquals(CatalogImportJob.Status.SUCCEEDED, job.status());
+    Assertions.assertNull(job.errorMessage());
+    Assertions.assertEquals(1, job.totalSchemas());
+    Assertions.assertEquals(1, job.importedSchemas());
+    Assertions.assertEquals(4, job.scannedTables());
+    Assertions.assertEquals(2, job.importedTables());
+    Assertions.assertEquals(1, job.skippedTables());
+    Assertions.assertEquals(1, job.failedTables());
+
+    verify(store, times(2)).batchPut(anyList());
+    verify(store, never()).put(eq(table1), anyBoolean());
+    verify(store).put(table2, true);
+    verify(store).put(table4, true);
+
+    // The schema and the tables are imported as the user who started the import, even by the
+    // loader threads.
+    Assertions.assertEquals(5, users.size());
+    users.values().forEach(user -> Assertions.assertEquals("user1", user));
+  }
+
+  private static TableEntity tableEntity(Namespace namespace, String name) {
+    return TableEntity.builder()
+        .withId((long) name.hashCode())
+        .withName(name)
+        .withNamespace(namespace)
+        .withAuditInfo(
+            AuditInfo.builder().withCreator("gravitino").withCreateTime(Instant.now()).build())
+        .build();
+  }
+}
@@ -26,8 +26,10 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.Config;
@@ -374,6 +376,34 @@ public class TestCatalogManager {
     Assertions.assertTrue(exception.getMessage().contains("Metalake metalake1 does not exist"));
   }
 
+  @Test
+  public void testListCatalogsInfoReusesPropertiesInfo() {
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog_props_info");
+    Map<String, String> props =
+        ImmutableMap.of("provider", "test", "key1", "value1", "key2", "value2");
+
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+    Assertions.assertNotNull(
+        CatalogManager.catalogPropertiesInfoCache.getIfPresent(Pair.of(provider, null)));
+
+    // The properties should be resolved from the cached properties info even if the catalog
+    // instance is evicted.
+    CatalogManager.catalogCache.invalidateAll();
+    Catalog[] catalogs = catalogManager.listCatalogsInfo(ident.namespace());
+    Catalog catalog =
+        Arrays.stream(catalogs).filter(c -> c.name().equals(ident.name())).findFirst().get();
+    testProperties(props, catalog.properties());
+    Assertions.assertEquals("true", catalog.properties().get(Catalog.PROPERTY_IN_USE));
+    Assertions.assertEquals(1, CatalogManager.catalogPropertiesInfoCache.estimatedSize());
+
+    // The properties info should be loaded again after it is evicted.
+    CatalogManager.catalogPropertiesInfoCache.invalidateAll();
+    catalogs = catalogManager.listCatalogsInfo(ident.namespace());
+    Assertions.assertTrue(Arrays.stream(catalogs).anyMatch(c -> c.name().equals(ident.name())));
+    Assertions.assertNotNull(
+        CatalogManager.catalogPropertiesInfoCache.getIfPresent(Pair.of(provider, null)));
+  }
+
   @Test
   public void testLoadCatalog() {
     NameIdentifier ident = NameIdentifier.of("metalake", "test21");
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTableBatchLoader {
+
+  @Test
+  public void testLoadTables() throws Exception {
+    NameIdentifier table1 = NameIdentifierUtil.ofTable("metalake", "catalog", "schema", "table1");
+    NameIdentifier table2 = NameIdentifierUtil.ofTable("metalake", "catalog", "schema", "table2");
+    NameIdentifier table3 = NameIdentifierUtil.ofTable("metalake", "catalog", "schema", "table3");
+    Map<NameIdentifier, String> users = new ConcurrentHashMap<>();
+    TableDispatcher dispatcher = mock(TableDispatcher.class);
+    when(dispatcher.loadTable(any()))
+        .thenAnswer(
+            invocation -> {
+              NameIdentifier ident = invocation.getArgument(0);
+              users.put(ident, PrincipalUtils.getCurrentUserName());
+              if (ident.equals(table2)) {
+                throw new NoSuchTableException("Table %s does not exist", ident);
+              }
+              Table table = mock(Table.class);
+              when(table.name()).thenReturn(ident.name());
+              return table;
+            });
+
+    try (TableBatchLoader loader = new TableBatchLoader(dispatcher, 2)) {
+      List<TableBatchLoader.Result> results =
+          PrincipalUtils.doAs(
+              new UserPrincipal("user1"),
+              () -> loader.loadTables(Lists.newArrayList(table1, table2, table3)));
+
+      Assertions.assertEquals(3, results.size());
+      Assertions.assertEquals("table1", results.get(0).table().name());
+      Assertions.assertNull(results.get(0).error());
+      Assertions.assertNull(results.get(1).table());
+      Assertions.assertInstanceOf(NoSuchTableException.class, results.get(1).error());
+      Assertions.assertEquals("table3", results.get(2).table().name());
+      Assertions.assertNull(results.get(2).error());
+
+      // The tables are loaded as the user of the request, even by the loader threads.
+      Assertions.assertEquals("user1", users.get(table1));
+      Assertions.assertEquals("user1", users.get(table2));
+      Assertions.assertEquals("user1", users.get(table3));
+
+      Assertions.assertTrue(loader.loadTables(Lists.newArrayList()).isEmpty());
+    }
+  }
+}
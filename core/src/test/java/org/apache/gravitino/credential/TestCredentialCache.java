@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CredentialCacheMetricsSource;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCredentialCache {
+
+  @Test
+  void testLoadCredentialOnce() throws Exception {
+    AtomicInteger loadCount = new AtomicInteger();
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch loadAllowed = new CountDownLatch(1);
+    Function<String, Credential> credentialSupplier =
+        key -> {
+          loadCount.incrementAndGet();
+          loadStarted.countDown();
+          try {
+            loadAllowed.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return newCredential(String.valueOf(loadCount.get()), 3600_000L);
+        };
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (CredentialCache<String> credentialCache = newCredentialCache("0.8")) {
+      List<Future<Credential>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            executor.submit(() -> credentialCache.getCredential("key", credentialSupplier)));
+      }
+      Assertions.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+      loadAllowed.countDown();
+
+      for (Future<Credential> future : futures) {
+        Assertions.assertEquals("1", future.get(10, TimeUnit.SECONDS).credentialInfo().get("id"));
+      }
+      // The concurrent requests of the same key wait for the only load.
+      Assertions.assertEquals(1, loadCount.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRefreshCredentialAheadOfExpiry() throws Exception {
+    AtomicInteger loadCount = new AtomicInteger();
+    Function<String, Credential> credentialSupplier =
+        key -> newCredential(String.valueOf(loadCount.incrementAndGet()), 10_000L);
+
+    try (CredentialCache<String> credentialCache = newCredentialCache("0.2")) {
+      // Cached for 5 seconds and refreshed after at most 1 second.
+      Assertions.assertEquals(
+          "1", credentialCache.getCredential("key", credentialSupplier).credentialInfo().get("id"));
+
+      Thread.sleep(1200);
+      // The cached credential is returned while it is refreshed in background.
+      Assertions.assertEquals(
+          "1", credentialCache.getCredential("key", credentialSupplier).credentialInfo().get("id"));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(10))
+          .until(() -> credentialCache.refreshCount() == 1);
+
+      Assertions.assertEquals(
+          "2", credentialCache.getCredential("key", credentialSupplier).credentialInfo().get("id"));
+      Assertions.assertEquals(2, loadCount.get());
+      Assertions.assertEquals(1, credentialCache.missCount());
+    }
+  }
+
+  @Test
+  void testRefreshDisabled() throws Exception {
+    AtomicInteger loadCount = new AtomicInteger();
+    Function<String, Credential> credentialSupplier =
+        key -> newCredential(String.valueOf(loadCount.incrementAndGet()), 10_000L);
+
+    try (CredentialCache<String> credentialCache = newCredentialCache("1")) {
+      credentialCache.getCredential("key", credentialSupplier);
+      Thread.sleep(1200);
+      Assertions.assertEquals(
+          "1", credentialCache.getCredential("key", credentialSupplier).credentialInfo().get("id"));
+      Assertions.assertEquals(0, credentialCache.refreshCount());
+      Assertions.assertEquals(1, loadCount.get());
+    }
+  }
+
+  @Test
+  void testMetricsSourcesOfCatalogsInMetalakes() throws Exception {
+    try (MetricsSystem metricsSystem = new MetricsSystem();
+        CredentialCache<String> credentialCache1 = newCredentialCache("0.8");
+        CredentialCache<String> credentialCache2 = newCredentialCache("0.8")) {
+      metricsSystem.register(
+          new CredentialCacheMetricsSource("metalake1", "catalog", credentialCache1));
+      metricsSystem.register(
+          new CredentialCacheMetricsSource("metalake2", "catalog", credentialCache2));
+      metricsSystem.register(new CredentialCacheMetricsSource(null, "catalog", credentialCache2));
+
+      credentialCache1.getCredential("key", key -> newCredential("1", 3600_000L));
+      // The catalogs of the same name in different metalakes don't replace the metrics of others.
+      Assertions.assertEquals(1L, getGaugeValue(metricsSystem, "metalake1.catalog"));
+      Assertions.assertEquals(0L, getGaugeValue(metricsSystem, "metalake2.catalog"));
+      Assertions.assertEquals(0L, getGaugeValue(metricsSystem, "catalog"));
+    }
+  }
+
+  private static Object getGaugeValue(MetricsSystem metricsSystem, String catalog) {
+    return metricsSystem
+        .getMetricRegistry()
+        .gauge("credential-cache." + catalog + "." + MetricNames.CREDENTIAL_CACHE_SIZE)
+        .getValue();
+  }
+
+  private static CredentialCache<String> newCredentialCache(String refreshRatio) {
+    CredentialCache<String> credentialCache = new CredentialCache<>();
+    credentialCache.initialize(
+        ImmutableMap.of(
+            CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO,
+            "0.5",
+            CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+            refreshRatio));
+    return credentialCache;
+  }
+
+  private static Credential newCredential(String id, long expireInMs) {
+    long expireTimeInMs = System.currentTimeMillis() + expireInMs;
+    return new Credential() {
+      @Override
+      public String credentialType() {
+        return "test";
+      }
+
+      @Override
+      public long expireTimeInMs() {
+        return expireTimeInMs;
+      }
+
+      @Override
+      public Map<String, String> credentialInfo() {
+        return ImmutableMap.of("id", id);
+      }
+
+      @Override
+      public void initialize(Map<String, String> credentialInfo, long expireTimeInMs) {}
+    };
+  }
+}
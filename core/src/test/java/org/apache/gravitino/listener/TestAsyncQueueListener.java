@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.AsyncQueueListener.OverflowPolicy;
+import org.apache.gravitino.listener.TestEventListenerManager.DummyPostEvent;
+import org.apache.gravitino.listener.TestEventListenerManager.DummyPreEvent;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.BaseEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.PreEvent;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncQueueListener {
+
+  static class RecordingListener implements EventListenerPlugin {
+    final List<BaseEvent> events = Collections.synchronizedList(new ArrayList<>());
+    final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch blocker;
+
+    RecordingListener(CountDownLatch blocker) {
+      this.blocker = blocker;
+    }
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvents(List<Event> postEvents) {
+      await();
+      batchSizes.add(postEvents.size());
+      events.addAll(postEvents);
+    }
+
+    @Override
+    public void onPreEvent(PreEvent preEvent) {
+      await();
+      events.add(preEvent);
+    }
+
+    private void await() {
+      try {
+        blocker.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Test
+  void testBatchDispatchKeepsOrderPerListener() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    List<RecordingListener> listeners =
+        IntStream.range(0, 3)
+            .mapToObj(i -> new RecordingListener(blocker))
+            .collect(Collectors.toList());
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.copyOf(listeners),
+            "test",
+            1000,
+            3,
+            2,
+            10,
+            OverflowPolicy.DROP_NEWEST,
+            0);
+    Assertions.assertEquals(2, asyncQueueListener.dispatcherNum());
+    asyncQueueListener.start();
+
+    List<BaseEvent> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "table_" + i);
+      BaseEvent event =
+          i % 10 == 0 ? new DummyPreEvent("user", ident) : new DummyPostEvent("user", ident);
+      expected.add(event);
+      if (event instanceof PreEvent) {
+        asyncQueueListener.onPreEvent((PreEvent) event);
+      } else {
+        asyncQueueListener.onPostEvent((Event) event);
+      }
+    }
+    blocker.countDown();
+
+    for (RecordingListener listener : listeners) {
+      Awaitility.await()
+          .atMost(20, TimeUnit.SECONDS)
+          .pollInterval(10, TimeUnit.MILLISECONDS)
+          .until(() -> listener.events.size() == expected.size());
+      Assertions.assertEquals(expected, listener.events);
+      // Post events are delivered in batches, the pre events split the batches.
+      Assertions.assertTrue(listener.batchSizes.stream().allMatch(size -> size <= 9));
+      Assertions.assertTrue(listener.batchSizes.size() < 90);
+    }
+    Assertions.assertEquals(0, asyncQueueListener.droppedEventCount());
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testDropOldestPolicy() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    RecordingListener listener = new RecordingListener(blocker);
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(listener), "test", 2, 3, 1, 1, OverflowPolicy.DROP_OLDEST, 0);
+    asyncQueueListener.start();
+
+    // The first event is taken by the dispatcher, which is blocked by the listener.
+    List<Event> events = postEvents(10);
+    asyncQueueListener.onPostEvent(events.get(0));
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> asyncQueueListener.queueSize() == 0);
+    events.subList(1, events.size()).forEach(asyncQueueListener::onPostEvent);
+
+    Assertions.assertEquals(2, asyncQueueListener.queueSize());
+    Assertions.assertEquals(7, asyncQueueListener.droppedEventCount());
+
+    blocker.countDown();
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.events.size() == 3);
+    Assertions.assertEquals(
+        ImmutableList.of(events.get(0), events.get(8), events.get(9)), listener.events);
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testBlockPolicy() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    RecordingListener listener = new RecordingListener(blocker);
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(listener), "test", 1, 3, 1, 1, OverflowPolicy.BLOCK, 10);
+    asyncQueueListener.start();
+
+    List<Event> events = postEvents(3);
+    asyncQueueListener.onPostEvent(events.get(0));
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> asyncQueueListener.queueSize() == 0);
+    asyncQueueListener.onPostEvent(events.get(1));
+    // The queue is full, the event is dropped after the block timeout.
+    asyncQueueListener.onPostEvent(events.get(2));
+    Assertions.assertEquals(1, asyncQueueListener.droppedEventCount());
+
+    blocker.countDown();
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.events.size() == 2);
+    Assertions.assertEquals(events.subList(0, 2), listener.events);
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testBlockPolicyWithMultipleDispatchers() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    List<RecordingListener> listeners =
+        ImmutableList.of(new RecordingListener(blocker), new RecordingListener(blocker));
+    long blockTimeoutMs = 1000;
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.copyOf(listeners),
+            "test",
+            1,
+            3,
+            2,
+            1,
+            OverflowPolicy.BLOCK,
+            blockTimeoutMs);
+    Assertions.assertEquals(2, asyncQueueListener.dispatcherNum());
+    asyncQueueListener.start();
+
+    List<Event> events = postEvents(3);
+    asyncQueueListener.onPostEvent(events.get(0));
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> asyncQueueListener.queueSize() == 0);
+    asyncQueueListener.onPostEvent(events.get(1));
+
+    // Both queues are full, the block timeout is shared by the queues.
+    long start = System.currentTimeMillis();
+    asyncQueueListener.onPostEvent(events.get(2));
+    Assertions.assertTrue(System.currentTimeMillis() - start < 2 * blockTimeoutMs);
+    Assertions.assertEquals(2, asyncQueueListener.droppedEventCount());
+
+    blocker.countDown();
+    for (RecordingListener listener : listeners) {
+      Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> listener.events.size() == 2);
+      Assertions.assertEquals(events.subList(0, 2), listener.events);
+    }
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testFailedListenerDoesNotAffectOthers() {
+    CountDownLatch blocker = new CountDownLatch(1);
+    RecordingListener failedListener =
+        new RecordingListener(blocker) {
+          @Override
+          public void onPostEvents(List<Event> postEvents) {
+            super.onPostEvents(postEvents);
+            throw new RuntimeException("Mock listener failure");
+          }
+
+          @Override
+          public void onPreEvent(PreEvent preEvent) {
+            super.onPreEvent(preEvent);
+            throw new RuntimeException("Mock listener failure");
+          }
+        };
+    RecordingListener listener = new RecordingListener(blocker);
+    // Both listeners share one dispatcher, the failed listener is served first.
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(failedListener, listener),
+            "test",
+            1000,
+            3,
+            1,
+            10,
+            OverflowPolicy.DROP_NEWEST,
+            0);
+    asyncQueueListener.start();
+
+    List<BaseEvent> expected = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "table_" + i);
+      if (i % 5 == 0) {
+        DummyPreEvent event = new DummyPreEvent("user", ident);
+        expected.add(event);
+        asyncQueueListener.onPreEvent(event);
+      } else {
+        DummyPostEvent event = new DummyPostEvent("user", ident);
+        expected.add(event);
+        asyncQueueListener.onPostEvent(event);
+      }
+    }
+    blocker.countDown();
+
+    // Every delivery is attempted even though each delivery to the failed listener fails.
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> listener.events.size() == expected.size());
+    Assertions.assertEquals(expected, listener.events);
+    Assertions.assertEquals(expected, failedListener.events);
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testOverflowPolicyFromString() {
+    Assertions.assertEquals(OverflowPolicy.DROP_NEWEST, OverflowPolicy.fromString("drop_newest"));
+    Assertions.assertEquals(OverflowPolicy.DROP_OLDEST, OverflowPolicy.fromString("drop-oldest"));
+    Assertions.assertEquals(OverflowPolicy.BLOCK, OverflowPolicy.fromString(" BLOCK "));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> OverflowPolicy.fromString("spill"));
+  }
+
+  private static List<Event> postEvents(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new DummyPostEvent("user", NameIdentifier.of("metalake", "table_" + i)))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.TestEventListenerManager.DummyPostEvent;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEventListenerPluginWrapper {
+
+  static class FailingListener implements EventListenerPlugin {
+    final List<Event> events = new ArrayList<>();
+    final Event failingEvent;
+
+    FailingListener(Event failingEvent) {
+      this.failingEvent = failingEvent;
+    }
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvent(Event postEvent) {
+      if (postEvent == failingEvent) {
+        throw new RuntimeException("mock error");
+      }
+      events.add(postEvent);
+    }
+  }
+
+  static class FailingBatchListener extends FailingListener {
+    int batchCalls = 0;
+
+    FailingBatchListener(Event failingEvent) {
+      super(failingEvent);
+    }
+
+    @Override
+    public void onPostEvents(List<Event> postEvents) {
+      batchCalls++;
+      // Processes the events up to the failing one, like a bulk write failing halfway.
+      postEvents.forEach(this::onPostEvent);
+    }
+  }
+
+  @Test
+  void testFailingEventInTheMiddleOfBatch() {
+    List<Event> events = postEvents(100);
+    Event failingEvent = events.get(50);
+    FailingBatchListener listener = new FailingBatchListener(failingEvent);
+    EventListenerPluginWrapper wrapper = new EventListenerPluginWrapper("test", listener);
+
+    wrapper.onPostEvents(events);
+
+    // The batch is retried one event at a time, so the events after the failing one are processed
+    // and the events before it are delivered again.
+    Assertions.assertEquals(1, listener.batchCalls);
+    List<Event> expected = new ArrayList<>(events.subList(0, 50));
+    events.stream().filter(event -> event != failingEvent).forEach(expected::add);
+    Assertions.assertEquals(expected, listener.events);
+  }
+
+  @Test
+  void testFailingEventInTheMiddleOfBatchWithDefaultBatchProcessing() {
+    List<Event> events = postEvents(100);
+    Event failingEvent = events.get(50);
+    FailingListener listener = new FailingListener(failingEvent);
+    EventListenerPluginWrapper wrapper = new EventListenerPluginWrapper("test", listener);
+
+    wrapper.onPostEvents(events);
+
+    // The events are processed one by one, each event exactly once.
+    List<Event> expected =
+        events.stream().filter(event -> event != failingEvent).collect(Collectors.toList());
+    Assertions.assertEquals(expected, listener.events);
+  }
+
+  private static List<Event> postEvents(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new DummyPostEvent("user", NameIdentifier.of("metalake", "table_" + i)))
+        .collect(Collectors.toList());
+  }
+}
@@ -26,6 +26,7 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -39,6 +40,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -663,6 +665,66 @@ public class TestLockManager {
     }
   }
 
+  @Test
+  void testEvictedNodeIsReplaced() {
+    TreeLockNode parent = new TreeLockNode("parent");
+    TreeLockNode child = parent.getOrCreateChild("child").getKey();
+    Assertions.assertEquals(1, child.getReference());
+
+    // A node in use can't be evicted.
+    Assertions.assertFalse(child.tryEvict());
+    child.decReference();
+    Assertions.assertTrue(child.tryEvict());
+    Assertions.assertFalse(child.tryAddReference());
+
+    // The evicted node is still in the child map, it should be replaced by a new node.
+    Pair<TreeLockNode, Boolean> pair = parent.getOrCreateChild("child");
+    Assertions.assertTrue(pair.getValue());
+    Assertions.assertNotSame(child, pair.getKey());
+    Assertions.assertSame(pair.getKey(), parent.childMap.get("child"));
+
+    // Removing the evicted node should not remove the new node with the same name.
+    parent.removeChild(child);
+    Assertions.assertSame(pair.getKey(), parent.childMap.get("child"));
+  }
+
+  @Test
+  void testContentionListener() throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    List<Pair<String, Long>> contentions = Collections.synchronizedList(Lists.newArrayList());
+    lockManager.setContentionListener(
+        (node, waitNanos) -> contentions.add(Pair.of(node.getName(), waitNanos)));
+
+    NameIdentifier ident = NameIdentifier.of("a", "b");
+    TreeLock writeLock = lockManager.createTreeLock(ident);
+    writeLock.lock(LockType.WRITE);
+
+    // Uncontended locks are not reported.
+    TreeLock otherLock = lockManager.createTreeLock(NameIdentifier.of("a", "c"));
+    otherLock.lock(LockType.READ);
+    otherLock.unlock();
+    Assertions.assertTrue(contentions.isEmpty());
+
+    CountDownLatch started = new CountDownLatch(1);
+    Thread reader =
+        new Thread(
+            () -> {
+              TreeLock readLock = lockManager.createTreeLock(ident);
+              started.countDown();
+              readLock.lock(LockType.READ);
+              readLock.unlock();
+            });
+    reader.start();
+    started.await();
+    Thread.sleep(100);
+    writeLock.unlock();
+    reader.join();
+
+    Assertions.assertEquals(1, contentions.size());
+    Assertions.assertEquals("b", contentions.get(0).getKey());
+    Assertions.assertTrue(contentions.get(0).getValue() > 0);
+  }
+
   @Test
   public void testMockRootTreeLock() {
     LockManager lockManager = new LockManager(getConfig());
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSnowflakeIdGenerator {
+
+  @Test
+  public void testIdsAreIncreasing() {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1000L);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+    long lastId = generator.nextId();
+    Assertions.assertTrue(lastId > 0);
+    for (int i = 0; i < 10000; i++) {
+      if (i % 100 == 0) {
+        clock.incrementAndGet();
+      }
+      long id = generator.nextId();
+      Assertions.assertTrue(id > lastId);
+      lastId = id;
+    }
+  }
+
+  @Test
+  public void testIdLayout() {
+    long millis = 123456789L;
+    SnowflakeIdGenerator generator =
+        new SnowflakeIdGenerator(5, () -> SnowflakeIdGenerator.EPOCH_MILLIS + millis);
+
+    long id = generator.nextId();
+    Assertions.assertEquals(millis, id >>> 22);
+    Assertions.assertEquals(5, (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+    Assertions.assertEquals(0, id & 0xfff);
+
+    Assertions.assertEquals(1, generator.nextId() & 0xfff);
+  }
+
+  @Test
+  public void testSequenceOverflowAndClockBackwards() {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1000L);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+
+    // More ids than the sequence of one millisecond can hold, without the clock moving.
+    Set<Long> ids = new HashSet<>();
+    long lastId = -1L;
+    for (int i = 0; i < 10000; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > lastId);
+      Assertions.assertTrue(ids.add(id));
+      lastId = id;
+    }
+
+    // The clock goes backwards, the ids keep increasing.
+    clock.addAndGet(-500L);
+    for (int i = 0; i < 100; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > lastId);
+      lastId = id;
+    }
+  }
+
+  @Test
+  public void testDifferentNodes() {
+    long now = System.currentTimeMillis();
+    SnowflakeIdGenerator generator1 = new SnowflakeIdGenerator(1, () -> now);
+    SnowflakeIdGenerator generator2 = new SnowflakeIdGenerator(2, () -> now);
+
+    Set<Long> ids = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertTrue(ids.add(generator1.nextId()));
+      Assertions.assertTrue(ids.add(generator2.nextId()));
+    }
+  }
+
+  @Test
+  public void testInvalidNodeId() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.cache;
+
+import java.time.Instant;
+import java.util.Collections;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCaffeineEntityCache {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("test").withCreateTime(Instant.now()).build();
+
+  private CaffeineEntityCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_MAX_ENTRIES)).thenReturn(100L);
+    Mockito.when(config.get(Configs.ENTITY_STORE_CACHE_EXPIRE_TIME_MS)).thenReturn(60000L);
+    cache = new CaffeineEntityCache();
+    cache.initialize(config);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    cache.close();
+  }
+
+  @Test
+  public void testPutAndGet() {
+    TableEntity table = createTable("metalake", "catalog", "schema", "table");
+    Assertions.assertFalse(cache.getIfPresent(table.nameIdentifier(), table.type()).isPresent());
+
+    cache.put(table);
+    Assertions.assertEquals(table, cache.getIfPresent(table.nameIdentifier(), table.type()).get());
+    // The same identifier with a different type is another entry.
+    Assertions.assertFalse(
+        cache.getIfPresent(table.nameIdentifier(), Entity.EntityType.FILESET).isPresent());
+    Assertions.assertEquals(1, cache.hitCount());
+    Assertions.assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  public void testInvalidateDescendants() {
+    SchemaEntity schema = createSchema("metalake", "catalog", "schema");
+    SchemaEntity otherSchema = createSchema("metalake", "catalog", "schema2");
+    TableEntity table = createTable("metalake", "catalog", "schema", "table");
+    TableEntity otherTable = createTable("metalake", "catalog", "schema2", "table");
+    cache.put(schema);
+    cache.put(otherSchema);
+    cache.put(table);
+    cache.put(otherTable);
+
+    cache.invalidate(schema.nameIdentifier(), Entity.EntityType.SCHEMA);
+    Assertions.assertFalse(cache.getIfPresent(schema.nameIdentifier(), schema.type()).isPresent());
+    Assertions.assertFalse(cache.getIfPresent(table.nameIdentifier(), table.type()).isPresent());
+    Assertions.assertTrue(
+        cache.getIfPresent(otherSchema.nameIdentifier(), otherSchema.type()).isPresent());
+    Assertions.assertTrue(
+        cache.getIfPresent(otherTable.nameIdentifier(), otherTable.type()).isPresent());
+
+    cache.invalidate(NameIdentifier.of("metalake"), Entity.EntityType.METALAKE);
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testIsDescendantOf() {
+    EntityCacheKey key =
+        EntityCacheKey.of(
+            NameIdentifier.of("metalake", "catalog", "schema", "table"), Entity.EntityType.TABLE);
+    Assertions.assertTrue(key.isDescendantOf(NameIdentifier.of("metalake")));
+    Assertions.assertTrue(key.isDescendantOf(NameIdentifier.of("metalake", "catalog")));
+    Assertions.assertTrue(key.isDescendantOf(NameIdentifier.of("metalake", "catalog", "schema")));
+    Assertions.assertFalse(
+        key.isDescendantOf(NameIdentifier.of("metalake", "catalog", "schema", "table")));
+    Assertions.assertFalse(key.isDescendantOf(NameIdentifier.of("metalake", "catalog2")));
+    Assertions.assertFalse(key.isDescendantOf(NameIdentifier.of("metalake2")));
+  }
+
+  private static SchemaEntity createSchema(String metalake, String catalog, String name) {
+    return SchemaEntity.builder()
+        .withId(1L)
+        .withName(name)
+        .withNamespace(Namespace.of(metalake, catalog))
+        .withProperties(Collections.emptyMap())
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private static TableEntity createTable(
+      String metalake, String catalog, String schema, String name) {
+    return TableEntity.builder()
+        .withId(1L)
+        .withName(name)
+        .withNamespace(Namespace.of(metalake, catalog, schema))
+        .withColumns(Collections.emptyList())
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
@@ -20,13 +20,18 @@ package org.apache.gravitino.storage.relational;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.SupportsRelationOperations.Type.OWNER_REL;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -53,6 +58,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.apache.commons.io.IOUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
@@ -124,6 +130,11 @@ public class TestJDBCBackend {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS)).thenReturn(5);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS))
+        .thenReturn(60000L);
 
     String backendName = config.get(ENTITY_RELATIONAL_STORE);
     String className =
@@ -158,7 +169,7 @@ public class TestJDBCBackend {
 
   private static void prepareJdbcTable() {
     // Read the ddl sql to create table
-    String scriptPath = "h2/schema-0.8.0-h2.sql";
+    String scriptPath = "h2/schema-0.9.0-h2.sql";
     try (SqlSession sqlSession =
             SqlSessionFactoryHelper.getInstance().getSqlSessionFactory().openSession(true);
         Connection connection = sqlSession.getConnection();
@@ -556,6 +567,68 @@ public class TestJDBCBackend {
     backend.delete(metalake.nameIdentifier(), Entity.EntityType.METALAKE, false);
   }
 
+  @Test
+  public void testListWithPagination() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+    String metalakeName = "metalake" + RandomIdGenerator.INSTANCE.nextId();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+
+    Namespace catalogNs = NamespaceUtil.ofCatalog(metalakeName);
+    for (String name : new String[] {"catalog3", "catalog1", "catalog2"}) {
+      backend.insert(
+          createCatalog(RandomIdGenerator.INSTANCE.nextId(), catalogNs, name, auditInfo), false);
+    }
+
+    Namespace schemaNs = NamespaceUtil.ofSchema(metalakeName, "catalog1");
+    for (String name : new String[] {"schema2", "schema1", "schema3"}) {
+      backend.insert(
+          createSchemaEntity(RandomIdGenerator.INSTANCE.nextId(), schemaNs, name, auditInfo),
+          false);
+    }
+
+    Namespace filesetNs = NamespaceUtil.ofFileset(metalakeName, "catalog1", "schema1");
+    Namespace topicNs = NamespaceUtil.ofTopic(metalakeName, "catalog1", "schema1");
+    for (String name : new String[] {"b", "c", "a"}) {
+      backend.insert(
+          createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), filesetNs, name, auditInfo),
+          false);
+      backend.insert(
+          createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), topicNs, name, auditInfo), false);
+    }
+
+    // The entities are ordered by name, and the page starts after the given name
+    List<CatalogEntity> catalogs = backend.list(catalogNs, Entity.EntityType.CATALOG, null, 2);
+    Assertions.assertEquals(
+        Lists.newArrayList("catalog1", "catalog2"),
+        catalogs.stream().map(CatalogEntity::name).collect(Collectors.toList()));
+    catalogs = backend.list(catalogNs, Entity.EntityType.CATALOG, "catalog2", 2);
+    Assertions.assertEquals(
+        Lists.newArrayList("catalog3"),
+        catalogs.stream().map(CatalogEntity::name).collect(Collectors.toList()));
+
+    List<SchemaEntity> schemas = backend.list(schemaNs, Entity.EntityType.SCHEMA, "schema1", 1);
+    Assertions.assertEquals(
+        Lists.newArrayList("schema2"),
+        schemas.stream().map(SchemaEntity::name).collect(Collectors.toList()));
+
+    List<FilesetEntity> filesets = backend.list(filesetNs, Entity.EntityType.FILESET, "a", 5);
+    Assertions.assertEquals(
+        Lists.newArrayList("b", "c"),
+        filesets.stream().map(FilesetEntity::name).collect(Collectors.toList()));
+
+    // The entity types without the keyset query are paged after listing all of them
+    List<TopicEntity> topics = backend.list(topicNs, Entity.EntityType.TOPIC, null, 2);
+    Assertions.assertEquals(
+        Lists.newArrayList("a", "b"),
+        topics.stream().map(TopicEntity::name).collect(Collectors.toList()));
+
+    backend.delete(metalake.nameIdentifier(), Entity.EntityType.METALAKE, true);
+  }
+
   @Test
   public void testMetaLifeCycleFromCreationToDeletion() throws IOException {
     AuditInfo auditInfo =
@@ -808,6 +881,19 @@ public class TestJDBCBackend {
     assertTrue(tags.contains(tag));
     assertEquals(1, tags.size());
 
+    // check existence before soft delete
+    assertTrue(backend.exists(table.nameIdentifier(), Entity.EntityType.TABLE));
+    assertTrue(backend.exists(topic.nameIdentifier(), Entity.EntityType.TOPIC));
+    assertTrue(backend.exists(model.nameIdentifier(), Entity.EntityType.MODEL));
+    assertTrue(backend.exists(tag.nameIdentifier(), Entity.EntityType.TAG));
+    assertFalse(
+        backend.exists(
+            NameIdentifier.of(table.namespace(), "not_exist_table"), Entity.EntityType.TABLE));
+    assertFalse(
+        backend.exists(
+            NameIdentifier.of(table.namespace().level(0), table.namespace().level(1), "no_schema"),
+            Entity.EntityType.SCHEMA));
+
     backend.insertRelation(
         OWNER_REL,
         metalake.nameIdentifier(),
@@ -922,7 +1008,8 @@ public class TestJDBCBackend {
 
     // meta data hard delete
     for (Entity.EntityType entityType : Entity.EntityType.values()) {
-      backend.hardDeleteLegacyData(entityType, Instant.now().toEpochMilli() + 1000);
+      backend.hardDeleteLegacyData(
+          entityType, Instant.now().toEpochMilli() + 1000, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
     }
     assertFalse(legacyRecordExistsInDB(metalake.id(), Entity.EntityType.METALAKE));
     assertFalse(legacyRecordExistsInDB(catalog.id(), Entity.EntityType.CATALOG));
@@ -944,7 +1031,7 @@ public class TestJDBCBackend {
     // soft delete for old version fileset
     assertEquals(3, listFilesetVersions(anotherFileset.id()).size());
     for (Entity.EntityType entityType : Entity.EntityType.values()) {
-      backend.deleteOldVersionData(entityType, 1);
+      backend.deleteOldVersionData(entityType, 1, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
     }
     Map<Integer, Long> versionDeletedMap = listFilesetVersions(anotherFileset.id());
     assertEquals(3, versionDeletedMap.size());
@@ -952,7 +1039,10 @@ public class TestJDBCBackend {
     assertEquals(2, versionDeletedMap.values().stream().filter(value -> value != 0L).count());
 
     // hard delete for old version fileset
-    backend.hardDeleteLegacyData(Entity.EntityType.FILESET, Instant.now().toEpochMilli() + 1000);
+    backend.hardDeleteLegacyData(
+        Entity.EntityType.FILESET,
+        Instant.now().toEpochMilli() + 1000,
+        GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
     assertEquals(1, listFilesetVersions(anotherFileset.id()).size());
   }
 
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.STORE_GC_BATCH_SIZE;
+import static org.apache.gravitino.Configs.STORE_GC_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.STORE_GC_TIME_WINDOWS;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+public class TestRelationalGarbageCollector {
+
+  private Config config;
+  private RelationalBackend backend;
+
+  @BeforeEach
+  public void setUp() {
+    config = Mockito.mock(Config.class);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    Mockito.when(config.get(STORE_GC_BATCH_SIZE)).thenReturn(10);
+    Mockito.when(config.get(STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(0L);
+    backend = Mockito.mock(RelationalBackend.class);
+  }
+
+  @Test
+  public void testCollectInBatches() throws IOException {
+    Mockito.when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), eq(10)))
+        .thenReturn(10, 10, 3, 0);
+    Mockito.when(backend.deleteOldVersionData(eq(Entity.EntityType.FILESET), eq(1L), eq(10)))
+        .thenReturn(2, 0);
+
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      garbageCollector.collectAndClean();
+      Mockito.verify(backend, Mockito.times(4))
+          .hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), eq(10));
+      Mockito.verify(backend, Mockito.times(2))
+          .deleteOldVersionData(eq(Entity.EntityType.FILESET), eq(1L), eq(10));
+      Assertions.assertEquals(25, garbageCollector.purgedRowCount());
+      Assertions.assertEquals(0, garbageCollector.pendingTaskCount());
+    }
+  }
+
+  @Test
+  public void testResumeFromCheckpoint() throws IOException {
+    // The run is stopped while purging the catalogs, like at the end of a time window
+    Mockito.when(backend.hardDeleteLegacyData(eq(Entity.EntityType.CATALOG), anyLong(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              Thread.currentThread().interrupt();
+              return 10;
+            })
+        .thenReturn(0);
+
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      garbageCollector.collectAndClean();
+      // Clear the interrupted flag
+      Assertions.assertTrue(Thread.interrupted());
+      Assertions.assertEquals(
+          2 * Entity.EntityType.values().length - 1, garbageCollector.pendingTaskCount());
+      Mockito.verify(backend, Mockito.never())
+          .hardDeleteLegacyData(eq(Entity.EntityType.SCHEMA), anyLong(), anyInt());
+
+      Mockito.clearInvocations(backend);
+      garbageCollector.collectAndClean();
+      InOrder inOrder = Mockito.inOrder(backend);
+      inOrder
+          .verify(backend)
+          .hardDeleteLegacyData(eq(Entity.EntityType.CATALOG), anyLong(), anyInt());
+      inOrder
+          .verify(backend)
+          .hardDeleteLegacyData(eq(Entity.EntityType.SCHEMA), anyLong(), anyInt());
+      inOrder
+          .verify(backend)
+          .hardDeleteLegacyData(eq(Entity.EntityType.METALAKE), anyLong(), anyInt());
+      Assertions.assertEquals(0, garbageCollector.pendingTaskCount());
+    }
+  }
+
+  @Test
+  public void testTimeWindows() throws IOException {
+    Mockito.when(config.get(STORE_GC_TIME_WINDOWS)).thenReturn("01:00-05:00, 22:30-02:00");
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      Assertions.assertTrue(garbageCollector.inTimeWindows(LocalTime.of(1, 0)));
+      Assertions.assertTrue(garbageCollector.inTimeWindows(LocalTime.of(4, 59)));
+      Assertions.assertFalse(garbageCollector.inTimeWindows(LocalTime.of(5, 0)));
+      Assertions.assertFalse(garbageCollector.inTimeWindows(LocalTime.of(12, 0)));
+      Assertions.assertTrue(garbageCollector.inTimeWindows(LocalTime.of(23, 0)));
+      Assertions.assertTrue(garbageCollector.inTimeWindows(LocalTime.of(0, 30)));
+    }
+
+    Mockito.when(config.get(STORE_GC_TIME_WINDOWS)).thenReturn("01:00");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new RelationalGarbageCollector(backend, config));
+    Mockito.when(config.get(STORE_GC_TIME_WINDOWS)).thenReturn("1am-5am");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new RelationalGarbageCollector(backend, config));
+  }
+}
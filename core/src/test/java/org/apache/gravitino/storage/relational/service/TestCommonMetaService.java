@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCommonMetaService extends TestJDBCBackend {
+
+  private static final String METALAKE_NAME = "metalake_for_common_meta_test";
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  public void testGetParentEntityIdsByNamespace() throws IOException {
+    createParentEntities(METALAKE_NAME, "catalog1", "schema1", auditInfo);
+    CommonMetaService service = CommonMetaService.getInstance();
+
+    Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(METALAKE_NAME);
+    Long catalogId =
+        CatalogMetaService.getInstance().getCatalogIdByMetalakeIdAndName(metalakeId, "catalog1");
+    Long schemaId =
+        SchemaMetaService.getInstance().getSchemaIdByCatalogIdAndName(catalogId, "schema1");
+
+    Assertions.assertArrayEquals(
+        new Long[] {metalakeId},
+        service.getParentEntityIdsByNamespace(Namespace.of(METALAKE_NAME)));
+    Assertions.assertArrayEquals(
+        new Long[] {metalakeId, catalogId},
+        service.getParentEntityIdsByNamespace(Namespace.of(METALAKE_NAME, "catalog1")));
+    Assertions.assertArrayEquals(
+        new Long[] {metalakeId, catalogId, schemaId},
+        service.getParentEntityIdsByNamespace(Namespace.of(METALAKE_NAME, "catalog1", "schema1")));
+    Assertions.assertEquals(
+        schemaId,
+        service.getParentEntityIdByNamespace(Namespace.of(METALAKE_NAME, "catalog1", "schema1")));
+  }
+
+  @Test
+  public void testGetParentEntityIdsByNonExistentNamespace() throws IOException {
+    createParentEntities(METALAKE_NAME, "catalog1", "schema1", auditInfo);
+    CommonMetaService service = CommonMetaService.getInstance();
+
+    NoSuchEntityException exception =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () -> service.getParentEntityIdByNamespace(Namespace.of("metalake2", "catalog1")));
+    Assertions.assertTrue(exception.getMessage().contains("metalake2"));
+
+    exception =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                service.getParentEntityIdByNamespace(
+                    Namespace.of(METALAKE_NAME, "catalog2", "schema1")));
+    Assertions.assertTrue(exception.getMessage().contains("catalog2"));
+
+    exception =
+        Assertions.assertThrows(
+            NoSuchEntityException.class,
+            () ->
+                service.getParentEntityIdByNamespace(
+                    Namespace.of(METALAKE_NAME, "catalog1", "schema2")));
+    Assertions.assertTrue(exception.getMessage().contains("schema2"));
+  }
+}
@@ -93,7 +93,7 @@ public class TestFilesetMetaService {
               new File(
                   gravitinoHome
                       + String.format(
-                          "/scripts/mysql/schema-%s-mysql.sql", ConfigConstants.VERSION_0_8_0)),
+                          "/scripts/mysql/schema-%s-mysql.sql", ConfigConstants.VERSION_0_9_0)),
               "UTF-8");
       String[] initMySQLBackendSqls =
           Arrays.stream(mysqlContent.split(";"))
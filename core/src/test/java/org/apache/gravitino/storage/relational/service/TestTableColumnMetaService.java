@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -147,6 +148,76 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
     compareTwoColumns(createdTable3.columns(), retrievedTable3.columns());
   }
 
+  @Test
+  public void testBatchInsertTables() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    List<TableEntity> tables = Lists.newArrayList();
+    for (int i = 0; i < 3; i++) {
+      ColumnEntity column =
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column" + i)
+              .withPosition(0)
+              .withComment("comment" + i)
+              .withDataType(Types.IntegerType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withDefaultValue(Literals.integerLiteral(i))
+              .withAuditInfo(auditInfo)
+              .build();
+      tables.add(
+          TableEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("table" + i)
+              .withNamespace(namespace)
+              .withColumns(Lists.newArrayList(column))
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    TableMetaService.getInstance().batchInsertTables(tables);
+
+    for (TableEntity table : tables) {
+      TableEntity retrievedTable =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertEquals(table.id(), retrievedTable.id());
+      Assertions.assertEquals(table.name(), retrievedTable.name());
+      Assertions.assertEquals(table.namespace(), retrievedTable.namespace());
+      Assertions.assertEquals(table.auditInfo(), retrievedTable.auditInfo());
+      compareTwoColumns(table.columns(), retrievedTable.columns());
+    }
+
+    // A batch with an existing table fails as a whole
+    TableEntity newTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table3", auditInfo);
+    TableEntity duplicatedTable =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table0", auditInfo);
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class,
+        () ->
+            TableMetaService.getInstance()
+                .batchInsertTables(Lists.newArrayList(newTable, duplicatedTable)));
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> TableMetaService.getInstance().getTableByIdentifier(newTable.nameIdentifier()));
+
+    // All the tables of a batch must be in the same schema
+    TableEntity otherSchemaTable =
+        createTableEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of(METALAKE_NAME, catalogName, "schema2"),
+            "table4",
+            auditInfo);
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TableMetaService.getInstance()
+                .batchInsertTables(Lists.newArrayList(newTable, otherSchemaTable)));
+  }
+
   @Test
   public void testUpdateTable() throws IOException {
     String catalogName = "catalog1";
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+import org.apache.gravitino.rel.stats.HistogramBucket;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTableStatisticsMetaService extends TestJDBCBackend {
+
+  private static final String METALAKE_NAME = "metalake_for_table_statistics_test";
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  public void testUpdateAndGetTableStatistics() throws IOException {
+    TableEntity table = createTable("catalog1", "schema1", "table1");
+    NameIdentifier ident = table.nameIdentifier();
+    TableStatisticsMetaService service = TableStatisticsMetaService.getInstance();
+
+    // Nothing is recorded
+    TableStatistics empty = service.getTableStatistics(ident, null);
+    Assertions.assertNull(empty.rowCount());
+    Assertions.assertNull(empty.sizeInBytes());
+    Assertions.assertEquals(0, empty.columnStatistics().length);
+
+    ColumnStatistics column1 =
+        Statistics.column(
+            "column1",
+            10L,
+            0L,
+            "1",
+            "10",
+            new HistogramBucket[] {
+              Statistics.bucket("1", "5", 60L, 5L), Statistics.bucket("5", "10", 40L, 5L)
+            });
+    ColumnStatistics column2 = Statistics.column("column2", 80L, 20L, "a", "z");
+    TableStatistics updated =
+        service.updateTableStatistics(
+            ident,
+            null,
+            Statistics.of(100L, 2048L, new ColumnStatistics[] {column1, column2}, auditInfo));
+    Assertions.assertEquals(100L, updated.rowCount());
+    Assertions.assertEquals(2048L, updated.sizeInBytes());
+    Assertions.assertEquals("creator", updated.auditInfo().creator());
+    Map<String, ColumnStatistics> columns = byName(updated);
+    Assertions.assertEquals(column1, columns.get("column1"));
+    Assertions.assertEquals(column2, columns.get("column2"));
+
+    // The update is merged with the recorded statistics
+    AuditInfo modifier =
+        AuditInfo.builder().withCreator("modifier").withCreateTime(Instant.now()).build();
+    ColumnStatistics newColumn2 = Statistics.column("column2", 90L, 10L, "b", "y");
+    TableStatistics merged =
+        service.updateTableStatistics(
+            ident, null, Statistics.of(200L, null, new ColumnStatistics[] {newColumn2}, modifier));
+    Assertions.assertEquals(200L, merged.rowCount());
+    Assertions.assertEquals(2048L, merged.sizeInBytes());
+    Assertions.assertEquals("creator", merged.auditInfo().creator());
+    Assertions.assertEquals("modifier", merged.auditInfo().lastModifier());
+    columns = byName(merged);
+    Assertions.assertEquals(2, columns.size());
+    Assertions.assertEquals(column1, columns.get("column1"));
+    Assertions.assertEquals(newColumn2, columns.get("column2"));
+    Assertions.assertEquals(merged.rowCount(), service.getTableStatistics(ident, null).rowCount());
+
+    // The statistics of a partition are independent of the statistics of the table
+    Assertions.assertNull(service.getTableStatistics(ident, "dt=2024-01-01").rowCount());
+    service.updateTableStatistics(
+        ident, "dt=2024-01-01", Statistics.of(5L, 64L, new ColumnStatistics[0], auditInfo));
+    Assertions.assertEquals(5L, service.getTableStatistics(ident, "dt=2024-01-01").rowCount());
+    Assertions.assertEquals(200L, service.getTableStatistics(ident, null).rowCount());
+  }
+
+  @Test
+  public void testDeleteTableStatistics() throws IOException {
+    TableEntity table = createTable("catalog2", "schema2", "table2");
+    NameIdentifier ident = table.nameIdentifier();
+    TableStatisticsMetaService service = TableStatisticsMetaService.getInstance();
+
+    Assertions.assertFalse(service.deleteTableStatistics(ident, null));
+
+    service.updateTableStatistics(
+        ident,
+        null,
+        Statistics.of(
+            100L,
+            null,
+            new ColumnStatistics[] {Statistics.column("column1", 10L, 0L, null, null)},
+            auditInfo));
+    service.updateTableStatistics(
+        ident, "dt=2024-01-01", Statistics.of(5L, null, new ColumnStatistics[0], auditInfo));
+    service.updateTableStatistics(
+        ident, "dt=2024-01-02", Statistics.of(6L, null, new ColumnStatistics[0], auditInfo));
+
+    // Drop the statistics of a partition
+    Assertions.assertTrue(service.deleteTableStatistics(ident, "dt=2024-01-01"));
+    Assertions.assertFalse(service.deleteTableStatistics(ident, "dt=2024-01-01"));
+    Assertions.assertNull(service.getTableStatistics(ident, "dt=2024-01-01").rowCount());
+    Assertions.assertEquals(6L, service.getTableStatistics(ident, "dt=2024-01-02").rowCount());
+
+    // Drop all the statistics of the table
+    Assertions.assertTrue(service.deleteTableStatistics(ident, null));
+    Assertions.assertNull(service.getTableStatistics(ident, null).rowCount());
+    Assertions.assertEquals(0, service.getTableStatistics(ident, null).columnStatistics().length);
+    Assertions.assertNull(service.getTableStatistics(ident, "dt=2024-01-02").rowCount());
+
+    // The soft deleted statistics are purged with the legacy data of the tables
+    Assertions.assertTrue(
+        service.deleteStatisticsByLegacyTimeline(Instant.now().toEpochMilli() + 1000, 100) > 0);
+  }
+
+  @Test
+  public void testDeleteStatisticsWithTable() throws IOException {
+    TableEntity table = createTable("catalog3", "schema3", "table3");
+    NameIdentifier ident = table.nameIdentifier();
+    TableStatisticsMetaService service = TableStatisticsMetaService.getInstance();
+    service.updateTableStatistics(
+        ident,
+        null,
+        Statistics.of(
+            100L,
+            null,
+            new ColumnStatistics[] {
+              Statistics.column("column1", 10L, 0L, null, null),
+              Statistics.column("column2", 20L, 0L, null, null),
+              Statistics.column("column3", 30L, 0L, null, null)
+            },
+            auditInfo));
+
+    // The statistics of the dropped, renamed and retyped columns are deleted
+    ColumnEntity[] oldColumns = table.columns().toArray(new ColumnEntity[0]);
+    TableEntity updatedTable =
+        TableEntity.builder()
+            .withId(table.id())
+            .withName(table.name())
+            .withNamespace(table.namespace())
+            .withColumns(
+                Lists.newArrayList(
+                    oldColumns[0],
+                    ColumnEntity.builder()
+                        .withId(oldColumns[1].id())
+                        .withName("column2_renamed")
+                        .withPosition(1)
+                        .withDataType(oldColumns[1].dataType())
+                        .withNullable(true)
+                        .withAutoIncrement(false)
+                        .withAuditInfo(auditInfo)
+                        .build()))
+            .withAuditInfo(auditInfo)
+            .build();
+    Function<TableEntity, TableEntity> updater = oldTable -> updatedTable;
+    TableMetaService.getInstance().updateTable(ident, updater);
+
+    TableStatistics statistics = service.getTableStatistics(ident, null);
+    Assertions.assertEquals(100L, statistics.rowCount());
+    Assertions.assertEquals(1, statistics.columnStatistics().length);
+    Assertions.assertEquals("column1", statistics.columnStatistics()[0].name());
+
+    // The statistics are deleted with the table
+    Assertions.assertTrue(TableMetaService.getInstance().deleteTable(ident));
+    TableEntity recreated = createTable(table.namespace(), table.name());
+    Assertions.assertNotEquals(table.id(), recreated.id());
+    Assertions.assertNull(service.getTableStatistics(ident, null).rowCount());
+  }
+
+  private TableEntity createTable(String catalogName, String schemaName, String tableName)
+      throws IOException {
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    return createTable(Namespace.of(METALAKE_NAME, catalogName, schemaName), tableName);
+  }
+
+  private TableEntity createTable(Namespace namespace, String tableName) throws IOException {
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName(tableName)
+            .withNamespace(namespace)
+            .withColumns(
+                Lists.newArrayList(
+                    column("column1", 0), column("column2", 1), column("column3", 2)))
+            .withAuditInfo(auditInfo)
+            .build();
+    TableMetaService.getInstance().insertTable(table, false);
+    return table;
+  }
+
+  private ColumnEntity column(String name, int position) {
+    return ColumnEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withPosition(position)
+        .withDataType(Types.IntegerType.get())
+        .withNullable(true)
+        .withAutoIncrement(false)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
+  private static Map<String, ColumnStatistics> byName(TableStatistics statistics) {
+    return Arrays.stream(statistics.columnStatistics())
+        .collect(Collectors.toMap(ColumnStatistics::name, Function.identity()));
+  }
+}
@@ -21,8 +21,14 @@ package org.apache.gravitino.storage.relational.session;
 
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
@@ -32,7 +38,9 @@ import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -44,6 +52,7 @@ import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -76,6 +85,11 @@ public class TestSqlSession {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_IDLE_CONNECTIONS)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_IDLE_CONNECTIONS)).thenReturn(5);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_INITIAL_CONNECTIONS)).thenReturn(0);
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MIN_EVICTABLE_IDLE_MILLIS))
+        .thenReturn(60000L);
   }
 
   @BeforeEach
@@ -153,4 +167,69 @@ public class TestSqlSession {
     SqlSessions.rollbackAndCloseSqlSession();
     assertNull(SqlSessions.getSessions().get());
   }
+
+  @Test
+  public void testReadOnlySqlSession() throws SQLException {
+    SqlSessionFactoryHelper helper = SqlSessionFactoryHelper.getInstance();
+    assertNull(helper.getReadOnlySqlSessionFactory());
+    SqlSession session = SqlSessions.doReadOnly(SqlSessions::getReadOnlySqlSession);
+    assertSame(helper.getSqlSessionFactory().getConfiguration(), session.getConfiguration());
+    SqlSessions.closeSqlSession();
+
+    helper.close();
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_URL))
+        .thenReturn(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL));
+    Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS))
+        .thenReturn(60 * 60 * 1000L);
+    try {
+      helper.init(config);
+      SqlSessionFactory readOnlyFactory = helper.getReadOnlySqlSessionFactory();
+      assertNotNull(readOnlyFactory);
+      BasicDataSource readOnlyDataSource =
+          (BasicDataSource) readOnlyFactory.getConfiguration().getEnvironment().getDataSource();
+      assertTrue(readOnlyDataSource.getDefaultReadOnly());
+
+      // The reads right after a commit go to the primary database
+      SqlSessions.getSqlSession();
+      SqlSessions.commitAndCloseSqlSession();
+      session = SqlSessions.doReadOnly(SqlSessions::getReadOnlySqlSession);
+      assertSame(helper.getSqlSessionFactory().getConfiguration(), session.getConfiguration());
+      SqlSessions.closeSqlSession();
+
+      helper.close();
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_READ_AFTER_WRITE_MILLIS))
+          .thenReturn(0L);
+      helper.init(config);
+      session = SqlSessions.doReadOnly(SqlSessions::getReadOnlySqlSession);
+      assertSame(
+          helper.getReadOnlySqlSessionFactory().getConfiguration(), session.getConfiguration());
+      assertTrue(session.getConnection().isReadOnly());
+      SqlSessions.closeSqlSession();
+
+      // The reads of the write operations go to the primary database
+      session = SqlSessions.getReadOnlySqlSession();
+      assertSame(helper.getSqlSessionFactory().getConfiguration(), session.getConfiguration());
+      SqlSessions.closeSqlSession();
+
+      // The nested read-only operations don't end the outer one
+      session =
+          SqlSessions.doReadOnly(
+              () -> {
+                SqlSessions.doReadOnly(() -> null);
+                return SqlSessions.getReadOnlySqlSession();
+              });
+      assertSame(
+          helper.getReadOnlySqlSessionFactory().getConfiguration(), session.getConfiguration());
+      SqlSessions.closeSqlSession();
+
+      // The reads in a transaction stay on the primary database
+      SqlSession primarySession = SqlSessions.getSqlSession();
+      assertSame(primarySession, SqlSessions.doReadOnly(SqlSessions::getReadOnlySqlSession));
+      SqlSessions.closeSqlSession();
+    } finally {
+      helper.close();
+      Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_READ_ONLY_URL)).thenReturn(null);
+      helper.init(config);
+    }
+  }
 }
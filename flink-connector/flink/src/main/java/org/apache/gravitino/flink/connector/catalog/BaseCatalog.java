@@ -72,6 +72,7 @@ import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.flink.connector.PartitionConverter;
 import org.apache.gravitino.flink.connector.PropertiesConverter;
+import org.apache.gravitino.flink.connector.utils.StatisticsUtils;
 import org.apache.gravitino.flink.connector.utils.TableUtils;
 import org.apache.gravitino.flink.connector.utils.TypeUtils;
 import org.apache.gravitino.rel.Column;
@@ -82,12 +83,18 @@ import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
 import org.apache.gravitino.rel.indexes.Indexes;
+import org.apache.gravitino.rel.stats.SupportsStatistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The BaseCatalog that provides a default implementation for all methods in the {@link
  * org.apache.flink.table.catalog.Catalog} interface.
  */
 public abstract class BaseCatalog extends AbstractCatalog {
+  private static final Logger LOG = LoggerFactory.getLogger(BaseCatalog.class);
+
   private final PropertiesConverter propertiesConverter;
   private final PartitionConverter partitionConverter;
   private final Map<String, String> catalogOptions;
@@ -495,27 +502,45 @@ public abstract class BaseCatalog extends AbstractCatalog {
   @Override
   public CatalogTableStatistics getTableStatistics(ObjectPath tablePath)
       throws TableNotExistException, CatalogException {
-    return realCatalog().getTableStatistics(tablePath);
+    TableStatistics statistics = getGravitinoStatistics(loadTableQuietly(tablePath), null);
+    if (statistics == null || statistics.rowCount() == null) {
+      return realCatalog().getTableStatistics(tablePath);
+    }
+    return StatisticsUtils.toFlinkTableStatistics(statistics);
   }
 
   @Override
   public CatalogColumnStatistics getTableColumnStatistics(ObjectPath tablePath)
       throws TableNotExistException, CatalogException {
-    return realCatalog().getTableColumnStatistics(tablePath);
+    Table table = loadTableQuietly(tablePath);
+    TableStatistics statistics = getGravitinoStatistics(table, null);
+    if (statistics == null || statistics.columnStatistics().length == 0) {
+      return realCatalog().getTableColumnStatistics(tablePath);
+    }
+    return StatisticsUtils.toFlinkColumnStatistics(statistics, table.columns());
   }
 
   @Override
   public CatalogTableStatistics getPartitionStatistics(
       ObjectPath tablePath, CatalogPartitionSpec partitionSpec)
       throws PartitionNotExistException, CatalogException {
-    return realCatalog().getPartitionStatistics(tablePath, partitionSpec);
+    TableStatistics statistics = getGravitinoStatistics(loadTableQuietly(tablePath), partitionSpec);
+    if (statistics == null || statistics.rowCount() == null) {
+      return realCatalog().getPartitionStatistics(tablePath, partitionSpec);
+    }
+    return StatisticsUtils.toFlinkTableStatistics(statistics);
   }
 
   @Override
   public CatalogColumnStatistics getPartitionColumnStatistics(
       ObjectPath tablePath, CatalogPartitionSpec partitionSpec)
       throws PartitionNotExistException, CatalogException {
-    return realCatalog().getPartitionColumnStatistics(tablePath, partitionSpec);
+    Table table = loadTableQuietly(tablePath);
+    TableStatistics statistics = getGravitinoStatistics(table, partitionSpec);
+    if (statistics == null || statistics.columnStatistics().length == 0) {
+      return realCatalog().getPartitionColumnStatistics(tablePath, partitionSpec);
+    }
+    return StatisticsUtils.toFlinkColumnStatistics(statistics, table.columns());
   }
 
   @Override
@@ -552,6 +577,50 @@ public abstract class BaseCatalog extends AbstractCatalog {
     throw new UnsupportedOperationException();
   }
 
+  // Returns null if the table can't be loaded, the real catalog reports the error then.
+  private Table loadTableQuietly(ObjectPath tablePath) {
+    try {
+      return catalog()
+          .asTableCatalog()
+          .loadTable(NameIdentifier.of(tablePath.getDatabaseName(), tablePath.getObjectName()));
+    } catch (Exception e) {
+      LOG.warn("Failed to load table {} to get its statistics", tablePath, e);
+      return null;
+    }
+  }
+
+  /**
+   * Gets the statistics recorded in Gravitino, which are preferred to the statistics of the real
+   * catalog since the latter may have to read the underlying source to get them.
+   *
+   * @param table The table, or null if it can't be loaded.
+   * @param partitionSpec The partition, or null for the whole table.
+   * @return The statistics, or null if they can't be got from Gravitino.
+   */
+  private TableStatistics getGravitinoStatistics(Table table, CatalogPartitionSpec partitionSpec) {
+    if (table == null) {
+      return null;
+    }
+
+    try {
+      SupportsStatistics supportsStatistics = table.supportsStatistics();
+      if (partitionSpec == null) {
+        return supportsStatistics.getStatistics();
+      }
+
+      String partitionName =
+          StatisticsUtils.toPartitionName(
+              partitionConverter.toFlinkPartitionKeys(table.partitioning()),
+              partitionSpec.getPartitionSpec());
+      return partitionName == null
+          ? null
+          : supportsStatistics.getPartitionStatistics(partitionName);
+    } catch (Exception e) {
+      LOG.warn("Failed to get the statistics of table {} from Gravitino", table.name(), e);
+      return null;
+    }
+  }
+
   protected CatalogBaseTable toFlinkTable(Table table, ObjectPath tablePath) {
     org.apache.flink.table.api.Schema.Builder builder =
         org.apache.flink.table.api.Schema.newBuilder();
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.flink.connector.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatistics;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataBase;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataBoolean;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataDouble;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataLong;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataString;
+import org.apache.flink.table.catalog.stats.CatalogTableStatistics;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.stats.ColumnStatistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+
+/** Converts the statistics recorded in Gravitino to the Flink statistics. */
+public class StatisticsUtils {
+
+  // Flink uses -1 for the unknown statistics.
+  private static final long UNKNOWN = -1L;
+
+  private StatisticsUtils() {}
+
+  public static CatalogTableStatistics toFlinkTableStatistics(TableStatistics statistics) {
+    long rowCount = statistics.rowCount() == null ? UNKNOWN : statistics.rowCount();
+    long sizeInBytes = statistics.sizeInBytes() == null ? UNKNOWN : statistics.sizeInBytes();
+    return new CatalogTableStatistics(rowCount, (int) UNKNOWN, sizeInBytes, sizeInBytes);
+  }
+
+  /**
+   * Converts the column statistics. The statistics of the columns which don't exist anymore, or
+   * whose type has no Flink column statistics, are ignored.
+   *
+   * @param statistics The statistics recorded in Gravitino.
+   * @param columns The columns of the table.
+   * @return The Flink column statistics.
+   */
+  public static CatalogColumnStatistics toFlinkColumnStatistics(
+      TableStatistics statistics, Column[] columns) {
+    Map<String, Column> columnsByName = new HashMap<>();
+    for (Column column : columns) {
+      columnsByName.put(column.name(), column);
+    }
+
+    Map<String, CatalogColumnStatisticsDataBase> columnStatisticsData = new HashMap<>();
+    for (ColumnStatistics columnStatistics : statistics.columnStatistics()) {
+      Column column = columnsByName.get(columnStatistics.name());
+      if (column == null) {
+        continue;
+      }
+
+      CatalogColumnStatisticsDataBase data = toFlinkColumnStatisticsData(column, columnStatistics);
+      if (data != null) {
+        columnStatisticsData.put(column.name(), data);
+      }
+    }
+    return new CatalogColumnStatistics(columnStatisticsData);
+  }
+
+  /**
+   * Returns the name of the partition in the {@code key1=value1/key2=value2} format used to record
+   * its statistics.
+   *
+   * @param partitionKeys The partition keys of the table in order.
+   * @param partitionSpec The values of the partition by partition key.
+   * @return The name of the partition, or null if a partition key has no value.
+   */
+  public static String toPartitionName(
+      List<String> partitionKeys, Map<String, String> partitionSpec) {
+    StringBuilder partitionName = new StringBuilder();
+    for (String partitionKey : partitionKeys) {
+      String value = partitionSpec.get(partitionKey);
+      if (value == null) {
+        return null;
+      }
+
+      if (partitionName.length() > 0) {
+        partitionName.append('/');
+      }
+      partitionName.append(partitionKey).append('=').append(value);
+    }
+    return partitionName.toString();
+  }
+
+  private static CatalogColumnStatisticsDataBase toFlinkColumnStatisticsData(
+      Column column, ColumnStatistics statistics) {
+    Long ndv = statistics.distinctCount();
+    Long nullCount = statistics.nullCount();
+    switch (column.dataType().name()) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        return new CatalogColumnStatisticsDataLong(
+            parseLong(statistics.minValue()), parseLong(statistics.maxValue()), ndv, nullCount);
+      case FLOAT:
+      case DOUBLE:
+      case DECIMAL:
+        return new CatalogColumnStatisticsDataDouble(
+            parseDouble(statistics.minValue()), parseDouble(statistics.maxValue()), ndv, nullCount);
+      case STRING:
+      case VARCHAR:
+      case FIXEDCHAR:
+        return new CatalogColumnStatisticsDataString(null, null, ndv, nullCount);
+      case BOOLEAN:
+        return new CatalogColumnStatisticsDataBoolean(null, null, nullCount);
+      default:
+        return null;
+    }
+  }
+
+  // The value range may be recorded in another format, the other statistics are still valid then.
+  private static Long parseLong(String value) {
+    try {
+      return value == null ? null : Long.valueOf(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Double parseDouble(String value) {
+    try {
+      return value == null ? null : Double.valueOf(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.flink.connector.utils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataBase;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataDouble;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataLong;
+import org.apache.flink.table.catalog.stats.CatalogColumnStatisticsDataString;
+import org.apache.flink.table.catalog.stats.CatalogTableStatistics;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestStatisticsUtils {
+
+  @Test
+  public void testToFlinkTableStatistics() {
+    CatalogTableStatistics statistics =
+        StatisticsUtils.toFlinkTableStatistics(Statistics.of(100L, 2048L));
+    Assertions.assertEquals(100L, statistics.getRowCount());
+    Assertions.assertEquals(2048L, statistics.getTotalSize());
+    Assertions.assertEquals(-1, statistics.getFileCount());
+
+    CatalogTableStatistics unknownSize =
+        StatisticsUtils.toFlinkTableStatistics(Statistics.of(100L, null));
+    Assertions.assertEquals(-1L, unknownSize.getTotalSize());
+  }
+
+  @Test
+  public void testToFlinkColumnStatistics() {
+    Column[] columns =
+        new Column[] {
+          Column.of("id", Types.LongType.get()),
+          Column.of("price", Types.DecimalType.of(10, 2)),
+          Column.of("name", Types.StringType.get()),
+          Column.of("dt", Types.DateType.get())
+        };
+    TableStatistics statistics =
+        Statistics.of(
+            100L,
+            null,
+            Statistics.column("id", 100L, 0L, "1", "100"),
+            Statistics.column("price", 20L, 5L, "0.5", "not a number"),
+            Statistics.column("name", 80L, 3L, "a", "z"),
+            Statistics.column("dt", 10L, 0L, "2024-01-01", "2024-01-10"),
+            Statistics.column("dropped", 1L, 0L, null, null));
+
+    Map<String, CatalogColumnStatisticsDataBase> data =
+        StatisticsUtils.toFlinkColumnStatistics(statistics, columns).getColumnStatisticsData();
+    Assertions.assertEquals(3, data.size());
+
+    CatalogColumnStatisticsDataLong id = (CatalogColumnStatisticsDataLong) data.get("id");
+    Assertions.assertEquals(1L, id.getMin());
+    Assertions.assertEquals(100L, id.getMax());
+    Assertions.assertEquals(100L, id.getNdv());
+    Assertions.assertEquals(0L, id.getNullCount());
+
+    // The unparsable bound is ignored
+    CatalogColumnStatisticsDataDouble price = (CatalogColumnStatisticsDataDouble) data.get("price");
+    Assertions.assertEquals(0.5, price.getMin());
+    Assertions.assertNull(price.getMax());
+    Assertions.assertEquals(5L, price.getNullCount());
+
+    CatalogColumnStatisticsDataString name = (CatalogColumnStatisticsDataString) data.get("name");
+    Assertions.assertEquals(80L, name.getNdv());
+    Assertions.assertEquals(3L, name.getNullCount());
+  }
+
+  @Test
+  public void testToPartitionName() {
+    Assertions.assertEquals(
+        "dt=2024-01-01/hour=00",
+        StatisticsUtils.toPartitionName(
+            ImmutableList.of("dt", "hour"), ImmutableMap.of("hour", "00", "dt", "2024-01-01")));
+    Assertions.assertNull(
+        StatisticsUtils.toPartitionName(
+            ImmutableList.of("dt", "hour"), ImmutableMap.of("dt", "2024-01-01")));
+  }
+}
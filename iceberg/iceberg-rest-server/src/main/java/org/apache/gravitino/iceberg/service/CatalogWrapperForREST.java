@@ -20,12 +20,15 @@
 package org.apache.gravitino.iceberg.service;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
@@ -39,6 +42,7 @@ import org.apache.gravitino.iceberg.common.ops.IcebergCatalogWrapper;
 import org.apache.gravitino.storage.GCSProperties;
 import org.apache.gravitino.utils.MapUtils;
 import org.apache.gravitino.utils.PrincipalUtils;
+import org.apache.iceberg.SnapshotRef;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.catalog.Namespace;
@@ -50,6 +54,12 @@ import org.apache.iceberg.rest.responses.LoadTableResponse;
 /** Process Iceberg REST specific operations, like credential vending. */
 public class CatalogWrapperForREST extends IcebergCatalogWrapper {
 
+  /** Load all the snapshots of the table, the default snapshot loading mode. */
+  public static final String SNAPSHOTS_ALL = "all";
+
+  /** Only load the snapshots referenced by the branches and tags of the table. */
+  public static final String SNAPSHOTS_REFS = "refs";
+
   private final CatalogCredentialManager catalogCredentialManager;
 
   private final Map<String, String> catalogConfigToClients;
@@ -91,8 +101,20 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     return loadTableResponse;
   }
 
-  public LoadTableResponse loadTable(TableIdentifier identifier, boolean requestCredential) {
+  public LoadTableResponse loadTable(
+      TableIdentifier identifier, String snapshots, boolean requestCredential) {
+    String snapshotMode = snapshots == null ? SNAPSHOTS_ALL : snapshots.toLowerCase(Locale.ROOT);
+    Preconditions.checkArgument(
+        SNAPSHOTS_ALL.equals(snapshotMode) || SNAPSHOTS_REFS.equals(snapshotMode),
+        "Invalid snapshots mode: %s, should be %s or %s",
+        snapshots,
+        SNAPSHOTS_ALL,
+        SNAPSHOTS_REFS);
+
     LoadTableResponse loadTableResponse = super.loadTable(identifier);
+    if (SNAPSHOTS_REFS.equals(snapshotMode)) {
+      loadTableResponse = withReferencedSnapshots(loadTableResponse);
+    }
     if (requestCredential) {
       return injectCredentialConfig(identifier, loadTableResponse);
     }
@@ -106,6 +128,33 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     }
   }
 
+  // Removes the snapshots not referenced by any branch or tag from the table metadata, the clients
+  // load the table again with all snapshots if they need the historical ones.
+  @VisibleForTesting
+  static LoadTableResponse withReferencedSnapshots(LoadTableResponse loadTableResponse) {
+    TableMetadata tableMetadata = loadTableResponse.tableMetadata();
+    Set<Long> referencedSnapshotIds =
+        tableMetadata.refs().values().stream()
+            .map(SnapshotRef::snapshotId)
+            .collect(Collectors.toSet());
+    boolean allReferenced =
+        tableMetadata.snapshots().stream()
+            .allMatch(snapshot -> referencedSnapshotIds.contains(snapshot.snapshotId()));
+    if (allReferenced) {
+      return loadTableResponse;
+    }
+
+    TableMetadata refsMetadata =
+        TableMetadata.buildFrom(tableMetadata)
+            .withMetadataLocation(tableMetadata.metadataFileLocation())
+            .suppressHistoricalSnapshots()
+            .build();
+    return LoadTableResponse.builder()
+        .withTableMetadata(refsMetadata)
+        .addAllConfig(loadTableResponse.config())
+        .build();
+  }
+
   private Map<String, String> getCatalogConfigToClient() {
     return catalogConfigToClients;
   }
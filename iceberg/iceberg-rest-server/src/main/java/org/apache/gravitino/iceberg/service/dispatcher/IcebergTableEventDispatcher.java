@@ -143,14 +143,15 @@ public class IcebergTableEventDispatcher implements IcebergTableOperationDispatc
 
   @Override
   public LoadTableResponse loadTable(
-      IcebergRequestContext context, TableIdentifier tableIdentifier) {
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String snapshots) {
     NameIdentifier gravitinoNameIdentifier =
         IcebergRestUtils.getGravitinoNameIdentifier(
             metalakeName, context.catalogName(), tableIdentifier);
     eventBus.dispatchEvent(new IcebergLoadTablePreEvent(context, gravitinoNameIdentifier));
     LoadTableResponse loadTableResponse;
     try {
-      loadTableResponse = icebergTableOperationDispatcher.loadTable(context, tableIdentifier);
+      loadTableResponse =
+          icebergTableOperationDispatcher.loadTable(context, tableIdentifier, snapshots);
     } catch (Exception e) {
       eventBus.dispatchEvent(new IcebergLoadTableFailureEvent(context, gravitinoNameIdentifier, e));
       throw e;
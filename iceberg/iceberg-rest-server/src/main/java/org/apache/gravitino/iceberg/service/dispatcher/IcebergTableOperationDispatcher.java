@@ -73,9 +73,12 @@ public interface IcebergTableOperationDispatcher {
    *
    * @param context Iceberg REST request context information.
    * @param tableIdentifier The Iceberg table identifier.
+   * @param snapshots The snapshots to load, {@code all} for all the snapshots, {@code refs} for
+   *     the snapshots referenced by the branches and tags only.
    * @return A {@link LoadTableResponse} object containing the result of the operation.
    */
-  LoadTableResponse loadTable(IcebergRequestContext context, TableIdentifier tableIdentifier);
+  LoadTableResponse loadTable(
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String snapshots);
 
   /**
    * Lists Iceberg tables.
@@ -71,10 +71,10 @@ public class IcebergTableOperationExecutor implements IcebergTableOperationDispa
 
   @Override
   public LoadTableResponse loadTable(
-      IcebergRequestContext context, TableIdentifier tableIdentifier) {
+      IcebergRequestContext context, TableIdentifier tableIdentifier, String snapshots) {
     return icebergCatalogWrapperManager
         .getCatalogWrapper(context.catalogName())
-        .loadTable(tableIdentifier, context.requestCredentialVending());
+        .loadTable(tableIdentifier, snapshots, context.requestCredentialVending());
   }
 
   @Override
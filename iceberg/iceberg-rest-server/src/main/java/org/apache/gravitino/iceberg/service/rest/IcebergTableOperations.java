@@ -190,19 +190,19 @@ public class IcebergTableOperations {
     Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
     boolean isCredentialVending = isCredentialVending(accessDelegation);
     LOG.info(
-        "Load Iceberg table, catalog: {}, namespace: {}, table: {}, access delegation: {}, "
-            + "credential vending: {}",
+        "Load Iceberg table, catalog: {}, namespace: {}, table: {}, snapshots: {}, "
+            + "access delegation: {}, credential vending: {}",
         catalogName,
         icebergNS,
         table,
+        snapshots,
         accessDelegation,
         isCredentialVending);
-    // todo support snapshots
     TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
     IcebergRequestContext context =
         new IcebergRequestContext(httpServletRequest(), catalogName, isCredentialVending);
     LoadTableResponse loadTableResponse =
-        tableOperationDispatcher.loadTable(context, tableIdentifier);
+        tableOperationDispatcher.loadTable(context, tableIdentifier, snapshots);
     return IcebergRestUtils.ok(loadTableResponse);
   }
 
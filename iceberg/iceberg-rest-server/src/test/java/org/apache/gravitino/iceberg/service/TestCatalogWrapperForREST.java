@@ -20,9 +20,26 @@
 package org.apache.gravitino.iceberg.service;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types.NestedField;
+import org.apache.iceberg.types.Types.StringType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
+import org.testcontainers.shaded.com.google.common.collect.ImmutableSet;
 
 public class TestCatalogWrapperForREST {
 
@@ -46,4 +63,50 @@ public class TestCatalogWrapperForREST {
         IllegalArgumentException.class,
         () -> CatalogWrapperForREST.checkForCompatibility(propertiesWithBothKey, deprecatedMap));
   }
+
+  @Test
+  void testWithReferencedSnapshots() throws Exception {
+    try (InMemoryCatalog catalog = new InMemoryCatalog()) {
+      catalog.initialize("test", ImmutableMap.of());
+      catalog.createNamespace(Namespace.of("db"));
+      Schema schema = new Schema(NestedField.of(1, false, "foo_string", StringType.get()));
+      Table table = catalog.createTable(TableIdentifier.of("db", "tbl"), schema);
+
+      for (int i = 0; i < 3; i++) {
+        DataFile dataFile =
+            DataFiles.builder(PartitionSpec.unpartitioned())
+                .withPath("/path/to/data-" + i + ".parquet")
+                .withFileSizeInBytes(10)
+                .withRecordCount(1)
+                .build();
+        table.newFastAppend().appendFile(dataFile).commit();
+      }
+      table.refresh();
+      long firstSnapshotId = table.history().get(0).snapshotId();
+      table.manageSnapshots().createTag("tag1", firstSnapshotId).commit();
+
+      TableMetadata metadata = ((HasTableOperations) table).operations().refresh();
+      Assertions.assertEquals(3, metadata.snapshots().size());
+      LoadTableResponse response =
+          LoadTableResponse.builder()
+              .withTableMetadata(metadata)
+              .addAllConfig(ImmutableMap.of("k", "v"))
+              .build();
+
+      LoadTableResponse refsResponse = CatalogWrapperForREST.withReferencedSnapshots(response);
+      Set<Long> snapshotIds =
+          refsResponse.tableMetadata().snapshots().stream()
+              .map(Snapshot::snapshotId)
+              .collect(Collectors.toSet());
+      Assertions.assertEquals(
+          ImmutableSet.of(firstSnapshotId, metadata.currentSnapshot().snapshotId()), snapshotIds);
+      Assertions.assertEquals(metadata.refs(), refsResponse.tableMetadata().refs());
+      Assertions.assertEquals(response.metadataLocation(), refsResponse.metadataLocation());
+      Assertions.assertEquals(ImmutableMap.of("k", "v"), refsResponse.config());
+
+      // All the snapshots are referenced, the response is returned as is
+      Assertions.assertSame(
+          refsResponse, CatalogWrapperForREST.withReferencedSnapshots(refsResponse));
+    }
+  }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.iceberg.service.rest;
 
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.Arrays;
 import java.util.List;
@@ -132,6 +134,14 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     Assertions.assertTrue(dummyEventListener.popPreEvent() instanceof IcebergLoadTablePreEvent);
     Assertions.assertTrue(dummyEventListener.popPostEvent() instanceof IcebergLoadTableEvent);
 
+    Response response = doLoadTable("load_foo1", "refs");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    LoadTableResponse loadTableResponse = response.readEntity(LoadTableResponse.class);
+    Assertions.assertEquals(
+        tableSchema.columns(), loadTableResponse.tableMetadata().schema().columns());
+    Assertions.assertEquals(
+        Status.BAD_REQUEST.getStatusCode(), doLoadTable("load_foo1", "invalid").getStatus());
+
     verifyLoadTableFail("load_foo2", 404);
   }
 
@@ -355,6 +365,12 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     return getTableClientBuilder(Optional.of(name)).get();
   }
 
+  private Response doLoadTable(String name, String snapshots) {
+    String path = Joiner.on("/").join(IcebergRestTestUtil.TABLE_PATH, name);
+    return getIcebergClientBuilder(path, Optional.of(ImmutableMap.of("snapshots", snapshots)))
+        .get();
+  }
+
   private Response doUpdateTable(String name, TableMetadata base) {
     TableMetadata newMetadata = base.updateSchema(newTableSchema, base.lastColumnId());
     List<MetadataUpdate> metadataUpdates = newMetadata.changes();
@@ -196,7 +196,7 @@ public class BaseIT {
                   gravitinoHome
                       + String.format(
                           "/scripts/postgresql/schema-%s-postgresql.sql",
-                          ConfigConstants.VERSION_0_8_0)),
+                          ConfigConstants.VERSION_0_9_0)),
               "UTF-8");
 
       String[] initPGBackendSqls =
@@ -241,7 +241,7 @@ public class BaseIT {
               new File(
                   gravitinoHome
                       + String.format(
-                          "/scripts/mysql/schema-%s-mysql.sql", ConfigConstants.VERSION_0_8_0)),
+                          "/scripts/mysql/schema-%s-mysql.sql", ConfigConstants.VERSION_0_9_0)),
               "UTF-8");
 
       String[] initMySQLBackendSqls =
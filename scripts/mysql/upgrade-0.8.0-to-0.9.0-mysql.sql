@@ -0,0 +1,56 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+CREATE TABLE IF NOT EXISTS `table_statistics_meta` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id',
+    `metalake_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'metalake id',
+    `catalog_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'catalog id',
+    `schema_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'schema id',
+    `table_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'table id',
+    `partition_name` VARCHAR(512) NOT NULL DEFAULT '' COMMENT 'partition name, empty for the statistics of the whole table',
+    `row_count` BIGINT(20) DEFAULT NULL COMMENT 'number of rows',
+    `size_in_bytes` BIGINT(20) DEFAULT NULL COMMENT 'size of the data in bytes',
+    `audit_info` MEDIUMTEXT NOT NULL COMMENT 'table statistics audit info',
+    `deleted_at` BIGINT(20) UNSIGNED NOT NULL DEFAULT 0 COMMENT 'table statistics deleted at',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_tid_pn_del` (`table_id`, `partition_name`, `deleted_at`),
+    KEY `idx_mid` (`metalake_id`),
+    KEY `idx_cid` (`catalog_id`),
+    KEY `idx_sid` (`schema_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'table statistics metadata';
+
+CREATE TABLE IF NOT EXISTS `column_statistics_meta` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id',
+    `metalake_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'metalake id',
+    `catalog_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'catalog id',
+    `schema_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'schema id',
+    `table_id` BIGINT(20) UNSIGNED NOT NULL COMMENT 'table id',
+    `partition_name` VARCHAR(512) NOT NULL DEFAULT '' COMMENT 'partition name, empty for the statistics of the whole table',
+    `column_name` VARCHAR(128) NOT NULL COMMENT 'column name',
+    `distinct_count` BIGINT(20) DEFAULT NULL COMMENT 'number of distinct values',
+    `null_count` BIGINT(20) DEFAULT NULL COMMENT 'number of null values',
+    `min_value` TEXT DEFAULT NULL COMMENT 'minimum value',
+    `max_value` TEXT DEFAULT NULL COMMENT 'maximum value',
+    `histogram` MEDIUMTEXT DEFAULT NULL COMMENT 'histogram buckets',
+    `deleted_at` BIGINT(20) UNSIGNED NOT NULL DEFAULT 0 COMMENT 'column statistics deleted at',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_tid_pn_cn_del` (`table_id`, `partition_name`, `column_name`, `deleted_at`),
+    KEY `idx_mid` (`metalake_id`),
+    KEY `idx_cid` (`catalog_id`),
+    KEY `idx_sid` (`schema_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'column statistics metadata';
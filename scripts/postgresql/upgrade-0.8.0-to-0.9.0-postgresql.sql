@@ -0,0 +1,84 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+CREATE TABLE IF NOT EXISTS table_statistics_meta (
+    id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    metalake_id BIGINT NOT NULL,
+    catalog_id BIGINT NOT NULL,
+    schema_id BIGINT NOT NULL,
+    table_id BIGINT NOT NULL,
+    partition_name VARCHAR(512) NOT NULL DEFAULT '',
+    row_count BIGINT DEFAULT NULL,
+    size_in_bytes BIGINT DEFAULT NULL,
+    audit_info TEXT NOT NULL,
+    deleted_at BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    UNIQUE (table_id, partition_name, deleted_at)
+);
+CREATE INDEX IF NOT EXISTS idx_tsmid ON table_statistics_meta (metalake_id);
+CREATE INDEX IF NOT EXISTS idx_tscid ON table_statistics_meta (catalog_id);
+CREATE INDEX IF NOT EXISTS idx_tssid ON table_statistics_meta (schema_id);
+COMMENT ON TABLE table_statistics_meta IS 'table statistics metadata';
+
+COMMENT ON COLUMN table_statistics_meta.id IS 'auto increment id';
+COMMENT ON COLUMN table_statistics_meta.metalake_id IS 'metalake id';
+COMMENT ON COLUMN table_statistics_meta.catalog_id IS 'catalog id';
+COMMENT ON COLUMN table_statistics_meta.schema_id IS 'schema id';
+COMMENT ON COLUMN table_statistics_meta.table_id IS 'table id';
+COMMENT ON COLUMN table_statistics_meta.partition_name IS 'partition name, empty for the statistics of the whole table';
+COMMENT ON COLUMN table_statistics_meta.row_count IS 'number of rows';
+COMMENT ON COLUMN table_statistics_meta.size_in_bytes IS 'size of the data in bytes';
+COMMENT ON COLUMN table_statistics_meta.audit_info IS 'table statistics audit info';
+COMMENT ON COLUMN table_statistics_meta.deleted_at IS 'table statistics deleted at';
+
+
+CREATE TABLE IF NOT EXISTS column_statistics_meta (
+    id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    metalake_id BIGINT NOT NULL,
+    catalog_id BIGINT NOT NULL,
+    schema_id BIGINT NOT NULL,
+    table_id BIGINT NOT NULL,
+    partition_name VARCHAR(512) NOT NULL DEFAULT '',
+    column_name VARCHAR(128) NOT NULL,
+    distinct_count BIGINT DEFAULT NULL,
+    null_count BIGINT DEFAULT NULL,
+    min_value TEXT DEFAULT NULL,
+    max_value TEXT DEFAULT NULL,
+    histogram TEXT DEFAULT NULL,
+    deleted_at BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    UNIQUE (table_id, partition_name, column_name, deleted_at)
+);
+CREATE INDEX IF NOT EXISTS idx_csmid ON column_statistics_meta (metalake_id);
+CREATE INDEX IF NOT EXISTS idx_cscid ON column_statistics_meta (catalog_id);
+CREATE INDEX IF NOT EXISTS idx_cssid ON column_statistics_meta (schema_id);
+COMMENT ON TABLE column_statistics_meta IS 'column statistics metadata';
+
+COMMENT ON COLUMN column_statistics_meta.id IS 'auto increment id';
+COMMENT ON COLUMN column_statistics_meta.metalake_id IS 'metalake id';
+COMMENT ON COLUMN column_statistics_meta.catalog_id IS 'catalog id';
+COMMENT ON COLUMN column_statistics_meta.schema_id IS 'schema id';
+COMMENT ON COLUMN column_statistics_meta.table_id IS 'table id';
+COMMENT ON COLUMN column_statistics_meta.partition_name IS 'partition name, empty for the statistics of the whole table';
+COMMENT ON COLUMN column_statistics_meta.column_name IS 'column name';
+COMMENT ON COLUMN column_statistics_meta.distinct_count IS 'number of distinct values';
+COMMENT ON COLUMN column_statistics_meta.null_count IS 'number of null values';
+COMMENT ON COLUMN column_statistics_meta.min_value IS 'minimum value';
+COMMENT ON COLUMN column_statistics_meta.max_value IS 'maximum value';
+COMMENT ON COLUMN column_statistics_meta.histogram IS 'histogram buckets';
+COMMENT ON COLUMN column_statistics_meta.deleted_at IS 'column statistics deleted at';
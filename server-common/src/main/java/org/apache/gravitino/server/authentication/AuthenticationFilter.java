@@ -30,6 +30,7 @@ import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.apache.gravitino.auth.AuthConstants;
@@ -62,26 +63,32 @@ public class AuthenticationFilter implements Filter {
         authenticators = filterAuthenticators;
       }
       HttpServletRequest req = (HttpServletRequest) request;
-      Enumeration<String> headerData = req.getHeaders(AuthConstants.HTTP_HEADER_AUTHORIZATION);
-      byte[] authData = null;
-      if (headerData.hasMoreElements()) {
-        authData = headerData.nextElement().getBytes(StandardCharsets.UTF_8);
-      }
+      // The session token issued after a successful authentication skips the authentication, the
+      // invalid or expired session token falls back to the authentication of the token data.
+      Principal principal = authenticateSessionToken(req, authenticators);
+      if (principal == null) {
+        Enumeration<String> headerData = req.getHeaders(AuthConstants.HTTP_HEADER_AUTHORIZATION);
+        byte[] authData = null;
+        if (headerData.hasMoreElements()) {
+          authData = headerData.nextElement().getBytes(StandardCharsets.UTF_8);
+        }
 
-      // If token is supported by multiple authenticators, use the first by default.
-      Principal principal = null;
-      for (Authenticator authenticator : authenticators) {
-        if (authenticator.supportsToken(authData) && authenticator.isDataFromToken()) {
-          principal = authenticator.authenticateToken(authData);
-          if (principal != null) {
-            request.setAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME, principal);
-            break;
+        // If token is supported by multiple authenticators, use the first by default.
+        for (Authenticator authenticator : authenticators) {
+          if (authenticator.supportsToken(authData) && authenticator.isDataFromToken()) {
+            principal = authenticator.authenticateToken(authData);
+            if (principal != null) {
+              addSessionTokenCookie(
+                  req, (HttpServletResponse) response, authenticator.createSessionToken(principal));
+              break;
+            }
           }
         }
       }
       if (principal == null) {
         throw new UnauthorizedException("The provided credentials did not support");
       }
+      request.setAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME, principal);
 
       chain.doFilter(request, response);
     } catch (UnauthorizedException ue) {
@@ -100,4 +107,37 @@ public class AuthenticationFilter implements Filter {
 
   @Override
   public void destroy() {}
+
+  private static Principal authenticateSessionToken(
+      HttpServletRequest request, List<Authenticator> authenticators) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return null;
+    }
+
+    for (Cookie cookie : cookies) {
+      if (AuthConstants.SESSION_TOKEN_COOKIE_NAME.equals(cookie.getName())) {
+        for (Authenticator authenticator : authenticators) {
+          Principal principal = authenticator.authenticateSessionToken(cookie.getValue());
+          if (principal != null) {
+            return principal;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static void addSessionTokenCookie(
+      HttpServletRequest request, HttpServletResponse response, String sessionToken) {
+    if (sessionToken == null) {
+      return;
+    }
+
+    Cookie cookie = new Cookie(AuthConstants.SESSION_TOKEN_COOKIE_NAME, sessionToken);
+    cookie.setPath("/");
+    cookie.setHttpOnly(true);
+    cookie.setSecure(request.isSecure());
+    response.addCookie(cookie);
+  }
 }
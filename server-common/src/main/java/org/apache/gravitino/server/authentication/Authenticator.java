@@ -45,6 +45,29 @@ public interface Authenticator {
         "Authenticator doesn't support to authenticate the data from the token");
   }
 
+  /**
+   * Creates a signed session token for the principal authenticated by this authenticator. The
+   * session token is returned to the client as a cookie, and the following requests carrying the
+   * cookie are authenticated by {@link #authenticateSessionToken(String)} rather than the token
+   * data.
+   *
+   * @param principal The principal authenticated from the token data
+   * @return The session token, or null if the authenticator doesn't issue session tokens
+   */
+  default String createSessionToken(Principal principal) {
+    return null;
+  }
+
+  /**
+   * Use the session token created by {@link #createSessionToken(Principal)} to authenticate.
+   *
+   * @param sessionToken The session token from the cookie of the request
+   * @return The identifier of user, or null if the session token is invalid or expired
+   */
+  default Principal authenticateSessionToken(String sessionToken) {
+    return null;
+  }
+
   /**
    * Initialize the authenticator
    *
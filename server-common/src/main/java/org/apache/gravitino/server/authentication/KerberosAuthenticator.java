@@ -17,8 +17,10 @@ import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.security.auth.Subject;
 import javax.security.auth.kerberos.KerberosPrincipal;
 import javax.security.auth.kerberos.KeyTab;
@@ -48,8 +50,11 @@ import org.slf4j.LoggerFactory;
 public class KerberosAuthenticator implements Authenticator {
 
   public static final Logger LOG = LoggerFactory.getLogger(KerberosAuthenticator.class);
+  private static final int RANDOM_SECRET_LENGTH = 32;
   private final Subject serverSubject = new Subject();
   private GSSManager gssManager;
+  // Null if the session token is disabled.
+  private SessionTokenSigner sessionTokenSigner;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
@@ -84,6 +89,17 @@ public class KerberosAuthenticator implements Authenticator {
                   return GSSManager.getInstance();
                 }
               });
+
+      long sessionTokenValiditySecs = config.get(KerberosConfig.SESSION_TOKEN_VALIDITY_SECS);
+      if (sessionTokenValiditySecs > 0) {
+        byte[] secret =
+            config
+                .get(KerberosConfig.SESSION_TOKEN_SECRET)
+                .map(value -> value.getBytes(StandardCharsets.UTF_8))
+                .orElseGet(KerberosAuthenticator::randomSecret);
+        this.sessionTokenSigner =
+            new SessionTokenSigner(secret, TimeUnit.SECONDS.toMillis(sessionTokenValiditySecs));
+      }
     } catch (PrivilegedActionException ex) {
       throw new RuntimeException(ex);
     }
@@ -133,6 +149,16 @@ public class KerberosAuthenticator implements Authenticator {
     }
   }
 
+  @Override
+  public String createSessionToken(Principal principal) {
+    return sessionTokenSigner == null ? null : sessionTokenSigner.sign(principal);
+  }
+
+  @Override
+  public Principal authenticateSessionToken(String sessionToken) {
+    return sessionTokenSigner == null ? null : sessionTokenSigner.verify(sessionToken);
+  }
+
   @Override
   public boolean supportsToken(byte[] tokenData) {
     return tokenData != null
@@ -140,6 +166,12 @@ public class KerberosAuthenticator implements Authenticator {
             .startsWith(AuthConstants.AUTHORIZATION_NEGOTIATE_HEADER);
   }
 
+  private static byte[] randomSecret() {
+    byte[] secret = new byte[RANDOM_SECRET_LENGTH];
+    new SecureRandom().nextBytes(secret);
+    return secret;
+  }
+
   private Principal retrievePrincipalFromToken(String serverPrincipal, byte[] clientToken)
       throws GSSException {
     GSSContext gssContext = null;
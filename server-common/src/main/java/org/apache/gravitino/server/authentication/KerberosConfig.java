@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.server.authentication;
 
+import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
@@ -42,4 +43,23 @@ public interface KerberosConfig {
           .stringConf()
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
+
+  ConfigEntry<Long> SESSION_TOKEN_VALIDITY_SECS =
+      new ConfigBuilder(KERBEROS_CONFIG_PREFIX + "sessionTokenValiditySecs")
+          .doc(
+              "The validity in seconds of the signed session token issued to the client after a "
+                  + "successful Kerberos authentication, 0 disables the session token")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  ConfigEntry<Optional<String>> SESSION_TOKEN_SECRET =
+      new ConfigBuilder(KERBEROS_CONFIG_PREFIX + "sessionTokenSecret")
+          .doc(
+              "The secret to sign the session tokens, a random secret is used if it's not set. "
+                  + "The servers behind the same address should share the same secret")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .stringConf()
+          .createWithOptional();
 }
@@ -18,7 +18,12 @@
  */
 package org.apache.gravitino.server.authentication;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwt;
@@ -35,13 +40,18 @@ import java.security.KeyFactory;
 import java.security.Principal;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.auth.SignatureAlgorithmFamilyType;
 import org.apache.gravitino.exceptions.UnauthorizedException;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.OAuth2TokenCacheMetricsSource;
 
 /**
  * OAuth2TokenAuthenticator provides the OAuth 2.0 authentication mechanism.
@@ -52,6 +62,9 @@ class OAuth2TokenAuthenticator implements Authenticator {
   private long allowSkewSeconds;
   private Key defaultSigningKey;
   private String serviceAudience;
+  private JwtParser parser;
+  // The verified tokens keyed by the SHA-256 digest of the token, null if the cache is disabled.
+  private Cache<String, VerifiedToken> verifiedTokens;
 
   @Override
   public boolean isDataFromToken() {
@@ -72,14 +85,25 @@ class OAuth2TokenAuthenticator implements Authenticator {
     if (StringUtils.isBlank(token)) {
       throw new UnauthorizedException("Blank token found");
     }
+    if (verifiedTokens == null) {
+      return verifyToken(token).principal;
+    }
+
+    // Verifying the signature of a token is CPU intensive, while the clients usually reuse a
+    // token until it expires.
+    String tokenDigest = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenDigest);
+    if (verifiedToken == null) {
+      verifiedToken = verifyToken(token);
+      verifiedTokens.put(tokenDigest, verifiedToken);
+    }
+    return verifiedToken.principal;
+  }
+
+  private VerifiedToken verifyToken(String token) {
     // TODO: If we support multiple OAuth 2.0 servers, we should use multiple
     // signing keys.
     try {
-      JwtParser parser =
-          Jwts.parserBuilder()
-              .setAllowedClockSkewSeconds(allowSkewSeconds)
-              .setSigningKey(defaultSigningKey)
-              .build();
       Jwt<?, Claims> jwt = parser.parseClaimsJws(token);
       Object audienceObject = jwt.getBody().get(Claims.AUDIENCE);
       if (audienceObject == null) {
@@ -101,7 +125,12 @@ class OAuth2TokenAuthenticator implements Authenticator {
         throw new UnauthorizedException(
             "Audiences in token is not in expected format: %s", audienceObject);
       }
-      return new UserPrincipal(jwt.getBody().getSubject());
+      Date expiration = jwt.getBody().getExpiration();
+      long expireAtMillis =
+          expiration == null
+              ? Long.MAX_VALUE
+              : expiration.getTime() + TimeUnit.SECONDS.toMillis(allowSkewSeconds);
+      return new VerifiedToken(new UserPrincipal(jwt.getBody().getSubject()), expireAtMillis);
     } catch (ExpiredJwtException
         | UnsupportedJwtException
         | MalformedJwtException
@@ -124,6 +153,27 @@ class OAuth2TokenAuthenticator implements Authenticator {
         "The uri of the default OAuth server can't be blank");
     String algType = config.get(OAuthConfig.SIGNATURE_ALGORITHM_TYPE);
     this.defaultSigningKey = decodeSignKey(Base64.getDecoder().decode(configuredSignKey), algType);
+    // The parser is immutable and thread-safe, so it's built once and shared by all the requests.
+    this.parser =
+        Jwts.parserBuilder()
+            .setAllowedClockSkewSeconds(allowSkewSeconds)
+            .setSigningKey(defaultSigningKey)
+            .build();
+
+    long tokenCacheMaxSize = config.get(OAuthConfig.TOKEN_CACHE_MAX_SIZE);
+    if (tokenCacheMaxSize > 0) {
+      this.verifiedTokens =
+          Caffeine.newBuilder()
+              .maximumSize(tokenCacheMaxSize)
+              .expireAfter(new VerifiedTokenExpiry())
+              .recordStats()
+              .build();
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      // Metrics system could be null in UT.
+      if (metricsSystem != null) {
+        metricsSystem.register(new OAuth2TokenCacheMetricsSource(verifiedTokens));
+      }
+    }
   }
 
   @Override
@@ -151,4 +201,42 @@ class OAuth2TokenAuthenticator implements Authenticator {
     }
     throw new IllegalArgumentException("Unsupported signature algorithm type: " + algType);
   }
+
+  @VisibleForTesting
+  Cache<String, VerifiedToken> verifiedTokens() {
+    return verifiedTokens;
+  }
+
+  static class VerifiedToken {
+    private final Principal principal;
+    // The time the token expires at, including the allowed clock skew.
+    private final long expireAtMillis;
+
+    private VerifiedToken(Principal principal, long expireAtMillis) {
+      this.principal = principal;
+      this.expireAtMillis = expireAtMillis;
+    }
+  }
+
+  /** Expires the cached tokens at the time they are no longer accepted. */
+  private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      long remainingMillis = Math.max(0, value.expireAtMillis - System.currentTimeMillis());
+      return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
@@ -73,4 +73,14 @@ public interface OAuthConfig {
           .stringConf()
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
+
+  ConfigEntry<Long> TOKEN_CACHE_MAX_SIZE =
+      new ConfigBuilder(OAUTH_CONFIG_PREFIX + "tokenCacheMaxSize")
+          .doc(
+              "The maximum number of the verified tokens to cache until they expire, 0 disables "
+                  + "the token cache")
+          .version(ConfigConstants.VERSION_0_9_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authentication;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.gravitino.UserPrincipal;
+
+/**
+ * Signs and verifies the session tokens issued to the clients after a successful authentication.
+ * Referred from Apache Hadoop AuthenticationFilter, which issues a signed `hadoop.auth` cookie.
+ *
+ * <p>A session token is formatted as "{user}.{expireAtMillis}.{signature}", where the user and the
+ * HMAC-SHA256 signature of "{user}.{expireAtMillis}" are Base64 URL encoded without padding.
+ */
+class SessionTokenSigner {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final String SEPARATOR = ".";
+
+  private final SecretKeySpec secretKey;
+  private final long validityMs;
+
+  SessionTokenSigner(byte[] secret, long validityMs) {
+    Preconditions.checkArgument(secret.length > 0, "The secret of session tokens can't be empty");
+    this.secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    this.validityMs = validityMs;
+  }
+
+  String sign(Principal principal) {
+    String payload =
+        encode(principal.getName().getBytes(StandardCharsets.UTF_8))
+            + SEPARATOR
+            + (System.currentTimeMillis() + validityMs);
+    return payload + SEPARATOR + encode(hmac(payload));
+  }
+
+  /**
+   * Verifies the session token.
+   *
+   * @param sessionToken The session token to verify.
+   * @return The principal of the session, or null if the token is malformed, forged or expired.
+   */
+  Principal verify(String sessionToken) {
+    List<String> parts = Splitter.on(SEPARATOR).splitToList(sessionToken);
+    if (parts.size() != 3) {
+      return null;
+    }
+
+    try {
+      String payload = parts.get(0) + SEPARATOR + parts.get(1);
+      byte[] signature = Base64.getUrlDecoder().decode(parts.get(2));
+      // Compares in constant time to not leak the expected signature through the timing.
+      if (!MessageDigest.isEqual(hmac(payload), signature)
+          || Long.parseLong(parts.get(1)) <= System.currentTimeMillis()) {
+        return null;
+      }
+      return new UserPrincipal(
+          new String(Base64.getUrlDecoder().decode(parts.get(0)), StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      // Thrown for the malformed Base64 values or expiration time
+      return null;
+    }
+  }
+
+  private byte[] hmac(String payload) {
+    try {
+      // Mac isn't thread-safe, creating it is cheap compared to the authentication it saves.
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(secretKey);
+      return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to sign the session token", e);
+    }
+  }
+
+  private static String encode(byte[] data) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+  }
+}
@@ -24,6 +24,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,12 +34,15 @@ import java.util.Collections;
 import java.util.Vector;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.exceptions.UnauthorizedException;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 public class TestAuthenticationFilter {
 
@@ -59,6 +63,37 @@ public class TestAuthenticationFilter {
     verify(mockResponse, never()).sendError(anyInt(), anyString());
   }
 
+  @Test
+  public void testDoFilterWithSessionToken() throws ServletException, IOException {
+    Authenticator authenticator = mock(Authenticator.class);
+    AuthenticationFilter filter = new AuthenticationFilter(Lists.newArrayList(authenticator));
+    FilterChain mockChain = mock(FilterChain.class);
+    HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+    HttpServletResponse mockResponse = mock(HttpServletResponse.class);
+    when(mockRequest.getHeaders(AuthConstants.HTTP_HEADER_AUTHORIZATION))
+        .thenReturn(new Vector<>(Collections.singletonList("user")).elements());
+    when(authenticator.supportsToken(any())).thenReturn(true);
+    when(authenticator.isDataFromToken()).thenReturn(true);
+    when(authenticator.authenticateToken(any())).thenReturn(new UserPrincipal("user"));
+    when(authenticator.createSessionToken(any())).thenReturn("session");
+    filter.doFilter(mockRequest, mockResponse, mockChain);
+    ArgumentCaptor<Cookie> cookieCaptor = ArgumentCaptor.forClass(Cookie.class);
+    verify(mockResponse).addCookie(cookieCaptor.capture());
+    Assertions.assertEquals(
+        AuthConstants.SESSION_TOKEN_COOKIE_NAME, cookieCaptor.getValue().getName());
+    Assertions.assertEquals("session", cookieCaptor.getValue().getValue());
+
+    // The request carrying the session token skips the authentication of the token data.
+    HttpServletRequest sessionRequest = mock(HttpServletRequest.class);
+    HttpServletResponse sessionResponse = mock(HttpServletResponse.class);
+    when(sessionRequest.getCookies()).thenReturn(new Cookie[] {cookieCaptor.getValue()});
+    when(authenticator.authenticateSessionToken("session")).thenReturn(new UserPrincipal("user"));
+    filter.doFilter(sessionRequest, sessionResponse, mockChain);
+    verify(sessionResponse, never()).sendError(anyInt(), anyString());
+    verify(sessionResponse, never()).addCookie(any());
+    verify(authenticator, times(1)).authenticateToken(any());
+  }
+
   @Test
   public void testDoFilterWithException() throws ServletException, IOException {
     Authenticator authenticator = mock(Authenticator.class);
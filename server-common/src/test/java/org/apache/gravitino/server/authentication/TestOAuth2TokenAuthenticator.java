@@ -156,4 +156,57 @@ public class TestOAuth2TokenAuthenticator {
                     .getBytes(StandardCharsets.UTF_8))
             .getName());
   }
+
+  @Test
+  public void testVerifiedTokenCache() {
+    KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    String publicKey =
+        new String(
+            Base64.getEncoder().encode(keyPair.getPublic().getEncoded()), StandardCharsets.UTF_8);
+    Config config = new Config(false) {};
+    config.set(OAuthConfig.SERVICE_AUDIENCE, "service1");
+    config.set(OAuthConfig.DEFAULT_SIGN_KEY, publicKey);
+    config.set(OAuthConfig.DEFAULT_TOKEN_PATH, "test");
+    config.set(OAuthConfig.DEFAULT_SERVER_URI, "test");
+    OAuth2TokenAuthenticator auth2TokenAuthenticator = new OAuth2TokenAuthenticator();
+    auth2TokenAuthenticator.initialize(config);
+
+    String token =
+        Jwts.builder()
+            .setSubject("gravitino")
+            .setExpiration(new Date(System.currentTimeMillis() + 1000 * 100))
+            .setAudience("service1")
+            .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+            .compact();
+    byte[] tokenData =
+        (AuthConstants.AUTHORIZATION_BEARER_HEADER + token).getBytes(StandardCharsets.UTF_8);
+    Assertions.assertEquals(
+        "gravitino", auth2TokenAuthenticator.authenticateToken(tokenData).getName());
+    Assertions.assertEquals(
+        "gravitino", auth2TokenAuthenticator.authenticateToken(tokenData).getName());
+    Assertions.assertEquals(1, auth2TokenAuthenticator.verifiedTokens().estimatedSize());
+    Assertions.assertEquals(1, auth2TokenAuthenticator.verifiedTokens().stats().hitCount());
+
+    // The tokens failing the verification are not cached.
+    String expiredToken =
+        Jwts.builder()
+            .setSubject("gravitino")
+            .setExpiration(new Date(System.currentTimeMillis() - 1000 * 100))
+            .setAudience("service1")
+            .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+            .compact();
+    byte[] expiredTokenData =
+        (AuthConstants.AUTHORIZATION_BEARER_HEADER + expiredToken).getBytes(StandardCharsets.UTF_8);
+    Assertions.assertThrows(
+        UnauthorizedException.class,
+        () -> auth2TokenAuthenticator.authenticateToken(expiredTokenData));
+    Assertions.assertEquals(1, auth2TokenAuthenticator.verifiedTokens().estimatedSize());
+
+    config.set(OAuthConfig.TOKEN_CACHE_MAX_SIZE, 0L);
+    OAuth2TokenAuthenticator uncachedAuthenticator = new OAuth2TokenAuthenticator();
+    uncachedAuthenticator.initialize(config);
+    Assertions.assertNull(uncachedAuthenticator.verifiedTokens());
+    Assertions.assertEquals(
+        "gravitino", uncachedAuthenticator.authenticateToken(tokenData).getName());
+  }
 }
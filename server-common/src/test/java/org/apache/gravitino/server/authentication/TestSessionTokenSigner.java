@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import org.apache.gravitino.UserPrincipal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSessionTokenSigner {
+
+  private static final byte[] SECRET = "secret".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void testSignAndVerify() {
+    SessionTokenSigner signer = new SessionTokenSigner(SECRET, 60_000L);
+    String sessionToken = signer.sign(new UserPrincipal("user@EXAMPLE.COM"));
+    Principal principal = signer.verify(sessionToken);
+    Assertions.assertNotNull(principal);
+    Assertions.assertEquals("user@EXAMPLE.COM", principal.getName());
+
+    // The signers sharing the secret accept the session tokens of each other.
+    Assertions.assertNotNull(new SessionTokenSigner(SECRET, 60_000L).verify(sessionToken));
+    SessionTokenSigner otherSigner =
+        new SessionTokenSigner("other".getBytes(StandardCharsets.UTF_8), 60_000L);
+    Assertions.assertNull(otherSigner.verify(sessionToken));
+  }
+
+  @Test
+  public void testVerifyInvalidToken() {
+    SessionTokenSigner signer = new SessionTokenSigner(SECRET, 60_000L);
+    String sessionToken = signer.sign(new UserPrincipal("user"));
+    String[] parts = sessionToken.split("\\.");
+
+    String forgedUser =
+        signer.sign(new UserPrincipal("admin")).split("\\.")[0] + "." + parts[1] + "." + parts[2];
+    Assertions.assertNull(signer.verify(forgedUser));
+    String extendedExpiration = parts[0] + "." + Long.MAX_VALUE + "." + parts[2];
+    Assertions.assertNull(signer.verify(extendedExpiration));
+
+    Assertions.assertNull(signer.verify(""));
+    Assertions.assertNull(signer.verify("a.b"));
+    Assertions.assertNull(signer.verify(parts[0] + "." + parts[1] + ".!!!"));
+
+    SessionTokenSigner expiredSigner = new SessionTokenSigner(SECRET, -1L);
+    Assertions.assertNull(expiredSigner.verify(expiredSigner.sign(new UserPrincipal("user"))));
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.base.Preconditions;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.responses.EntityListResponse;
+
+/**
+ * Utilities to paginate the name listing endpoints. Pages are ordered by entity name and the page
+ * token encodes the last name of the returned page, so fetching the next page is a keyset seek
+ * rather than an offset scan, and entities created or dropped between two calls don't shift the
+ * page boundaries.
+ */
+public class PaginationUtils {
+
+  /** The maximum page size a client can request. */
+  public static final int MAX_PAGE_SIZE = 10000;
+
+  private PaginationUtils() {}
+
+  /**
+   * Builds the list response of the entity identifiers. If {@code pageSize} is null, all the
+   * identifiers are listed as before, otherwise only the page after {@code pageToken} is listed,
+   * so the listing can seek to the page instead of loading all the entities, and is returned
+   * together with the token of the next page, if any.
+   *
+   * @param pageSize The maximum number of identifiers of the page, or null to disable pagination.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param listAll The function listing all the identifiers.
+   * @param lister The function listing at most the given number of identifiers ordered by name
+   *     after the given name, or from the first identifier if the name is null.
+   * @return The list response.
+   * @throws IllegalArgumentException If the page size or the page token is invalid.
+   */
+  public static EntityListResponse toEntityListResponse(
+      Integer pageSize,
+      String pageToken,
+      Supplier<NameIdentifier[]> listAll,
+      BiFunction<String, Integer, NameIdentifier[]> lister) {
+    checkPageArguments(pageSize, pageToken);
+    if (pageSize == null) {
+      return new EntityListResponse(listAll.get());
+    }
+
+    Pair<NameIdentifier[], String> page =
+        listPage(pageSize, pageToken, lister, NameIdentifier::name);
+    return new EntityListResponse(page.getLeft(), page.getRight());
+  }
+
+  /**
+   * Lists one page of entries ordered by name. The lister is asked for one more entry than the
+   * page size after the last name of the previous page, so that whether there is a next page is
+   * known without another call.
+   *
+   * @param pageSize The maximum number of entries of the page.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param lister The function listing at most the given number of entries ordered by name after
+   *     the given name, or from the first entry if the name is null.
+   * @param nameOf The function returning the name of an entry.
+   * @param <T> The type of the entries.
+   * @return The entries of the page and the token of the next page, null if this is the last page.
+   * @throws IllegalArgumentException If the page size or the page token is invalid.
+   */
+  public static <T> Pair<T[], String> listPage(
+      int pageSize,
+      String pageToken,
+      BiFunction<String, Integer, T[]> lister,
+      Function<T, String> nameOf) {
+    checkPageArguments(pageSize, pageToken);
+    T[] candidates = lister.apply(decodePageToken(pageToken), pageSize + 1);
+    if (candidates.length <= pageSize) {
+      return Pair.of(candidates, null);
+    }
+
+    T[] page = Arrays.copyOf(candidates, pageSize);
+    return Pair.of(page, encodePageToken(nameOf.apply(page[pageSize - 1])));
+  }
+
+  /**
+   * Checks the pagination query parameters.
+   *
+   * @param pageSize The maximum number of entries of the page, or null to disable pagination.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @throws IllegalArgumentException If the page size is out of range, or the page token is set
+   *     without the page size.
+   */
+  public static void checkPageArguments(Integer pageSize, String pageToken) {
+    if (pageSize == null) {
+      Preconditions.checkArgument(
+          pageToken == null, "\"pageSize\" must be set when \"pageToken\" is set");
+      return;
+    }
+
+    Preconditions.checkArgument(
+        pageSize > 0 && pageSize <= MAX_PAGE_SIZE,
+        "\"pageSize\" must be between 1 and %s, but got %s",
+        MAX_PAGE_SIZE,
+        pageSize);
+  }
+
+  private static String encodePageToken(String lastName) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(lastName.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decodePageToken(String pageToken) {
+    if (pageToken == null || pageToken.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid \"pageToken\": " + pageToken, e);
+    }
+  }
+}
@@ -211,6 +211,13 @@ public class Utils {
               ? dataOperation
               : FilesetDataOperation.UNKNOWN.name());
     }
+
+    String operationCount =
+        httpRequest.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT);
+    if (StringUtils.isNumeric(operationCount)) {
+      filteredHeaders.put(
+          FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT, operationCount);
+    }
     return filteredHeaders;
   }
 }
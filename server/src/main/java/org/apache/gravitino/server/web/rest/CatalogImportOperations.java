@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.CatalogImportJob;
+import org.apache.gravitino.catalog.CatalogImportManager;
+import org.apache.gravitino.dto.CatalogImportDTO;
+import org.apache.gravitino.dto.responses.CatalogImportResponse;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/metalakes/{metalake}/catalogs/{catalog}/import")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class CatalogImportOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogImportOperations.class);
+
+  private final CatalogImportManager catalogImportManager;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public CatalogImportOperations(CatalogImportManager catalogImportManager) {
+    this.catalogImportManager = catalogImportManager;
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "import-catalog." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "import-catalog", absolute = true)
+  public Response importCatalog(
+      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+    LOG.info("Received import catalog request for catalog: {}.{}", metalake, catalog);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofCatalog(metalake, catalog);
+            CatalogImportJob job = catalogImportManager.importCatalog(ident);
+            Response response = Utils.ok(new CatalogImportResponse(toDTO(job)));
+            LOG.info("Catalog import started: {}.{}", metalake, catalog);
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(OperationType.IMPORT, catalog, metalake, e);
+    }
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-catalog-import." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-catalog-import", absolute = true)
+  public Response getCatalogImport(
+      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+    try {
+      NameIdentifier ident = NameIdentifierUtil.ofCatalog(metalake, catalog);
+      CatalogImportJob job = catalogImportManager.getImportJob(ident);
+      if (job == null) {
+        return Utils.notFound(
+            "CatalogImport", String.format("Catalog %s.%s is never imported", metalake, catalog));
+      }
+      return Utils.ok(new CatalogImportResponse(toDTO(job)));
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(OperationType.GET, catalog, metalake, e);
+    }
+  }
+
+  private static CatalogImportDTO toDTO(CatalogImportJob job) {
+    return CatalogImportDTO.builder()
+        .catalog(job.catalogIdent().name())
+        .status(job.status().name())
+        .startTime(job.startTime())
+        .endTime(job.endTime())
+        .errorMessage(job.errorMessage())
+        .totalSchemas(job.totalSchemas())
+        .importedSchemas(job.importedSchemas())
+        .scannedTables(job.scannedTables())
+        .importedTables(job.importedTables())
+        .skippedTables(job.skippedTables())
+        .failedTables(job.failedTables())
+        .build();
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -52,6 +53,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.PaginationUtils;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -80,7 +82,9 @@ public class CatalogOperations {
   @ResponseMetered(name = "list-catalog", absolute = true)
   public Response listCatalogs(
       @PathParam("metalake") String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     LOG.info(
         "Received list catalog {} request for metalake: {}, ",
         verbose ? "infos" : "names",
@@ -92,13 +96,23 @@ public class CatalogOperations {
             Namespace catalogNS = NamespaceUtil.ofCatalog(metalake);
             // Lock the root and the metalake with WRITE lock to ensure the consistency of the list.
             if (verbose) {
+              Preconditions.checkArgument(
+                  pageSize == null && pageToken == null,
+                  "\"pageSize\" and \"pageToken\" are not supported when \"details\" is true");
               Catalog[] catalogs = catalogDispatcher.listCatalogsInfo(catalogNS);
               Response response = Utils.ok(new CatalogListResponse(DTOConverters.toDTOs(catalogs)));
               LOG.info("List {} catalogs info under metalake: {}", catalogs.length, metalake);
               return response;
             } else {
-              NameIdentifier[] idents = catalogDispatcher.listCatalogs(catalogNS);
-              Response response = Utils.ok(new EntityListResponse(idents));
+              EntityListResponse listResponse =
+                  PaginationUtils.toEntityListResponse(
+                      pageSize,
+                      pageToken,
+                      () -> catalogDispatcher.listCatalogs(catalogNS),
+                      (startAfter, limit) ->
+                          catalogDispatcher.listCatalogs(catalogNS, startAfter, limit));
+              NameIdentifier[] idents = listResponse.identifiers();
+              Response response = Utils.ok(listResponse);
               LOG.info("List {} catalogs under metalake: {}", idents.length, metalake);
               return response;
             }
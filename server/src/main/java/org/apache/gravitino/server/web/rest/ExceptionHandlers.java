@@ -64,6 +64,11 @@ public class ExceptionHandlers {
     return PartitionExceptionHandler.INSTANCE.handle(op, partition, table, e);
   }
 
+  public static Response handleStatisticsException(
+      OperationType op, String partition, String table, Exception e) {
+    return StatisticsExceptionHandler.INSTANCE.handle(op, partition, table, e);
+  }
+
   public static Response handleTableException(
       OperationType op, String table, String schema, Exception e) {
     return TableExceptionHandler.INSTANCE.handle(op, table, schema, e);
@@ -208,6 +213,41 @@ public class ExceptionHandlers {
     }
   }
 
+  private static class StatisticsExceptionHandler extends BaseExceptionHandler {
+
+    private static final ExceptionHandler INSTANCE = new StatisticsExceptionHandler();
+
+    private static String getStatisticsErrorMsg(
+        String partition, String operation, String table, String reason) {
+      return String.format(
+          "Failed to operate statistics%s operation [%s] of table [%s], reason [%s]",
+          partition, operation, table, reason);
+    }
+
+    @Override
+    public Response handle(OperationType op, String partition, String table, Exception e) {
+      String formatted = StringUtil.isBlank(partition) ? "" : " of partition [" + partition + "]";
+      String errorMsg = getStatisticsErrorMsg(formatted, op.name(), table, getErrorMsg(e));
+      LOG.warn(errorMsg, e);
+
+      if (e instanceof IllegalArgumentException) {
+        return Utils.illegalArguments(errorMsg, e);
+
+      } else if (e instanceof NotFoundException) {
+        return Utils.notFound(errorMsg, e);
+
+      } else if (e instanceof UnsupportedOperationException) {
+        return Utils.unsupportedOperation(errorMsg, e);
+
+      } else if (e instanceof NotInUseException) {
+        return Utils.notInUse(errorMsg, e);
+
+      } else {
+        return super.handle(op, partition, table, e);
+      }
+    }
+  }
+
   private static class TableExceptionHandler extends BaseExceptionHandler {
 
     private static final ExceptionHandler INSTANCE = new TableExceptionHandler();
@@ -51,6 +51,7 @@ import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.PaginationUtils;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -78,15 +79,23 @@ public class FilesetOperations {
   public Response listFilesets(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     try {
       LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
-            Response response = Utils.ok(new EntityListResponse(idents));
+            EntityListResponse listResponse =
+                PaginationUtils.toEntityListResponse(
+                    pageSize,
+                    pageToken,
+                    () -> dispatcher.listFilesets(filesetNS),
+                    (startAfter, limit) -> dispatcher.listFilesets(filesetNS, startAfter, limit));
+            NameIdentifier[] idents = listResponse.identifiers();
+            Response response = Utils.ok(listResponse);
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
                 idents.length,
@@ -37,5 +37,7 @@ public enum OperationType {
   SET,
   REGISTER, // An operation to register a model
   LIST_VERSIONS, // An operation to list versions of a model
-  LINK // An operation to link a version to a model
+  LINK, // An operation to link a version to a model
+  IMPORT, // An operation to import the schemas and tables of a catalog
+  UPDATE // An operation to update the statistics of a table
 }
@@ -24,6 +24,7 @@ import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.google.common.base.Preconditions;
+import java.util.function.Function;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -36,6 +37,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
@@ -47,6 +49,7 @@ import org.apache.gravitino.dto.responses.PartitionResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.rel.partitions.Partition;
+import org.apache.gravitino.server.web.PaginationUtils;
 import org.apache.gravitino.server.web.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,7 +75,10 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     LOG.info(
         "Received list partition {} request for table: {}.{}.{}.{}",
         verbose ? "infos" : "names",
@@ -85,9 +91,27 @@ public class PartitionOperations {
           httpRequest,
           () -> {
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            PaginationUtils.checkPageArguments(pageSize, pageToken);
             if (verbose) {
-              Partition[] partitions = dispatcher.listPartitions(tableIdent);
-              Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
+              Partition[] partitions;
+              String nextPageToken = null;
+              if (pageSize != null) {
+                Pair<Partition[], String> page =
+                    PaginationUtils.listPage(
+                        pageSize,
+                        pageToken,
+                        (startAfter, limit) ->
+                            dispatcher.listPartitions(tableIdent, filter, startAfter, limit),
+                        Partition::name);
+                partitions = page.getLeft();
+                nextPageToken = page.getRight();
+              } else if (filter != null) {
+                partitions = dispatcher.listPartitions(tableIdent, filter, null, Integer.MAX_VALUE);
+              } else {
+                partitions = dispatcher.listPartitions(tableIdent);
+              }
+              Response response =
+                  Utils.ok(new PartitionListResponse(toDTOs(partitions), nextPageToken));
               LOG.info(
                   "List {} partitions in table {}.{}.{}.{}",
                   partitions.length,
@@ -97,8 +121,26 @@ public class PartitionOperations {
                   table);
               return response;
             } else {
-              String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
-              Response response = Utils.ok(new PartitionNameListResponse((partitionNames)));
+              String[] partitionNames;
+              String nextPageToken = null;
+              if (pageSize != null) {
+                Pair<String[], String> page =
+                    PaginationUtils.listPage(
+                        pageSize,
+                        pageToken,
+                        (startAfter, limit) ->
+                            dispatcher.listPartitionNames(tableIdent, filter, startAfter, limit),
+                        Function.identity());
+                partitionNames = page.getLeft();
+                nextPageToken = page.getRight();
+              } else if (filter != null) {
+                partitionNames =
+                    dispatcher.listPartitionNames(tableIdent, filter, null, Integer.MAX_VALUE);
+              } else {
+                partitionNames = dispatcher.listPartitionNames(tableIdent);
+              }
+              Response response =
+                  Utils.ok(new PartitionNameListResponse(partitionNames, nextPageToken));
               LOG.info(
                   "List {} partition names in table {}.{}.{}.{}",
                   partitionNames.length,
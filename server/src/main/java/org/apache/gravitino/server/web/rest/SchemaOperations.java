@@ -48,6 +48,7 @@ import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.PaginationUtils;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
@@ -75,15 +76,24 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageSize") Integer pageSize,
+      @QueryParam("pageToken") String pageToken) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents = dispatcher.listSchemas(schemaNS);
-            Response response = Utils.ok(new EntityListResponse(idents));
+            EntityListResponse listResponse =
+                PaginationUtils.toEntityListResponse(
+                    pageSize,
+                    pageToken,
+                    () -> dispatcher.listSchemas(schemaNS),
+                    (startAfter, limit) -> dispatcher.listSchemas(schemaNS, startAfter, limit));
+            NameIdentifier[] idents = listResponse.identifiers();
+            Response response = Utils.ok(listResponse);
             LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
             return response;
           });
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.requests.StatisticsUpdateRequest;
+import org.apache.gravitino.dto.responses.DropResponse;
+import org.apache.gravitino.dto.responses.TableStatisticsResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.stats.StatisticsDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The statistics of a table, or of one of its partitions if the {@code partition} query parameter
+ * is set.
+ */
+@Path("/metalakes/{metalake}/catalogs/{catalog}/schemas/{schema}/tables/{table}/statistics")
+public class StatisticsOperations {
+  private static final Logger LOG = LoggerFactory.getLogger(StatisticsOperations.class);
+
+  private final StatisticsDispatcher dispatcher;
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public StatisticsOperations(StatisticsDispatcher dispatcher) {
+    this.dispatcher = dispatcher;
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-statistics." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-statistics", absolute = true)
+  public Response getStatistics(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("table") String table,
+      @QueryParam("partition") String partition) {
+    LOG.info(
+        "Received get statistics request for partition[{}] of table[{}.{}.{}.{}]",
+        partition,
+        metalake,
+        catalog,
+        schema,
+        table);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            TableStatistics statistics = dispatcher.getTableStatistics(tableIdent, partition);
+            Response response =
+                Utils.ok(new TableStatisticsResponse(DTOConverters.toDTO(statistics)));
+            LOG.info(
+                "Got statistics of partition[{}] in table[{}.{}.{}.{}]",
+                partition,
+                metalake,
+                catalog,
+                schema,
+                table);
+            return response;
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleStatisticsException(OperationType.GET, partition, table, e);
+    }
+  }
+
+  @PUT
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "update-statistics." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "update-statistics", absolute = true)
+  public Response updateStatistics(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("table") String table,
+      @QueryParam("partition") String partition,
+      StatisticsUpdateRequest request) {
+    LOG.info(
+        "Received update statistics request for partition[{}] of table[{}.{}.{}.{}]",
+        partition,
+        metalake,
+        catalog,
+        schema,
+        table);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            TableStatistics statistics =
+                dispatcher.updateTableStatistics(
+                    tableIdent,
+                    partition,
+                    Statistics.of(
+                        request.getRowCount(), request.getSizeInBytes(), request.getColumns()));
+            Response response =
+                Utils.ok(new TableStatisticsResponse(DTOConverters.toDTO(statistics)));
+            LOG.info(
+                "Updated statistics of partition[{}] in table[{}.{}.{}.{}]",
+                partition,
+                metalake,
+                catalog,
+                schema,
+                table);
+            return response;
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleStatisticsException(OperationType.UPDATE, partition, table, e);
+    }
+  }
+
+  @DELETE
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "drop-statistics." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "drop-statistics", absolute = true)
+  public Response dropStatistics(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      @PathParam("table") String table,
+      @QueryParam("partition") String partition) {
+    LOG.info(
+        "Received drop statistics request for partition[{}] of table[{}.{}.{}.{}]",
+        partition,
+        metalake,
+        catalog,
+        schema,
+        table);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+            boolean dropped = dispatcher.dropTableStatistics(tableIdent, partition);
+            if (!dropped) {
+              LOG.warn(
+                  "No statistics of partition[{}] in table[{}.{}.{}.{}] to drop",
+                  partition,
+                  metalake,
+                  catalog,
+                  schema,
+                  table);
+            }
+            Response response = Utils.ok(new DropResponse(dropped));
+            LOG.info(
+                "Dropped statistics of partition[{}] in table[{}.{}.{}.{}]",
+                partition,
+                metalake,
+                catalog,
+                schema,
+                table);
+            return response;
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleStatisticsException(OperationType.DROP, partition, table, e);
+    }
+  }
+}
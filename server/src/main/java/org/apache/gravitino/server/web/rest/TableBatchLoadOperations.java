@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.TableBatchLoader;
+import org.apache.gravitino.dto.requests.TableBatchLoadRequest;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/metalakes/{metalake}/catalogs/{catalog}/schemas/{schema}/tables:batchLoad")
+public class TableBatchLoadOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TableBatchLoadOperations.class);
+
+  private final TableBatchLoader batchLoader;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public TableBatchLoadOperations(TableBatchLoader batchLoader) {
+    this.batchLoader = batchLoader;
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "batch-load-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "batch-load-table", absolute = true)
+  public Response loadTables(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @PathParam("schema") String schema,
+      TableBatchLoadRequest request) {
+    LOG.info("Received batch load tables request for schema: {}.{}.{}", metalake, catalog, schema);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            String[] names = request.getNames();
+            List<NameIdentifier> idents =
+                Arrays.stream(names)
+                    .map(name -> NameIdentifierUtil.ofTable(metalake, catalog, schema, name))
+                    .collect(Collectors.toList());
+            List<TableBatchLoader.Result> loaded = batchLoader.loadTables(idents);
+
+            TableBatchLoadResponse.Result[] results =
+                new TableBatchLoadResponse.Result[names.length];
+            int failed = 0;
+            for (int i = 0; i < names.length; i++) {
+              TableBatchLoader.Result result = loaded.get(i);
+              if (result.error() == null) {
+                results[i] =
+                    TableBatchLoadResponse.Result.ofTable(
+                        names[i], DTOConverters.toDTO(result.table()));
+              } else {
+                failed++;
+                // The error of a table is what loading the table alone would respond.
+                Response error =
+                    ExceptionHandlers.handleTableException(
+                        OperationType.LOAD, names[i], schema, result.error());
+                results[i] =
+                    TableBatchLoadResponse.Result.ofError(
+                        names[i], (ErrorResponse) error.getEntity());
+              }
+            }
+
+            Response response = Utils.ok(new TableBatchLoadResponse(results));
+            LOG.info(
+                "Batch loaded {} tables with {} failures under schema: {}.{}.{}",
+                names.length - failed,
+                failed,
+                metalake,
+                catalog,
+                schema);
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTableException(OperationType.LOAD, "", schema, e);
+    }
+  }
+}
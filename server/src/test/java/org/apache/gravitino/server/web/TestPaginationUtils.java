@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPaginationUtils {
+
+  private static final NameIdentifier A = NameIdentifier.of("m", "c", "s", "a");
+  private static final NameIdentifier B = NameIdentifier.of("m", "c", "s", "b");
+  private static final NameIdentifier C = NameIdentifier.of("m", "c", "s", "c");
+
+  @Test
+  public void testWithoutPagination() {
+    NameIdentifier[] idents = new NameIdentifier[] {C, A, B};
+    EntityListResponse resp =
+        PaginationUtils.toEntityListResponse(
+            null,
+            null,
+            () -> idents,
+            (startAfter, limit) -> {
+              throw new AssertionError("The paged lister should not be called");
+            });
+    Assertions.assertArrayEquals(idents, resp.identifiers());
+    Assertions.assertNull(resp.nextPageToken());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> toEntityListResponse(idents, null, "YQ"));
+  }
+
+  @Test
+  public void testPagination() {
+    NameIdentifier[] idents = new NameIdentifier[] {C, A, B};
+
+    EntityListResponse page1 = toEntityListResponse(idents, 2, null);
+    Assertions.assertArrayEquals(new NameIdentifier[] {A, B}, page1.identifiers());
+    Assertions.assertNotNull(page1.nextPageToken());
+
+    EntityListResponse page2 =
+        toEntityListResponse(idents, 2, page1.nextPageToken());
+    Assertions.assertArrayEquals(new NameIdentifier[] {C}, page2.identifiers());
+    Assertions.assertNull(page2.nextPageToken());
+
+    // The page size exactly matches the remaining entities
+    EntityListResponse page3 = toEntityListResponse(idents, 3, null);
+    Assertions.assertEquals(3, page3.identifiers().length);
+    Assertions.assertNull(page3.nextPageToken());
+
+    // The entity the token points to was dropped between two calls
+    NameIdentifier[] afterDrop = new NameIdentifier[] {A, C};
+    EntityListResponse page4 =
+        toEntityListResponse(afterDrop, 1, page1.nextPageToken());
+    Assertions.assertArrayEquals(new NameIdentifier[] {C}, page4.identifiers());
+  }
+
+  @Test
+  public void testPaginationSeeksTheLister() {
+    List<Pair<String, Integer>> calls = new ArrayList<>();
+    Supplier<NameIdentifier[]> listAll =
+        () -> {
+          throw new AssertionError("All the identifiers should not be listed");
+        };
+    BiFunction<String, Integer, NameIdentifier[]> lister =
+        (startAfter, limit) -> {
+          calls.add(Pair.of(startAfter, limit));
+          return startAfter == null ? new NameIdentifier[] {A, B, C} : new NameIdentifier[] {C};
+        };
+
+    EntityListResponse page1 = PaginationUtils.toEntityListResponse(2, null, listAll, lister);
+    Assertions.assertArrayEquals(new NameIdentifier[] {A, B}, page1.identifiers());
+    EntityListResponse page2 =
+        PaginationUtils.toEntityListResponse(2, page1.nextPageToken(), listAll, lister);
+    Assertions.assertArrayEquals(new NameIdentifier[] {C}, page2.identifiers());
+    Assertions.assertNull(page2.nextPageToken());
+
+    // One more identifier than the page size is asked to know whether there is a next page
+    Assertions.assertEquals(Pair.of(null, 3), calls.get(0));
+    Assertions.assertEquals(Pair.of("b", 3), calls.get(1));
+  }
+
+  @Test
+  public void testListPage() {
+    String[] names = new String[] {"a", "b", "c"};
+    BiFunction<String, Integer, String[]> lister =
+        (startAfter, limit) ->
+            Arrays.stream(names)
+                .filter(name -> startAfter == null || name.compareTo(startAfter) > 0)
+                .limit(limit)
+                .toArray(String[]::new);
+
+    Pair<String[], String> page1 = PaginationUtils.listPage(2, null, lister, Function.identity());
+    Assertions.assertArrayEquals(new String[] {"a", "b"}, page1.getLeft());
+    Assertions.assertNotNull(page1.getRight());
+
+    Pair<String[], String> page2 =
+        PaginationUtils.listPage(2, page1.getRight(), lister, Function.identity());
+    Assertions.assertArrayEquals(new String[] {"c"}, page2.getLeft());
+    Assertions.assertNull(page2.getRight());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> PaginationUtils.listPage(0, null, lister, Function.identity()));
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    NameIdentifier[] idents = new NameIdentifier[] {A};
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> toEntityListResponse(idents, 0, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            toEntityListResponse(idents, PaginationUtils.MAX_PAGE_SIZE + 1, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> toEntityListResponse(idents, 1, "!invalid!"));
+  }
+
+  private static EntityListResponse toEntityListResponse(
+      NameIdentifier[] idents, Integer pageSize, String pageToken) {
+    return PaginationUtils.toEntityListResponse(
+        pageSize,
+        pageToken,
+        () -> idents,
+        (startAfter, limit) ->
+            Arrays.stream(idents)
+                .filter(ident -> startAfter == null || ident.name().compareTo(startAfter) > 0)
+                .sorted(Comparator.comparing(NameIdentifier::name))
+                .limit(limit)
+                .toArray(NameIdentifier[]::new));
+  }
+}
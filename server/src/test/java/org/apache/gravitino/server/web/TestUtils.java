@@ -208,5 +208,21 @@ public class TestUtils {
     Assertions.assertEquals(
         FilesetDataOperation.GET_FILE_STATUS.name(),
         filteredMap.get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION));
+
+    // test the operation count header of the batched audits
+    HttpServletRequest mockRequest4 = Mockito.mock(HttpServletRequest.class);
+    when(mockRequest4.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT))
+        .thenReturn("16");
+    Assertions.assertEquals(
+        "16",
+        Utils.filterFilesetAuditHeaders(mockRequest4)
+            .get(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT));
+
+    HttpServletRequest mockRequest5 = Mockito.mock(HttpServletRequest.class);
+    when(mockRequest5.getHeader(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT))
+        .thenReturn("-1");
+    Assertions.assertFalse(
+        Utils.filterFilesetAuditHeaders(mockRequest5)
+            .containsKey(FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION_COUNT));
   }
 }
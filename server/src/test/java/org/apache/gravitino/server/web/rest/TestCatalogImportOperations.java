@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.CatalogImportJob;
+import org.apache.gravitino.catalog.CatalogImportManager;
+import org.apache.gravitino.dto.CatalogImportDTO;
+import org.apache.gravitino.dto.responses.CatalogImportResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogImportOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final CatalogImportManager manager = mock(CatalogImportManager.class);
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(CatalogImportOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(manager).to(CatalogImportManager.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testImportCatalog() {
+    NameIdentifier ident = NameIdentifier.of("metalake1", "catalog1");
+    CatalogImportJob job = mockJob(ident);
+    when(manager.importCatalog(ident)).thenReturn(job);
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity("", MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    CatalogImportResponse importResponse = resp.readEntity(CatalogImportResponse.class);
+    Assertions.assertEquals(0, importResponse.getCode());
+    assertImportDTO(importResponse.getCatalogImport());
+
+    doThrow(new NoSuchCatalogException("mock error")).when(manager).importCatalog(any());
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity("", MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+    Assertions.assertEquals(NoSuchCatalogException.class.getSimpleName(), errorResponse.getType());
+  }
+
+  @Test
+  public void testGetCatalogImport() {
+    NameIdentifier ident = NameIdentifier.of("metalake1", "catalog1");
+    CatalogImportJob job = mockJob(ident);
+    when(manager.getImportJob(ident)).thenReturn(job);
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    CatalogImportResponse importResponse = resp.readEntity(CatalogImportResponse.class);
+    Assertions.assertEquals(0, importResponse.getCode());
+    assertImportDTO(importResponse.getCatalogImport());
+
+    // Test the catalog never imported
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs/catalog2/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+  }
+
+  private CatalogImportJob mockJob(NameIdentifier ident) {
+    CatalogImportJob job = mock(CatalogImportJob.class);
+    when(job.catalogIdent()).thenReturn(ident);
+    when(job.status()).thenReturn(CatalogImportJob.Status.RUNNING);
+    when(job.startTime()).thenReturn(1000L);
+    when(job.totalSchemas()).thenReturn(3L);
+    when(job.importedSchemas()).thenReturn(1L);
+    when(job.scannedTables()).thenReturn(20L);
+    when(job.importedTables()).thenReturn(15L);
+    when(job.skippedTables()).thenReturn(4L);
+    when(job.failedTables()).thenReturn(1L);
+    return job;
+  }
+
+  private void assertImportDTO(CatalogImportDTO importDTO) {
+    Assertions.assertEquals("catalog1", importDTO.catalog());
+    Assertions.assertEquals("RUNNING", importDTO.status());
+    Assertions.assertEquals(1000L, importDTO.startTime());
+    Assertions.assertEquals(0L, importDTO.endTime());
+    Assertions.assertNull(importDTO.errorMessage());
+    Assertions.assertEquals(3L, importDTO.totalSchemas());
+    Assertions.assertEquals(1L, importDTO.importedSchemas());
+    Assertions.assertEquals(20L, importDTO.scannedTables());
+    Assertions.assertEquals(15L, importDTO.importedTables());
+    Assertions.assertEquals(4L, importDTO.skippedTables());
+    Assertions.assertEquals(1L, importDTO.failedTables());
+  }
+}
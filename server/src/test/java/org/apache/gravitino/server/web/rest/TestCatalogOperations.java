@@ -25,9 +25,12 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -214,6 +217,42 @@ public class TestCatalogOperations extends JerseyTest {
     Assertions.assertEquals(NoSuchMetalakeException.class.getSimpleName(), errorResponse.getType());
   }
 
+  @Test
+  public void testListCatalogsWithPagination() {
+    NameIdentifier ident1 = NameIdentifier.of("metalake1", "catalog1");
+    NameIdentifier ident2 = NameIdentifier.of("metalake1", "catalog2");
+    when(manager.listCatalogs(any(), any(), anyInt()))
+        .thenReturn(new NameIdentifier[] {ident1, ident2});
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident1}, listResp.identifiers());
+    Assertions.assertNotNull(listResp.nextPageToken());
+    verify(manager).listCatalogs(Namespace.of("metalake1"), null, 2);
+    verify(manager, never()).listCatalogs(any());
+
+    // Pagination is not supported when listing the catalogs with details
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs")
+            .queryParam("details", "true")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResponse.getCode());
+    verify(manager, never()).listCatalogsInfo(any());
+  }
+
   @Test
   public void testCreateCatalog() {
     CatalogCreateRequest req =
@@ -22,6 +22,8 @@ import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -174,6 +176,48 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionNamesWithPagination() {
+    when(dispatcher.listPartitionNames(any(), eq("dt > 1"), isNull(), eq(2)))
+        .thenReturn(partitionNames);
+    when(dispatcher.listPartitionNames(any(), eq("dt > 1"), eq("p1"), eq(2)))
+        .thenReturn(new String[] {"p2"});
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "dt > 1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse page1 = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p1"}, page1.partitionNames());
+    Assertions.assertNotNull(page1.nextPageToken());
+
+    Response resp2 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "dt > 1")
+            .queryParam("pageSize", 1)
+            .queryParam("pageToken", page1.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    PartitionNameListResponse page2 = resp2.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {"p2"}, page2.partitionNames());
+    Assertions.assertNull(page2.nextPageToken());
+
+    // The page token requires the page size
+    Response resp3 =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageToken", page1.nextPageToken())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp3.getStatus());
+  }
+
   @Test
   public void testListPartitions() {
     when(dispatcher.listPartitions(any())).thenReturn(partitions);
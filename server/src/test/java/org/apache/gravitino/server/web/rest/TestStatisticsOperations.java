@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Instant;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.rel.stats.ColumnStatisticsDTO;
+import org.apache.gravitino.dto.rel.stats.HistogramBucketDTO;
+import org.apache.gravitino.dto.requests.StatisticsUpdateRequest;
+import org.apache.gravitino.dto.responses.DropResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableStatisticsResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.TableStatistics;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.stats.StatisticsDispatcher;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TestStatisticsOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final StatisticsDispatcher dispatcher = mock(StatisticsDispatcher.class);
+  private final NameIdentifier tableIdent =
+      NameIdentifier.of("metalake1", "catalog1", "schema1", "table1");
+  private final AuditInfo audit =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(StatisticsOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(dispatcher).to(StatisticsDispatcher.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  private String statisticsPath() {
+    return "/metalakes/metalake1/catalogs/catalog1/schemas/schema1/tables/table1/statistics";
+  }
+
+  @Test
+  public void testGetStatistics() {
+    TableStatistics statistics =
+        Statistics.of(
+            100L,
+            2048L,
+            new ColumnStatisticsDTO[] {
+              ColumnStatisticsDTO.builder()
+                  .withName("col1")
+                  .withDistinctCount(10L)
+                  .withNullCount(0L)
+                  .withMinValue("1")
+                  .withMaxValue("10")
+                  .build()
+            },
+            audit);
+    when(dispatcher.getTableStatistics(tableIdent, null)).thenReturn(statistics);
+
+    Response resp =
+        target(statisticsPath())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableStatisticsResponse statisticsResp = resp.readEntity(TableStatisticsResponse.class);
+    Assertions.assertEquals(0, statisticsResp.getCode());
+    Assertions.assertEquals(DTOConverters.toDTO(statistics), statisticsResp.getStatistics());
+
+    // Test get the statistics of a partition
+    when(dispatcher.getTableStatistics(tableIdent, "dt=2024-01-01"))
+        .thenReturn(Statistics.of(null, null));
+    Response resp1 =
+        target(statisticsPath())
+            .queryParam("partition", "dt=2024-01-01")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    TableStatisticsResponse partitionResp = resp1.readEntity(TableStatisticsResponse.class);
+    Assertions.assertNull(partitionResp.getStatistics().rowCount());
+    Assertions.assertEquals(0, partitionResp.getStatistics().columnStatistics().length);
+
+    // Test throw NoSuchTableException
+    when(dispatcher.getTableStatistics(tableIdent, null))
+        .thenThrow(new NoSuchTableException("mock error"));
+    Response resp2 =
+        target(statisticsPath())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchTableException.class.getSimpleName(), errorResp.getType());
+  }
+
+  @Test
+  public void testUpdateStatistics() {
+    ColumnStatisticsDTO column =
+        ColumnStatisticsDTO.builder()
+            .withName("col1")
+            .withDistinctCount(10L)
+            .withHistogram(
+                new HistogramBucketDTO[] {
+                  HistogramBucketDTO.builder()
+                      .withLowerBound("1")
+                      .withUpperBound("5")
+                      .withCount(60L)
+                      .build()
+                })
+            .build();
+    StatisticsUpdateRequest req =
+        new StatisticsUpdateRequest(100L, null, new ColumnStatisticsDTO[] {column});
+    TableStatistics updated = Statistics.of(100L, 2048L, new ColumnStatisticsDTO[] {column}, audit);
+    when(dispatcher.updateTableStatistics(eq(tableIdent), eq("dt=2024-01-01"), any()))
+        .thenReturn(updated);
+
+    Response resp =
+        target(statisticsPath())
+            .queryParam("partition", "dt=2024-01-01")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .put(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableStatisticsResponse statisticsResp = resp.readEntity(TableStatisticsResponse.class);
+    Assertions.assertEquals(DTOConverters.toDTO(updated), statisticsResp.getStatistics());
+
+    ArgumentCaptor<TableStatistics> captor = ArgumentCaptor.forClass(TableStatistics.class);
+    verify(dispatcher).updateTableStatistics(eq(tableIdent), eq("dt=2024-01-01"), captor.capture());
+    Assertions.assertEquals(100L, captor.getValue().rowCount());
+    Assertions.assertNull(captor.getValue().sizeInBytes());
+    Assertions.assertArrayEquals(
+        new ColumnStatisticsDTO[] {column}, captor.getValue().columnStatistics());
+
+    // Test invalid request
+    StatisticsUpdateRequest invalidReq = new StatisticsUpdateRequest(-1L, null, null);
+    Response resp1 =
+        target(statisticsPath())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .put(Entity.entity(invalidReq, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp.getCode());
+
+    // Test throw IllegalArgumentException for an unknown column
+    when(dispatcher.updateTableStatistics(eq(tableIdent), isNull(), any()))
+        .thenThrow(new IllegalArgumentException("Column col1 does not exist"));
+    Response resp2 =
+        target(statisticsPath())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .put(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp2.getStatus());
+  }
+
+  @Test
+  public void testDropStatistics() {
+    when(dispatcher.dropTableStatistics(tableIdent, null)).thenReturn(true);
+
+    Response resp =
+        target(statisticsPath())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    DropResponse dropResponse = resp.readEntity(DropResponse.class);
+    Assertions.assertEquals(0, dropResponse.getCode());
+    Assertions.assertTrue(dropResponse.dropped());
+
+    // Test drop the statistics of a partition which are not recorded
+    when(dispatcher.dropTableStatistics(tableIdent, "dt=2024-01-01")).thenReturn(false);
+    Response resp1 =
+        target(statisticsPath())
+            .queryParam("partition", "dt=2024-01-01")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    Assertions.assertFalse(resp1.readEntity(DropResponse.class).dropped());
+
+    // Test throw RuntimeException
+    when(dispatcher.dropTableStatistics(tableIdent, null))
+        .thenThrow(new RuntimeException("test exception"));
+    Response resp2 =
+        target(statisticsPath())
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .delete();
+
+    Assertions.assertEquals(
+        Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), resp2.getStatus());
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.INTERNAL_ERROR_CODE, errorResp.getCode());
+    Assertions.assertTrue(errorResp.getMessage().contains("test exception"));
+  }
+}
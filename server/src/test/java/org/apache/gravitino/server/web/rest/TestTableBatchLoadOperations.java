@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.TableBatchLoader;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.requests.TableBatchLoadRequest;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableBatchLoadResponse;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTableBatchLoadOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private final TableDispatcher dispatcher = mock(TableDispatcher.class);
+
+  private final TableBatchLoader batchLoader = new TableBatchLoader(dispatcher, 2);
+
+  private final String path = "/metalakes/metalake1/catalogs/catalog1/schemas/schema1/tables";
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    // Register the table resource too, to make sure the batch load path is not captured by it
+    resourceConfig.register(TableOperations.class);
+    resourceConfig.register(TableBatchLoadOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(dispatcher).to(TableDispatcher.class).ranked(2);
+            bind(batchLoader).to(TableBatchLoader.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @AfterEach
+  public void closeLoader() {
+    batchLoader.close();
+  }
+
+  @Test
+  public void testLoadTables() {
+    Column[] columns =
+        new Column[] {TestTableOperations.mockColumn("col1", Types.StringType.get())};
+    Table table1 =
+        TestTableOperations.mockTable(
+            "table1", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    Table table3 =
+        TestTableOperations.mockTable(
+            "table3", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    when(dispatcher.loadTable(tableIdent("table1"))).thenReturn(table1);
+    when(dispatcher.loadTable(tableIdent("table2")))
+        .thenThrow(new NoSuchTableException("Table table2 does not exist"));
+    when(dispatcher.loadTable(tableIdent("table3"))).thenReturn(table3);
+
+    TableBatchLoadRequest req =
+        new TableBatchLoadRequest(new String[] {"table1", "table2", "table3"});
+    Response resp =
+        target(path + ":batchLoad")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableBatchLoadResponse batchResponse = resp.readEntity(TableBatchLoadResponse.class);
+    Assertions.assertEquals(0, batchResponse.getCode());
+    Assertions.assertDoesNotThrow(batchResponse::validate);
+
+    TableBatchLoadResponse.Result[] results = batchResponse.getResults();
+    Assertions.assertEquals(3, results.length);
+    Assertions.assertEquals("table1", results[0].getName());
+    Assertions.assertEquals("table1", results[0].getTable().name());
+    Assertions.assertEquals(1, results[0].getTable().columns().length);
+    Assertions.assertNull(results[0].getError());
+
+    Assertions.assertEquals("table2", results[1].getName());
+    Assertions.assertNull(results[1].getTable());
+    ErrorResponse error = results[1].getError();
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, error.getCode());
+    Assertions.assertEquals(NoSuchTableException.class.getSimpleName(), error.getType());
+
+    Assertions.assertEquals("table3", results[2].getName());
+    Assertions.assertEquals("table3", results[2].getTable().name());
+    Assertions.assertNull(results[2].getError());
+  }
+
+  @Test
+  public void testBatchLoadPath() {
+    Column[] columns =
+        new Column[] {TestTableOperations.mockColumn("col1", Types.StringType.get())};
+    Table table1 =
+        TestTableOperations.mockTable(
+            "table1", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    when(dispatcher.loadTable(tableIdent("table1"))).thenReturn(table1);
+
+    // The batch load path is resolved to the batch load endpoint, not to create a table
+    TableBatchLoadRequest req = new TableBatchLoadRequest(new String[] {"table1"});
+    Response resp =
+        target(path + ":batchLoad")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    TableBatchLoadResponse batchResponse = resp.readEntity(TableBatchLoadResponse.class);
+    Assertions.assertEquals(0, batchResponse.getCode());
+    Assertions.assertEquals(1, batchResponse.getResults().length);
+    Assertions.assertEquals("table1", batchResponse.getResults()[0].getTable().name());
+    verify(dispatcher).loadTable(tableIdent("table1"));
+    verifyNoMoreInteractions(dispatcher);
+
+    // The table path is still resolved to the table endpoint
+    Response tableResp =
+        target(path + "/table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), tableResp.getStatus());
+    TableResponse tableResponse = tableResp.readEntity(TableResponse.class);
+    Assertions.assertEquals(0, tableResponse.getCode());
+    Assertions.assertEquals("table1", tableResponse.getTable().name());
+  }
+
+  @Test
+  public void testLoadTablesWithInvalidRequest() {
+    TableBatchLoadRequest req = new TableBatchLoadRequest(new String[0]);
+    Response resp =
+        target(path + ":batchLoad")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(req, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResponse = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResponse.getCode());
+  }
+
+  private static NameIdentifier tableIdent(String table) {
+    return NameIdentifierUtil.ofTable("metalake1", "catalog1", "schema1", table);
+  }
+}
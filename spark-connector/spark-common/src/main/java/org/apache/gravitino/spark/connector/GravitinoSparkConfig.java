@@ -28,6 +28,8 @@ public class GravitinoSparkConfig {
   public static final String GRAVITINO_METALAKE = GRAVITINO_PREFIX + "metalake";
   public static final String GRAVITINO_ENABLE_ICEBERG_SUPPORT =
       GRAVITINO_PREFIX + "enableIcebergSupport";
+  // The time to live of the tables loaded by a catalog in milliseconds, 0 disables the table cache.
+  public static final String GRAVITINO_TABLE_CACHE_TTL_MS = GRAVITINO_PREFIX + "tableCacheTtlMs";
 
   public static final String GRAVITINO_AUTH_TYPE =
       GRAVITINO_PREFIX + AuthProperties.GRAVITINO_CLIENT_AUTH_TYPE;
@@ -19,11 +19,23 @@
 
 package org.apache.gravitino.spark.connector.catalog;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.security.PrivilegedAction;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -34,11 +46,13 @@ import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.spark.connector.ConnectorConstants;
+import org.apache.gravitino.spark.connector.GravitinoSparkConfig;
 import org.apache.gravitino.spark.connector.PropertiesConverter;
 import org.apache.gravitino.spark.connector.SparkTableChangeConverter;
 import org.apache.gravitino.spark.connector.SparkTransformConverter;
 import org.apache.gravitino.spark.connector.SparkTransformConverter.DistributionAndSortOrdersInfo;
 import org.apache.gravitino.spark.connector.SparkTypeConverter;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.spark.sql.catalyst.analysis.NamespaceAlreadyExistsException;
 import org.apache.spark.sql.catalyst.analysis.NoSuchNamespaceException;
 import org.apache.spark.sql.catalyst.analysis.NoSuchTableException;
@@ -52,6 +66,7 @@ import org.apache.spark.sql.connector.catalog.Table;
 import org.apache.spark.sql.connector.catalog.TableCatalog;
 import org.apache.spark.sql.connector.catalog.TableChange;
 import org.apache.spark.sql.connector.expressions.Transform;
+import org.apache.spark.sql.internal.SQLConf;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.apache.spark.sql.util.CaseInsensitiveStringMap;
@@ -70,6 +85,17 @@ import org.apache.spark.sql.util.CaseInsensitiveStringMap;
  */
 public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
+  private static final long MAX_CACHED_TABLES = 10000;
+
+  // Loads the Gravitino tables in background while the Spark tables are loaded, shared by all the
+  // catalogs and the users of the Spark application.
+  private static final ExecutorService GRAVITINO_TABLE_LOADER =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("gravitino-table-loader-%d")
+              .build());
+
   // The specific Spark catalog to do IO operations, different catalogs have different spark catalog
   // implementations, like HiveTableCatalog for Hive, JDBCTableCatalog for JDBC, SparkCatalog for
   // Iceberg.
@@ -83,6 +109,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   private String catalogName;
   private final GravitinoCatalogManager gravitinoCatalogManager;
+  // The tables loaded by the catalog of the Spark session, null if the table cache is disabled.
+  @Nullable private Cache<Identifier, Table> tableCache;
 
   protected BaseCatalog() {
     gravitinoCatalogManager = GravitinoCatalogManager.get();
@@ -158,6 +186,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
     this.sparkTransformConverter = getSparkTransformConverter();
     this.sparkTypeConverter = getSparkTypeConverter();
     this.sparkTableChangeConverter = getSparkTableChangeConverter(sparkTypeConverter);
+    this.tableCache = createTableCache();
   }
 
   @Override
@@ -237,21 +266,25 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public Table loadTable(Identifier ident) throws NoSuchTableException {
-    try {
-      org.apache.gravitino.rel.Table gravitinoTable = loadGravitinoTable(ident);
-      org.apache.spark.sql.connector.catalog.Table sparkTable = loadSparkTable(ident);
-      // Will create a catalog specific table
-      return createSparkTable(
-          ident,
-          gravitinoTable,
-          sparkTable,
-          sparkCatalog,
-          propertiesConverter,
-          sparkTransformConverter,
-          sparkTypeConverter);
-    } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
-      throw new NoSuchTableException(ident);
+    if (tableCache == null) {
+      return loadTableFromCatalogs(ident);
     }
+
+    Identifier cacheKey = toCacheKey(ident);
+    Table table = tableCache.getIfPresent(cacheKey);
+    if (table == null) {
+      table = loadTableFromCatalogs(ident);
+      tableCache.put(cacheKey, table);
+    }
+    return table;
+  }
+
+  @Override
+  public void invalidateTable(Identifier ident) {
+    if (tableCache != null) {
+      tableCache.invalidate(toCacheKey(ident));
+    }
+    sparkCatalog.invalidateTable(ident);
   }
 
   @Override
@@ -261,7 +294,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
             .map(sparkTableChangeConverter::toGravitinoTableChange)
             .toArray(org.apache.gravitino.rel.TableChange[]::new);
     try {
-      sparkCatalog.invalidateTable(ident);
+      invalidateTable(ident);
       org.apache.gravitino.rel.Table gravitinoTable =
           gravitinoCatalogClient
               .asTableCatalog()
@@ -283,7 +316,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public boolean dropTable(Identifier ident) {
-    sparkCatalog.invalidateTable(ident);
+    invalidateTable(ident);
     return gravitinoCatalogClient
         .asTableCatalog()
         .dropTable(NameIdentifier.of(getDatabase(ident), ident.name()));
@@ -291,7 +324,7 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   @Override
   public boolean purgeTable(Identifier ident) {
-    sparkCatalog.invalidateTable(ident);
+    invalidateTable(ident);
     return gravitinoCatalogClient
         .asTableCatalog()
         .purgeTable(NameIdentifier.of(getDatabase(ident), ident.name()));
@@ -307,7 +340,8 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
     org.apache.gravitino.rel.TableChange rename =
         org.apache.gravitino.rel.TableChange.rename(newIdent.name());
     try {
-      sparkCatalog.invalidateTable(oldIdent);
+      invalidateTable(oldIdent);
+      invalidateTable(newIdent);
       gravitinoCatalogClient
           .asTableCatalog()
           .alterTable(NameIdentifier.of(getDatabase(oldIdent), oldIdent.name()), rename);
@@ -401,8 +435,12 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
 
   protected org.apache.gravitino.rel.Table loadGravitinoTable(Identifier ident)
       throws NoSuchTableException {
+    return loadGravitinoTable(ident, getDatabase(ident));
+  }
+
+  private org.apache.gravitino.rel.Table loadGravitinoTable(Identifier ident, String database)
+      throws NoSuchTableException {
     try {
-      String database = getDatabase(ident);
       return gravitinoCatalogClient
           .asTableCatalog()
           .loadTable(NameIdentifier.of(database, ident.name()));
@@ -451,6 +489,97 @@ public abstract class BaseCatalog implements TableCatalog, SupportsNamespaces {
     return gravitinoIdentifier.namespace().level(0);
   }
 
+  private Table loadTableFromCatalogs(Identifier ident) throws NoSuchTableException {
+    // Only the Gravitino table is loaded in background, the Spark table is loaded in the current
+    // thread as the Spark catalog may rely on the thread local state of the Spark session. For the
+    // same reason the database is resolved in the current thread, and the Gravitino table is loaded
+    // as the current user since the loader threads are shared by all the users.
+    String database = getDatabase(ident);
+    UserGroupInformation currentUser = getCurrentUser();
+    CompletableFuture<org.apache.gravitino.rel.Table> gravitinoTableFuture =
+        CompletableFuture.supplyAsync(
+            () ->
+                currentUser.doAs(
+                    (PrivilegedAction<org.apache.gravitino.rel.Table>)
+                        () -> {
+                          try {
+                            return loadGravitinoTable(ident, database);
+                          } catch (NoSuchTableException e) {
+                            throw new CompletionException(e);
+                          }
+                        }),
+            GRAVITINO_TABLE_LOADER);
+
+    try {
+      org.apache.spark.sql.connector.catalog.Table sparkTable;
+      try {
+        sparkTable = loadSparkTable(ident);
+      } catch (RuntimeException e) {
+        // The failure of the Gravitino table, like the table doesn't exist, takes precedence.
+        joinGravitinoTable(gravitinoTableFuture);
+        throw e;
+      }
+      org.apache.gravitino.rel.Table gravitinoTable = joinGravitinoTable(gravitinoTableFuture);
+      // Will create a catalog specific table
+      return createSparkTable(
+          ident,
+          gravitinoTable,
+          sparkTable,
+          sparkCatalog,
+          propertiesConverter,
+          sparkTransformConverter,
+          sparkTypeConverter);
+    } catch (org.apache.gravitino.exceptions.NoSuchTableException e) {
+      throw new NoSuchTableException(ident);
+    }
+  }
+
+  private org.apache.gravitino.rel.Table joinGravitinoTable(
+      CompletableFuture<org.apache.gravitino.rel.Table> gravitinoTableFuture)
+      throws NoSuchTableException {
+    try {
+      return gravitinoTableFuture.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof NoSuchTableException) {
+        throw (NoSuchTableException) cause;
+      }
+      Throwables.throwIfUnchecked(cause);
+      throw new RuntimeException(cause);
+    }
+  }
+
+  @Nullable
+  private Cache<Identifier, Table> createTableCache() {
+    long ttlMs =
+        Long.parseLong(
+            SQLConf.get().getConfString(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_TTL_MS, "0"));
+    Preconditions.checkArgument(
+        ttlMs >= 0,
+        "%s should not be negative, but got %s",
+        GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_TTL_MS,
+        ttlMs);
+    if (ttlMs == 0) {
+      return null;
+    }
+    return Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_TABLES)
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  private static UserGroupInformation getCurrentUser() {
+    try {
+      return UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to get the current user", e);
+    }
+  }
+
+  private Identifier toCacheKey(Identifier ident) {
+    return Identifier.of(new String[] {getDatabase(ident)}, ident.name());
+  }
+
   private Table loadSparkTable(Identifier ident) {
     try {
       return sparkCatalog.loadTable(ident);
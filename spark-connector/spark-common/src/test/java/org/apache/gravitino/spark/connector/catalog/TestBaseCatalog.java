@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.spark.connector.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.client.GravitinoClient;
+import org.apache.gravitino.spark.connector.GravitinoSparkConfig;
+import org.apache.gravitino.spark.connector.PropertiesConverter;
+import org.apache.gravitino.spark.connector.SparkTransformConverter;
+import org.apache.gravitino.spark.connector.SparkTypeConverter;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.spark.sql.catalyst.analysis.NoSuchTableException;
+import org.apache.spark.sql.connector.catalog.Identifier;
+import org.apache.spark.sql.connector.catalog.Table;
+import org.apache.spark.sql.connector.catalog.TableCapability;
+import org.apache.spark.sql.connector.catalog.TableCatalog;
+import org.apache.spark.sql.connector.catalog.TableChange;
+import org.apache.spark.sql.internal.SQLConf;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestBaseCatalog {
+
+  private static final String CATALOG_NAME = "catalog";
+  private static final String DEFAULT_DATABASE = "db";
+
+  private final org.apache.gravitino.rel.TableCatalog gravitinoTableCatalog =
+      mock(org.apache.gravitino.rel.TableCatalog.class);
+  private final TableCatalog sparkCatalog = mock(TableCatalog.class);
+  private final Map<String, org.apache.gravitino.rel.Table> gravitinoTables =
+      new ConcurrentHashMap<>();
+  private final Set<Thread> defaultNamespaceThreads = ConcurrentHashMap.newKeySet();
+  private final Set<String> gravitinoTableLoaders = ConcurrentHashMap.newKeySet();
+
+  private GravitinoCatalogManager gravitinoCatalogManager;
+  private BaseCatalog catalog;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      String tableName = "table" + i;
+      org.apache.gravitino.rel.Table gravitinoTable = mock(org.apache.gravitino.rel.Table.class);
+      when(gravitinoTable.name()).thenReturn(tableName);
+      gravitinoTables.put(tableName, gravitinoTable);
+    }
+    when(gravitinoTableCatalog.loadTable(any()))
+        .thenAnswer(
+            invocation -> {
+              NameIdentifier ident = invocation.getArgument(0);
+              gravitinoTableLoaders.add(UserGroupInformation.getCurrentUser().getShortUserName());
+              org.apache.gravitino.rel.Table gravitinoTable = gravitinoTables.get(ident.name());
+              if (gravitinoTable == null) {
+                throw new org.apache.gravitino.exceptions.NoSuchTableException(
+                    "Table %s does not exist", ident);
+              }
+              return gravitinoTable;
+            });
+    when(gravitinoTableCatalog.alterTable(any(), any()))
+        .thenAnswer(
+            invocation -> gravitinoTables.get(((NameIdentifier) invocation.getArgument(0)).name()));
+    when(gravitinoTableCatalog.dropTable(any())).thenReturn(true);
+
+    when(sparkCatalog.defaultNamespace())
+        .thenAnswer(
+            invocation -> {
+              defaultNamespaceThreads.add(Thread.currentThread());
+              return new String[] {DEFAULT_DATABASE};
+            });
+    when(sparkCatalog.loadTable(any())).thenReturn(mock(Table.class));
+
+    Catalog gravitinoCatalog = mock(Catalog.class);
+    when(gravitinoCatalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(gravitinoCatalog.provider()).thenReturn("test");
+    when(gravitinoCatalog.properties()).thenReturn(ImmutableMap.of());
+    when(gravitinoCatalog.asTableCatalog()).thenReturn(gravitinoTableCatalog);
+    GravitinoClient gravitinoClient = mock(GravitinoClient.class);
+    when(gravitinoClient.loadCatalog(CATALOG_NAME)).thenReturn(gravitinoCatalog);
+    gravitinoCatalogManager = GravitinoCatalogManager.create(() -> gravitinoClient);
+
+    SQLConf.get().setConfString(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_TTL_MS, "60000");
+    catalog = new TestCatalog(sparkCatalog);
+    catalog.initialize(CATALOG_NAME, CaseInsensitiveStringMap.empty());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SQLConf.get().unsetConf(GravitinoSparkConfig.GRAVITINO_TABLE_CACHE_TTL_MS);
+    gravitinoCatalogManager.close();
+  }
+
+  @Test
+  void testLoadTableResolvesDatabaseInCallerThread() throws Exception {
+    Table table = catalog.loadTable(Identifier.of(new String[0], "table0"));
+
+    Assertions.assertEquals("table0", ((TestTable) table).gravitinoTable.name());
+    Assertions.assertEquals(Collections.singleton(Thread.currentThread()), defaultNamespaceThreads);
+    verify(gravitinoTableCatalog).loadTable(NameIdentifier.of(DEFAULT_DATABASE, "table0"));
+  }
+
+  @Test
+  void testLoadTableAsCallerUser() throws Exception {
+    Identifier ident = Identifier.of(new String[] {DEFAULT_DATABASE}, "table0");
+    UserGroupInformation user = UserGroupInformation.createRemoteUser("test-user");
+
+    Table table = user.doAs((PrivilegedExceptionAction<Table>) () -> catalog.loadTable(ident));
+
+    Assertions.assertEquals("table0", ((TestTable) table).gravitinoTable.name());
+    Assertions.assertEquals(Collections.singleton("test-user"), gravitinoTableLoaders);
+  }
+
+  @Test
+  void testLoadNonExistentTable() {
+    Identifier ident = Identifier.of(new String[] {DEFAULT_DATABASE}, "not_exist");
+    Assertions.assertThrows(NoSuchTableException.class, () -> catalog.loadTable(ident));
+    Assertions.assertThrows(NoSuchTableException.class, () -> catalog.loadTable(ident));
+    // The missing table is not cached.
+    verify(gravitinoTableCatalog, times(2))
+        .loadTable(NameIdentifier.of(DEFAULT_DATABASE, "not_exist"));
+  }
+
+  @Test
+  void testInvalidateTableOnAlterAndDrop() throws Exception {
+    Identifier ident = Identifier.of(new String[] {DEFAULT_DATABASE}, "table0");
+    NameIdentifier gravitinoIdent = NameIdentifier.of(DEFAULT_DATABASE, "table0");
+
+    Table table = catalog.loadTable(ident);
+    Assertions.assertSame(table, catalog.loadTable(ident));
+    // The table without the namespace shares the cache entry with the table in default database.
+    Assertions.assertSame(table, catalog.loadTable(Identifier.of(new String[0], "table0")));
+    verify(gravitinoTableCatalog, times(1)).loadTable(gravitinoIdent);
+
+    catalog.alterTable(ident, TableChange.setProperty("key", "value"));
+    Table alteredTable = catalog.loadTable(ident);
+    Assertions.assertNotSame(table, alteredTable);
+    verify(gravitinoTableCatalog, times(2)).loadTable(gravitinoIdent);
+
+    Assertions.assertTrue(catalog.dropTable(ident));
+    Assertions.assertNotSame(alteredTable, catalog.loadTable(ident));
+    verify(gravitinoTableCatalog, times(3)).loadTable(gravitinoIdent);
+    verify(sparkCatalog, times(2)).invalidateTable(ident);
+  }
+
+  @Test
+  void testConcurrentLoadTables() throws Exception {
+    UserGroupInformation user = UserGroupInformation.createRemoteUser("test-user");
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<String>> loads = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        String tableName = "table" + i % gravitinoTables.size();
+        loads.add(
+            () -> {
+              Identifier ident = Identifier.of(new String[0], tableName);
+              Table table =
+                  user.doAs((PrivilegedExceptionAction<Table>) () -> catalog.loadTable(ident));
+              Assertions.assertEquals(tableName, ((TestTable) table).gravitinoTable.name());
+              return tableName;
+            });
+      }
+      for (Future<String> future : executor.invokeAll(loads)) {
+        Assertions.assertTrue(gravitinoTables.containsKey(future.get()));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(Collections.singleton("test-user"), gravitinoTableLoaders);
+    Assertions.assertFalse(defaultNamespaceThreads.isEmpty());
+    defaultNamespaceThreads.forEach(
+        thread -> Assertions.assertFalse(thread.getName().startsWith("gravitino-table-loader")));
+  }
+
+  private static class TestCatalog extends BaseCatalog {
+
+    private final TableCatalog testSparkCatalog;
+
+    TestCatalog(TableCatalog testSparkCatalog) {
+      this.testSparkCatalog = testSparkCatalog;
+    }
+
+    @Override
+    protected TableCatalog createAndInitSparkCatalog(
+        String name, CaseInsensitiveStringMap options, Map<String, String> properties) {
+      return testSparkCatalog;
+    }
+
+    @Override
+    protected Table createSparkTable(
+        Identifier identifier,
+        org.apache.gravitino.rel.Table gravitinoTable,
+        Table sparkTable,
+        TableCatalog sparkCatalog,
+        PropertiesConverter propertiesConverter,
+        SparkTransformConverter sparkTransformConverter,
+        SparkTypeConverter sparkTypeConverter) {
+      return new TestTable(gravitinoTable);
+    }
+
+    @Override
+    protected PropertiesConverter getPropertiesConverter() {
+      return null;
+    }
+
+    @Override
+    protected SparkTransformConverter getSparkTransformConverter() {
+      return null;
+    }
+  }
+
+  private static class TestTable implements Table {
+
+    private final org.apache.gravitino.rel.Table gravitinoTable;
+
+    TestTable(org.apache.gravitino.rel.Table gravitinoTable) {
+      this.gravitinoTable = gravitinoTable;
+    }
+
+    @Override
+    public String name() {
+      return gravitinoTable.name();
+    }
+
+    @Override
+    public StructType schema() {
+      return new StructType();
+    }
+
+    @Override
+    public Set<TableCapability> capabilities() {
+      return Collections.emptySet();
+    }
+  }
+}
@@ -47,7 +47,9 @@ import io.trino.spi.connector.ProjectionApplicationResult;
 import io.trino.spi.connector.RetryMode;
 import io.trino.spi.connector.SaveMode;
 import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.connector.SchemaTablePrefix;
 import io.trino.spi.connector.SortItem;
+import io.trino.spi.connector.TableColumnsMetadata;
 import io.trino.spi.connector.TopNApplicationResult;
 import io.trino.spi.expression.ConnectorExpression;
 import io.trino.spi.security.TrinoPrincipal;
@@ -55,12 +57,15 @@ import io.trino.spi.statistics.ComputedStatistics;
 import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.type.Type;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadata;
 import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadataAdapter;
 import org.apache.gravitino.trino.connector.metadata.GravitinoColumn;
@@ -81,6 +86,17 @@ public class GravitinoMetadata implements ConnectorMetadata {
 
   private final ConnectorMetadata internalMetadata;
 
+  // A metadata instance serves one transaction, so the tables loaded to get the table handles and
+  // the statistics got from Gravitino are cached for the planning of the query.
+  private final Map<SchemaTableName, Table> loadedTables = new ConcurrentHashMap<>();
+
+  // The internal handles of the whole tables, to tell them from the handles narrowed by a pushdown.
+  private final Map<SchemaTableName, ConnectorTableHandle> wholeTableHandles =
+      new ConcurrentHashMap<>();
+
+  private final Map<SchemaTableName, Optional<TableStatistics>> tableStatistics =
+      new ConcurrentHashMap<>();
+
   public GravitinoMetadata(
       CatalogConnectorMetadata catalogConnectorMetadata,
       CatalogConnectorMetadataAdapter metadataAdapter,
@@ -107,9 +123,10 @@ public class GravitinoMetadata implements ConnectorMetadata {
       SchemaTableName tableName,
       Optional<ConnectorTableVersion> startVersion,
       Optional<ConnectorTableVersion> endVersion) {
-    boolean tableExists =
-        catalogConnectorMetadata.tableExists(tableName.getSchemaName(), tableName.getTableName());
-    if (!tableExists) return null;
+    Table table =
+        catalogConnectorMetadata.loadTable(tableName.getSchemaName(), tableName.getTableName());
+    if (table == null) return null;
+    loadedTables.put(tableName, table);
 
     ConnectorTableHandle internalTableHandle =
         internalMetadata.getTableHandle(session, tableName, startVersion, endVersion);
@@ -119,6 +136,9 @@ public class GravitinoMetadata implements ConnectorMetadata {
           GRAVITINO_TABLE_NOT_EXISTS,
           String.format("Table %s does not exist in the internal connector", tableName));
     }
+    if (startVersion.isEmpty() && endVersion.isEmpty()) {
+      wholeTableHandles.put(tableName, internalTableHandle);
+    }
     return new GravitinoTableHandle(
         tableName.getSchemaName(), tableName.getTableName(), internalTableHandle);
   }
@@ -156,6 +176,33 @@ public class GravitinoMetadata implements ConnectorMetadata {
     return builder.build();
   }
 
+  @Override
+  public Iterator<TableColumnsMetadata> streamTableColumns(
+      ConnectorSession session, SchemaTablePrefix prefix) {
+    List<String> schemaNames =
+        prefix.getSchema().map(List::of).orElseGet(() -> listSchemaNames(session));
+    // The tables of each schema are loaded in batches, instead of loading them one by one through
+    // getTableHandle and getTableMetadata, so listing the columns of a schema with many tables
+    // costs a few requests to the Gravitino server.
+    return schemaNames.stream()
+        .flatMap(
+            schemaName -> {
+              List<String> tableNames =
+                  prefix
+                      .getTable()
+                      .map(List::of)
+                      .orElseGet(() -> catalogConnectorMetadata.listTables(schemaName));
+              return catalogConnectorMetadata.getTables(schemaName, tableNames).stream();
+            })
+        .map(
+            table -> {
+              ConnectorTableMetadata tableMetadata = metadataAdapter.getTableMetadata(table);
+              return TableColumnsMetadata.forTable(
+                  tableMetadata.getTable(), tableMetadata.getColumns());
+            })
+        .iterator();
+  }
+
   @Override
   public Map<String, ColumnHandle> getColumnHandles(
       ConnectorSession session, ConnectorTableHandle tableHandle) {
@@ -564,7 +611,40 @@ public class GravitinoMetadata implements ConnectorMetadata {
   @Override
   public TableStatistics getTableStatistics(
       ConnectorSession session, ConnectorTableHandle tableHandle) {
-    return internalMetadata.getTableStatistics(session, GravitinoHandle.unWrap(tableHandle));
+    // The statistics recorded in Gravitino are preferred, the internal connector may have to read
+    // the underlying source to get them. But they describe the whole table, so once a filter, a
+    // limit or another pushdown has narrowed the internal handle, for example to the partitions
+    // left after pruning, the internal connector estimates the narrowed scan better.
+    SchemaTableName tableName = getTableName(tableHandle);
+    ConnectorTableHandle internalTableHandle = GravitinoHandle.unWrap(tableHandle);
+    if (!internalTableHandle.equals(wholeTableHandles.get(tableName))) {
+      return internalMetadata.getTableStatistics(session, internalTableHandle);
+    }
+
+    return tableStatistics
+        .computeIfAbsent(tableName, name -> loadTableStatistics(session, tableHandle))
+        .orElseGet(() -> internalMetadata.getTableStatistics(session, internalTableHandle));
+  }
+
+  private Optional<TableStatistics> loadTableStatistics(
+      ConnectorSession session, ConnectorTableHandle tableHandle) {
+    // The whole table handle was got by getTableHandle, which loaded the table.
+    SchemaTableName tableName = getTableName(tableHandle);
+    Table table = loadedTables.get(tableName);
+    org.apache.gravitino.rel.stats.TableStatistics statistics =
+        catalogConnectorMetadata.getTableStatistics(tableName.getSchemaName(), table);
+    if (statistics == null || statistics.rowCount() == null) {
+      return Optional.empty();
+    }
+
+    Map<String, ColumnHandle> columnHandles = getColumnHandles(session, tableHandle);
+    Map<String, Type> columnTypes =
+        columnHandles.entrySet().stream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> getColumnMetadata(session, tableHandle, entry.getValue()).getType()));
+    return Optional.of(metadataAdapter.getTableStatistics(statistics, columnHandles, columnTypes));
   }
 
   private SchemaTableName getTableName(ConnectorTableHandle tableHandle) {
@@ -151,11 +151,26 @@ public class CatalogConnectorManager {
 
   private void loadCatalogs(GravitinoMetalake metalake) {
     String[] catalogNames;
+    // Null if the catalogs have to be loaded one by one.
+    Catalog[] catalogs = null;
     try {
-      catalogNames = metalake.listCatalogs();
+      // The catalog details carry the last modified time, so the changed catalogs are detected
+      // with a single request rather than loading every catalog of the metalake.
+      catalogs = metalake.listCatalogsInfo();
+      catalogNames = Arrays.stream(catalogs).map(Catalog::name).toArray(String[]::new);
     } catch (Exception e) {
-      LOG.error("Failed to list catalogs in metalake {}.", metalake.name(), e);
-      return;
+      // A catalog failing to load fails the whole list with details, so fall back to loading the
+      // catalogs one by one, only the failed catalog is skipped rather than the whole metalake.
+      LOG.warn(
+          "Failed to list catalogs with details in metalake {}, load them one by one.",
+          metalake.name(),
+          e);
+      try {
+        catalogNames = metalake.listCatalogs();
+      } catch (Exception ex) {
+        LOG.error("Failed to list catalogs in metalake {}.", metalake.name(), ex);
+        return;
+      }
     }
 
     LOG.debug(
@@ -184,25 +199,23 @@ public class CatalogConnectorManager {
     }
 
     // Load new catalogs belows to the metalake.
-    Arrays.stream(catalogNames)
-        .forEach(
-            (String catalogName) -> {
-              try {
-                Catalog catalog = metalake.loadCatalog(catalogName);
-                GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
-                if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
-                  // Reload catalogs that have been updated in Gravitino server.
-                  reloadCatalog(gravitinoCatalog);
-                } else {
-                  if (catalog.type() == Catalog.Type.RELATIONAL) {
-                    loadCatalog(gravitinoCatalog);
-                  }
-                }
-              } catch (Exception e) {
-                LOG.error(
-                    "Failed to load metalake {}'s catalog {}.", metalake.name(), catalogName, e);
-              }
-            });
+    for (int i = 0; i < catalogNames.length; i++) {
+      String catalogName = catalogNames[i];
+      try {
+        Catalog catalog = catalogs != null ? catalogs[i] : metalake.loadCatalog(catalogName);
+        GravitinoCatalog gravitinoCatalog = new GravitinoCatalog(metalake.name(), catalog);
+        if (catalogConnectors.containsKey(getTrinoCatalogName(gravitinoCatalog))) {
+          // Reload catalogs that have been updated in Gravitino server.
+          reloadCatalog(gravitinoCatalog);
+        } else {
+          if (catalog.type() == Catalog.Type.RELATIONAL) {
+            loadCatalog(gravitinoCatalog);
+          }
+        }
+      } catch (Exception e) {
+        LOG.error("Failed to load metalake {}'s catalog {}.", metalake.name(), catalogName, e);
+      }
+    }
   }
 
   private void reloadCatalog(GravitinoCatalog catalog) {
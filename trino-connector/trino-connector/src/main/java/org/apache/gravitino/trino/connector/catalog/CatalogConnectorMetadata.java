@@ -39,15 +39,20 @@ import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.stats.TableStatistics;
 import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.trino.connector.GravitinoErrorCode;
 import org.apache.gravitino.trino.connector.metadata.GravitinoColumn;
 import org.apache.gravitino.trino.connector.metadata.GravitinoSchema;
 import org.apache.gravitino.trino.connector.metadata.GravitinoTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** This class implements Apache Gravitino metadata operators. */
 public class CatalogConnectorMetadata {
 
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogConnectorMetadata.class);
+
   private static final String CATALOG_DOES_NOT_EXIST_MSG = "Catalog does not exist";
   private static final String SCHEMA_DOES_NOT_EXIST_MSG = "Schema does not exist";
 
@@ -102,6 +107,61 @@ public class CatalogConnectorMetadata {
     }
   }
 
+  /**
+   * Gets the tables of the schema, loaded in batches instead of one request per table. The tables
+   * that don't exist are skipped.
+   *
+   * @param schemaName The name of the schema.
+   * @param tableNames The names of the tables.
+   * @return The loaded tables, in the order of the given names.
+   */
+  public List<GravitinoTable> getTables(String schemaName, List<String> tableNames) {
+    NameIdentifier[] idents =
+        tableNames.stream()
+            .map(tableName -> NameIdentifier.of(schemaName, tableName))
+            .toArray(NameIdentifier[]::new);
+    return tableCatalog.loadTables(idents).entrySet().stream()
+        .map(entry -> new GravitinoTable(schemaName, entry.getKey().name(), entry.getValue()))
+        .toList();
+  }
+
+  /**
+   * Loads the table from Gravitino.
+   *
+   * @param schemaName The name of the schema.
+   * @param tableName The name of the table.
+   * @return The table, or null if it does not exist.
+   */
+  public Table loadTable(String schemaName, String tableName) {
+    try {
+      return tableCatalog.loadTable(NameIdentifier.of(schemaName, tableName));
+    } catch (NoSuchTableException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the statistics of the table recorded in Gravitino. Only the statistics endpoint is
+   * requested, the table itself must have been loaded before.
+   *
+   * @param schemaName The name of the schema.
+   * @param table The table loaded from Gravitino.
+   * @return The statistics of the table, or null if they can't be got from Gravitino.
+   */
+  public TableStatistics getTableStatistics(String schemaName, Table table) {
+    try {
+      return table.supportsStatistics().getStatistics();
+    } catch (NoSuchTableException e) {
+      throw new TrinoException(
+          GravitinoErrorCode.GRAVITINO_TABLE_NOT_EXISTS, "Table does not exist", e);
+    } catch (RuntimeException e) {
+      // The statistics are only used by the planner, so a failure to get them, for example from
+      // a Gravitino server not storing statistics yet, must not fail the query.
+      LOG.warn("Failed to get the statistics of table {}.{}", schemaName, table.name(), e);
+      return null;
+    }
+  }
+
   public List<String> listTables(String schemaName) {
     try {
       NameIdentifier[] tables = tableCatalog.listTables(Namespace.of(schemaName));
@@ -18,11 +18,24 @@
  */
 package org.apache.gravitino.trino.connector.catalog;
 
+import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.ConnectorTableProperties;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.session.PropertyMetadata;
+import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.DoubleRange;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.statistics.TableStatistics;
+import io.trino.spi.type.BigintType;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.DoubleType;
+import io.trino.spi.type.IntegerType;
+import io.trino.spi.type.RealType;
+import io.trino.spi.type.SmallintType;
+import io.trino.spi.type.TinyintType;
+import io.trino.spi.type.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -70,6 +83,65 @@ public class CatalogConnectorMetadataAdapter {
     return dataTypeTransformer;
   }
 
+  /**
+   * Transform the Gravitino table statistics to Trino TableStatistics. The statistics of the
+   * columns without handle are ignored, and the value range is only set for the numeric columns.
+   *
+   * @param statistics The statistics recorded in Gravitino, with a known row count.
+   * @param columnHandles The column handles of the table by column name.
+   * @param columnTypes The Trino types of the columns by column name.
+   * @return The Trino table statistics.
+   */
+  public TableStatistics getTableStatistics(
+      org.apache.gravitino.rel.stats.TableStatistics statistics,
+      Map<String, ColumnHandle> columnHandles,
+      Map<String, Type> columnTypes) {
+    long rowCount = statistics.rowCount();
+    TableStatistics.Builder builder = TableStatistics.builder().setRowCount(Estimate.of(rowCount));
+    for (org.apache.gravitino.rel.stats.ColumnStatistics column : statistics.columnStatistics()) {
+      ColumnHandle columnHandle = columnHandles.get(column.name());
+      if (columnHandle == null) {
+        continue;
+      }
+
+      ColumnStatistics.Builder columnBuilder = ColumnStatistics.builder();
+      if (column.nullCount() != null && rowCount > 0) {
+        columnBuilder.setNullsFraction(
+            Estimate.of(Math.min(1.0, (double) column.nullCount() / rowCount)));
+      }
+      if (column.distinctCount() != null) {
+        columnBuilder.setDistinctValuesCount(Estimate.of(column.distinctCount()));
+      }
+      toDoubleRange(columnTypes.get(column.name()), column.minValue(), column.maxValue())
+          .ifPresent(columnBuilder::setRange);
+      builder.setColumnStatistics(columnHandle, columnBuilder.build());
+    }
+    return builder.build();
+  }
+
+  private static Optional<DoubleRange> toDoubleRange(Type type, String minValue, String maxValue) {
+    boolean numeric =
+        type instanceof BigintType
+            || type instanceof IntegerType
+            || type instanceof SmallintType
+            || type instanceof TinyintType
+            || type instanceof DoubleType
+            || type instanceof RealType
+            || type instanceof DecimalType;
+    if (!numeric || minValue == null || maxValue == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(
+          new DoubleRange(Double.parseDouble(minValue), Double.parseDouble(maxValue)));
+    } catch (IllegalArgumentException e) {
+      LOG.warn(
+          "Ignore the invalid value range [{}, {}] of the column statistics", minValue, maxValue);
+      return Optional.empty();
+    }
+  }
+
   /** Transform Gravitino table metadata to Trino ConnectorTableMetadata */
   public ConnectorTableMetadata getTableMetadata(GravitinoTable gravitinoTable) {
     SchemaTableName schemaTableName =
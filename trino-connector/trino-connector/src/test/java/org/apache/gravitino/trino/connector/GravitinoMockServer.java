@@ -50,6 +50,7 @@ import org.apache.gravitino.client.GravitinoAdminClient;
 import org.apache.gravitino.client.GravitinoMetalake;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -458,6 +459,8 @@ public class GravitinoMockServer implements AutoCloseable {
               }
             });
 
+    when(tableCatalog.loadTables(any())).thenCallRealMethod();
+
     when(tableCatalog.loadTable(any()))
         .thenAnswer(
             new Answer<Table>() {
@@ -479,6 +482,9 @@ public class GravitinoMockServer implements AutoCloseable {
                         new SchemaTableName(tableName.schema(), tableName.table()),
                         Optional.empty(),
                         Optional.empty());
+                if (tableHandle == null) {
+                  throw new NoSuchTableException("Table %s does not exist", nameIdentifier);
+                }
                 ConnectorTableMetadata tableMetadata = metadata.getTableMetadata(null, tableHandle);
 
                 CatalogConnectorMetadataAdapter metadataAdapter =
@@ -225,6 +225,29 @@ public class TestGravitinoConnector extends AbstractTestQueryFramework {
     dropTestTable(fullTableName1);
   }
 
+  @Test
+  public void testListTableColumns() throws Exception {
+    String fullTableName1 = "\"memory\".db_01.tb_01";
+    String fullTableName2 = "\"memory\".db_01.tb_02";
+    createTestTable(fullTableName1);
+    createTestTable(fullTableName2);
+
+    // The columns of the tables in the schema are listed with the batch load of the tables.
+    MaterializedResult result =
+        computeActual(
+            "select table_name, column_name from \"memory\".information_schema.columns "
+                + "where table_schema = 'db_01' order by table_name, ordinal_position");
+    List<MaterializedRow> rows = result.getMaterializedRows();
+    assertEquals(4, rows.size());
+    assertEquals(List.of("tb_01", "a"), rows.get(0).getFields());
+    assertEquals(List.of("tb_01", "b"), rows.get(1).getFields());
+    assertEquals(List.of("tb_02", "a"), rows.get(2).getFields());
+    assertEquals(List.of("tb_02", "b"), rows.get(3).getFields());
+
+    dropTestTable(fullTableName1);
+    dropTestTable(fullTableName2);
+  }
+
   @Test
   public void testCreateCatalog() throws Exception {
     // testing the catalogs
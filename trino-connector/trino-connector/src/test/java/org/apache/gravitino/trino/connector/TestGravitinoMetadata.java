@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trino.connector;
+
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ColumnMetadata;
+import io.trino.spi.connector.ConnectorMetadata;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.ConnectorTableHandle;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.DoubleRange;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.statistics.TableStatistics;
+import io.trino.spi.type.BigintType;
+import io.trino.spi.type.VarcharType;
+import java.util.Optional;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.stats.Statistics;
+import org.apache.gravitino.rel.stats.SupportsStatistics;
+import org.apache.gravitino.trino.connector.TestGravitinoTableHandle.MockConnectorTableHandle;
+import org.apache.gravitino.trino.connector.catalog.CatalogConnectorMetadata;
+import org.apache.gravitino.trino.connector.catalog.memory.MemoryMetadataAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestGravitinoMetadata {
+
+  private static final SchemaTableName TABLE_NAME = new SchemaTableName("db1", "t1");
+
+  private final ConnectorSession session = mock(ConnectorSession.class);
+  private final ConnectorTableHandle internalTableHandle = new MockConnectorTableHandle("t1");
+  private final ColumnHandle columnA = mock(ColumnHandle.class);
+  private final ColumnHandle columnB = mock(ColumnHandle.class);
+
+  private CatalogConnectorMetadata catalogConnectorMetadata;
+  private ConnectorMetadata internalMetadata;
+  private SupportsStatistics supportsStatistics;
+  private GravitinoMetadata metadata;
+
+  @BeforeEach
+  public void setUp() {
+    supportsStatistics = mock(SupportsStatistics.class);
+    Table table = mock(Table.class);
+    when(table.name()).thenReturn("t1");
+    when(table.supportsStatistics()).thenReturn(supportsStatistics);
+
+    catalogConnectorMetadata = mock(CatalogConnectorMetadata.class);
+    when(catalogConnectorMetadata.loadTable("db1", "t1")).thenReturn(table);
+    when(catalogConnectorMetadata.getTableStatistics(eq("db1"), any())).thenCallRealMethod();
+
+    internalMetadata = mock(ConnectorMetadata.class);
+    when(internalMetadata.getTableHandle(any(), eq(TABLE_NAME), any(), any()))
+        .thenReturn(internalTableHandle);
+    when(internalMetadata.getColumnHandles(any(), any()))
+        .thenReturn(ImmutableMap.of("a", columnA, "b", columnB));
+    when(internalMetadata.getColumnMetadata(any(), any(), eq(columnA)))
+        .thenReturn(new ColumnMetadata("a", BigintType.BIGINT));
+    when(internalMetadata.getColumnMetadata(any(), any(), eq(columnB)))
+        .thenReturn(new ColumnMetadata("b", VarcharType.VARCHAR));
+
+    metadata =
+        new GravitinoMetadata(
+            catalogConnectorMetadata,
+            new MemoryMetadataAdapter(emptyList(), emptyList(), emptyList()),
+            internalMetadata);
+  }
+
+  @Test
+  public void testGetTableStatistics() {
+    when(supportsStatistics.getStatistics())
+        .thenReturn(
+            Statistics.of(
+                100L,
+                1024L,
+                Statistics.column("a", 10L, 20L, "1", "50"),
+                Statistics.column("b", 5L, null, "x", "z"),
+                Statistics.column("dropped", 1L, 0L, null, null)));
+
+    GravitinoTableHandle tableHandle =
+        metadata.getTableHandle(session, TABLE_NAME, Optional.empty(), Optional.empty());
+    TableStatistics statistics = metadata.getTableStatistics(session, tableHandle);
+
+    Assertions.assertEquals(Estimate.of(100), statistics.getRowCount());
+    Assertions.assertEquals(2, statistics.getColumnStatistics().size());
+
+    ColumnStatistics statisticsA =
+        statistics.getColumnStatistics().get(new GravitinoColumnHandle("a", columnA));
+    Assertions.assertEquals(Estimate.of(10), statisticsA.getDistinctValuesCount());
+    Assertions.assertEquals(Estimate.of(0.2), statisticsA.getNullsFraction());
+    Assertions.assertEquals(Optional.of(new DoubleRange(1, 50)), statisticsA.getRange());
+
+    // The value range is only set for the numeric columns
+    ColumnStatistics statisticsB =
+        statistics.getColumnStatistics().get(new GravitinoColumnHandle("b", columnB));
+    Assertions.assertEquals(Estimate.of(5), statisticsB.getDistinctValuesCount());
+    Assertions.assertEquals(Estimate.unknown(), statisticsB.getNullsFraction());
+    Assertions.assertEquals(Optional.empty(), statisticsB.getRange());
+
+    // The table is loaded once, and the statistics are requested once per query
+    Assertions.assertEquals(statistics, metadata.getTableStatistics(session, tableHandle));
+    verify(catalogConnectorMetadata, times(1)).loadTable("db1", "t1");
+    verify(supportsStatistics, times(1)).getStatistics();
+    verify(internalMetadata, times(0)).getTableStatistics(any(), any());
+  }
+
+  @Test
+  public void testGetTableStatisticsOfNarrowedHandle() {
+    when(supportsStatistics.getStatistics()).thenReturn(Statistics.of(100L, 1024L));
+    TableStatistics internalStatistics =
+        TableStatistics.builder().setRowCount(Estimate.of(10)).build();
+    ConnectorTableHandle prunedTableHandle = new MockConnectorTableHandle("t1 pruned");
+    when(internalMetadata.getTableStatistics(any(), eq(prunedTableHandle)))
+        .thenReturn(internalStatistics);
+
+    // The whole table statistics of Gravitino don't apply to the handle narrowed by a pushdown
+    metadata.getTableHandle(session, TABLE_NAME, Optional.empty(), Optional.empty());
+    GravitinoTableHandle prunedHandle = new GravitinoTableHandle("db1", "t1", prunedTableHandle);
+    Assertions.assertEquals(internalStatistics, metadata.getTableStatistics(session, prunedHandle));
+    verify(supportsStatistics, times(0)).getStatistics();
+  }
+
+  @Test
+  public void testGetTableStatisticsWithoutRowCount() {
+    when(supportsStatistics.getStatistics()).thenReturn(Statistics.of(null, null));
+    TableStatistics internalStatistics =
+        TableStatistics.builder().setRowCount(Estimate.of(10)).build();
+    when(internalMetadata.getTableStatistics(any(), eq(internalTableHandle)))
+        .thenReturn(internalStatistics);
+
+    GravitinoTableHandle tableHandle =
+        metadata.getTableHandle(session, TABLE_NAME, Optional.empty(), Optional.empty());
+    Assertions.assertEquals(internalStatistics, metadata.getTableStatistics(session, tableHandle));
+
+    // A failure to get the statistics from Gravitino falls back to the internal connector too
+    when(supportsStatistics.getStatistics()).thenThrow(new RuntimeException("mock error"));
+    GravitinoMetadata otherQueryMetadata =
+        new GravitinoMetadata(
+            catalogConnectorMetadata,
+            new MemoryMetadataAdapter(emptyList(), emptyList(), emptyList()),
+            internalMetadata);
+    GravitinoTableHandle otherTableHandle =
+        otherQueryMetadata.getTableHandle(session, TABLE_NAME, Optional.empty(), Optional.empty());
+    Assertions.assertEquals(
+        internalStatistics, otherQueryMetadata.getTableStatistics(session, otherTableHandle));
+  }
+}
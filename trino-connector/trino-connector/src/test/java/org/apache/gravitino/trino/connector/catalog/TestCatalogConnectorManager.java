@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.trino.connector.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.client.GravitinoAdminClient;
+import org.apache.gravitino.client.GravitinoMetalake;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.trino.connector.GravitinoConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogConnectorManager {
+
+  private static final String METALAKE = "test";
+
+  private final CatalogRegister catalogRegister = mock(CatalogRegister.class);
+  private final GravitinoMetalake metalake = mock(GravitinoMetalake.class);
+  private CatalogConnectorManager catalogConnectorManager;
+
+  @BeforeEach
+  public void setUp() {
+    when(catalogRegister.isTrinoStarted()).thenReturn(true);
+    when(metalake.name()).thenReturn(METALAKE);
+    GravitinoAdminClient client = mock(GravitinoAdminClient.class);
+    when(client.loadMetalake(METALAKE)).thenReturn(metalake);
+
+    catalogConnectorManager =
+        new CatalogConnectorManager(catalogRegister, mock(CatalogConnectorFactory.class));
+    catalogConnectorManager.config(
+        new GravitinoConfig(Map.of("gravitino.metalake", METALAKE)), client);
+    catalogConnectorManager.addMetalake(METALAKE);
+  }
+
+  @Test
+  public void testLoadCatalogsWithFailedCatalog() throws Exception {
+    // The catalog without the audit info fails to load.
+    Catalog failedCatalog = mock(Catalog.class);
+    when(failedCatalog.name()).thenReturn("catalog2");
+    when(failedCatalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(metalake.listCatalogsInfo())
+        .thenReturn(
+            new Catalog[] {createCatalog("catalog1"), failedCatalog, createCatalog("catalog3")});
+
+    catalogConnectorManager.loadMetalakeSync();
+
+    verify(catalogRegister).registerCatalog(eq(trinoCatalogName("catalog1")), any());
+    verify(catalogRegister, never()).registerCatalog(eq(trinoCatalogName("catalog2")), any());
+    verify(catalogRegister).registerCatalog(eq(trinoCatalogName("catalog3")), any());
+  }
+
+  @Test
+  public void testLoadCatalogsOneByOneIfListingDetailsFailed() throws Exception {
+    when(metalake.listCatalogsInfo()).thenThrow(new RuntimeException("Failed to load catalog2"));
+    when(metalake.listCatalogs()).thenReturn(new String[] {"catalog1", "catalog2", "catalog3"});
+    Catalog catalog1 = createCatalog("catalog1");
+    Catalog catalog3 = createCatalog("catalog3");
+    when(metalake.loadCatalog("catalog1")).thenReturn(catalog1);
+    when(metalake.loadCatalog("catalog2")).thenThrow(new NoSuchCatalogException("catalog2"));
+    when(metalake.loadCatalog("catalog3")).thenReturn(catalog3);
+
+    catalogConnectorManager.loadMetalakeSync();
+
+    verify(catalogRegister).registerCatalog(eq(trinoCatalogName("catalog1")), any());
+    verify(catalogRegister, never()).registerCatalog(eq(trinoCatalogName("catalog2")), any());
+    verify(catalogRegister).registerCatalog(eq(trinoCatalogName("catalog3")), any());
+  }
+
+  private String trinoCatalogName(String catalogName) {
+    return catalogConnectorManager.getTrinoCatalogName(METALAKE, catalogName);
+  }
+
+  private static Catalog createCatalog(String catalogName) {
+    Catalog catalog = mock(Catalog.class);
+    when(catalog.name()).thenReturn(catalogName);
+    when(catalog.provider()).thenReturn("memory");
+    when(catalog.type()).thenReturn(Catalog.Type.RELATIONAL);
+    when(catalog.properties()).thenReturn(Map.of());
+
+    Audit audit = mock(Audit.class);
+    when(audit.createTime()).thenReturn(Instant.now());
+    when(catalog.auditInfo()).thenReturn(audit);
+    return catalog;
+  }
+}